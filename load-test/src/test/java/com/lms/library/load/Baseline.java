@@ -0,0 +1,80 @@
+package com.lms.library.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Latency percentiles of a reference load test run, kept under {@code baselines/} so that later
+ * runs can be compared with them.
+ *
+ * @param simulation the simulation the baseline was recorded from
+ * @param recordedAt the instant at which the baseline was recorded
+ * @param settings a description of the load, so that baselines are only compared like for like
+ * @param requests the percentiles per request name; {@value #ALL_REQUESTS} holds the global ones
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public record Baseline(
+    String simulation, Instant recordedAt, String settings, Map<String, Percentiles> requests) {
+
+  /** Name under which Gatling reports the statistics of all requests together. */
+  public static final String ALL_REQUESTS = "All Requests";
+
+  private static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .findAndRegisterModules()
+          .enable(SerializationFeature.INDENT_OUTPUT)
+          .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+  /**
+   * Gets the default location of a simulation's baseline.
+   *
+   * @param simulation the simple name of the simulation class
+   * @return the baseline path, overridable with {@code -Dbaseline.file}
+   */
+  public static Path pathOf(String simulation) {
+    return Path.of(System.getProperty("baseline.file", "baselines/%s.json".formatted(simulation)));
+  }
+
+  /**
+   * Reads a baseline.
+   *
+   * @param path the baseline file
+   * @return the baseline, or empty if none has been recorded yet
+   * @throws IOException if the file exists but cannot be read
+   */
+  public static Optional<Baseline> read(Path path) throws IOException {
+    return Files.exists(path)
+        ? Optional.of(MAPPER.readValue(path.toFile(), Baseline.class))
+        : Optional.empty();
+  }
+
+  /**
+   * Writes this baseline, replacing any previous one.
+   *
+   * @param path the baseline file
+   * @throws IOException if the file cannot be written
+   */
+  public void write(Path path) throws IOException {
+    Files.createDirectories(path.toAbsolutePath().getParent());
+    MAPPER.writeValue(path.toFile(), this);
+  }
+
+  /**
+   * Response time percentiles of one request, in milliseconds.
+   *
+   * @param count the number of requests
+   * @param p50 the median response time
+   * @param p75 the 75th percentile response time
+   * @param p95 the 95th percentile response time
+   * @param p99 the 99th percentile response time
+   */
+  public record Percentiles(long count, int p50, int p75, int p95, int p99) {}
+}
@@ -0,0 +1,84 @@
+package com.lms.library.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Records the latest Gatling run as the baseline of {@link LibrarySimulation}. Run with {@code mvn
+ * exec:java} after {@code mvn gatling:test}.
+ *
+ * <p>The percentiles are read from the {@code js/stats.json} file of the report, whose {@code
+ * percentiles1} to {@code percentiles4} are the 50th, 75th, 95th and 99th percentiles with
+ * Gatling's default configuration.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public final class BaselineRecorder {
+
+  private static final Path REPORTS = Path.of("target", "gatling");
+
+  private BaselineRecorder() {}
+
+  /**
+   * Records the baseline.
+   *
+   * @param args ignored
+   * @throws IOException if no report is found or the baseline cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    var stats = latestStats();
+    var root = new ObjectMapper().readTree(stats.toFile());
+
+    var requests = new TreeMap<String, Baseline.Percentiles>();
+    collect(root, requests);
+
+    var simulation = LibrarySimulation.class.getSimpleName();
+    var settings = System.getProperty("baseline.settings", "see the run that produced " + stats);
+    var path = Baseline.pathOf(simulation);
+    new Baseline(simulation, Instant.now(), settings, requests).write(path);
+    System.out.printf(
+        "Recorded %d request baselines from %s in %s%n", requests.size(), stats, path);
+  }
+
+  private static Path latestStats() throws IOException {
+    try (Stream<Path> runs = Files.list(REPORTS)) {
+      return runs.map(run -> run.resolve("js").resolve("stats.json"))
+          .filter(Files::exists)
+          .max(Comparator.comparing(BaselineRecorder::lastModified))
+          .orElseThrow(() -> new IOException("No Gatling report found in " + REPORTS));
+    }
+  }
+
+  private static void collect(JsonNode node, Map<String, Baseline.Percentiles> requests) {
+    var stats = node.path("stats");
+    if (!stats.isMissingNode()) {
+      requests.put(
+          stats.path("name").asText(),
+          new Baseline.Percentiles(
+              stats.path("numberOfRequests").path("total").asLong(),
+              stats.path("percentiles1").path("total").asInt(),
+              stats.path("percentiles2").path("total").asInt(),
+              stats.path("percentiles3").path("total").asInt(),
+              stats.path("percentiles4").path("total").asInt()));
+    }
+    node.path("contents").forEach(child -> collect(child, requests));
+  }
+
+  private static long lastModified(Path path) {
+    try {
+      return Files.getLastModifiedTime(path).toMillis();
+    } catch (IOException ex) {
+      return 0;
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.lms.library.load;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Seeds the application under test through its bulk import endpoints: items as a CSV catalogue and
+ * members as NDJSON. The files are generated on disk first, so millions of records can be sent
+ * without holding them in memory. The generated content depends only on the counts, so every run
+ * imports the same records.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public class CatalogueSeeder {
+
+  private static final Logger log = LoggerFactory.getLogger(CatalogueSeeder.class);
+
+  private static final List<String> GENRES =
+      List.of("Fiction", "Programming", "History", "Science", "Biography", "Poetry", "Travel");
+
+  private static final String CSV_HEADER =
+      "type,title,author,publicationDate,isbn,genre,pageCount,issn,publisher,volume,issue";
+
+  private static final Duration IMPORT_TIMEOUT = Duration.ofMinutes(30);
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private final String baseUrl;
+
+  /**
+   * Constructs a new CatalogueSeeder.
+   *
+   * @param baseUrl the base URL of the application under test
+   */
+  public CatalogueSeeder(String baseUrl) {
+    this.baseUrl = baseUrl;
+  }
+
+  /**
+   * Gets the email of an imported member.
+   *
+   * @param index the 0-based position of the member in the import
+   * @return the member's email
+   */
+  public static String memberEmail(long index) {
+    return "member%d@load.example".formatted(index);
+  }
+
+  /**
+   * Imports the given number of items, alternating books and journals.
+   *
+   * @param count the number of items to import
+   * @throws IOException if the catalogue cannot be written or sent
+   * @throws InterruptedException if interrupted while waiting for the import
+   */
+  public void seedItems(int count) throws IOException, InterruptedException {
+    var csv = Files.createTempFile("load-catalogue", ".csv");
+    try {
+      var random = new Random(count);
+      try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+        writer.write(CSV_HEADER);
+        writer.newLine();
+        for (var i = 0; i < count; i++) {
+          var year = 1950 + random.nextInt(75);
+          if (i % 10 == 9) {
+            writer.write(
+                "JOURNAL,Load Journal %d,Various,%d-01-01,,,,%04d-%04d,Load Press,%d,%d"
+                    .formatted(i, year, i / 10_000 % 10_000, i % 10_000, 1 + i % 50, 1 + i % 12));
+          } else {
+            writer.write(
+                "BOOK,Load Book %d,Author %d,%d-06-15,%013d,%s,%d,,,,"
+                    .formatted(
+                        i,
+                        random.nextInt(count / 10 + 1),
+                        year,
+                        9_780_000_000_000L + i,
+                        GENRES.get(random.nextInt(GENRES.size())),
+                        80 + random.nextInt(900)));
+          }
+          writer.newLine();
+        }
+      }
+      post("/v1/admin/catalogue/imports?format=CSV", multipart(csv));
+    } finally {
+      Files.deleteIfExists(csv);
+    }
+  }
+
+  /**
+   * Imports the given number of members, with emails from {@link #memberEmail(long)}.
+   *
+   * @param count the number of members to import
+   * @throws IOException if the members cannot be written or sent
+   * @throws InterruptedException if interrupted while waiting for the import
+   */
+  public void seedMembers(int count) throws IOException, InterruptedException {
+    var ndjson = Files.createTempFile("load-members", ".ndjson");
+    try {
+      try (BufferedWriter writer = Files.newBufferedWriter(ndjson, StandardCharsets.UTF_8)) {
+        for (var i = 0; i < count; i++) {
+          writer.write(
+              "{\"firstName\":\"Load\",\"lastName\":\"Member %d\",\"email\":\"%s\"}"
+                  .formatted(i, memberEmail(i)));
+          writer.newLine();
+        }
+      }
+      post(
+          "/v1/admin/members/imports",
+          HttpRequest.newBuilder()
+              .header("Content-Type", "application/x-ndjson")
+              .POST(BodyPublishers.ofFile(ndjson)));
+    } finally {
+      Files.deleteIfExists(ndjson);
+    }
+  }
+
+  private static HttpRequest.Builder multipart(Path file) throws IOException {
+    var boundary = UUID.randomUUID().toString();
+    var head =
+        ("--%s\r\nContent-Disposition: form-data; name=\"file\"; filename=\"catalogue.csv\"\r\n"
+                + "Content-Type: text/csv\r\n\r\n")
+            .formatted(boundary);
+    var tail = "\r\n--%s--\r\n".formatted(boundary);
+    return HttpRequest.newBuilder()
+        .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+        .POST(
+            BodyPublishers.concat(
+                BodyPublishers.ofString(head),
+                BodyPublishers.ofFile(file),
+                BodyPublishers.ofString(tail)));
+  }
+
+  private void post(String path, HttpRequest.Builder request)
+      throws IOException, InterruptedException {
+    var response =
+        httpClient.send(
+            request.uri(URI.create(baseUrl + path)).timeout(IMPORT_TIMEOUT).build(),
+            BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IOException(
+          "Import %s failed with %d: %s".formatted(path, response.statusCode(), response.body()));
+    }
+    log.info("Seeded {}: {}", path, response.body());
+  }
+}
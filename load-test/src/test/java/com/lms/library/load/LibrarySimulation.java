@@ -0,0 +1,168 @@
+package com.lms.library.load;
+
+import static com.intuit.karate.gatling.javaapi.KarateDsl.karateFeature;
+import static com.intuit.karate.gatling.javaapi.KarateDsl.karateProtocol;
+import static com.intuit.karate.gatling.javaapi.KarateDsl.uri;
+import static io.gatling.javaapi.core.CoreDsl.constantConcurrentUsers;
+import static io.gatling.javaapi.core.CoreDsl.constantUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.details;
+import static io.gatling.javaapi.core.CoreDsl.global;
+import static io.gatling.javaapi.core.CoreDsl.rampUsersPerSec;
+import static io.gatling.javaapi.core.CoreDsl.scenario;
+
+import io.gatling.javaapi.core.Assertion;
+import io.gatling.javaapi.core.PopulationBuilder;
+import io.gatling.javaapi.core.Simulation;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Replays the Karate scenarios of the API at a configurable arrival rate. Each virtual user runs
+ * one journey of {@code load/library.feature}, chosen according to the {@link LoadSettings#mix()
+ * mix}:
+ *
+ * <ul>
+ *   <li>{@code borrow} checks out one to three random items, lists the member's loans and returns
+ *       the items;
+ *   <li>{@code history} reads a member's loans, revalidates them with their ETag and reads the
+ *       most recent loan;
+ *   <li>{@code search} looks a member up by email.
+ * </ul>
+ *
+ * <p>The {@code BorrowAndReturnBooks} acceptance feature runs alongside on a single user as a smoke
+ * check on the sample data. The run fails when more than {@link LoadSettings#maxErrorPercent()}
+ * percent of the requests fail, or when a 95th or 99th percentile exceeds its recorded {@link
+ * Baseline} by more than the tolerance.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public class LibrarySimulation extends Simulation {
+
+  private static final List<String> JOURNEYS = List.of("borrow", "history", "search");
+
+  /** Slack added to every percentile limit so that very fast requests do not fail on jitter. */
+  private static final int MIN_SLACK_MILLIS = 5;
+
+  private final LoadSettings settings = LoadSettings.fromSystemProperties();
+
+  /** Constructs the simulation from the {@link LoadSettings} and the recorded {@link Baseline}. */
+  public LibrarySimulation() {
+    var protocol =
+        karateProtocol(
+            uri("/v1/members/{memberId}/loans").nil(),
+            uri("/v1/loans/{loanId}").nil(),
+            uri("/v1/loans/{loanId}/returns").nil(),
+            uri("/v1/members/by-email").nil());
+
+    var populations = new ArrayList<PopulationBuilder>();
+    for (var journey : JOURNEYS) {
+      var rate = settings.rateOf(journey);
+      if (rate > 0) {
+        populations.add(
+            scenario(journey)
+                .feed(journeyFeeder())
+                .exec(karateFeature("classpath:load/library.feature@" + journey))
+                .injectOpen(
+                    rampUsersPerSec(0).to(rate).during(settings.rampUp()),
+                    constantUsersPerSec(rate).during(settings.duration())));
+      }
+    }
+    populations.add(
+        scenario("smoke")
+            .exec(karateFeature("classpath:karate/BorrowAndReturnBooks.feature"))
+            .injectClosed(
+                constantConcurrentUsers(1).during(settings.rampUp().plus(settings.duration()))));
+
+    setUp(populations).protocols(protocol).assertions(assertions());
+  }
+
+  /** Imports the requested number of items and members before the first user starts. */
+  @Override
+  public void before() {
+    var seeder = new CatalogueSeeder(settings.baseUrl());
+    try {
+      if (settings.seedItems() > 0) {
+        seeder.seedItems(settings.seedItems());
+      }
+      if (settings.seedMembers() > 0) {
+        seeder.seedMembers(settings.seedMembers());
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while seeding the application", ex);
+    }
+  }
+
+  /**
+   * Feeds each journey with a random member and one to three distinct random items. The values are
+   * available to the feature as {@code __gatling.memberId}, {@code __gatling.email} and {@code
+   * __gatling.itemIds}.
+   */
+  private Iterator<Map<String, Object>> journeyFeeder() {
+    return Stream.generate(
+            () -> {
+              var random = ThreadLocalRandom.current();
+              var memberIndex = random.nextLong(settings.memberCount());
+              var itemIds =
+                  random
+                      .longs(settings.firstItemId(), settings.firstItemId() + settings.itemCount())
+                      .distinct()
+                      .limit(Math.min(settings.itemCount(), random.nextInt(1, 4)))
+                      .boxed()
+                      .toList();
+              return Map.<String, Object>of(
+                  "memberId", settings.firstMemberId() + memberIndex,
+                  "email", emailOf(memberIndex),
+                  "itemIds", itemIds);
+            })
+        .iterator();
+  }
+
+  private String emailOf(long memberIndex) {
+    if (settings.sampleMembers()) {
+      return List.of("alice@example.com", "bob@example.com", "charlie@example.com")
+          .get((int) memberIndex);
+    }
+    return CatalogueSeeder.memberEmail(memberIndex);
+  }
+
+  private List<Assertion> assertions() {
+    var assertions = new ArrayList<Assertion>();
+    assertions.add(global().failedRequests().percent().lt(settings.maxErrorPercent()));
+
+    Baseline baseline;
+    try {
+      baseline = Baseline.read(Baseline.pathOf(getClass().getSimpleName())).orElse(null);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    if (baseline == null) {
+      return assertions;
+    }
+    baseline
+        .requests()
+        .forEach(
+            (name, percentiles) -> {
+              var target = Baseline.ALL_REQUESTS.equals(name) ? global() : details(name);
+              assertions.add(target.responseTime().percentile(95.0).lt(limit(percentiles.p95())));
+              assertions.add(target.responseTime().percentile(99.0).lt(limit(percentiles.p99())));
+            });
+    return assertions;
+  }
+
+  private int limit(int baselineMillis) {
+    return Math.max(
+        (int) Math.ceil(baselineMillis * (1 + settings.tolerance())),
+        baselineMillis + MIN_SLACK_MILLIS);
+  }
+}
@@ -0,0 +1,111 @@
+package com.lms.library.load;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, read from system properties so that they can be passed on the Maven
+ * command line, for example {@code mvn gatling:test -Drps=200 -Dduration=300}.
+ *
+ * @param baseUrl the base URL of the application under test ({@code base.url})
+ * @param journeysPerSecond the number of user journeys started per second once ramped up ({@code
+ *     rps}); each journey issues several requests
+ * @param rampUp the time over which the arrival rate grows from zero ({@code ramp-up}, seconds)
+ * @param duration the time the arrival rate is held after the ramp-up ({@code duration}, seconds)
+ * @param mix the relative weight of each journey ({@code mix}, e.g. {@code borrow:30,history:50})
+ * @param seedItems the number of items imported before the run ({@code seed.items})
+ * @param seedMembers the number of members imported before the run ({@code seed.members})
+ * @param firstItemId the lowest item ID borrowed by the load ({@code items.first})
+ * @param itemCount the number of consecutive item IDs borrowed by the load ({@code items.count})
+ * @param firstMemberId the lowest member ID used by the load ({@code members.first})
+ * @param memberCount the number of consecutive member IDs used by the load ({@code members.count})
+ * @param sampleMembers whether the load uses the sample members instead of imported ones
+ * @param tolerance the fraction by which a percentile may exceed its baseline ({@code
+ *     baseline.tolerance})
+ * @param maxErrorPercent the highest acceptable percentage of failed requests ({@code
+ *     max-error-percent})
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public record LoadSettings(
+    String baseUrl,
+    double journeysPerSecond,
+    Duration rampUp,
+    Duration duration,
+    Map<String, Integer> mix,
+    int seedItems,
+    int seedMembers,
+    long firstItemId,
+    long itemCount,
+    long firstMemberId,
+    long memberCount,
+    boolean sampleMembers,
+    double tolerance,
+    double maxErrorPercent) {
+
+  /** Number of sample items seeded by the application; the load leaves them to the smoke check. */
+  static final int SAMPLE_ITEMS = 5;
+
+  /** Number of sample members seeded by the application. */
+  static final int SAMPLE_MEMBERS = 3;
+
+  /**
+   * Reads the settings from system properties. Without explicit ID ranges, the load uses the items
+   * and members imported by this run, which receive the IDs following the samples in a freshly
+   * started application; without imported members it uses the sample members.
+   *
+   * @return the settings
+   * @throws IllegalArgumentException if no items are available to borrow
+   */
+  public static LoadSettings fromSystemProperties() {
+    var seedItems = Integer.getInteger("seed.items", 0);
+    var seedMembers = Integer.getInteger("seed.members", 0);
+    var itemCount = Long.getLong("items.count", seedItems);
+    if (itemCount <= 0) {
+      throw new IllegalArgumentException(
+          "No items to borrow: set -Dseed.items=<n> or -Ditems.first=<id> -Ditems.count=<n>");
+    }
+    var memberCount = Long.getLong("members.count", seedMembers);
+
+    return new LoadSettings(
+        System.getProperty("base.url", "http://localhost:8080"),
+        Double.parseDouble(System.getProperty("rps", "50")),
+        Duration.ofSeconds(Long.getLong("ramp-up", 10)),
+        Duration.ofSeconds(Long.getLong("duration", 60)),
+        parseMix(System.getProperty("mix", "borrow:30,history:50,search:20")),
+        seedItems,
+        seedMembers,
+        Long.getLong("items.first", SAMPLE_ITEMS + 1),
+        itemCount,
+        Long.getLong("members.first", memberCount > 0 ? SAMPLE_MEMBERS + 1 : 1),
+        memberCount > 0 ? memberCount : SAMPLE_MEMBERS,
+        memberCount <= 0,
+        Double.parseDouble(System.getProperty("baseline.tolerance", "0.25")),
+        Double.parseDouble(System.getProperty("max-error-percent", "1")));
+  }
+
+  /**
+   * Gets the arrival rate of one journey of the mix.
+   *
+   * @param journey the journey name
+   * @return the journeys started per second, 0 if the journey is not part of the mix
+   */
+  public double rateOf(String journey) {
+    var total = mix.values().stream().mapToInt(Integer::intValue).sum();
+    return journeysPerSecond * mix.getOrDefault(journey, 0) / total;
+  }
+
+  private static Map<String, Integer> parseMix(String mix) {
+    var weights = new LinkedHashMap<String, Integer>();
+    for (var entry : mix.split(",")) {
+      var parts = entry.trim().split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Invalid mix entry '%s'".formatted(entry));
+      }
+      weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+    }
+    return Map.copyOf(weights);
+  }
+}
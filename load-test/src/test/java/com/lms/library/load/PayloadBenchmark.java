@@ -0,0 +1,182 @@
+package com.lms.library.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the bytes on the wire and the latency of typical loan responses under every combination
+ * of protocol (HTTP/1.1 or HTTP/2), content encoding (identity or gzip) and view (standard or
+ * compact JSON). Run against an application started with the {@code http2} profile with {@code mvn
+ * exec:java@payload-benchmark}; against one without it, the HTTP/2 and gzip rows fall back to
+ * HTTP/1.1 and identity, which the protocol and encoding columns show.
+ *
+ * <p>The benchmark first builds a loan history for a member by checking items out and returning
+ * them, then leaves one loan open. It reads that loan and the member's loan list, sequentially on
+ * one connection per protocol, and reports the size of the response body as received and the 50th
+ * and 99th percentile latencies. Headers are not counted: HTTP/2 compresses them with HPACK, which
+ * the client does not expose. The open loan is returned at the end.
+ *
+ * <p>Settings are read from system properties: {@code base.url}, {@code benchmark.member} (member
+ * ID, default 1), {@code benchmark.items} (comma-separated available item IDs, default 1,2,3),
+ * {@code benchmark.history} (loans in the member's history, default 20), {@code
+ * benchmark.warm-up} and {@code benchmark.requests} (requests per row, default 500 and 2000).
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public final class PayloadBenchmark {
+
+  private static final String COMPACT_JSON = "application/vnd.lms.compact+json";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final HttpClient setupClient = HttpClient.newHttpClient();
+  private final String baseUrl;
+
+  private PayloadBenchmark(String baseUrl) {
+    this.baseUrl = baseUrl;
+  }
+
+  /**
+   * Runs the benchmark and prints one row per request and variant.
+   *
+   * @param args ignored
+   * @throws IOException if a request fails
+   * @throws InterruptedException if interrupted while waiting for a response
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    var memberId = Long.getLong("benchmark.member", 1);
+    var items =
+        Arrays.stream(System.getProperty("benchmark.items", "1,2,3").split(","))
+            .map(item -> Long.valueOf(item.trim()))
+            .toList();
+    var history = Integer.getInteger("benchmark.history", 20);
+    var warmUp = Integer.getInteger("benchmark.warm-up", 500);
+    var requests = Integer.getInteger("benchmark.requests", 2000);
+
+    var benchmark = new PayloadBenchmark(System.getProperty("base.url", "http://localhost:8080"));
+    var loanId = benchmark.buildHistory(memberId, items, history);
+    try {
+      var targets =
+          List.of(
+              Map.entry("GET /v1/loans/{loanId}", "/v1/loans/" + loanId),
+              Map.entry(
+                  "GET /v1/members/{memberId}/loans", "/v1/members/%d/loans".formatted(memberId)));
+      System.out.printf(
+          "%-32s %-9s %-9s %-8s %-8s %10s %9s %9s%n",
+          "Request", "Asked", "Served", "View", "Encoding", "Body bytes", "p50 ms", "p99 ms");
+      for (var target : targets) {
+        for (var version : List.of(HttpClient.Version.HTTP_1_1, HttpClient.Version.HTTP_2)) {
+          var client = HttpClient.newBuilder().version(version).build();
+          for (var compact : List.of(false, true)) {
+            for (var gzip : List.of(false, true)) {
+              benchmark.measure(
+                  target.getKey(), target.getValue(), client, compact, gzip, warmUp, requests);
+            }
+          }
+        }
+      }
+    } finally {
+      benchmark.returnAll(loanId);
+    }
+  }
+
+  /**
+   * Checks items out and returns them until the member has the requested number of loans, the
+   * last of which is left open.
+   *
+   * @return the ID of the loan left open
+   */
+  private long buildHistory(long memberId, List<Long> items, int history)
+      throws IOException, InterruptedException {
+    var body = objectMapper.writeValueAsString(Map.of("items", items));
+    var loanId = 0L;
+    for (var i = 0; i < Math.max(history, 1); i++) {
+      if (loanId != 0) {
+        returnAll(loanId);
+      }
+      var response = post("/v1/members/%d/loans".formatted(memberId), body);
+      loanId = objectMapper.readTree(response.body()).path("id").asLong();
+    }
+    return loanId;
+  }
+
+  private void returnAll(long loanId) throws IOException, InterruptedException {
+    post("/v1/loans/%d/returns".formatted(loanId), "{}");
+  }
+
+  private HttpResponse<String> post(String path, String body)
+      throws IOException, InterruptedException {
+    var request =
+        HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(BodyPublishers.ofString(body))
+            .build();
+    var response = setupClient.send(request, BodyHandlers.ofString());
+    if (response.statusCode() != 200) {
+      throw new IOException(
+          "POST %s failed with %d: %s".formatted(path, response.statusCode(), response.body()));
+    }
+    return response;
+  }
+
+  private void measure(
+      String name,
+      String path,
+      HttpClient client,
+      boolean compact,
+      boolean gzip,
+      int warmUp,
+      int requests)
+      throws IOException, InterruptedException {
+    var builder =
+        HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Accept", compact ? COMPACT_JSON : "application/json");
+    if (gzip) {
+      builder.header("Accept-Encoding", "gzip");
+    }
+    var request = builder.GET().build();
+
+    for (var i = 0; i < warmUp; i++) {
+      client.send(request, BodyHandlers.discarding());
+    }
+    var latencies = new long[requests];
+    HttpResponse<byte[]> response = null;
+    for (var i = 0; i < requests; i++) {
+      var started = System.nanoTime();
+      // The client does not decode the body, so its length is what crossed the wire
+      response = client.send(request, BodyHandlers.ofByteArray());
+      latencies[i] = System.nanoTime() - started;
+    }
+    Arrays.sort(latencies);
+
+    System.out.printf(
+        "%-32s %-9s %-9s %-8s %-8s %10d %9.3f %9.3f%n",
+        name,
+        protocolOf(client.version()),
+        protocolOf(response.version()),
+        compact ? "compact" : "json",
+        response.headers().firstValue("Content-Encoding").orElse("identity"),
+        response.body().length,
+        percentile(latencies, 0.50),
+        percentile(latencies, 0.99));
+  }
+
+  private static String protocolOf(HttpClient.Version version) {
+    return version == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+  }
+
+  private static double percentile(long[] sortedNanos, double fraction) {
+    var index = (int) Math.ceil(fraction * sortedNanos.length) - 1;
+    return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+  }
+}
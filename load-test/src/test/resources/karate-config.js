@@ -0,0 +1,6 @@
+function fn() {
+    var config = {};
+    // the application under test, set with -Dbase.url
+    config.baseUrl = karate.properties['base.url'] || 'http://localhost:8080';
+    return config;
+}
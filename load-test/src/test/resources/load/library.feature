@@ -0,0 +1,62 @@
+Feature: Library journeys replayed under load by LibrarySimulation
+
+  Background:
+    # memberId, email and itemIds are fed by LibrarySimulation
+    * url baseUrl
+    * header Content-Type = 'application/json'
+    * def feed = karate.get('__gatling', {})
+    * def memberId = feed.memberId || 1
+    * def email = feed.email || 'alice@example.com'
+    * def itemIds = feed.itemIds || [6]
+
+  @borrow
+  Scenario: Borrow random items, list the member's loans and return the items
+    # 1) Borrow the items; another user may already hold one of them
+    Given path 'v1', 'members', memberId, 'loans'
+    And request { items: '#(itemIds)' }
+    When method post
+    Then match [200, 409] contains responseStatus
+    * if (responseStatus == 409) karate.abort()
+    * def loanId = response.id
+
+    # 2) List the member's loans
+    Given path 'v1', 'members', memberId, 'loans'
+    When method get
+    Then status 200
+    And match response[*].loanId contains loanId
+
+    # 3) Return every item and assert the loan is closed
+    Given path 'v1', 'loans', loanId, 'returns'
+    And request { items: '#(itemIds)' }
+    When method post
+    Then status 200
+    And match response.status == 'CLOSED'
+
+  @history
+  Scenario: Read a member's loans, revalidate them and read the latest loan
+    # 1) List the member's loans and keep their ETag
+    Given path 'v1', 'members', memberId, 'loans'
+    When method get
+    Then status 200
+    * def loans = response
+    * def etag = karate.response.header('ETag')
+
+    # 2) Revalidate; the list may have changed under concurrent borrowing
+    Given path 'v1', 'members', memberId, 'loans'
+    And header If-None-Match = etag
+    When method get
+    Then match [200, 304] contains responseStatus
+
+    # 3) Read the member's most recent loan, if any
+    * if (loans.length == 0) karate.abort()
+    Given path 'v1', 'loans', loans[loans.length - 1].loanId
+    When method get
+    Then status 200
+
+  @search
+  Scenario: Look a member up by email
+    Given path 'v1', 'members', 'by-email'
+    And param email = email
+    When method get
+    Then status 200
+    And match response.email == email
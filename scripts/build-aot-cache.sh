@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+#
+# Builds the JVM deployment with Spring AOT processing and a JDK AOT cache (JEP 483/514, the
+# successor of AppCDS archives). The cache is recorded from a training run that exercises the
+# loan endpoints with scripts/exercise-loans.sh, so the classes they load are already parsed and
+# linked when a node restarts. Requires JDK 25.
+#
+# Usage: scripts/build-aot-cache.sh [training-iterations]
+#
+# Output in target/aot-cache/: the extracted application and library.aot. Launch with
+#   java -XX:AOTCache=target/aot-cache/library.aot -Dspring.aot.enabled=true \
+#     -jar target/aot-cache/library-0.0.1-SNAPSHOT.jar
+# The cache is only valid for the same JDK and the same jar files; rebuild it with the jar.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+iterations="${1:-50}"
+port=18081
+out="target/aot-cache"
+jar="library-0.0.1-SNAPSHOT.jar"
+
+./mvnw -B -q -Pjvm-aot -DskipTests package
+
+# The cache records class paths, so train from the extracted layout that is deployed
+rm -rf "$out"
+java -Djarmode=tools -jar "target/${jar}" extract --destination "$out"
+
+java -XX:AOTCacheOutput="${out}/library.aot" -Dspring.aot.enabled=true \
+  -jar "${out}/${jar}" --server.port="$port" --logging.level.com.lms.library=WARN \
+  >"${out}/training.log" 2>&1 &
+pid=$!
+
+until curl -sf -o /dev/null "http://localhost:${port}/v1/members/by-email?email=alice@example.com"; do
+  if ! kill -0 "$pid" 2>/dev/null; then
+    echo "training run exited early, see ${out}/training.log" >&2
+    exit 1
+  fi
+  sleep 0.1
+done
+
+scripts/exercise-loans.sh "http://localhost:${port}" "$iterations"
+
+# The cache is written while the JVM exits
+kill -TERM "$pid"
+wait "$pid" || true
+
+if [[ ! -s "${out}/library.aot" ]]; then
+  echo "no AOT cache was written, see ${out}/training.log" >&2
+  exit 1
+fi
+echo "AOT cache: ${out}/library.aot ($(du -h "${out}/library.aot" | cut -f1))"
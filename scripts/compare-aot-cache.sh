@@ -0,0 +1,30 @@
+#!/usr/bin/env bash
+#
+# Compares the time to first request of the plain executable jar with the extracted jar started
+# from the JDK AOT cache built by scripts/build-aot-cache.sh. Requires JDK 25.
+#
+# Usage: scripts/compare-aot-cache.sh [runs]
+#
+# Set SKIP_BUILD=1 to measure the artifacts already in target/.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+runs="${1:-5}"
+jar="library-0.0.1-SNAPSHOT.jar"
+
+if [[ "${SKIP_BUILD:-0}" != 1 ]]; then
+  scripts/build-aot-cache.sh
+fi
+
+echo "# $(uname -srm), $(nproc) CPUs"
+java -version 2>&1 | head -1 | sed 's/^/# /'
+
+echo
+echo "## Plain jar (target/${jar})"
+scripts/measure-startup.sh -n "$runs" -- java -jar "target/${jar}"
+
+echo
+echo "## Spring AOT + JDK AOT cache (target/aot-cache)"
+scripts/measure-startup.sh -n "$runs" -- java -XX:AOTCache=target/aot-cache/library.aot \
+  -Dspring.aot.enabled=true -jar "target/aot-cache/${jar}"
@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+#
+# Builds the executable jar and the native image, then compares their cold start and memory with
+# scripts/measure-startup.sh. Requires a GraalVM JDK 25 (with native-image) as JAVA_HOME.
+#
+# Usage: scripts/compare-native.sh [runs]
+#
+# Set SKIP_BUILD=1 to measure the artifacts already in target/.
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+runs="${1:-5}"
+jar="target/library-0.0.1-SNAPSHOT.jar"
+image="target/library"
+
+if [[ "${SKIP_BUILD:-0}" != 1 ]]; then
+  ./mvnw -B -q -DskipTests package
+  ./mvnw -B -q -Pnative -DskipTests native:compile
+fi
+
+echo "# $(uname -srm), $(nproc) CPUs"
+java -version 2>&1 | head -1 | sed 's/^/# /'
+native-image --version 2>/dev/null | head -1 | sed 's/^/# /' || true
+
+echo
+echo "## JVM ($jar)"
+scripts/measure-startup.sh -n "$runs" -- java -jar "$jar"
+
+echo
+echo "## Native ($image)"
+scripts/measure-startup.sh -n "$runs" -- "$image"
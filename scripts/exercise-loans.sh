@@ -0,0 +1,26 @@
+#!/usr/bin/env bash
+#
+# Drives the LoanController endpoints of a running instance: for each iteration it checks out a
+# seeded item, reads the loan and the member's loans (plain and conditional), a missing loan,
+# and returns the item. Used as the warm-up of the startup benchmark and as the training run of
+# the AOT cache.
+#
+# Usage: scripts/exercise-loans.sh <base-url> [iterations]
+
+set -euo pipefail
+
+base="${1:?usage: $0 <base-url> [iterations]}"
+iterations="${2:-200}"
+json='Content-Type: application/json'
+
+for ((i = 0; i < iterations; i++)); do
+  loan=$(curl -sf -X POST -H "$json" -d '{"items":[1,2]}' "${base}/v1/members/1/loans" |
+    sed -E 's/^\{"id":([0-9]+).*/\1/')
+  etag=$(curl -sf -D - -o /dev/null "${base}/v1/loans/${loan}" | tr -d '\r' |
+    awk 'tolower($1) == "etag:" { print $2 }')
+  curl -s -o /dev/null -H "If-None-Match: ${etag}" "${base}/v1/loans/${loan}"
+  curl -sf -o /dev/null "${base}/v1/members/1/loans"
+  curl -s -o /dev/null "${base}/v1/loans/999999999"
+  curl -sf -o /dev/null -X POST -H "$json" -d '{"items":[1]}' "${base}/v1/loans/${loan}/returns"
+  curl -sf -o /dev/null -X POST -H "$json" -d '{"items":[2]}' "${base}/v1/loans/${loan}/returns"
+done
@@ -0,0 +1,76 @@
+#!/usr/bin/env bash
+#
+# Measures the cold start of one build of the Library Management System.
+#
+# Usage: scripts/measure-startup.sh [-n runs] [-p port] [-w warmup] -- <command...>
+#
+# Each run starts <command> with --server.port=<port>, polls a seeded member lookup until it
+# answers 200, and records:
+#   ttfr_ms   wall-clock time from launch to the first successful response
+#   rss_kb    resident set size right after the first response
+#   warm_kb   resident set size after <warmup> rounds of scripts/exercise-loans.sh
+# One line per run is printed, followed by the median of each column.
+
+set -euo pipefail
+
+runs=5
+port=18080
+warmup=200
+
+while getopts "n:p:w:" opt; do
+  case "$opt" in
+    n) runs="$OPTARG" ;;
+    p) port="$OPTARG" ;;
+    w) warmup="$OPTARG" ;;
+    *) echo "usage: $0 [-n runs] [-p port] [-w warmup] -- <command...>" >&2; exit 2 ;;
+  esac
+done
+shift $((OPTIND - 1))
+[[ "${1:-}" == "--" ]] && shift
+if [[ $# -eq 0 ]]; then
+  echo "usage: $0 [-n runs] [-p port] [-w warmup] -- <command...>" >&2
+  exit 2
+fi
+
+base="http://localhost:${port}"
+probe="${base}/v1/members/by-email?email=alice@example.com"
+
+now_ms() { echo $(( $(date +%s%N) / 1000000 )); }
+
+rss_kb() { awk '/^VmRSS:/ { print $2 }' "/proc/$1/status"; }
+
+median() { sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'; }
+
+results=$(mktemp)
+trap 'rm -f "$results"' EXIT
+
+printf '%-4s %10s %10s %10s\n' run ttfr_ms rss_kb warm_kb
+for ((run = 1; run <= runs; run++)); do
+  start=$(now_ms)
+  "$@" --server.port="$port" --logging.level.com.lms.library=WARN >/dev/null 2>&1 &
+  pid=$!
+
+  until curl -sf -o /dev/null "$probe"; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "run $run: process exited before answering" >&2
+      exit 1
+    fi
+    sleep 0.01
+  done
+  ttfr=$(( $(now_ms) - start ))
+  rss=$(rss_kb "$pid")
+
+  "$(dirname "$0")/exercise-loans.sh" "$base" "$warmup"
+  warm=$(rss_kb "$pid")
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+
+  printf '%-4s %10s %10s %10s\n' "$run" "$ttfr" "$rss" "$warm"
+  echo "$ttfr $rss $warm" >>"$results"
+done
+
+printf '%-4s %10s %10s %10s\n' med \
+  "$(cut -d' ' -f1 "$results" | median)" \
+  "$(cut -d' ' -f2 "$results" | median)" \
+  "$(cut -d' ' -f3 "$results" | median)"
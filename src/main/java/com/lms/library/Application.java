@@ -1,7 +1,9 @@
 package com.lms.library;
 
+import com.lms.library.config.LibraryRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 /**
  * Main application class for the Library Management System. Bootstraps the Spring Boot application.
@@ -11,6 +13,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @since 2025
  */
 @SpringBootApplication
+@ImportRuntimeHints(LibraryRuntimeHints.class)
 public class Application {
 
   /**
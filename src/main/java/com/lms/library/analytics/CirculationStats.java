@@ -0,0 +1,260 @@
+package com.lms.library.analytics;
+
+import com.lms.library.model.Book;
+import com.lms.library.model.Journal;
+import com.lms.library.model.LibraryItem;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Circulation aggregates maintained incrementally as items are checked out and returned, so that
+ * analytics never scan loans:
+ *
+ * <ul>
+ *   <li>borrow counts per item, with a ranking kept sorted by count;
+ *   <li>loans, borrowed items and returned items per day;
+ *   <li>borrows, returns, total loan days and a loan duration histogram per genre.
+ * </ul>
+ *
+ * <p>Counters are {@link LongAdder}s, so concurrent checkouts do not contend on them. An item's
+ * count and its ranking entry are updated together under the item's map entry, so the ranking
+ * always holds exactly one entry per borrowed item. Journals are counted under the genre {@value
+ * #JOURNAL_GENRE}.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class CirculationStats {
+
+  /** Genre under which journals, which have none, are counted. */
+  public static final String JOURNAL_GENRE = "Journal";
+
+  /** Genre under which books without a genre are counted. */
+  public static final String UNKNOWN_GENRE = "Unknown";
+
+  /**
+   * Inclusive upper bounds, in days, of the loan duration histogram buckets. A final bucket holds
+   * the longer loans.
+   */
+  public static final List<Integer> DURATION_BUCKET_BOUNDS = List.of(7, 14, 21, 28, 42, 56);
+
+  private static final Comparator<ItemBorrows> RANKING_ORDER =
+      Comparator.comparingLong(ItemBorrows::borrows)
+          .reversed()
+          .thenComparingLong(ItemBorrows::itemId);
+
+  private final Map<Long, Long> itemBorrows = new ConcurrentHashMap<>();
+  private final NavigableSet<ItemBorrows> ranking = new ConcurrentSkipListSet<>(RANKING_ORDER);
+  private final Map<LocalDate, DayCounters> days = new ConcurrentHashMap<>();
+  private final Map<String, GenreCounters> genres = new ConcurrentHashMap<>();
+
+  /** Default constructor for CirculationStats. */
+  public CirculationStats() {}
+
+  /**
+   * Records the checkout of every item of a new loan on the loan date.
+   *
+   * @param loan the saved loan
+   */
+  public void recordCheckout(Loan loan) {
+    var day = days.computeIfAbsent(loan.getLoanDate(), date -> new DayCounters());
+    day.loans.increment();
+    for (var loanItem : loan.getItems()) {
+      var item = loanItem.getItem();
+      itemBorrows.compute(
+          item.getId(),
+          (itemId, borrows) -> {
+            var next = borrows == null ? 1 : borrows + 1;
+            if (borrows != null) {
+              ranking.remove(new ItemBorrows(itemId, borrows));
+            }
+            ranking.add(new ItemBorrows(itemId, next));
+            return next;
+          });
+      day.itemsBorrowed.increment();
+      genreCounters(item).borrows.increment();
+    }
+  }
+
+  /**
+   * Records the return of a loan item on its return date. Items that have not been returned are
+   * ignored.
+   *
+   * @param loanItem the returned loan item
+   */
+  public void recordReturn(LoanItem loanItem) {
+    var returnedDate = loanItem.getReturnedDate();
+    if (returnedDate == null) {
+      return;
+    }
+    var loanDays =
+        Math.max(0, ChronoUnit.DAYS.between(loanItem.getLoan().getLoanDate(), returnedDate));
+    days.computeIfAbsent(returnedDate, date -> new DayCounters()).itemsReturned.increment();
+    var genre = genreCounters(loanItem.getItem());
+    genre.returns.increment();
+    genre.loanDays.add(loanDays);
+    genre.durationHistogram[bucketOf(loanDays)].increment();
+  }
+
+  /**
+   * Gets the most borrowed items, reading only the head of the ranking.
+   *
+   * @param limit the maximum number of items
+   * @return the items in descending order of borrows, ties broken by item ID
+   */
+  public List<ItemBorrows> mostBorrowed(int limit) {
+    return ranking.stream().limit(limit).toList();
+  }
+
+  /**
+   * Gets the number of times an item was borrowed.
+   *
+   * @param itemId the ID of the item
+   * @return the borrow count, 0 if the item was never borrowed
+   */
+  public long borrowsOf(Long itemId) {
+    return itemBorrows.getOrDefault(itemId, 0L);
+  }
+
+  /**
+   * Gets the circulation of every day of a range, including days without activity.
+   *
+   * @param from the first day, inclusive
+   * @param to the last day, inclusive
+   * @return one entry per day in chronological order
+   */
+  public List<DailyCirculation> daily(LocalDate from, LocalDate to) {
+    return from.datesUntil(to.plusDays(1))
+        .map(
+            date -> {
+              var day = days.get(date);
+              return day == null
+                  ? new DailyCirculation(date, 0, 0, 0)
+                  : new DailyCirculation(
+                      date, day.loans.sum(), day.itemsBorrowed.sum(), day.itemsReturned.sum());
+            })
+        .toList();
+  }
+
+  /**
+   * Gets the circulation of every genre.
+   *
+   * @return one entry per genre, in descending order of borrows
+   */
+  public List<GenreCirculation> byGenre() {
+    return genres.entrySet().stream()
+        .map(
+            entry -> {
+              var counters = entry.getValue();
+              return new GenreCirculation(
+                  entry.getKey(),
+                  counters.borrows.sum(),
+                  counters.returns.sum(),
+                  counters.loanDays.sum(),
+                  Arrays.stream(counters.durationHistogram).map(LongAdder::sum).toList());
+            })
+        .sorted(
+            Comparator.comparingLong(GenreCirculation::borrows)
+                .reversed()
+                .thenComparing(GenreCirculation::genre))
+        .toList();
+  }
+
+  /**
+   * Gets the genre under which an item is counted.
+   *
+   * @param item the library item
+   * @return the book's genre, {@value #UNKNOWN_GENRE} for a book without one, or {@value
+   *     #JOURNAL_GENRE} for a journal
+   */
+  public static String genreOf(LibraryItem item) {
+    return switch (item) {
+      case Book book -> book.getGenre() == null ? UNKNOWN_GENRE : book.getGenre();
+      case Journal journal -> JOURNAL_GENRE;
+    };
+  }
+
+  private GenreCounters genreCounters(LibraryItem item) {
+    return genres.computeIfAbsent(genreOf(item), genre -> new GenreCounters());
+  }
+
+  private static int bucketOf(long loanDays) {
+    for (var i = 0; i < DURATION_BUCKET_BOUNDS.size(); i++) {
+      if (loanDays <= DURATION_BUCKET_BOUNDS.get(i)) {
+        return i;
+      }
+    }
+    return DURATION_BUCKET_BOUNDS.size();
+  }
+
+  /**
+   * Number of times an item was borrowed.
+   *
+   * @param itemId the ID of the item
+   * @param borrows the borrow count
+   */
+  public record ItemBorrows(long itemId, long borrows) {}
+
+  /**
+   * Circulation of one day.
+   *
+   * @param date the day
+   * @param loans the number of loans created
+   * @param itemsBorrowed the number of items checked out
+   * @param itemsReturned the number of items returned
+   */
+  public record DailyCirculation(
+      LocalDate date, long loans, long itemsBorrowed, long itemsReturned) {}
+
+  /**
+   * Circulation of one genre.
+   *
+   * @param genre the genre
+   * @param borrows the number of items of the genre checked out
+   * @param returns the number of items of the genre returned
+   * @param totalLoanDays the sum of the loan durations of the returned items, in days
+   * @param durationHistogram the number of returned items per {@link #DURATION_BUCKET_BOUNDS
+   *     duration bucket}, followed by the number of longer loans
+   */
+  public record GenreCirculation(
+      String genre, long borrows, long returns, long totalLoanDays, List<Long> durationHistogram) {
+
+    /**
+     * Gets the average loan duration of the returned items.
+     *
+     * @return the average duration in days, or 0 if no item was returned
+     */
+    public double averageLoanDays() {
+      return returns == 0 ? 0 : (double) totalLoanDays / returns;
+    }
+  }
+
+  private static final class DayCounters {
+    private final LongAdder loans = new LongAdder();
+    private final LongAdder itemsBorrowed = new LongAdder();
+    private final LongAdder itemsReturned = new LongAdder();
+  }
+
+  private static final class GenreCounters {
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder returns = new LongAdder();
+    private final LongAdder loanDays = new LongAdder();
+    private final LongAdder[] durationHistogram =
+        Arrays.stream(new LongAdder[DURATION_BUCKET_BOUNDS.size() + 1])
+            .map(adder -> new LongAdder())
+            .toArray(LongAdder[]::new);
+  }
+}
@@ -0,0 +1,163 @@
+package com.lms.library.analytics;
+
+import com.lms.library.model.Loan;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Approximate number of distinct members who borrowed each library item and each genre, kept in
+ * one {@link HyperLogLog} sketch per item and per genre instead of exact sets of member IDs.
+ *
+ * <p>Adding a member to a sketch again changes nothing, and sketches of the same precision merge
+ * into the sketch of the union of their borrowers. Replaying a loan, or merging a sketch another
+ * node or shard built from overlapping loans, is therefore harmless: that is how read replicas
+ * rebuild these counts from replicated loans and from the sketches shipped in snapshots.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see HyperLogLog
+ * @since 2025
+ */
+@Component
+public class DistinctBorrowers {
+
+  private final int itemPrecision;
+  private final int genrePrecision;
+  private final Map<Long, HyperLogLog> byItem = new ConcurrentHashMap<>();
+  private final Map<String, HyperLogLog> byGenre = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new DistinctBorrowers.
+   *
+   * @param itemPrecision the precision of the sketch of each item; there is one per borrowed item,
+   *     so a lower precision saves memory at the cost of accuracy
+   * @param genrePrecision the precision of the sketch of each genre
+   * @throws IllegalArgumentException if a precision is out of range
+   */
+  public DistinctBorrowers(
+      @Value("${library.analytics.borrowers.item-precision:10}") int itemPrecision,
+      @Value("${library.analytics.borrowers.genre-precision:14}") int genrePrecision) {
+    this.itemPrecision = HyperLogLog.checkPrecision(itemPrecision);
+    this.genrePrecision = HyperLogLog.checkPrecision(genrePrecision);
+  }
+
+  /**
+   * Records the member of a loan as a borrower of each of its items and of their genres.
+   *
+   * @param loan the loan
+   */
+  public void recordLoan(Loan loan) {
+    var memberId = loan.getMember().getId();
+    for (var loanItem : loan.getItems()) {
+      var item = loanItem.getItem();
+      byItem.computeIfAbsent(item.getId(), id -> new HyperLogLog(itemPrecision)).add(memberId);
+      byGenre
+          .computeIfAbsent(
+              CirculationStats.genreOf(item), genre -> new HyperLogLog(genrePrecision))
+          .add(memberId);
+    }
+  }
+
+  /**
+   * Estimates the number of distinct members who borrowed an item.
+   *
+   * @param itemId the ID of the item
+   * @return the estimated number of borrowers, 0 if the item was never borrowed
+   */
+  public long ofItem(Long itemId) {
+    return Optional.ofNullable(byItem.get(itemId)).map(HyperLogLog::estimate).orElse(0L);
+  }
+
+  /**
+   * Estimates the number of distinct members who borrowed an item of each genre.
+   *
+   * @return one entry per genre, most borrowers first
+   */
+  public List<GenreBorrowers> ofGenres() {
+    return byGenre.entrySet().stream()
+        .map(entry -> new GenreBorrowers(entry.getKey(), entry.getValue().estimate()))
+        .sorted(
+            Comparator.comparingLong(GenreBorrowers::borrowers)
+                .reversed()
+                .thenComparing(GenreBorrowers::genre))
+        .toList();
+  }
+
+  /**
+   * Gets the relative standard error of the estimates for items.
+   *
+   * @return the relative standard error
+   */
+  public double getItemError() {
+    return HyperLogLog.relativeError(itemPrecision);
+  }
+
+  /**
+   * Gets the relative standard error of the estimates for genres.
+   *
+   * @return the relative standard error
+   */
+  public double getGenreError() {
+    return HyperLogLog.relativeError(genrePrecision);
+  }
+
+  /**
+   * Merges a serialized item sketch into the item's sketch.
+   *
+   * @param itemId the ID of the item
+   * @param sketch the sketch, as written by {@link HyperLogLog#toBytes()}
+   * @throws IllegalArgumentException if the sketch is invalid or its precision differs
+   */
+  public void mergeItem(Long itemId, byte[] sketch) {
+    byItem
+        .computeIfAbsent(itemId, id -> new HyperLogLog(itemPrecision))
+        .merge(HyperLogLog.fromBytes(sketch));
+  }
+
+  /**
+   * Merges a serialized genre sketch into the genre's sketch.
+   *
+   * @param genre the genre
+   * @param sketch the sketch, as written by {@link HyperLogLog#toBytes()}
+   * @throws IllegalArgumentException if the sketch is invalid or its precision differs
+   */
+  public void mergeGenre(String genre, byte[] sketch) {
+    byGenre
+        .computeIfAbsent(genre, key -> new HyperLogLog(genrePrecision))
+        .merge(HyperLogLog.fromBytes(sketch));
+  }
+
+  /**
+   * Serializes every item sketch, for instance to ship them in a snapshot.
+   *
+   * @return a lazy stream of item IDs and their serialized sketches
+   */
+  public Stream<Map.Entry<Long, byte[]>> itemSketches() {
+    return byItem.entrySet().stream()
+        .map(entry -> Map.entry(entry.getKey(), entry.getValue().toBytes()));
+  }
+
+  /**
+   * Serializes every genre sketch, for instance to ship them in a snapshot.
+   *
+   * @return a lazy stream of genres and their serialized sketches
+   */
+  public Stream<Map.Entry<String, byte[]>> genreSketches() {
+    return byGenre.entrySet().stream()
+        .map(entry -> Map.entry(entry.getKey(), entry.getValue().toBytes()));
+  }
+
+  /**
+   * Estimated number of distinct members who borrowed an item of a genre.
+   *
+   * @param genre the genre
+   * @param borrowers the estimated number of borrowers
+   */
+  public record GenreBorrowers(String genre, long borrowers) {}
+}
@@ -0,0 +1,284 @@
+package com.lms.library.analytics;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog sketch estimating the number of distinct values added to it, with a relative
+ * standard error of {@code 1.04 / sqrt(2^precision)} in at most {@code 2^precision} bytes.
+ *
+ * <p>A sketch starts sparse, storing only the registers that are set, and switches to an array of
+ * all registers once that would take less memory, so the many sketches that only ever see a few
+ * values stay small. Sketches of the same precision can be merged, which gives the sketch of the
+ * union of their values; merging is idempotent, so merging the same sketch twice is harmless.
+ *
+ * <p>Instances are thread-safe.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public final class HyperLogLog {
+
+  /** Smallest supported precision. */
+  public static final int MIN_PRECISION = 4;
+
+  /** Largest supported precision. */
+  public static final int MAX_PRECISION = 16;
+
+  private static final byte SPARSE = 0;
+  private static final byte DENSE = 1;
+
+  private final int precision;
+  private final int registerCount;
+
+  /** Registers set so far as {@code index << 8 | rank}, sorted by index, while sparse. */
+  private int[] sparse = new int[4];
+
+  private int sparseSize;
+
+  /** Every register, once dense. */
+  private byte[] dense;
+
+  /**
+   * Constructs a new, empty HyperLogLog.
+   *
+   * @param precision the number of bits selecting a register, between {@value #MIN_PRECISION} and
+   *     {@value #MAX_PRECISION}
+   * @throws IllegalArgumentException if precision is out of range
+   */
+  public HyperLogLog(int precision) {
+    this.precision = checkPrecision(precision);
+    this.registerCount = 1 << precision;
+  }
+
+  /**
+   * Checks that a precision is supported.
+   *
+   * @param precision the precision
+   * @return the precision
+   * @throws IllegalArgumentException if precision is out of range
+   */
+  static int checkPrecision(int precision) {
+    if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+      throw new IllegalArgumentException(
+          "Precision must be between %d and %d".formatted(MIN_PRECISION, MAX_PRECISION));
+    }
+    return precision;
+  }
+
+  /**
+   * Gets the precision of this sketch.
+   *
+   * @return the number of bits selecting a register
+   */
+  public int getPrecision() {
+    return precision;
+  }
+
+  /**
+   * Gets the relative standard error of the estimates of sketches of a precision.
+   *
+   * @param precision the precision
+   * @return the relative standard error, e.g. 0.0163 for a precision of 12
+   */
+  public static double relativeError(int precision) {
+    return 1.04 / Math.sqrt(1 << precision);
+  }
+
+  /**
+   * Adds a value to the sketch.
+   *
+   * @param value the value, e.g. a member ID
+   */
+  public void add(long value) {
+    var hash = mix(value);
+    var index = (int) (hash >>> (Long.SIZE - precision));
+    // The guard bit caps the rank when every remaining bit is 0
+    var rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+    synchronized (this) {
+      set(index, rank);
+    }
+  }
+
+  /**
+   * Estimates the number of distinct values added to the sketch.
+   *
+   * @return the estimated cardinality
+   */
+  public synchronized long estimate() {
+    var zeros = registerCount;
+    var sum = 0.0;
+    if (dense == null) {
+      zeros -= sparseSize;
+      for (var i = 0; i < sparseSize; i++) {
+        sum += Math.scalb(1.0, -(sparse[i] & 0xFF));
+      }
+    } else {
+      for (var register : dense) {
+        if (register == 0) {
+          continue;
+        }
+        zeros--;
+        sum += Math.scalb(1.0, -register);
+      }
+    }
+    sum += zeros;
+    var raw = alpha() * registerCount * registerCount / sum;
+    if (raw <= 2.5 * registerCount && zeros > 0) {
+      // Linear counting is more accurate while many registers are still empty
+      return Math.round(registerCount * Math.log((double) registerCount / zeros));
+    }
+    return Math.round(raw);
+  }
+
+  /**
+   * Merges another sketch into this one, which then estimates the union of both sketches' values.
+   *
+   * @param other the sketch to merge, left unchanged
+   * @throws IllegalArgumentException if the sketches have different precisions
+   */
+  public void merge(HyperLogLog other) {
+    if (other.precision != precision) {
+      throw new IllegalArgumentException(
+          "Cannot merge a sketch of precision %d into one of precision %d"
+              .formatted(other.precision, precision));
+    }
+    if (other == this) {
+      return;
+    }
+    int[] entries;
+    synchronized (other) {
+      entries = other.entries();
+    }
+    synchronized (this) {
+      for (var entry : entries) {
+        set(entry >>> 8, entry & 0xFF);
+      }
+    }
+  }
+
+  /**
+   * Serializes the sketch. The result is compact while the sketch is sparse.
+   *
+   * @return the serialized sketch, readable with {@link #fromBytes(byte[])}
+   */
+  public synchronized byte[] toBytes() {
+    if (dense != null) {
+      return ByteBuffer.allocate(2 + registerCount)
+          .put((byte) precision)
+          .put(DENSE)
+          .put(dense)
+          .array();
+    }
+    var buffer = ByteBuffer.allocate(2 + 3 * sparseSize).put((byte) precision).put(SPARSE);
+    for (var i = 0; i < sparseSize; i++) {
+      buffer.putShort((short) (sparse[i] >>> 8)).put((byte) sparse[i]);
+    }
+    return buffer.array();
+  }
+
+  /**
+   * Deserializes a sketch written by {@link #toBytes()}.
+   *
+   * @param bytes the serialized sketch
+   * @return the sketch
+   * @throws IllegalArgumentException if the bytes do not hold a valid sketch
+   */
+  public static HyperLogLog fromBytes(byte[] bytes) {
+    if (bytes.length < 2) {
+      throw new IllegalArgumentException("Serialized sketch is truncated");
+    }
+    var buffer = ByteBuffer.wrap(bytes);
+    var sketch = new HyperLogLog(buffer.get());
+    var format = buffer.get();
+    if (format == DENSE && buffer.remaining() == sketch.registerCount) {
+      for (var index = 0; index < sketch.registerCount; index++) {
+        sketch.set(index, buffer.get());
+      }
+    } else if (format == SPARSE && buffer.remaining() % 3 == 0) {
+      while (buffer.hasRemaining()) {
+        var index = Short.toUnsignedInt(buffer.getShort());
+        if (index >= sketch.registerCount) {
+          throw new IllegalArgumentException("Serialized sketch has an invalid register");
+        }
+        sketch.set(index, buffer.get());
+      }
+    } else {
+      throw new IllegalArgumentException("Serialized sketch has an invalid format");
+    }
+    return sketch;
+  }
+
+  private void set(int index, int rank) {
+    if (rank <= 0) {
+      return;
+    }
+    if (dense != null) {
+      if (rank > dense[index]) {
+        dense[index] = (byte) rank;
+      }
+      return;
+    }
+    var position = Arrays.binarySearch(sparse, 0, sparseSize, index << 8);
+    if (position < 0) {
+      position = -position - 1;
+    }
+    if (position < sparseSize && sparse[position] >>> 8 == index) {
+      sparse[position] = Math.max(sparse[position], index << 8 | rank);
+      return;
+    }
+    if (sparseSize == registerCount / 4) {
+      // An int per set register now takes as much memory as a byte per register
+      densify();
+      set(index, rank);
+      return;
+    }
+    if (sparseSize == sparse.length) {
+      sparse = Arrays.copyOf(sparse, sparseSize * 2);
+    }
+    System.arraycopy(sparse, position, sparse, position + 1, sparseSize - position);
+    sparse[position] = index << 8 | rank;
+    sparseSize++;
+  }
+
+  private void densify() {
+    dense = new byte[registerCount];
+    for (var i = 0; i < sparseSize; i++) {
+      dense[sparse[i] >>> 8] = (byte) sparse[i];
+    }
+    sparse = null;
+    sparseSize = 0;
+  }
+
+  private int[] entries() {
+    if (dense == null) {
+      return Arrays.copyOf(sparse, sparseSize);
+    }
+    var entries = new int[registerCount];
+    var count = 0;
+    for (var index = 0; index < registerCount; index++) {
+      if (dense[index] != 0) {
+        entries[count++] = index << 8 | dense[index];
+      }
+    }
+    return Arrays.copyOf(entries, count);
+  }
+
+  private double alpha() {
+    return switch (registerCount) {
+      case 16 -> 0.673;
+      case 32 -> 0.697;
+      case 64 -> 0.709;
+      default -> 0.7213 / (1 + 1.079 / registerCount);
+    };
+  }
+
+  /** Spreads the bits of a value over the whole hash, so that sequential IDs hash uniformly. */
+  private static long mix(long value) {
+    var z = value + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,95 @@
+package com.lms.library.analytics;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving summary of the most frequent item IDs of a stream, in the memory of a fixed number
+ * of counters. While there are free counters, counts are exact. Once they are all taken, a new
+ * item replaces the item with the smallest count and inherits that count as its error, so every
+ * count overestimates the true frequency by at most its error, and an item without a counter
+ * occurred at most {@link #floor()} times.
+ *
+ * <p>Not thread-safe.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+final class SpaceSaving {
+
+  private static final Comparator<Counter> BY_COUNT =
+      Comparator.comparingLong(Counter::count).thenComparingLong(Counter::itemId);
+
+  private final int capacity;
+  private final Map<Long, Counter> counters;
+  private final NavigableSet<Counter> byCount = new TreeSet<>(BY_COUNT);
+
+  /**
+   * Constructs a new SpaceSaving summary.
+   *
+   * @param capacity the number of counters
+   */
+  SpaceSaving(int capacity) {
+    this.capacity = capacity;
+    this.counters = HashMap.newHashMap(capacity);
+  }
+
+  /**
+   * Counts one occurrence of an item.
+   *
+   * @param itemId the ID of the item
+   */
+  void offer(long itemId) {
+    var counter = counters.get(itemId);
+    if (counter != null) {
+      byCount.remove(counter);
+      counter = new Counter(itemId, counter.count() + 1, counter.error());
+    } else if (counters.size() < capacity) {
+      counter = new Counter(itemId, 1, 0);
+    } else {
+      var evicted = byCount.pollFirst();
+      counters.remove(evicted.itemId());
+      counter = new Counter(itemId, evicted.count() + 1, evicted.count());
+    }
+    counters.put(itemId, counter);
+    byCount.add(counter);
+  }
+
+  /**
+   * Gets the largest number of times an item without a counter may have occurred.
+   *
+   * @return the smallest count if every counter is taken, 0 otherwise
+   */
+  long floor() {
+    return counters.size() < capacity ? 0 : byCount.first().count();
+  }
+
+  /**
+   * Gets the counters of the monitored items.
+   *
+   * @return a live view of the counters
+   */
+  Collection<Counter> counters() {
+    return counters.values();
+  }
+
+  /** Forgets every item. */
+  void clear() {
+    counters.clear();
+    byCount.clear();
+  }
+
+  /**
+   * Estimated frequency of a monitored item.
+   *
+   * @param itemId the ID of the item
+   * @param count the estimated number of occurrences, never below the true number
+   * @param error the largest overestimate of the count
+   */
+  record Counter(long itemId, long count, long error) {}
+}
@@ -0,0 +1,206 @@
+package com.lms.library.analytics;
+
+import com.lms.library.event.LoanCreated;
+import com.lms.library.event.LoanEvent;
+import com.lms.library.event.LoanEventBus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Most borrowed items over the sliding {@link TrendingWindow windows}, estimated in bounded memory
+ * whatever the size of the catalogue. Every window is a ring of time buckets, each summarising the
+ * checkouts of its time slice in a {@link SpaceSaving} sketch; a query merges the buckets still in
+ * the window, and a bucket is cleared when the ring wraps around to it.
+ *
+ * <p>The sketches are fed by {@link LoanCreated} events, read from the {@link LoanEventBus} on the
+ * subscription's thread, so checkouts never wait on them. Like every bus subscriber, the sketches
+ * miss the events of a burst larger than the ring, which only makes their estimates lower.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see TrendingWindow
+ * @since 2025
+ */
+@Component
+public class TrendingItems {
+
+  private final LoanEventBus loanEventBus;
+  private final Map<TrendingWindow, Bucket[]> windows = new EnumMap<>(TrendingWindow.class);
+  private LoanEventBus.Subscription subscription;
+
+  /**
+   * Constructs a new TrendingItems.
+   *
+   * @param loanEventBus the event bus publishing checkouts
+   * @param capacity the number of items tracked per bucket; counts are exact while a bucket sees no
+   *     more distinct items
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  public TrendingItems(
+      LoanEventBus loanEventBus,
+      @Value("${library.analytics.trending.capacity:512}") int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Trending capacity must be positive");
+    }
+    this.loanEventBus = loanEventBus;
+    for (var window : TrendingWindow.values()) {
+      var buckets = new Bucket[window.getBucketCount()];
+      for (var i = 0; i < buckets.length; i++) {
+        buckets[i] = new Bucket(capacity);
+      }
+      windows.put(window, buckets);
+    }
+  }
+
+  /** Subscribes to checkouts. Called automatically after construction. */
+  @PostConstruct
+  public void start() {
+    subscription = loanEventBus.subscribe(this::onEvents);
+  }
+
+  /** Stops following checkouts. Called automatically when the application context shuts down. */
+  @PreDestroy
+  public void stop() {
+    if (subscription != null) {
+      subscription.close();
+    }
+  }
+
+  /**
+   * Counts the checkout of items in every window.
+   *
+   * @param itemIds the IDs of the checked out items
+   * @param at the instant of the checkout
+   */
+  public void record(Collection<Long> itemIds, Instant at) {
+    windows.forEach(
+        (window, buckets) -> {
+          var epoch = epochOf(window, at);
+          buckets[index(epoch, buckets)].offer(epoch, itemIds);
+        });
+  }
+
+  /**
+   * Gets the most borrowed items of a window.
+   *
+   * @param window the window
+   * @param limit the maximum number of items
+   * @param now the current instant, which ends the window
+   * @return the items in descending order of estimated borrows, ties broken by item ID
+   */
+  public List<TrendingItem> top(TrendingWindow window, int limit, Instant now) {
+    var buckets = windows.get(window);
+    var newestEpoch = epochOf(window, now);
+    var oldestEpoch = newestEpoch - buckets.length + 1;
+    var tallies = new HashMap<Long, Tally>();
+    var totalFloor = 0L;
+    for (var bucket : buckets) {
+      totalFloor += bucket.tallyInto(tallies, oldestEpoch, newestEpoch);
+    }
+    // An item missing from a full bucket may still have been borrowed up to its floor count there
+    var floor = totalFloor;
+    return tallies.entrySet().stream()
+        .map(
+            entry -> {
+              var tally = entry.getValue();
+              return new TrendingItem(entry.getKey(), tally.excess() + floor, tally.guaranteed());
+            })
+        .sorted(
+            Comparator.comparingLong(TrendingItem::borrows)
+                .reversed()
+                .thenComparingLong(TrendingItem::itemId))
+        .limit(limit)
+        .toList();
+  }
+
+  private void onEvents(List<LoanEvent> batch) {
+    for (var event : batch) {
+      if (event instanceof LoanCreated created) {
+        record(created.itemIds(), created.occurredAt());
+      }
+    }
+  }
+
+  private static long epochOf(TrendingWindow window, Instant at) {
+    return Math.floorDiv(at.toEpochMilli(), window.getBucketWidth().toMillis());
+  }
+
+  private static int index(long epoch, Bucket[] buckets) {
+    return (int) Math.floorMod(epoch, buckets.length);
+  }
+
+  /**
+   * Estimated number of times an item was borrowed in a window.
+   *
+   * @param itemId the ID of the item
+   * @param borrows the estimated number of borrows, never below the true number
+   * @param minBorrows the number of borrows the item is guaranteed to have, equal to borrows while
+   *     no bucket of the window overflowed
+   */
+  public record TrendingItem(long itemId, long borrows, long minBorrows) {}
+
+  /**
+   * Counts of an item summed over the buckets of a window that hold it.
+   *
+   * @param excess the sum of the item's counts above each bucket's floor count
+   * @param guaranteed the sum of the item's counts minus their errors
+   */
+  private record Tally(long excess, long guaranteed) {
+
+    private Tally plus(Tally other) {
+      return new Tally(excess + other.excess, guaranteed + other.guaranteed);
+    }
+  }
+
+  /** The checkouts of one time slice of a window. */
+  private static final class Bucket {
+
+    private final SpaceSaving sketch;
+    private long epoch = Long.MIN_VALUE;
+
+    private Bucket(int capacity) {
+      this.sketch = new SpaceSaving(capacity);
+    }
+
+    private synchronized void offer(long eventEpoch, Collection<Long> itemIds) {
+      if (eventEpoch < epoch) {
+        // Older than the slice now held by this bucket, so already out of the window
+        return;
+      }
+      if (eventEpoch > epoch) {
+        sketch.clear();
+        epoch = eventEpoch;
+      }
+      itemIds.forEach(sketch::offer);
+    }
+
+    /**
+     * Adds this bucket's counts to the tallies of a window.
+     *
+     * @return the floor count of this bucket, 0 if it is outside the window
+     */
+    private synchronized long tallyInto(
+        Map<Long, Tally> tallies, long oldestEpoch, long newestEpoch) {
+      if (epoch < oldestEpoch || epoch > newestEpoch) {
+        return 0;
+      }
+      var floor = sketch.floor();
+      for (var counter : sketch.counters()) {
+        tallies.merge(
+            counter.itemId(),
+            new Tally(counter.count() - floor, counter.count() - counter.error()),
+            Tally::plus);
+      }
+      return floor;
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.lms.library.analytics;
+
+import java.time.Duration;
+
+/**
+ * Sliding windows over which trending items are counted. Each window is a ring of fixed-width time
+ * buckets: it slides one bucket at a time, and the oldest bucket is discarded as a new one starts,
+ * so a window spans between {@code bucketCount - 1} and {@code bucketCount} bucket widths.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see TrendingItems
+ * @since 2025
+ */
+public enum TrendingWindow {
+  /** The last hour, in 5-minute buckets. */
+  HOUR(Duration.ofMinutes(5), 12),
+
+  /** The last day, in 1-hour buckets. */
+  DAY(Duration.ofHours(1), 24),
+
+  /** The last week, in 6-hour buckets. */
+  WEEK(Duration.ofHours(6), 28);
+
+  private final Duration bucketWidth;
+  private final int bucketCount;
+
+  TrendingWindow(Duration bucketWidth, int bucketCount) {
+    this.bucketWidth = bucketWidth;
+    this.bucketCount = bucketCount;
+  }
+
+  /**
+   * Gets the width of one bucket.
+   *
+   * @return the bucket width
+   */
+  public Duration getBucketWidth() {
+    return bucketWidth;
+  }
+
+  /**
+   * Gets the number of buckets in the window.
+   *
+   * @return the bucket count
+   */
+  public int getBucketCount() {
+    return bucketCount;
+  }
+}
@@ -0,0 +1,34 @@
+package com.lms.library.cluster;
+
+import com.lms.library.exception.NodeUnavailableException;
+import com.lms.library.service.LoanService;
+
+/**
+ * Transport used by cluster nodes to reach each other. Implementations return stubs that forward
+ * every call to the named node.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see InProcessClusterTransport
+ * @since 2025
+ */
+public interface ClusterTransport {
+
+  /**
+   * Gets the reservation participant for the items owned by a node.
+   *
+   * @param nodeId the ID of the node
+   * @return the node's reservation participant
+   * @throws NodeUnavailableException if the node cannot be reached
+   */
+  ReservationParticipant participant(String nodeId);
+
+  /**
+   * Gets the loan service of a node, used to forward member-scoped requests to the member's owner.
+   *
+   * @param nodeId the ID of the node
+   * @return the node's loan service
+   * @throws NodeUnavailableException if the node cannot be reached
+   */
+  LoanService loanService(String nodeId);
+}
@@ -0,0 +1,278 @@
+package com.lms.library.cluster;
+
+import com.lms.library.dto.LoanRequest;
+import com.lms.library.exception.NodeUnavailableException;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import com.lms.library.policy.MemberStanding;
+import com.lms.library.service.LoanService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Loan service for a node of a clustered deployment. Members and items are partitioned across the
+ * nodes with a {@link ConsistentHashRing}: the node owning a member keeps that member's loans, and
+ * the node owning an item decides whether it may be checked out.
+ *
+ * <p>A checkout is forwarded to the member's node, which reserves the requested items on their
+ * owning nodes in two phases. All owners first prepare their items; only when every owner
+ * succeeded is the loan created locally and the reservations committed. If any owner refuses or
+ * the loan cannot be created, the prepared reservations are aborted.
+ *
+ * <p>A checkout only succeeds once every owner acknowledged the commit. Commits failing because an
+ * owner is unreachable are retried until the commit timeout, which must not exceed the owners'
+ * prepare timeout so no reservation expires while its commit is still retried. If an owner cannot
+ * be reached in time or refuses the commit, the checkout is rolled back: the reservations are
+ * aborted or released, the loan is returned and the failure is rethrown.
+ *
+ * <p>Returned items are released on their owners and only then allocated to their next holders,
+ * through a clustered checkout like any other. Releases that fail because an owner is unreachable
+ * are queued and retried by {@link #retryPendingReleases()}, which allocates the items once they
+ * are released.
+ *
+ * <p>Loan IDs are assigned per node, so loan-scoped requests must be sent to the node owning the
+ * loan's member.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ReservationParticipant
+ * @since 2025
+ */
+public class ClusteredLoanService implements LoanService {
+
+  private static final Logger log = LoggerFactory.getLogger(ClusteredLoanService.class);
+
+  private static final long INITIAL_COMMIT_BACKOFF_MILLIS = 50;
+  private static final long MAX_COMMIT_BACKOFF_MILLIS = 1_000;
+
+  private final String nodeId;
+  private final ConsistentHashRing ring;
+  private final ClusterTransport transport;
+  private final LoanService localLoanService;
+  private final long commitTimeoutNanos;
+  private final Queue<PendingRelease> pendingReleases = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Constructs a new ClusteredLoanService.
+   *
+   * @param nodeId the ID of this node
+   * @param ring the ring assigning members and items to nodes
+   * @param transport the transport used to reach the other nodes
+   * @param localLoanService the loan service operating on this node's repositories
+   * @param commitTimeoutMillis how long after preparing a checkout its commits are retried before
+   *     the checkout is rolled back
+   */
+  public ClusteredLoanService(
+      String nodeId,
+      ConsistentHashRing ring,
+      ClusterTransport transport,
+      LoanService localLoanService,
+      long commitTimeoutMillis) {
+    this.nodeId = nodeId;
+    this.ring = ring;
+    this.transport = transport;
+    this.localLoanService = localLoanService;
+    this.commitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(commitTimeoutMillis);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Loan checkoutItems(Long memberId, LoanRequest loanRequest) {
+    var owner = ring.ownerOf(memberId);
+    if (!owner.equals(nodeId)) {
+      log.debug("Forwarding checkout for member {} to node {}", memberId, owner);
+      return transport.loanService(owner).checkoutItems(memberId, loanRequest);
+    }
+
+    var transactionId = nodeId + ":" + UUID.randomUUID();
+    var commitDeadline = System.nanoTime() + commitTimeoutNanos;
+    var itemsByOwner =
+        loanRequest.items().stream()
+            .collect(Collectors.groupingBy(ring::ownerOf, LinkedHashMap::new, Collectors.toList()));
+    var prepared = new ArrayList<String>(itemsByOwner.size());
+
+    Loan loan;
+    try {
+      for (Map.Entry<String, List<Long>> entry : itemsByOwner.entrySet()) {
+        transport.participant(entry.getKey()).prepare(transactionId, entry.getValue());
+        prepared.add(entry.getKey());
+      }
+      loan = localLoanService.checkoutItems(memberId, loanRequest);
+    } catch (RuntimeException ex) {
+      log.info("Aborting checkout {} for member {}: {}", transactionId, memberId, ex.getMessage());
+      prepared.forEach(node -> abort(node, transactionId));
+      throw ex;
+    }
+
+    var holder = holderOf(loan.getId());
+    try {
+      for (var node : prepared) {
+        commit(node, transactionId, holder, commitDeadline);
+      }
+    } catch (RuntimeException ex) {
+      log.warn(
+          "Rolling back checkout {} of loan {}: {}", transactionId, loan.getId(), ex.getMessage());
+      prepared.forEach(node -> abort(node, transactionId));
+      itemsByOwner.forEach((node, itemIds) -> release(node, holder, itemIds));
+      try {
+        localLoanService.returnItems(loan.getId(), loanRequest.items());
+      } catch (RuntimeException rollbackFailure) {
+        ex.addSuppressed(rollbackFailure);
+      }
+      throw ex;
+    }
+    return loan;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Loan> getMemberLoans(Long memberId) {
+    return serviceFor(memberId).getMemberLoans(memberId);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public MemberStanding getMemberStanding(Long memberId) {
+    return serviceFor(memberId).getMemberStanding(memberId);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Loan getLoanById(Long loanId) {
+    return localLoanService.getLoanById(loanId);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getLoanVersion(Long loanId) {
+    return localLoanService.getLoanVersion(loanId);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getMemberLoansVersion(Long memberId) {
+    return serviceFor(memberId).getMemberLoansVersion(memberId);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Loan returnItems(Long loanId, List<Long> itemIds) {
+    var loan = localLoanService.returnItems(loanId, itemIds);
+
+    var returnedByOwner =
+        loan.getItems().stream()
+            .filter(LoanItem::isReturned)
+            .map(loanItem -> loanItem.getItem().getId())
+            .filter(itemIds::contains)
+            .collect(Collectors.groupingBy(ring::ownerOf, Collectors.toList()));
+    var holder = holderOf(loanId);
+    returnedByOwner.forEach(
+        (node, returned) -> {
+          if (release(node, holder, returned)) {
+            returned.forEach(this::allocateToNextHolder);
+          }
+        });
+    return loan;
+  }
+
+  /**
+   * Retries the releases that failed because their owning node could not be reached. Releases
+   * failing again stay queued for the next run.
+   */
+  @Scheduled(fixedDelayString = "${library.cluster.release-retry-ms:5000}")
+  public void retryPendingReleases() {
+    for (int remaining = pendingReleases.size(); remaining > 0; remaining--) {
+      var pending = pendingReleases.poll();
+      if (pending == null) {
+        return;
+      }
+      if (release(pending.node(), pending.holder(), pending.itemIds())) {
+        pending.itemIds().forEach(this::allocateToNextHolder);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Hold queues are kept by the node on which the holds were placed, so the item is allocated
+   * from this node's queue. The local service checks the item out through this service, so it is
+   * reserved on its owner like any other checkout.
+   */
+  @Override
+  public Optional<Loan> allocateToNextHolder(Long itemId) {
+    return localLoanService.allocateToNextHolder(itemId);
+  }
+
+  private LoanService serviceFor(Long memberId) {
+    var owner = ring.ownerOf(memberId);
+    return owner.equals(nodeId) ? localLoanService : transport.loanService(owner);
+  }
+
+  private void commit(String node, String transactionId, String holder, long deadlineNanos) {
+    var backoffMillis = INITIAL_COMMIT_BACKOFF_MILLIS;
+    while (true) {
+      try {
+        transport.participant(node).commit(transactionId, holder);
+        return;
+      } catch (NodeUnavailableException ex) {
+        var retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+        if (retryAt - deadlineNanos >= 0) {
+          throw ex;
+        }
+        log.warn(
+            "Commit of checkout {} on node {} failed, retrying in {} ms: {}",
+            transactionId,
+            node,
+            backoffMillis,
+            ex.getMessage());
+        try {
+          Thread.sleep(backoffMillis);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          throw ex;
+        }
+        backoffMillis = Math.min(backoffMillis * 2, MAX_COMMIT_BACKOFF_MILLIS);
+      }
+    }
+  }
+
+  private void abort(String node, String transactionId) {
+    try {
+      transport.participant(node).abort(transactionId);
+    } catch (RuntimeException ex) {
+      // The participant drops the reservation itself once the prepare timeout elapses
+      log.warn("Abort of checkout {} on node {} failed: {}", transactionId, node, ex.getMessage());
+    }
+  }
+
+  private boolean release(String node, String holder, List<Long> itemIds) {
+    try {
+      transport.participant(node).release(holder, itemIds);
+      return true;
+    } catch (RuntimeException ex) {
+      log.warn(
+          "Release of {} on node {} failed, retrying later: {}", itemIds, node, ex.getMessage());
+      pendingReleases.add(new PendingRelease(node, holder, itemIds));
+      return false;
+    }
+  }
+
+  private String holderOf(Long loanId) {
+    return nodeId + "/" + loanId;
+  }
+
+  /** Release of returned items that could not yet be delivered to their owning node. */
+  private record PendingRelease(String node, String holder, List<Long> itemIds) {}
+}
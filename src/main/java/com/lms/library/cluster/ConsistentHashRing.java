@@ -0,0 +1,74 @@
+package com.lms.library.cluster;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Immutable consistent hash ring assigning item and member IDs to cluster nodes. Every node is
+ * placed on the ring at several virtual positions, so keys spread evenly and adding or removing a
+ * node only moves the keys next to its positions.
+ *
+ * <p>Positions depend only on the node IDs, so every node built from the same configuration agrees
+ * on the owner of every key.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public final class ConsistentHashRing {
+
+  private final List<String> nodeIds;
+  private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+  /**
+   * Constructs a new ConsistentHashRing.
+   *
+   * @param nodeIds the IDs of the cluster nodes
+   * @param virtualNodes the number of ring positions per node
+   * @throws IllegalArgumentException if there are no nodes or virtualNodes is not positive
+   */
+  public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+    if (nodeIds.isEmpty()) {
+      throw new IllegalArgumentException("A cluster needs at least one node");
+    }
+    if (virtualNodes <= 0) {
+      throw new IllegalArgumentException("Virtual node count must be positive");
+    }
+    this.nodeIds = List.copyOf(nodeIds);
+    for (var nodeId : this.nodeIds) {
+      for (int i = 0; i < virtualNodes; i++) {
+        ring.put(hash(((long) nodeId.hashCode() << 32) | i), nodeId);
+      }
+    }
+  }
+
+  /**
+   * Gets the node owning a key: the first node clockwise from the key's position on the ring.
+   *
+   * @param key the item or member ID
+   * @return the ID of the owning node
+   */
+  public String ownerOf(long key) {
+    var entry = ring.ceilingEntry(hash(key));
+    return (entry == null ? ring.firstEntry() : entry).getValue();
+  }
+
+  /**
+   * Gets the IDs of all nodes on the ring.
+   *
+   * @return the node IDs, in configuration order
+   */
+  public List<String> getNodeIds() {
+    return nodeIds;
+  }
+
+  // SplitMix64 finaliser: spreads sequential IDs uniformly over the ring
+  private static long hash(long key) {
+    var z = key + 0x9E3779B97F4A7C15L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,64 @@
+package com.lms.library.cluster;
+
+import com.lms.library.exception.NodeUnavailableException;
+import com.lms.library.service.LoanService;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cluster transport connecting nodes that run in the same JVM. Stands in for a network transport so
+ * several nodes can be started and exercised together on one host, for example in tests.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ClusterTransport
+ * @since 2025
+ */
+public class InProcessClusterTransport implements ClusterTransport {
+
+  private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+  /** Default constructor for InProcessClusterTransport. */
+  public InProcessClusterTransport() {}
+
+  /**
+   * Registers a node so other nodes on this transport can reach it.
+   *
+   * @param nodeId the ID of the node
+   * @param participant the node's reservation participant
+   * @param loanService the node's loan service
+   */
+  public void register(String nodeId, ReservationParticipant participant, LoanService loanService) {
+    endpoints.put(nodeId, new Endpoint(participant, loanService));
+  }
+
+  /**
+   * Unregisters a node, simulating its failure. Later calls to the node fail.
+   *
+   * @param nodeId the ID of the node
+   */
+  public void unregister(String nodeId) {
+    endpoints.remove(nodeId);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ReservationParticipant participant(String nodeId) {
+    return endpoint(nodeId).participant();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LoanService loanService(String nodeId) {
+    return endpoint(nodeId).loanService();
+  }
+
+  private Endpoint endpoint(String nodeId) {
+    return Optional.ofNullable(endpoints.get(nodeId))
+        .orElseThrow(
+            () -> new NodeUnavailableException("Cluster node %s is unavailable".formatted(nodeId)));
+  }
+
+  private record Endpoint(ReservationParticipant participant, LoanService loanService) {}
+}
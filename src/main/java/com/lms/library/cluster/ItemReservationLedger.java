@@ -0,0 +1,162 @@
+package com.lms.library.cluster;
+
+import com.lms.library.exception.ItemNotAvailableException;
+import com.lms.library.exception.ItemNotFoundException;
+import com.lms.library.repository.LibraryItemRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reservation participant for the items owned by the local node. The ledger is the authority on
+ * which items of its partition are taken: an item can be claimed by only one transaction at a time,
+ * and stays claimed from commit until its loan releases it.
+ *
+ * <p>Prepared reservations that are neither committed nor aborted within the prepare timeout (for
+ * example because the coordinating node failed) may be claimed by another transaction.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ReservationParticipant
+ * @since 2025
+ */
+public class ItemReservationLedger implements ReservationParticipant {
+
+  private static final Logger log = LoggerFactory.getLogger(ItemReservationLedger.class);
+
+  private final LibraryItemRepository libraryItemRepository;
+  private final long prepareTimeoutNanos;
+  private final Map<Long, Reservation> reservations = new ConcurrentHashMap<>();
+  private final Map<String, List<Long>> prepared = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new ItemReservationLedger.
+   *
+   * @param libraryItemRepository repository for the local copies of the owned items
+   * @param prepareTimeoutMillis how long a prepared reservation is kept without a commit or abort
+   */
+  public ItemReservationLedger(
+      LibraryItemRepository libraryItemRepository, long prepareTimeoutMillis) {
+    this.libraryItemRepository = libraryItemRepository;
+    this.prepareTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(prepareTimeoutMillis);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void prepare(String transactionId, List<Long> itemIds) {
+    var claimed = new ArrayList<Long>(itemIds.size());
+    try {
+      for (var itemId : itemIds) {
+        var item =
+            libraryItemRepository
+                .findById(itemId)
+                .orElseThrow(
+                    () ->
+                        new ItemNotFoundException("Item not found with ID: %s".formatted(itemId)));
+        var deadline = System.nanoTime() + prepareTimeoutNanos;
+        var reservation =
+            reservations.compute(
+                itemId,
+                (id, current) ->
+                    (current == null || current.isExpired()) && item.isAvailable()
+                        ? new Reservation(transactionId, null, deadline)
+                        : current);
+        if (reservation == null || !reservation.transactionId().equals(transactionId)) {
+          throw new ItemNotAvailableException(
+              "Item '%s' is currently loaned out".formatted(item.getTitle()));
+        }
+        claimed.add(itemId);
+      }
+    } catch (RuntimeException ex) {
+      claimed.forEach(itemId -> reservations.computeIfPresent(itemId, unclaim(transactionId)));
+      throw ex;
+    }
+    prepared.put(transactionId, List.copyOf(claimed));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Repeating the commit of a transaction that is already committed to the same holder has no
+   * effect, so a coordinator that lost the acknowledgement can safely retry.
+   */
+  @Override
+  public void commit(String transactionId, String holder) {
+    var itemIds = prepared.remove(transactionId);
+    if (itemIds == null) {
+      if (isCommitted(transactionId, holder)) {
+        log.debug("Reservation transaction {} is already committed", transactionId);
+        return;
+      }
+      throw new IllegalStateException(
+          "Reservation transaction %s is unknown or was aborted".formatted(transactionId));
+    }
+    var expired = new ArrayList<Long>();
+    for (var itemId : itemIds) {
+      var reservation =
+          reservations.computeIfPresent(
+              itemId,
+              (id, current) ->
+                  current.transactionId().equals(transactionId)
+                      ? new Reservation(transactionId, holder, Long.MAX_VALUE)
+                      : current);
+      if (reservation == null || !holder.equals(reservation.holder())) {
+        expired.add(itemId);
+        continue;
+      }
+      libraryItemRepository.findById(itemId).ifPresent(item -> item.setAvailable(false));
+    }
+    if (!expired.isEmpty()) {
+      throw new IllegalStateException(
+          "Reservations of items %s by %s expired before commit".formatted(expired, transactionId));
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void abort(String transactionId) {
+    var itemIds = prepared.remove(transactionId);
+    if (itemIds != null) {
+      itemIds.forEach(itemId -> reservations.computeIfPresent(itemId, unclaim(transactionId)));
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void release(String holder, List<Long> itemIds) {
+    for (var itemId : itemIds) {
+      var current = reservations.get(itemId);
+      if (current != null
+          && holder.equals(current.holder())
+          && reservations.remove(itemId, current)) {
+        libraryItemRepository.findById(itemId).ifPresent(item -> item.setAvailable(true));
+      }
+    }
+  }
+
+  private boolean isCommitted(String transactionId, String holder) {
+    return reservations.values().stream()
+        .anyMatch(r -> r.transactionId().equals(transactionId) && holder.equals(r.holder()));
+  }
+
+  private static BiFunction<Long, Reservation, Reservation> unclaim(String transactionId) {
+    return (id, current) ->
+        current.transactionId().equals(transactionId) && current.holder() == null ? null : current;
+  }
+
+  /**
+   * Claim on an item. Prepared reservations have no holder and expire at their deadline; committed
+   * ones are held by a loan and never expire.
+   */
+  private record Reservation(String transactionId, String holder, long deadlineNanos) {
+
+    boolean isExpired() {
+      return holder == null && System.nanoTime() - deadlineNanos >= 0;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.lms.library.cluster;
+
+import com.lms.library.exception.ItemNotAvailableException;
+import com.lms.library.exception.ItemNotFoundException;
+import java.util.List;
+
+/**
+ * Participant in the two-phase reservation of items owned by one cluster node. A checkout first
+ * prepares the items on every owning node, and only commits once all of them succeeded; otherwise
+ * it aborts the prepared ones.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ItemReservationLedger
+ * @since 2025
+ */
+public interface ReservationParticipant {
+
+  /**
+   * Tentatively reserves items for a transaction. Either all items are reserved or none.
+   *
+   * @param transactionId the ID of the checkout transaction
+   * @param itemIds the IDs of the items, all owned by this participant
+   * @throws ItemNotFoundException if an item does not exist
+   * @throws ItemNotAvailableException if an item is loaned out or reserved by another transaction
+   */
+  void prepare(String transactionId, List<Long> itemIds);
+
+  /**
+   * Makes the prepared reservations of a transaction permanent until they are released. Committing
+   * a transaction again with the same holder has no effect.
+   *
+   * @param transactionId the ID of the checkout transaction
+   * @param holder the loan now holding the items, used to release them on return
+   * @throws IllegalStateException if the transaction was aborted, or its reservations expired
+   *     before the commit; items whose reservations were kept are committed nonetheless
+   */
+  void commit(String transactionId, String holder);
+
+  /**
+   * Drops the prepared reservations of a transaction. Unknown transactions are ignored.
+   *
+   * @param transactionId the ID of the checkout transaction
+   */
+  void abort(String transactionId);
+
+  /**
+   * Releases items held by a loan after they were returned. Items held by another loan, or not
+   * held at all, are left untouched, so a release may be repeated.
+   *
+   * @param holder the loan that held the items
+   * @param itemIds the IDs of the returned items
+   */
+  void release(String holder, List<Long> itemIds);
+}
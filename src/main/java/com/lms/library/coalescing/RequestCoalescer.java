@@ -0,0 +1,82 @@
+package com.lms.library.coalescing;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-flight execution of identical reads: while a computation for a key is running, callers
+ * asking for the same key wait for it and share its result instead of starting their own. Nothing
+ * is kept once the computation finishes, so the next caller computes afresh.
+ *
+ * <p>Keys should include the version of what is read, such as its ETag, so that a caller never
+ * shares a computation that started before a change it has already seen.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class RequestCoalescer {
+
+  private static final Logger log = LoggerFactory.getLogger(RequestCoalescer.class);
+
+  private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Computes a result, or waits for the computation already running for the same key. Results are
+   * shared between callers, so they should be immutable.
+   *
+   * @param <T> the type of the result
+   * @param key the key identifying the read, including the operation so that callers sharing a key
+   *     expect results of the same type
+   * @param computation the computation to run if none is running for the key
+   * @return the result of this caller's computation or of the one it joined
+   */
+  public <T> T coalesce(String key, Supplier<T> computation) {
+    var created = new CompletableFuture<Object>();
+    var running = inFlight.putIfAbsent(key, created);
+    if (running != null) {
+      log.debug("Joining in-flight read {}", key);
+      return await(running);
+    }
+
+    try {
+      var result = computation.get();
+      created.complete(result);
+      return result;
+    } catch (RuntimeException ex) {
+      created.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, created);
+    }
+  }
+
+  /**
+   * Gets the number of computations currently running.
+   *
+   * @return the number of keys being computed
+   */
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+  /** Waits for a running computation, rethrowing its exception if it failed. */
+  @SuppressWarnings("unchecked")
+  private static <T> T await(CompletableFuture<Object> running) {
+    try {
+      return (T) running.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.lms.library.config;
+
+import com.lms.library.service.CatalogueFormat;
+import com.lms.library.service.CatalogueImportService;
+import java.nio.file.Path;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Imports a catalogue file once the application has started. Enabled by setting {@code
+ * library.catalogue.import-path}, e.g. {@code --library.catalogue.import-path=/data/books.csv}.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see CatalogueImportService
+ * @since 2025
+ */
+@Component
+@ConditionalOnProperty(prefix = "library.catalogue", name = "import-path")
+public class CatalogueImportRunner implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(CatalogueImportRunner.class);
+
+  private final CatalogueImportService catalogueImportService;
+  private final Path importPath;
+  private final String importFormat;
+
+  /**
+   * Constructs a new CatalogueImportRunner.
+   *
+   * @param catalogueImportService the service performing the import
+   * @param importPath the catalogue file to import
+   * @param importFormat the file format, or blank to detect it from the file name
+   */
+  public CatalogueImportRunner(
+      CatalogueImportService catalogueImportService,
+      @Value("${library.catalogue.import-path}") Path importPath,
+      @Value("${library.catalogue.import-format:}") String importFormat) {
+    this.catalogueImportService = catalogueImportService;
+    this.importPath = importPath;
+    this.importFormat = importFormat;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    var format =
+        importFormat.isBlank()
+            ? CatalogueFormat.fromFileName(importPath.getFileName().toString())
+            : CatalogueFormat.valueOf(importFormat.strip().toUpperCase(Locale.ROOT));
+    var report = catalogueImportService.importCatalogue(importPath, format);
+    log.info(
+        "Startup catalogue import finished: {} imported, {} rejected, {} items/s",
+        report.imported(),
+        report.rejected(),
+        Math.round(report.itemsPerSecond()));
+  }
+}
@@ -0,0 +1,32 @@
+package com.lms.library.config;
+
+import com.lms.library.replication.ChangeLog;
+import com.lms.library.repository.ChangeCapture;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Turns change capture off unless the instance is a replication primary. Capturing a change costs
+ * every save a copy of the entity, so only the primary, whose {@link ChangeLog} feeds the read
+ * replicas, pays for it.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ChangeLog
+ * @since 2025
+ */
+@Configuration
+@ConditionalOnExpression("'${library.replication.role:standalone}' != 'primary'")
+public class ChangeCaptureConfig {
+
+  /**
+   * Provides the change capture that ignores all changes.
+   *
+   * @return the no-op change capture
+   */
+  @Bean
+  public ChangeCapture changeCapture() {
+    return ChangeCapture.NONE;
+  }
+}
@@ -0,0 +1,114 @@
+package com.lms.library.config;
+
+import com.lms.library.cluster.ClusteredLoanService;
+import com.lms.library.cluster.ConsistentHashRing;
+import com.lms.library.cluster.InProcessClusterTransport;
+import com.lms.library.cluster.ItemReservationLedger;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.service.LoanServiceImpl;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configures clustered mode, in which this node owns a partition of the member and item IDs and
+ * coordinates checkouts with the other nodes. Enabled with {@code library.cluster.enabled=true}.
+ *
+ * <p>Nodes are connected by the in-process transport, which only reaches nodes in the same JVM, so
+ * a deployed instance must be the only node in {@code library.cluster.nodes}. Several nodes can
+ * only run together in one JVM, wired by hand as in the tests.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ClusteredLoanService
+ * @since 2025
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "library.cluster", name = "enabled", havingValue = "true")
+public class ClusterConfig {
+
+  /** Default constructor for ClusterConfig. */
+  public ClusterConfig() {}
+
+  /**
+   * Creates the ring assigning members and items to the configured nodes.
+   *
+   * @param nodeIds the IDs of all cluster nodes
+   * @param virtualNodes the number of ring positions per node
+   * @return the consistent hash ring
+   */
+  @Bean
+  public ConsistentHashRing consistentHashRing(
+      @Value("${library.cluster.nodes}") List<String> nodeIds,
+      @Value("${library.cluster.virtual-nodes:128}") int virtualNodes) {
+    return new ConsistentHashRing(nodeIds, virtualNodes);
+  }
+
+  /**
+   * Creates the transport connecting this node to the others.
+   *
+   * @return the cluster transport
+   */
+  @Bean
+  public InProcessClusterTransport clusterTransport() {
+    return new InProcessClusterTransport();
+  }
+
+  /**
+   * Creates the reservation ledger for the items owned by this node.
+   *
+   * @param libraryItemRepository repository for library item operations
+   * @param prepareTimeoutMillis how long a prepared reservation is kept without a commit or abort
+   * @return the item reservation ledger
+   */
+  @Bean
+  public ItemReservationLedger itemReservationLedger(
+      LibraryItemRepository libraryItemRepository,
+      @Value("${library.cluster.prepare-timeout-ms:30000}") long prepareTimeoutMillis) {
+    return new ItemReservationLedger(libraryItemRepository, prepareTimeoutMillis);
+  }
+
+  /**
+   * Creates the clustered loan service, which replaces the local loan service for all callers,
+   * allocates held items through it, and registers this node with the transport.
+   *
+   * @param nodeId the ID of this node
+   * @param ring the ring assigning members and items to nodes
+   * @param transport the transport connecting this node to the others
+   * @param ledger the reservation ledger for the items owned by this node
+   * @param loanServiceImpl the loan service operating on this node's repositories
+   * @param prepareTimeoutMillis the participants' prepare timeout, also bounding commit retries
+   * @return the clustered loan service
+   * @throws IllegalArgumentException if this node is not one of the configured nodes, or other
+   *     nodes are configured that the in-process transport cannot reach
+   */
+  @Bean
+  @Primary
+  public ClusteredLoanService clusteredLoanService(
+      @Value("${library.cluster.node-id}") String nodeId,
+      ConsistentHashRing ring,
+      InProcessClusterTransport transport,
+      ItemReservationLedger ledger,
+      LoanServiceImpl loanServiceImpl,
+      @Value("${library.cluster.prepare-timeout-ms:30000}") long prepareTimeoutMillis) {
+    if (!ring.getNodeIds().contains(nodeId)) {
+      throw new IllegalArgumentException(
+          "Node %s is not in library.cluster.nodes %s".formatted(nodeId, ring.getNodeIds()));
+    }
+    if (ring.getNodeIds().stream().anyMatch(id -> !id.equals(nodeId))) {
+      throw new IllegalArgumentException(
+          "library.cluster.nodes %s lists other nodes, but the in-process transport only reaches %s"
+              .formatted(ring.getNodeIds(), nodeId));
+    }
+    var service =
+        new ClusteredLoanService(nodeId, ring, transport, loanServiceImpl, prepareTimeoutMillis);
+    loanServiceImpl.routeAllocationsThrough(service);
+    transport.register(nodeId, ledger, service);
+    return service;
+  }
+}
@@ -0,0 +1,139 @@
+package com.lms.library.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.util.List;
+import java.util.Map;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Serves a compact JSON view to clients that ask for it with {@code Accept:
+ * application/vnd.lms.compact+json}. The view renames the fields of the loan responses to short
+ * names, e.g. {@code expectedReturnDate} to {@code dd}, and leaves out null fields such as the
+ * return date of an item still on loan. Values, dates included, are written as usual.
+ *
+ * <p>The view is a second object mapper registered on the JSON message converter for the compact
+ * media type, so {@code application/json} stays the default when a client accepts any type.
+ * Responses whose representation depends on the view should vary by {@code Accept} and tell the
+ * views apart in their ETags, see {@link #isCompactRequested(String)}.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Configuration
+public class CompactJsonConfig implements WebMvcConfigurer {
+
+  /** Media type of the compact view. */
+  public static final MediaType COMPACT_JSON =
+      MediaType.valueOf("application/vnd.lms.compact+json");
+
+  /** Short names of the fields of the loan responses; other fields keep their names. */
+  static final Map<String, String> SHORT_NAMES =
+      Map.of(
+          "memberId", "m",
+          "loanId", "l",
+          "loanDate", "ld",
+          "expectedReturnDate", "dd",
+          "returnedDate", "rd",
+          "items", "it",
+          "title", "t",
+          "type", "ty",
+          "status", "s");
+
+  private static final MediaType ANY_JSON = new MediaType("application", "*+json");
+
+  /** Default constructor for CompactJsonConfig. */
+  public CompactJsonConfig() {}
+
+  /**
+   * Registers the compact view on the JSON message converters.
+   *
+   * @param converters the message converters configured so far
+   */
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    for (var converter : converters) {
+      if (converter instanceof MappingJackson2HttpMessageConverter jsonConverter) {
+        registerCompactView(jsonConverter);
+      }
+    }
+  }
+
+  /**
+   * Registers the compact view on a JSON message converter, derived from its object mapper.
+   *
+   * @param converter the converter
+   */
+  static void registerCompactView(MappingJackson2HttpMessageConverter converter) {
+    var standard = converter.getObjectMapper();
+    var compact = compactMapper(standard);
+    converter.registerObjectMappersForType(
+        Object.class,
+        mappers -> {
+          // The first type registered is the one chosen when the client accepts any type
+          mappers.put(MediaType.APPLICATION_JSON, standard);
+          mappers.put(COMPACT_JSON, compact);
+          mappers.put(ANY_JSON, standard);
+        });
+  }
+
+  /**
+   * Tells whether an Accept header selects the compact view: the compact media type must be the
+   * first concrete type with the highest quality, and no wildcard may be preferred to it.
+   *
+   * @param accept the Accept header value, possibly null
+   * @return true if the response is written in the compact view
+   */
+  public static boolean isCompactRequested(String accept) {
+    if (accept == null || !accept.contains(COMPACT_JSON.getSubtype())) {
+      return false;
+    }
+    List<MediaType> mediaTypes;
+    try {
+      mediaTypes = MediaType.parseMediaTypes(accept);
+    } catch (InvalidMediaTypeException ex) {
+      return false;
+    }
+    MediaType preferred = null;
+    var wildcardQuality = 0.0;
+    for (var mediaType : mediaTypes) {
+      if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+        wildcardQuality = Math.max(wildcardQuality, mediaType.getQualityValue());
+      } else if (preferred == null || mediaType.getQualityValue() > preferred.getQualityValue()) {
+        preferred = mediaType;
+      }
+    }
+    return preferred != null
+        && preferred.equalsTypeAndSubtype(COMPACT_JSON)
+        && preferred.getQualityValue() >= wildcardQuality;
+  }
+
+  /**
+   * Derives the object mapper of the compact view.
+   *
+   * @param standard the object mapper of the standard view, left unchanged
+   * @return a copy of the mapper writing short field names and no null fields
+   */
+  static ObjectMapper compactMapper(ObjectMapper standard) {
+    return standard
+        .copy()
+        .setPropertyNamingStrategy(new ShortNames())
+        .setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL);
+  }
+
+  /** Renames the fields listed in {@link #SHORT_NAMES}. */
+  private static final class ShortNames extends PropertyNamingStrategies.NamingBase {
+
+    @Override
+    public String translate(String propertyName) {
+      return SHORT_NAMES.getOrDefault(propertyName, propertyName);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.lms.library.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Defers the creation of the springdoc beans until they are first used. Enabled by {@code
+ * library.api-docs.lazy=true}, which the {@code prod} profile sets.
+ *
+ * <p>springdoc builds the OpenAPI document on the first request to {@code /api-docs}, but its
+ * services, customizers and property holders are still created on boot. Marking them lazy moves
+ * that cost, and the heap they occupy, to the first documentation request. The request mappings of
+ * the documentation endpoints are registered from the bean types, so they keep working. Beans that
+ * other components inject eagerly, such as springdoc's MVC configurers, are still created on boot.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see OpenApiConfig
+ * @since 2025
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "library.api-docs", name = "lazy", havingValue = "true")
+public class LazyApiDocsConfig {
+
+  private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+  /** Default constructor for LazyApiDocsConfig. */
+  public LazyApiDocsConfig() {}
+
+  /**
+   * Creates the post-processor marking the springdoc bean definitions lazy. The method is static so
+   * that the post-processor does not force this configuration to be created early.
+   *
+   * @return the bean factory post-processor
+   */
+  @Bean
+  public static BeanFactoryPostProcessor lazySpringDocBeans() {
+    return LazyApiDocsConfig::markSpringDocBeansLazy;
+  }
+
+  /**
+   * Marks every bean definition declared by springdoc as lazy.
+   *
+   * @param beanFactory the bean factory holding the definitions
+   * @return the number of definitions marked lazy
+   */
+  static int markSpringDocBeansLazy(ConfigurableListableBeanFactory beanFactory) {
+    var marked = 0;
+    for (var name : beanFactory.getBeanDefinitionNames()) {
+      var definition = beanFactory.getBeanDefinition(name);
+      if (isSpringDocBean(definition)) {
+        definition.setLazyInit(true);
+        marked++;
+      }
+    }
+    return marked;
+  }
+
+  private static boolean isSpringDocBean(BeanDefinition definition) {
+    var className = definition.getBeanClassName();
+    if (className == null
+        && definition instanceof AnnotatedBeanDefinition annotated
+        && annotated.getFactoryMethodMetadata() != null) {
+      // Declared by a @Bean method: attribute it to the configuration class
+      className = annotated.getFactoryMethodMetadata().getDeclaringClassName();
+    }
+    return className != null && className.startsWith(SPRINGDOC_PACKAGE);
+  }
+}
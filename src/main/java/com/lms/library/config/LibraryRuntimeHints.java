@@ -0,0 +1,56 @@
+package com.lms.library.config;
+
+import com.lms.library.dto.CatalogueRecord;
+import com.lms.library.dto.MemberResponse;
+import com.lms.library.event.ItemReturned;
+import com.lms.library.event.LoanClosed;
+import com.lms.library.event.LoanCreated;
+import com.lms.library.replication.BorrowersChanged;
+import com.lms.library.replication.ChangeEntry;
+import com.lms.library.replication.ItemChanged;
+import com.lms.library.replication.LoanChanged;
+import com.lms.library.replication.MemberChanged;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints for running the application as a GraalVM native image. Spring AOT already covers
+ * beans, their init methods and the request and response bodies of controller methods. The types
+ * registered here are bound by Jackson outside of a controller signature, so the ahead-of-time
+ * analysis cannot see them: NDJSON member and catalogue imports, replication change entries, and
+ * loan events sent over Server-Sent Events.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public class LibraryRuntimeHints implements RuntimeHintsRegistrar {
+
+  /** Types read or written by Jackson outside of controller method signatures. */
+  static final Class<?>[] BOUND_TYPES = {
+    MemberResponse.class,
+    CatalogueRecord.class,
+    ChangeEntry.class,
+    MemberChanged.class,
+    ItemChanged.class,
+    LoanChanged.class,
+    LoanChanged.Item.class,
+    BorrowersChanged.class,
+    LoanCreated.class,
+    ItemReturned.class,
+    LoanClosed.class
+  };
+
+  private final BindingReflectionHintsRegistrar bindingRegistrar =
+      new BindingReflectionHintsRegistrar();
+
+  /** Default constructor for LibraryRuntimeHints. */
+  public LibraryRuntimeHints() {}
+
+  /** {@inheritDoc} */
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    bindingRegistrar.registerReflectionHints(hints.reflection(), BOUND_TYPES);
+  }
+}
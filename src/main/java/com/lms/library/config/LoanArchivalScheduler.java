@@ -0,0 +1,57 @@
+package com.lms.library.config;
+
+import com.lms.library.service.LoanArchivalService;
+import java.time.LocalDate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically archives loans that have been closed for longer than {@code
+ * library.archive.closed-for-days}. Enabled with {@code library.archive.enabled=true}, which also
+ * requires {@code library.archive.directory}: the segment files must not land in a temporary
+ * directory that may be cleaned up while the archived loans are still served.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see LoanArchivalService
+ * @since 2025
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "library.archive", name = "enabled", havingValue = "true")
+public class LoanArchivalScheduler {
+
+  private final LoanArchivalService loanArchivalService;
+  private final int closedForDays;
+
+  /**
+   * Constructs a new LoanArchivalScheduler.
+   *
+   * @param loanArchivalService the service performing the archival
+   * @param closedForDays the number of days a loan must have been closed before it is archived
+   * @param directory the directory holding the archive's segment files
+   * @throws IllegalArgumentException if no archive directory is configured
+   */
+  public LoanArchivalScheduler(
+      LoanArchivalService loanArchivalService,
+      @Value("${library.archive.closed-for-days:30}") int closedForDays,
+      @Value("${library.archive.directory:}") String directory) {
+    if (directory.isBlank()) {
+      throw new IllegalArgumentException(
+          "library.archive.directory must be set when library.archive.enabled is true");
+    }
+    this.loanArchivalService = loanArchivalService;
+    this.closedForDays = closedForDays;
+  }
+
+  /** Archives loans closed before the configured age. */
+  @Scheduled(
+      initialDelayString = "${library.archive.interval-ms:3600000}",
+      fixedDelayString = "${library.archive.interval-ms:3600000}")
+  public void archiveClosedLoans() {
+    loanArchivalService.archiveClosedLoans(LocalDate.now().minusDays(closedForDays));
+  }
+}
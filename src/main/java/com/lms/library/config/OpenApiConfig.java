@@ -9,12 +9,18 @@ import io.swagger.v3.oas.models.media.Schema;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import org.springdoc.core.utils.SpringDocUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 /**
  * Configuration class for OpenAPI/Swagger documentation. Configures API documentation settings and
  * schema mappings.
  *
+ * <p>The configuration is lazy: springdoc instantiates it when it looks up the API definition while
+ * building the document for the first {@code /api-docs} request, so the schema mapping below costs
+ * nothing on boot. It is skipped entirely when {@code springdoc.api-docs.enabled=false}.
+ *
  * @author Joel Silva
  * @version 1.0
  * @since 2025
@@ -31,12 +37,12 @@ import org.springframework.context.annotation.Configuration;
                 @License(name = "Apache 2.0", url = "https://www.apache.org/licenses/LICENSE-2.0")),
     servers = {@Server(url = "http://localhost:8080", description = "Development Server")})
 @Configuration
+@Lazy
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", matchIfMissing = true)
 public class OpenApiConfig {
 
-  /** Default constructor for OpenApiConfig. */
-  public OpenApiConfig() {}
-
-  static {
+  /** Constructs a new OpenApiConfig, documenting {@link LocalDate} as an ISO date string. */
+  public OpenApiConfig() {
     SpringDocUtils.getConfig()
         .replaceWithSchema(
             LocalDate.class,
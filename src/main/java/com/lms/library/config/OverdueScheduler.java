@@ -0,0 +1,39 @@
+package com.lms.library.config;
+
+import com.lms.library.policy.MemberLedger;
+import java.time.LocalDate;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Advances the {@link MemberLedger} once a day, shortly after midnight, marking the loans that fell
+ * due as overdue and charging the daily fines. The schedule is set by {@code
+ * library.loans.overdue-cron}.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see MemberLedger
+ * @since 2025
+ */
+@Configuration
+@EnableScheduling
+public class OverdueScheduler {
+
+  private final MemberLedger memberLedger;
+
+  /**
+   * Constructs a new OverdueScheduler.
+   *
+   * @param memberLedger the ledger to advance
+   */
+  public OverdueScheduler(MemberLedger memberLedger) {
+    this.memberLedger = memberLedger;
+  }
+
+  /** Advances the ledger to today. */
+  @Scheduled(cron = "${library.loans.overdue-cron:0 5 0 * * *}")
+  public void tick() {
+    memberLedger.tick(LocalDate.now());
+  }
+}
@@ -0,0 +1,47 @@
+package com.lms.library.config;
+
+import com.lms.library.replication.ReplicaRequestInterceptor;
+import com.lms.library.replication.ReplicaSynchronizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configures read-replica mode, enabled with {@code library.replication.role=replica}. The replica
+ * polls the primary at {@code library.replication.primary-url} for changes and serves only reads.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ReplicaSynchronizer
+ * @since 2025
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "library.replication", name = "role", havingValue = "replica")
+public class ReplicationConfig implements WebMvcConfigurer {
+
+  private final ReplicaSynchronizer replicaSynchronizer;
+
+  /**
+   * Constructs a new ReplicationConfig.
+   *
+   * @param replicaSynchronizer the synchronizer tracking the replica's staleness
+   */
+  public ReplicationConfig(ReplicaSynchronizer replicaSynchronizer) {
+    this.replicaSynchronizer = replicaSynchronizer;
+  }
+
+  /**
+   * Guards the API with the replica request interceptor.
+   *
+   * @param registry the interceptor registry
+   */
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry
+        .addInterceptor(new ReplicaRequestInterceptor(replicaSynchronizer))
+        .addPathPatterns("/v1/**");
+  }
+}
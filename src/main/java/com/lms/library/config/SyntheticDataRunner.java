@@ -0,0 +1,80 @@
+package com.lms.library.config;
+
+import com.lms.library.service.SyntheticDataService;
+import com.lms.library.service.SyntheticDataSpec;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates a synthetic dataset once the application has started, for benchmarks that need more
+ * than the sample data. Enabled by setting {@code library.synthetic.enabled=true}; the sizes and
+ * seed are read from the other {@code library.synthetic} properties.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see SyntheticDataService
+ * @since 2025
+ */
+@Component
+@ConditionalOnProperty(prefix = "library.synthetic", name = "enabled", havingValue = "true")
+public class SyntheticDataRunner implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(SyntheticDataRunner.class);
+
+  private final SyntheticDataService syntheticDataService;
+  private final SyntheticDataSpec spec;
+
+  /**
+   * Constructs a new SyntheticDataRunner. The loan history ends on a configured date, not on the
+   * startup date, so that a seed produces the same dataset on every day.
+   *
+   * @param syntheticDataService the service generating the dataset
+   * @param seed the seed of the dataset
+   * @param members the number of members
+   * @param books the number of books
+   * @param journals the number of journals
+   * @param loans the number of historical loans
+   * @param zipfExponent the skew of item popularity
+   * @param historyDays the number of days covered by the loans
+   * @param endDate the ISO date by which every loan has been returned
+   */
+  public SyntheticDataRunner(
+      SyntheticDataService syntheticDataService,
+      @Value("${library.synthetic.seed:42}") long seed,
+      @Value("${library.synthetic.members:100000}") int members,
+      @Value("${library.synthetic.books:900000}") int books,
+      @Value("${library.synthetic.journals:100000}") int journals,
+      @Value("${library.synthetic.loans:2000000}") int loans,
+      @Value("${library.synthetic.zipf-exponent:1.0}") double zipfExponent,
+      @Value("${library.synthetic.history-days:730}") int historyDays,
+      @Value("${library.synthetic.end-date:2025-01-01}") String endDate) {
+    this.syntheticDataService = syntheticDataService;
+    this.spec =
+        new SyntheticDataSpec(
+            seed,
+            members,
+            books,
+            journals,
+            loans,
+            zipfExponent,
+            historyDays,
+            LocalDate.parse(endDate));
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    var report = syntheticDataService.generate(spec);
+    log.info(
+        "Startup synthetic data finished: {} members, {} items, {} loans, {} records/s",
+        report.members(),
+        report.items(),
+        report.loans(),
+        Math.round(report.recordsPerSecond()));
+  }
+}
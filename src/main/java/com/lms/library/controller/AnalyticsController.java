@@ -0,0 +1,215 @@
+package com.lms.library.controller;
+
+import com.lms.library.analytics.TrendingWindow;
+import com.lms.library.dto.DailyCirculationResponse;
+import com.lms.library.dto.GenreBorrowersResponse;
+import com.lms.library.dto.GenreCirculationResponse;
+import com.lms.library.dto.ItemBorrowersResponse;
+import com.lms.library.dto.ItemCirculationResponse;
+import com.lms.library.dto.TrendingItemResponse;
+import com.lms.library.exception.ApiError;
+import com.lms.library.service.CirculationAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for circulation analytics in the Library Management System. Provides endpoints
+ * for the most borrowed items of all time and of recent windows, loans per day, circulation per
+ * genre and the distinct borrowers of items and genres.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/v1/analytics")
+@Tag(name = "Circulation Analytics", description = "APIs for borrowing statistics")
+public class AnalyticsController {
+
+  /** Number of days reported when no start date is given. */
+  static final int DEFAULT_DAYS = 30;
+
+  private final CirculationAnalyticsService circulationAnalyticsService;
+
+  /**
+   * Constructs a new AnalyticsController with the required CirculationAnalyticsService.
+   *
+   * @param circulationAnalyticsService the analytics service to be used by the controller
+   */
+  public AnalyticsController(CirculationAnalyticsService circulationAnalyticsService) {
+    this.circulationAnalyticsService = circulationAnalyticsService;
+  }
+
+  /**
+   * Retrieves the most borrowed library items.
+   *
+   * @param limit the maximum number of items
+   * @return ResponseEntity containing the items in descending order of borrows
+   * @throws IllegalArgumentException if limit is out of range
+   */
+  @Operation(
+      summary = "Get most borrowed items",
+      description = "Retrieves the items checked out most often, most borrowed first")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Items retrieved successfully",
+        content = @Content(schema = @Schema(implementation = ItemCirculationResponse[].class))),
+    @ApiResponse(
+        responseCode = "400",
+        description = "Limit out of range",
+        content = @Content(schema = @Schema(implementation = ApiError.class)))
+  })
+  @GetMapping("/items/most-borrowed")
+  public ResponseEntity<List<ItemCirculationResponse>> getMostBorrowedItems(
+      @Parameter(description = "Maximum number of items, at most 100", example = "10")
+          @RequestParam(defaultValue = "10")
+          int limit) {
+    return ResponseEntity.ok(circulationAnalyticsService.getMostBorrowedItems(limit));
+  }
+
+  /**
+   * Retrieves the items borrowed most in the last hour, day or week.
+   *
+   * @param window the window, ending now
+   * @param limit the maximum number of items
+   * @return ResponseEntity containing the items in descending order of estimated borrows
+   * @throws IllegalArgumentException if limit is out of range
+   */
+  @Operation(
+      summary = "Get trending items",
+      description = "Retrieves the items checked out most in the last hour, day or week")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Items retrieved successfully",
+        content = @Content(schema = @Schema(implementation = TrendingItemResponse[].class))),
+    @ApiResponse(
+        responseCode = "400",
+        description = "Limit out of range",
+        content = @Content(schema = @Schema(implementation = ApiError.class)))
+  })
+  @GetMapping("/items/trending")
+  public ResponseEntity<List<TrendingItemResponse>> getTrendingItems(
+      @Parameter(description = "Window ending now", example = "DAY")
+          @RequestParam(defaultValue = "DAY")
+          TrendingWindow window,
+      @Parameter(description = "Maximum number of items, at most 100", example = "10")
+          @RequestParam(defaultValue = "10")
+          int limit) {
+    return ResponseEntity.ok(circulationAnalyticsService.getTrendingItems(window, limit));
+  }
+
+  /**
+   * Retrieves the loans, borrowed items and returned items of every day of a range.
+   *
+   * @param from the first day, inclusive; defaults to 29 days before the last day
+   * @param to the last day, inclusive; defaults to today
+   * @return ResponseEntity containing one entry per day in chronological order
+   * @throws IllegalArgumentException if the range is reversed or too long
+   */
+  @Operation(
+      summary = "Get loans per day",
+      description = "Retrieves the circulation of every day of a range of at most 366 days")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Circulation retrieved successfully",
+        content = @Content(schema = @Schema(implementation = DailyCirculationResponse[].class))),
+    @ApiResponse(
+        responseCode = "400",
+        description = "Invalid date range",
+        content = @Content(schema = @Schema(implementation = ApiError.class)))
+  })
+  @GetMapping("/loans-per-day")
+  public ResponseEntity<List<DailyCirculationResponse>> getLoansPerDay(
+      @Parameter(description = "First day, inclusive", example = "2024-01-01")
+          @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate from,
+      @Parameter(description = "Last day, inclusive", example = "2024-01-31")
+          @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate to) {
+    var lastDay = to == null ? LocalDate.now() : to;
+    var firstDay = from == null ? lastDay.minusDays(DEFAULT_DAYS - 1) : from;
+    return ResponseEntity.ok(circulationAnalyticsService.getDailyCirculation(firstDay, lastDay));
+  }
+
+  /**
+   * Retrieves the circulation and loan durations of every genre.
+   *
+   * @return ResponseEntity containing one entry per genre, most borrowed first
+   */
+  @Operation(
+      summary = "Get circulation per genre",
+      description = "Retrieves borrows, returns and loan durations of every genre")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Circulation retrieved successfully",
+        content = @Content(schema = @Schema(implementation = GenreCirculationResponse[].class)))
+  })
+  @GetMapping("/genres")
+  public ResponseEntity<List<GenreCirculationResponse>> getGenreCirculation() {
+    return ResponseEntity.ok(circulationAnalyticsService.getGenreCirculation());
+  }
+
+  /**
+   * Estimates the number of distinct members who borrowed a library item.
+   *
+   * @param itemId the ID of the item
+   * @return ResponseEntity containing the estimate and its relative standard error
+   * @throws com.lms.library.exception.ItemNotFoundException if no item exists with the given ID
+   */
+  @Operation(
+      summary = "Get distinct borrowers of an item",
+      description = "Estimates how many different members borrowed an item")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Estimate retrieved successfully",
+        content = @Content(schema = @Schema(implementation = ItemBorrowersResponse.class))),
+    @ApiResponse(
+        responseCode = "404",
+        description = "Item not found",
+        content = @Content(schema = @Schema(implementation = ApiError.class)))
+  })
+  @GetMapping("/items/{itemId}/borrowers")
+  public ResponseEntity<ItemBorrowersResponse> getItemBorrowers(@PathVariable Long itemId) {
+    return ResponseEntity.ok(circulationAnalyticsService.getItemBorrowers(itemId));
+  }
+
+  /**
+   * Estimates the number of distinct members who borrowed an item of each genre.
+   *
+   * @return ResponseEntity containing one entry per genre, most borrowers first
+   */
+  @Operation(
+      summary = "Get distinct borrowers per genre",
+      description = "Estimates how many different members borrowed an item of each genre")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Estimates retrieved successfully",
+        content = @Content(schema = @Schema(implementation = GenreBorrowersResponse[].class)))
+  })
+  @GetMapping("/genres/borrowers")
+  public ResponseEntity<List<GenreBorrowersResponse>> getGenreBorrowers() {
+    return ResponseEntity.ok(circulationAnalyticsService.getGenreBorrowers());
+  }
+}
@@ -0,0 +1,97 @@
+package com.lms.library.controller;
+
+import com.lms.library.dto.CatalogueImportReport;
+import com.lms.library.exception.ApiError;
+import com.lms.library.service.CatalogueFormat;
+import com.lms.library.service.CatalogueImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * REST controller for catalogue administration. Lets administrators load large catalogue exports
+ * without restarting the application.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see CatalogueImportService
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/v1/admin")
+@Tag(name = "Catalogue Administration", description = "APIs for bulk catalogue maintenance")
+public class CatalogueAdminController {
+
+  private static final Logger log = LoggerFactory.getLogger(CatalogueAdminController.class);
+
+  private final CatalogueImportService catalogueImportService;
+
+  /**
+   * Constructs a new CatalogueAdminController.
+   *
+   * @param catalogueImportService the service performing the imports
+   */
+  public CatalogueAdminController(CatalogueImportService catalogueImportService) {
+    this.catalogueImportService = catalogueImportService;
+  }
+
+  /**
+   * Imports books and journals from an uploaded CSV or JSON-lines file. The upload is spooled to
+   * a temporary file and streamed through the import pipeline from there.
+   *
+   * @param file the uploaded catalogue file
+   * @param format the file format, detected from the file name when omitted
+   * @return ResponseEntity containing the import report
+   * @throws IOException if the upload cannot be spooled to disk
+   * @throws IllegalArgumentException if the format cannot be detected or the file has no header
+   */
+  @Operation(
+      summary = "Import catalogue",
+      description =
+          "Bulk imports books and journals from a CSV or JSON-lines file and reports throughput")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Catalogue imported; invalid lines are listed in the report",
+        content = @Content(schema = @Schema(implementation = CatalogueImportReport.class))),
+    @ApiResponse(
+        responseCode = "400",
+        description = "Unsupported format or missing CSV header",
+        content = @Content(schema = @Schema(implementation = ApiError.class)))
+  })
+  @PostMapping(path = "/catalogue/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<CatalogueImportReport> importCatalogue(
+      @RequestParam("file") MultipartFile file,
+      @Parameter(description = "File format, detected from the file name when omitted")
+          @RequestParam(required = false)
+          CatalogueFormat format)
+      throws IOException {
+    var resolvedFormat =
+        format != null ? format : CatalogueFormat.fromFileName(file.getOriginalFilename());
+    log.info(
+        "Catalogue import requested for {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+
+    var spooled = Files.createTempFile("catalogue-import-", ".tmp");
+    try {
+      file.transferTo(spooled);
+      return ResponseEntity.ok(catalogueImportService.importCatalogue(spooled, resolvedFormat));
+    } finally {
+      Files.deleteIfExists(spooled);
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.lms.library.controller;
+
+import com.lms.library.dto.HoldRequest;
+import com.lms.library.dto.HoldResponse;
+import com.lms.library.exception.*;
+import com.lms.library.model.Hold;
+import com.lms.library.service.HoldService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for managing item holds in the Library Management System. Provides endpoints for
+ * placing a hold on an item, polling its position in the queue and cancelling it.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/v1")
+@Tag(name = "Hold Management", description = "APIs for waiting in line for loaned items")
+public class HoldController {
+
+  private static final Logger log = LoggerFactory.getLogger(HoldController.class);
+
+  private final HoldService holdService;
+
+  /**
+   * Constructs a new HoldController with the required HoldService.
+   *
+   * @param holdService the hold service to be used by the controller
+   */
+  public HoldController(HoldService holdService) {
+    this.holdService = holdService;
+  }
+
+  /**
+   * Places a hold for a member on an item. The item is checked out to the member as soon as it is
+   * their turn, so the client polls the hold instead of retrying the checkout.
+   *
+   * @param memberId the ID of the member placing the hold
+   * @param holdRequest the request naming the item to wait for
+   * @return ResponseEntity containing the hold details
+   * @throws MemberNotFoundException if the member is not found
+   * @throws ItemNotFoundException if the item is not found
+   * @throws IllegalStateException if the member is already waiting for the item
+   */
+  @Operation(
+      summary = "Place a hold on an item",
+      description = "Adds the member to the end of the item's waiting queue")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Hold placed successfully",
+        content = @Content(schema = @Schema(implementation = HoldResponse.class))),
+    @ApiResponse(
+        responseCode = "400",
+        description = "Invalid input",
+        content = @Content(schema = @Schema(implementation = ApiError.class))),
+    @ApiResponse(
+        responseCode = "404",
+        description = "Member or item not found",
+        content = @Content(schema = @Schema(implementation = ApiError.class))),
+    @ApiResponse(
+        responseCode = "409",
+        description = "Member is already waiting for the item",
+        content = @Content(schema = @Schema(implementation = ApiError.class)))
+  })
+  @PostMapping("/members/{memberId}/holds")
+  public ResponseEntity<HoldResponse> placeHold(
+      @PathVariable Long memberId, @Valid @RequestBody HoldRequest holdRequest) {
+
+    log.info("Hold request for member {} on item {}", memberId, holdRequest.itemId());
+    return ResponseEntity.ok(toResponse(holdService.placeHold(memberId, holdRequest.itemId())));
+  }
+
+  /**
+   * Retrieves all holds placed by a member.
+   *
+   * @param memberId the ID of the member
+   * @return ResponseEntity containing the member's holds
+   * @throws MemberNotFoundException if the member is not found
+   */
+  @Operation(summary = "Get member holds", description = "Retrieves all holds placed by a member")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Holds retrieved successfully",
+        content = @Content(schema = @Schema(implementation = HoldResponse[].class))),
+    @ApiResponse(
+        responseCode = "404",
+        description = "Member not found",
+        content = @Content(schema = @Schema(implementation = ApiError.class)))
+  })
+  @GetMapping("/members/{memberId}/holds")
+  public ResponseEntity<List<HoldResponse>> getMemberHolds(@PathVariable Long memberId) {
+    log.info("Retrieving holds for member {}", memberId);
+    return ResponseEntity.ok(
+        holdService.getMemberHolds(memberId).stream().map(this::toResponse).toList());
+  }
+
+  /**
+   * Polls a hold for its status and queue position.
+   *
+   * @param holdId the ID of the hold
+   * @return ResponseEntity containing the hold details
+   * @throws HoldNotFoundException if the hold is not found
+   */
+  @Operation(
+      summary = "Get hold by ID",
+      description = "Retrieves the status and queue position of a hold")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Hold retrieved successfully",
+        content = @Content(schema = @Schema(implementation = HoldResponse.class))),
+    @ApiResponse(
+        responseCode = "404",
+        description = "Hold not found",
+        content = @Content(schema = @Schema(implementation = ApiError.class)))
+  })
+  @GetMapping("/holds/{holdId}")
+  public ResponseEntity<HoldResponse> getHold(@PathVariable Long holdId) {
+    return ResponseEntity.ok(toResponse(holdService.getHold(holdId)));
+  }
+
+  /**
+   * Cancels a waiting hold.
+   *
+   * @param holdId the ID of the hold
+   * @return ResponseEntity containing the cancelled hold
+   * @throws HoldNotFoundException if the hold is not found
+   * @throws IllegalStateException if the hold is no longer waiting
+   */
+  @Operation(summary = "Cancel a hold", description = "Removes the member from the item's queue")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Hold cancelled successfully",
+        content = @Content(schema = @Schema(implementation = HoldResponse.class))),
+    @ApiResponse(
+        responseCode = "404",
+        description = "Hold not found",
+        content = @Content(schema = @Schema(implementation = ApiError.class))),
+    @ApiResponse(
+        responseCode = "409",
+        description = "Hold is no longer waiting",
+        content = @Content(schema = @Schema(implementation = ApiError.class)))
+  })
+  @DeleteMapping("/holds/{holdId}")
+  public ResponseEntity<HoldResponse> cancelHold(@PathVariable Long holdId) {
+    log.info("Cancel request for hold {}", holdId);
+    return ResponseEntity.ok(toResponse(holdService.cancelHold(holdId)));
+  }
+
+  private HoldResponse toResponse(Hold hold) {
+    return HoldResponse.from(hold, holdService.getQueuePosition(hold));
+  }
+}
@@ -1,27 +1,36 @@
 package com.lms.library.controller;
 
+import com.lms.library.coalescing.RequestCoalescer;
+import com.lms.library.config.CompactJsonConfig;
 import com.lms.library.dto.LoanItemResponse;
 import com.lms.library.dto.LoanRequest;
 import com.lms.library.dto.LoanResponse;
 import com.lms.library.dto.LoanSummaryResponse;
+import com.lms.library.dto.MemberStandingResponse;
 import com.lms.library.exception.*;
+import com.lms.library.idempotency.IdempotencyCache;
 import com.lms.library.model.Loan;
 import com.lms.library.service.LoanService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.Arrays;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -41,25 +50,41 @@ public class LoanController {
   private static final Logger log = LoggerFactory.getLogger(LoanController.class);
 
   private final LoanService loanService;
+  private final IdempotencyCache idempotencyCache;
+  private final RequestCoalescer requestCoalescer;
 
   /**
    * Constructs a new LoanController with the required LoanService.
    *
    * @param loanService the loan service to be used by the controller
+   * @param idempotencyCache the results of checkouts and returns sent with an idempotency key
+   * @param requestCoalescer shares the loading and rendering of a loan or loan list between
+   *     concurrent identical reads
    */
-  public LoanController(LoanService loanService) {
+  public LoanController(
+      LoanService loanService,
+      IdempotencyCache idempotencyCache,
+      RequestCoalescer requestCoalescer) {
     this.loanService = loanService;
+    this.idempotencyCache = idempotencyCache;
+    this.requestCoalescer = requestCoalescer;
   }
 
   /**
-   * Creates a new loan for a member with the specified items.
+   * Creates a new loan for a member with the specified items. When the request carries an {@code
+   * Idempotency-Key} header, a retry with the same key and request returns the loan created by the
+   * first request instead of creating another one.
    *
    * @param memberId the ID of the member checking out items
    * @param loanRequest the request containing list of item IDs to checkout
+   * @param idempotencyKey the optional Idempotency-Key header sent by the client
    * @return ResponseEntity containing the created loan details
    * @throws MemberNotFoundException if the member is not found
    * @throws ItemNotFoundException if any item is not found
    * @throws ItemNotAvailableException if any item is not available for checkout
+   * @throws BorrowingBlockedException if the member has overdue items or would exceed the limit of
+   *     items on loan
+   * @throws IdempotencyKeyReusedException if the key was already used for another request
    */
   @Operation(
       summary = "Checkout items for a member",
@@ -79,35 +104,54 @@ public class LoanController {
         content = @Content(schema = @Schema(implementation = ApiError.class))),
     @ApiResponse(
         responseCode = "409",
-        description = "Item not available for checkout",
+        description = "Item not available or member blocked from borrowing",
+        content = @Content(schema = @Schema(implementation = ApiError.class))),
+    @ApiResponse(
+        responseCode = "422",
+        description = "Idempotency key already used for another request",
         content = @Content(schema = @Schema(implementation = ApiError.class)))
   })
   @PostMapping("/members/{memberId}/loans")
   public ResponseEntity<LoanResponse> checkoutItems(
-      @PathVariable Long memberId, @Valid @RequestBody LoanRequest loanRequest) {
+      @PathVariable Long memberId,
+      @Valid @RequestBody LoanRequest loanRequest,
+      @Parameter(description = "Key making retries of the request safe", example = "a1b2c3")
+          @RequestHeader(value = IdempotencyCache.HEADER, required = false)
+          String idempotencyKey) {
 
     log.info("Checkout request for member {}: {} items", memberId, loanRequest.items().size());
-    var loan = loanService.checkoutItems(memberId, loanRequest);
+    var fingerprint = "checkout %s %s".formatted(memberId, loanRequest.items());
+    var response =
+        idempotencyCache.execute(
+            idempotencyKey,
+            fingerprint,
+            () -> {
+              var loan = loanService.checkoutItems(memberId, loanRequest);
 
-    // Convert to response
-    var itemResponses = loan.getItems().stream().map(LoanItemResponse::from).toList();
+              // Convert to response
+              var itemResponses = loan.getItems().stream().map(LoanItemResponse::from).toList();
 
-    var response =
-        new LoanResponse(
-            loan.getId(),
-            loan.getMember().getId(),
-            loan.getLoanDate(),
-            loan.getExpectedReturnDate(),
-            itemResponses,
-            loan.getStatus().name());
+              return new LoanResponse(
+                  loan.getId(),
+                  loan.getMember().getId(),
+                  loan.getLoanDate(),
+                  loan.getExpectedReturnDate(),
+                  itemResponses,
+                  loan.getStatus().name());
+            });
 
     return ResponseEntity.ok(response);
   }
 
   /**
-   * Retrieves all loans for a specific member.
+   * Retrieves all loans for a specific member. The response carries a strong ETag derived from the
+   * member's loan list version and the requested view; when the client sends a matching {@code
+   * If-None-Match} header a 304 is returned without loading the loans. Concurrent requests for the
+   * same version of the list share one load and rendering.
    *
    * @param memberId the ID of the member
+   * @param ifNoneMatch the optional If-None-Match header sent by the client
+   * @param accept the optional Accept header, selecting the standard or compact view
    * @return ResponseEntity containing list of loan summaries for the member
    * @throws MemberNotFoundException if the member is not found
    */
@@ -119,34 +163,83 @@ public class LoanController {
         responseCode = "200",
         description = "Loans retrieved successfully",
         content = @Content(schema = @Schema(implementation = LoanSummaryResponse[].class))),
+    @ApiResponse(responseCode = "304", description = "Loans not modified since the given ETag"),
     @ApiResponse(
         responseCode = "404",
         description = "Member not found",
         content = @Content(schema = @Schema(implementation = ApiError.class)))
   })
   @GetMapping("/members/{memberId}/loans")
-  public ResponseEntity<List<LoanSummaryResponse>> getMemberLoans(@PathVariable Long memberId) {
+  public ResponseEntity<List<LoanSummaryResponse>> getMemberLoans(
+      @PathVariable Long memberId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
     log.info("Fetching loans for member {}", memberId);
-    List<Loan> loans = loanService.getMemberLoans(memberId);
+    var eTag =
+        eTag(
+            "member-%s-loans-%d".formatted(memberId, loanService.getMemberLoansVersion(memberId)),
+            accept);
+    if (isNotModified(ifNoneMatch, eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag)
+          .varyBy(HttpHeaders.ACCEPT)
+          .build();
+    }
 
     var responses =
-        loans.stream()
-            .map(
-                loan ->
-                    new LoanSummaryResponse(
-                        loan.getId(),
-                        loan.getLoanDate(),
-                        loan.getExpectedReturnDate(),
-                        loan.getStatus().name()))
-            .toList();
-
-    return ResponseEntity.ok(responses);
+        requestCoalescer.coalesce(
+            eTag,
+            () -> {
+              List<Loan> loans = loanService.getMemberLoans(memberId);
+
+              return loans.stream()
+                  .map(
+                      loan ->
+                          new LoanSummaryResponse(
+                              loan.getId(),
+                              loan.getLoanDate(),
+                              loan.getExpectedReturnDate(),
+                              loan.getStatus().name()))
+                  .toList();
+            });
+
+    return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(responses);
+  }
+
+  /**
+   * Retrieves the borrowing standing of a member: items on loan, overdue items and accrued fines.
+   *
+   * @param memberId the ID of the member
+   * @return ResponseEntity containing the member's standing
+   * @throws MemberNotFoundException if the member is not found
+   */
+  @Operation(
+      summary = "Get member standing",
+      description = "Retrieves the items on loan, overdue items and fines of a member")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Standing retrieved successfully",
+        content = @Content(schema = @Schema(implementation = MemberStandingResponse.class))),
+    @ApiResponse(
+        responseCode = "404",
+        description = "Member not found",
+        content = @Content(schema = @Schema(implementation = ApiError.class)))
+  })
+  @GetMapping("/members/{memberId}/standing")
+  public ResponseEntity<MemberStandingResponse> getMemberStanding(@PathVariable Long memberId) {
+    return ResponseEntity.ok(MemberStandingResponse.from(loanService.getMemberStanding(memberId)));
   }
 
   /**
-   * Retrieves detailed information about a specific loan.
+   * Retrieves detailed information about a specific loan. The response carries a strong ETag
+   * derived from the loan version and the requested view; when the client sends a matching {@code
+   * If-None-Match} header a 304 is returned without loading or rendering the loan. Concurrent
+   * requests for the same version of the loan share one load and rendering.
    *
    * @param loanId the ID of the loan to retrieve
+   * @param ifNoneMatch the optional If-None-Match header sent by the client
+   * @param accept the optional Accept header, selecting the standard or compact view
    * @return ResponseEntity containing detailed loan information
    * @throws LoanNotFoundException if the loan is not found
    */
@@ -158,40 +251,59 @@ public class LoanController {
         responseCode = "200",
         description = "Loan details retrieved successfully",
         content = @Content(schema = @Schema(implementation = LoanResponse.class))),
+    @ApiResponse(responseCode = "304", description = "Loan not modified since the given ETag"),
     @ApiResponse(
         responseCode = "404",
         description = "Loan not found",
         content = @Content(schema = @Schema(implementation = ApiError.class)))
   })
   @GetMapping("/loans/{loanId}")
-  public ResponseEntity<LoanResponse> getLoan(@PathVariable Long loanId) {
+  public ResponseEntity<LoanResponse> getLoan(
+      @PathVariable Long loanId,
+      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
     log.info("Fetching loan details for loan {}", loanId);
-    var loan = loanService.getLoanById(loanId);
-
-    var itemResponses = loan.getItems().stream().map(LoanItemResponse::from).toList();
+    var eTag = eTag("loan-%s-%d".formatted(loanId, loanService.getLoanVersion(loanId)), accept);
+    if (isNotModified(ifNoneMatch, eTag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(eTag)
+          .varyBy(HttpHeaders.ACCEPT)
+          .build();
+    }
 
     var response =
-        new LoanResponse(
-            loan.getId(),
-            loan.getMember().getId(),
-            loan.getLoanDate(),
-            loan.getExpectedReturnDate(),
-            itemResponses,
-            loan.getStatus().name());
+        requestCoalescer.coalesce(
+            eTag,
+            () -> {
+              var loan = loanService.getLoanById(loanId);
 
-    return ResponseEntity.ok(response);
+              var itemResponses = loan.getItems().stream().map(LoanItemResponse::from).toList();
+
+              return new LoanResponse(
+                  loan.getId(),
+                  loan.getMember().getId(),
+                  loan.getLoanDate(),
+                  loan.getExpectedReturnDate(),
+                  itemResponses,
+                  loan.getStatus().name());
+            });
+
+    return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(response);
   }
 
   /**
    * Processes the return of items for a loan. If no specific items are provided, all items in the
-   * loan are returned.
+   * loan are returned. When the request carries an {@code Idempotency-Key} header, a retry with the
+   * same key and request returns the loan as the first request left it instead of failing.
    *
    * @param loanId the ID of the loan to return items from
    * @param returnRequest optional list of specific item IDs to return
+   * @param idempotencyKey the optional Idempotency-Key header sent by the client
    * @return ResponseEntity containing updated loan details
    * @throws LoanNotFoundException if the loan is not found
    * @throws ItemNotFoundException if any specified item is not found in the loan
    * @throws IllegalStateException if the loan is already closed
+   * @throws IdempotencyKeyReusedException if the key was already used for another request
    */
   @Operation(
       summary = "Return items",
@@ -213,28 +325,74 @@ public class LoanController {
     @ApiResponse(
         responseCode = "409",
         description = "Invalid loan state",
+        content = @Content(schema = @Schema(implementation = ApiError.class))),
+    @ApiResponse(
+        responseCode = "422",
+        description = "Idempotency key already used for another request",
         content = @Content(schema = @Schema(implementation = ApiError.class)))
   })
   @PostMapping("/loans/{loanId}/returns")
   public ResponseEntity<LoanResponse> returnItems(
-      @PathVariable Long loanId, @RequestBody LoanRequest returnRequest) {
+      @PathVariable Long loanId,
+      @RequestBody LoanRequest returnRequest,
+      @Parameter(description = "Key making retries of the request safe", example = "a1b2c3")
+          @RequestHeader(value = IdempotencyCache.HEADER, required = false)
+          String idempotencyKey) {
 
     log.info("Return request for loan {}", loanId);
 
-    var returnedLoan = loanService.returnItems(loanId, returnRequest.items());
+    var fingerprint = "return %s %s".formatted(loanId, returnRequest.items());
+    var response =
+        idempotencyCache.execute(
+            idempotencyKey,
+            fingerprint,
+            () -> {
+              var returnedLoan = loanService.returnItems(loanId, returnRequest.items());
 
-    // Convert to response
-    var itemResponses = returnedLoan.getItems().stream().map(LoanItemResponse::from).toList();
+              // Convert to response
+              var itemResponses =
+                  returnedLoan.getItems().stream().map(LoanItemResponse::from).toList();
 
-    var response =
-        new LoanResponse(
-            returnedLoan.getId(),
-            returnedLoan.getMember().getId(),
-            returnedLoan.getLoanDate(),
-            returnedLoan.getExpectedReturnDate(),
-            itemResponses,
-            returnedLoan.getStatus().name());
+              return new LoanResponse(
+                  returnedLoan.getId(),
+                  returnedLoan.getMember().getId(),
+                  returnedLoan.getLoanDate(),
+                  returnedLoan.getExpectedReturnDate(),
+                  itemResponses,
+                  returnedLoan.getStatus().name());
+            });
 
     return ResponseEntity.ok(response);
   }
+
+  /**
+   * Builds the strong ETag of a representation. The compact view gets its own ETag, so a cache
+   * never answers a request for one view with the other.
+   *
+   * @param version the resource and version the representation was rendered from
+   * @param accept the Accept header value, possibly null
+   * @return the quoted ETag
+   */
+  private static String eTag(String version, String accept) {
+    return CompactJsonConfig.isCompactRequested(accept)
+        ? "\"%s-c\"".formatted(version)
+        : "\"%s\"".formatted(version);
+  }
+
+  /**
+   * Checks whether an If-None-Match header matches the current ETag of a resource.
+   *
+   * @param ifNoneMatch the If-None-Match header value, possibly null or a comma-separated list
+   * @param eTag the current quoted ETag of the resource
+   * @return true if the client's cached representation is still current
+   */
+  private static boolean isNotModified(String ifNoneMatch, String eTag) {
+    if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+      return false;
+    }
+    return Arrays.stream(ifNoneMatch.split(","))
+        .map(String::trim)
+        .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+        .anyMatch(tag -> tag.equals("*") || tag.equals(eTag));
+  }
 }
@@ -0,0 +1,86 @@
+package com.lms.library.controller;
+
+import com.lms.library.event.LoanEvent;
+import com.lms.library.event.LoanEventBus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming loan lifecycle events as Server-Sent Events. Lets downstream systems
+ * react to checkouts and returns without polling the loan endpoints.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see LoanEventBus
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/v1")
+@Tag(name = "Loan Events", description = "Stream of loan lifecycle events")
+public class LoanEventController {
+
+  private static final Logger log = LoggerFactory.getLogger(LoanEventController.class);
+
+  private final LoanEventBus loanEventBus;
+  private final long emitterTimeoutMillis;
+
+  /**
+   * Constructs a new LoanEventController.
+   *
+   * @param loanEventBus the event bus to subscribe streams to
+   * @param emitterTimeoutMillis how long a stream stays open before the client must reconnect
+   */
+  public LoanEventController(
+      LoanEventBus loanEventBus,
+      @Value("${library.events.stream-timeout-ms:1800000}") long emitterTimeoutMillis) {
+    this.loanEventBus = loanEventBus;
+    this.emitterTimeoutMillis = emitterTimeoutMillis;
+  }
+
+  /**
+   * Opens a Server-Sent Events stream of loan lifecycle events published from now on. Each event
+   * is sent with its type ({@code LoanCreated}, {@code ItemReturned} or {@code LoanClosed}) as the
+   * SSE event name and its JSON representation as data.
+   *
+   * @return the SSE emitter backing the stream
+   */
+  @Operation(
+      summary = "Stream loan events",
+      description = "Streams LoanCreated, ItemReturned and LoanClosed events as Server-Sent Events")
+  @ApiResponses({@ApiResponse(responseCode = "200", description = "Event stream opened")})
+  @GetMapping(path = "/loan-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamLoanEvents() {
+    var emitter = new SseEmitter(emitterTimeoutMillis);
+    var subscription = loanEventBus.subscribe(batch -> send(emitter, batch));
+
+    emitter.onCompletion(subscription::close);
+    emitter.onTimeout(subscription::close);
+    emitter.onError(ex -> subscription.close());
+
+    log.info("Opened loan event stream ({} subscribers)", loanEventBus.getSubscriberCount());
+    return emitter;
+  }
+
+  private static void send(SseEmitter emitter, List<LoanEvent> batch) {
+    try {
+      for (var event : batch) {
+        emitter.send(SseEmitter.event().name(event.type()).data(event, MediaType.APPLICATION_JSON));
+      }
+    } catch (IOException | IllegalStateException ex) {
+      log.debug("Loan event stream closed by client: {}", ex.getMessage());
+      emitter.completeWithError(ex);
+    }
+  }
+}
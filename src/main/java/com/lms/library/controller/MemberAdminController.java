@@ -0,0 +1,87 @@
+package com.lms.library.controller;
+
+import com.lms.library.dto.MemberImportReport;
+import com.lms.library.service.MemberService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller for bulk member administration. Imports and exports stream NDJSON so that
+ * nightly synchronisation of millions of members runs with flat memory usage.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see MemberService
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/v1/admin")
+@Tag(name = "Member Administration", description = "APIs for bulk member synchronisation")
+public class MemberAdminController {
+
+  private static final Logger log = LoggerFactory.getLogger(MemberAdminController.class);
+
+  private final MemberService memberService;
+
+  /**
+   * Constructs a new MemberAdminController.
+   *
+   * @param memberService the member service performing imports and exports
+   */
+  public MemberAdminController(MemberService memberService) {
+    this.memberService = memberService;
+  }
+
+  /**
+   * Imports members from an NDJSON request body. The body is consumed incrementally while members
+   * are saved in batches.
+   *
+   * @param body the raw request body
+   * @return ResponseEntity containing the import report
+   */
+  @Operation(
+      summary = "Import members",
+      description =
+          "Streams NDJSON members (firstName, lastName, email) into the repository in batches")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Members imported; invalid lines are listed in the report",
+        content = @Content(schema = @Schema(implementation = MemberImportReport.class)))
+  })
+  @PostMapping(path = "/members/imports", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<MemberImportReport> importMembers(InputStream body) {
+    log.info("Member import requested");
+    return ResponseEntity.ok(memberService.importMembers(body));
+  }
+
+  /**
+   * Exports all members as NDJSON. The response is written while the store is iterated, without
+   * building the member list in memory.
+   *
+   * @return ResponseEntity streaming one member per line
+   */
+  @Operation(summary = "Export members", description = "Streams all members as NDJSON")
+  @ApiResponses({@ApiResponse(responseCode = "200", description = "Members streamed")})
+  @GetMapping(path = "/members/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportMembers() {
+    log.info("Member export requested");
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(memberService::exportMembers);
+  }
+}
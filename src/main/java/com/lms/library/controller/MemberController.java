@@ -0,0 +1,71 @@
+package com.lms.library.controller;
+
+import com.lms.library.dto.MemberResponse;
+import com.lms.library.exception.ApiError;
+import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.service.MemberService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for member operations in the Library Management System.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/v1")
+@Tag(name = "Member Management", description = "APIs for looking up library members")
+public class MemberController {
+
+  private static final Logger log = LoggerFactory.getLogger(MemberController.class);
+
+  private final MemberService memberService;
+
+  /**
+   * Constructs a new MemberController with the required MemberService.
+   *
+   * @param memberService the member service to be used by the controller
+   */
+  public MemberController(MemberService memberService) {
+    this.memberService = memberService;
+  }
+
+  /**
+   * Looks up a member by email address (case-insensitive).
+   *
+   * @param email the email address to look up
+   * @return ResponseEntity containing the member details
+   * @throws MemberNotFoundException if no member uses the email address
+   */
+  @Operation(
+      summary = "Find member by email",
+      description = "Looks up a member by email address using a case-insensitive index")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Member found",
+        content = @Content(schema = @Schema(implementation = MemberResponse.class))),
+    @ApiResponse(
+        responseCode = "404",
+        description = "Member not found",
+        content = @Content(schema = @Schema(implementation = ApiError.class)))
+  })
+  @GetMapping("/members/by-email")
+  public ResponseEntity<MemberResponse> getMemberByEmail(@RequestParam String email) {
+    log.info("Looking up member by email");
+    return ResponseEntity.ok(MemberResponse.from(memberService.getMemberByEmail(email)));
+  }
+}
@@ -0,0 +1,97 @@
+package com.lms.library.controller;
+
+import com.lms.library.replication.ReplicationSource;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST controller feeding read replicas. Streams the changes captured from the repositories and
+ * full snapshots as NDJSON. Only present on a replication primary.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ReplicationSource
+ * @since 2025
+ */
+@RestController
+@ConditionalOnProperty(prefix = "library.replication", name = "role", havingValue = "primary")
+@RequestMapping("/v1/replication")
+@Tag(name = "Replication", description = "Change stream consumed by read replicas")
+public class ReplicationController {
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicationController.class);
+
+  private final ReplicationSource replicationSource;
+
+  /**
+   * Constructs a new ReplicationController.
+   *
+   * @param replicationSource the source of changes and snapshots
+   */
+  public ReplicationController(ReplicationSource replicationSource) {
+    this.replicationSource = replicationSource;
+  }
+
+  /**
+   * Streams the changes following a sequence number, oldest first.
+   *
+   * @param after the sequence number of the last change the caller applied
+   * @param limit the maximum number of changes to return
+   * @return ResponseEntity streaming one change per line
+   */
+  @Operation(
+      summary = "Stream changes",
+      description = "Streams the changes after the given sequence number as NDJSON")
+  @ApiResponses({
+    @ApiResponse(responseCode = "200", description = "Changes streamed"),
+    @ApiResponse(
+        responseCode = "410",
+        description = "Changes after the sequence number are no longer retained; load a snapshot")
+  })
+  @GetMapping(path = "/changes", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> getChanges(
+      @Parameter(description = "Sequence number of the last applied change", example = "0")
+          @RequestParam(defaultValue = "0")
+          long after,
+      @Parameter(description = "Maximum number of changes", example = "1000")
+          @RequestParam(defaultValue = "1000")
+          int limit) {
+    var changes = replicationSource.getChangesAfter(after, limit);
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(out -> replicationSource.writeNdjson(changes.stream(), out));
+  }
+
+  /**
+   * Streams a snapshot of all members, library items and loans.
+   *
+   * @return ResponseEntity streaming one entity per line, with the snapshot's sequence number in
+   *     the {@value ReplicationSource#SEQUENCE_HEADER} header
+   */
+  @Operation(
+      summary = "Stream snapshot",
+      description = "Streams the state of every member, item and loan as NDJSON")
+  @ApiResponses({@ApiResponse(responseCode = "200", description = "Snapshot streamed")})
+  @GetMapping(path = "/snapshot", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> getSnapshot() {
+    var snapshot = replicationSource.snapshot();
+    log.info("Replication snapshot requested at change {}", snapshot.sequence());
+    return ResponseEntity.ok()
+        .header(ReplicationSource.SEQUENCE_HEADER, Long.toString(snapshot.sequence()))
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .body(out -> replicationSource.writeNdjson(snapshot.changes(), out));
+  }
+}
@@ -0,0 +1,89 @@
+package com.lms.library.controller;
+
+import com.lms.library.dto.AvailabilityCensusResponse;
+import com.lms.library.dto.LoanCensusResponse;
+import com.lms.library.service.ReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for full-scan reports in the Library Management System. Provides endpoints for
+ * a census of the catalogue's availability and of all live loans.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ReportService
+ * @since 2025
+ */
+@RestController
+@RequestMapping("/v1/reports")
+@Tag(name = "Reports", description = "APIs for reports over the whole catalogue and all loans")
+public class ReportController {
+
+  private final ReportService reportService;
+
+  /**
+   * Constructs a new ReportController with the required ReportService.
+   *
+   * @param reportService the report service to be used by the controller
+   */
+  public ReportController(ReportService reportService) {
+    this.reportService = reportService;
+  }
+
+  /**
+   * Retrieves the number of available and loaned items of every genre.
+   *
+   * @return ResponseEntity containing one entry per genre, in alphabetical order
+   */
+  @Operation(
+      summary = "Get catalogue availability",
+      description = "Counts the available and loaned items of every genre in the catalogue")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Census retrieved successfully",
+        content = @Content(schema = @Schema(implementation = AvailabilityCensusResponse[].class)))
+  })
+  @GetMapping("/availability")
+  public ResponseEntity<List<AvailabilityCensusResponse>> getAvailabilityCensus() {
+    return ResponseEntity.ok(reportService.getAvailabilityCensus());
+  }
+
+  /**
+   * Retrieves the number of open, closed and overdue loans and their outstanding items.
+   *
+   * @param asOf the day against which loans are checked for being overdue; defaults to today
+   * @return ResponseEntity containing the counts over all live loans
+   */
+  @Operation(
+      summary = "Get loan census",
+      description = "Counts the open, closed and overdue live loans and their outstanding items")
+  @ApiResponses({
+    @ApiResponse(
+        responseCode = "200",
+        description = "Census retrieved successfully",
+        content = @Content(schema = @Schema(implementation = LoanCensusResponse.class)))
+  })
+  @GetMapping("/loans")
+  public ResponseEntity<LoanCensusResponse> getLoanCensus(
+      @Parameter(description = "Day checked for overdue loans", example = "2024-01-15")
+          @RequestParam(required = false)
+          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate asOf) {
+    return ResponseEntity.ok(reportService.getLoanCensus(asOf == null ? LocalDate.now() : asOf));
+  }
+}
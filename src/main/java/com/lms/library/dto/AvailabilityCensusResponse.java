@@ -0,0 +1,22 @@
+package com.lms.library.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for the availability of the library items of one genre.
+ *
+ * @param genre the genre, "Unknown" for books without one and "Journal" for journals
+ * @param items the number of items of the genre in the catalogue
+ * @param available the number of those items available for loan
+ * @param onLoan the number of those items currently on loan
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Availability of the library items of one genre")
+public record AvailabilityCensusResponse(
+    @Schema(description = "Genre, Unknown for books without one", example = "Programming")
+        String genre,
+    @Schema(description = "Number of items in the catalogue", example = "120") long items,
+    @Schema(description = "Number of items available for loan", example = "95") long available,
+    @Schema(description = "Number of items on loan", example = "25") long onLoan) {}
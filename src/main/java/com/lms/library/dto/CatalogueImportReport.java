@@ -0,0 +1,29 @@
+package com.lms.library.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Data Transfer Object summarising a bulk catalogue import.
+ *
+ * @param imported the number of items inserted into the catalogue
+ * @param rejected the number of lines that failed parsing or validation
+ * @param errors the first validation errors, each prefixed with its line number
+ * @param elapsedMillis the wall-clock duration of the import in milliseconds
+ * @param itemsPerSecond the import throughput in inserted items per second
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Summary of a bulk catalogue import")
+public record CatalogueImportReport(
+    @Schema(description = "Number of items imported", example = "100000") long imported,
+    @Schema(description = "Number of rejected lines", example = "2") long rejected,
+    @Schema(
+            description = "First validation errors with line numbers",
+            example = "[\"line 42: Title is required\"]")
+        List<String> errors,
+    @Schema(description = "Duration of the import in milliseconds", example = "850")
+        long elapsedMillis,
+    @Schema(description = "Throughput in items per second", example = "117647.06")
+        double itemsPerSecond) {}
@@ -0,0 +1,43 @@
+package com.lms.library.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for a single catalogue entry in a bulk import file. The same record is read
+ * from CSV rows and JSON lines; book-specific and journal-specific fields are left null for the
+ * other type.
+ *
+ * @param type the type of item (BOOK or JOURNAL)
+ * @param title the title of the item
+ * @param author the author of the item
+ * @param publicationDate the publication date of the item
+ * @param isbn the ISBN of a book
+ * @param genre the genre of a book
+ * @param pageCount the number of pages of a book
+ * @param issn the ISSN of a journal
+ * @param publisher the publisher of a journal
+ * @param volume the volume number of a journal
+ * @param issue the issue number of a journal
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Catalogue entry in a bulk import file")
+public record CatalogueRecord(
+    @Schema(
+            description = "Type of the item",
+            example = "BOOK",
+            allowableValues = {"BOOK", "JOURNAL"})
+        String type,
+    @Schema(description = "Title of the item", example = "Clean Code") String title,
+    @Schema(description = "Author of the item", example = "Robert C. Martin") String author,
+    @Schema(description = "Publication date of the item", example = "2008-08-01")
+        LocalDate publicationDate,
+    @Schema(description = "ISBN of a book", example = "9780132350884") String isbn,
+    @Schema(description = "Genre of a book", example = "Programming") String genre,
+    @Schema(description = "Page count of a book", example = "464") Integer pageCount,
+    @Schema(description = "ISSN of a journal", example = "0018-9340") String issn,
+    @Schema(description = "Publisher of a journal", example = "IEEE") String publisher,
+    @Schema(description = "Volume of a journal", example = "72") Integer volume,
+    @Schema(description = "Issue of a journal", example = "11") Integer issue) {}
@@ -0,0 +1,35 @@
+package com.lms.library.dto;
+
+import com.lms.library.analytics.CirculationStats.DailyCirculation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for the circulation of one day.
+ *
+ * @param date the day
+ * @param loans the number of loans created on the day
+ * @param itemsBorrowed the number of items checked out on the day
+ * @param itemsReturned the number of items returned on the day
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Circulation of one day")
+public record DailyCirculationResponse(
+    @Schema(description = "Day", example = "2024-01-15") LocalDate date,
+    @Schema(description = "Number of loans created", example = "12") long loans,
+    @Schema(description = "Number of items checked out", example = "20") long itemsBorrowed,
+    @Schema(description = "Number of items returned", example = "18") long itemsReturned) {
+
+  /**
+   * Static factory method to create a DailyCirculationResponse from the day's counters.
+   *
+   * @param day the circulation of the day
+   * @return a new DailyCirculationResponse instance
+   */
+  public static DailyCirculationResponse from(DailyCirculation day) {
+    return new DailyCirculationResponse(
+        day.date(), day.loans(), day.itemsBorrowed(), day.itemsReturned());
+  }
+}
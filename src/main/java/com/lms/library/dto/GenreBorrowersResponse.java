@@ -0,0 +1,37 @@
+package com.lms.library.dto;
+
+import com.lms.library.analytics.DistinctBorrowers.GenreBorrowers;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for the estimated number of distinct members who borrowed an item of a
+ * genre.
+ *
+ * @param genre the genre, "Unknown" for books without one and "Journal" for journals
+ * @param distinctBorrowers the estimated number of distinct members who borrowed the genre
+ * @param relativeError the relative standard error of the estimate
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Estimated number of distinct members who borrowed an item of a genre")
+public record GenreBorrowersResponse(
+    @Schema(description = "Genre, Unknown for books without one", example = "Programming")
+        String genre,
+    @Schema(description = "Estimated number of distinct borrowers", example = "512")
+        long distinctBorrowers,
+    @Schema(description = "Relative standard error of the estimate", example = "0.0081")
+        double relativeError) {
+
+  /**
+   * Static factory method to create a GenreBorrowersResponse from a genre estimate.
+   *
+   * @param genreBorrowers the estimated borrowers of the genre
+   * @param relativeError the relative standard error of the estimate
+   * @return a new GenreBorrowersResponse instance
+   */
+  public static GenreBorrowersResponse from(GenreBorrowers genreBorrowers, double relativeError) {
+    return new GenreBorrowersResponse(
+        genreBorrowers.genre(), genreBorrowers.borrowers(), relativeError);
+  }
+}
@@ -0,0 +1,57 @@
+package com.lms.library.dto;
+
+import com.lms.library.analytics.CirculationStats;
+import com.lms.library.analytics.CirculationStats.GenreCirculation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the circulation of one genre, with the distribution of its loan
+ * durations.
+ *
+ * @param genre the genre, "Journal" for journals
+ * @param borrows the number of items of the genre checked out
+ * @param returns the number of items of the genre returned
+ * @param averageLoanDays the average number of days a returned item was out
+ * @param loanDurations the number of returned items per range of loan days, such as "0-7" or
+ *     "57+", in ascending order
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Circulation of one genre")
+public record GenreCirculationResponse(
+    @Schema(description = "Genre, Journal for journals", example = "Programming") String genre,
+    @Schema(description = "Number of items checked out", example = "120") long borrows,
+    @Schema(description = "Number of items returned", example = "110") long returns,
+    @Schema(description = "Average number of days a returned item was out", example = "11.5")
+        double averageLoanDays,
+    @Schema(
+            description = "Number of returned items per range of loan days",
+            example = "{\"0-7\": 40, \"8-14\": 55, \"15-21\": 10, \"22-28\": 3, \"29-42\": 2}")
+        Map<String, Long> loanDurations) {
+
+  /**
+   * Static factory method to create a GenreCirculationResponse from the genre's counters.
+   *
+   * @param genre the circulation of the genre
+   * @return a new GenreCirculationResponse instance
+   */
+  public static GenreCirculationResponse from(GenreCirculation genre) {
+    var bounds = CirculationStats.DURATION_BUCKET_BOUNDS;
+    var loanDurations = new LinkedHashMap<String, Long>();
+    var lower = 0;
+    for (var i = 0; i < bounds.size(); i++) {
+      loanDurations.put(lower + "-" + bounds.get(i), genre.durationHistogram().get(i));
+      lower = bounds.get(i) + 1;
+    }
+    loanDurations.put(lower + "+", genre.durationHistogram().get(bounds.size()));
+    return new GenreCirculationResponse(
+        genre.genre(),
+        genre.borrows(),
+        genre.returns(),
+        genre.averageLoanDays(),
+        loanDurations);
+  }
+}
@@ -0,0 +1,18 @@
+package com.lms.library.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Data Transfer Object for hold requests. Names the library item a member wants to wait for.
+ *
+ * @param itemId the ID of the library item to place a hold on
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Request to place a hold on an item")
+public record HoldRequest(
+    @Schema(description = "ID of the item to place a hold on", example = "1")
+        @NotNull(message = "Item ID cannot be null")
+        Long itemId) {}
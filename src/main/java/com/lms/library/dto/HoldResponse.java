@@ -0,0 +1,54 @@
+package com.lms.library.dto;
+
+import com.lms.library.model.Hold;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+
+/**
+ * Data Transfer Object for hold responses. Tells a waiting member where they stand in the item's
+ * queue, and which loan the item was checked out in once the hold is fulfilled.
+ *
+ * @param holdId the unique identifier of the hold
+ * @param memberId the ID of the member who placed the hold
+ * @param itemId the ID of the library item being waited for
+ * @param status the current status of the hold (WAITING, FULFILLED or CANCELLED)
+ * @param position the 1-based position in the item's queue, or 0 if the hold is not waiting
+ * @param loanId the ID of the loan that fulfilled the hold, null until it is fulfilled
+ * @param placedAt the instant at which the hold was placed
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Details of a hold on an item")
+public record HoldResponse(
+    @Schema(description = "Unique identifier of the hold", example = "42") Long holdId,
+    @Schema(description = "ID of the member who placed the hold", example = "1") Long memberId,
+    @Schema(description = "ID of the item being waited for", example = "7") Long itemId,
+    @Schema(
+            description = "Current status of the hold",
+            example = "WAITING",
+            allowableValues = {"WAITING", "FULFILLED", "CANCELLED"})
+        String status,
+    @Schema(description = "Position in the item's queue, 0 if not waiting", example = "2")
+        int position,
+    @Schema(description = "ID of the loan that fulfilled the hold", example = "123") Long loanId,
+    @Schema(description = "Instant at which the hold was placed") Instant placedAt) {
+
+  /**
+   * Static factory method to create a HoldResponse from a Hold entity.
+   *
+   * @param hold the hold entity to convert
+   * @param position the position of the hold in its item's queue
+   * @return a new HoldResponse instance
+   */
+  public static HoldResponse from(Hold hold, int position) {
+    return new HoldResponse(
+        hold.getId(),
+        hold.getMemberId(),
+        hold.getItemId(),
+        hold.getStatus().name(),
+        position,
+        hold.getLoanId(),
+        hold.getPlacedAt());
+  }
+}
@@ -0,0 +1,39 @@
+package com.lms.library.dto;
+
+import com.lms.library.model.LibraryItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for the estimated number of distinct members who borrowed a library item.
+ *
+ * @param itemId the unique identifier of the library item
+ * @param title the title of the library item
+ * @param distinctBorrowers the estimated number of distinct members who borrowed the item
+ * @param relativeError the relative standard error of the estimate
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Estimated number of distinct members who borrowed a library item")
+public record ItemBorrowersResponse(
+    @Schema(description = "Unique identifier of the library item", example = "7") Long itemId,
+    @Schema(description = "Title of the library item", example = "Clean Code") String title,
+    @Schema(description = "Estimated number of distinct borrowers", example = "128")
+        long distinctBorrowers,
+    @Schema(description = "Relative standard error of the estimate", example = "0.0325")
+        double relativeError) {
+
+  /**
+   * Static factory method to create an ItemBorrowersResponse from a library item and its estimate.
+   *
+   * @param item the library item
+   * @param distinctBorrowers the estimated number of distinct borrowers
+   * @param relativeError the relative standard error of the estimate
+   * @return a new ItemBorrowersResponse instance
+   */
+  public static ItemBorrowersResponse from(
+      LibraryItem item, long distinctBorrowers, double relativeError) {
+    return new ItemBorrowersResponse(
+        item.getId(), item.getTitle(), distinctBorrowers, relativeError);
+  }
+}
@@ -0,0 +1,39 @@
+package com.lms.library.dto;
+
+import com.lms.library.analytics.CirculationStats;
+import com.lms.library.analytics.CirculationStats.ItemBorrows;
+import com.lms.library.model.LibraryItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for the number of times a library item was borrowed.
+ *
+ * @param itemId the unique identifier of the library item
+ * @param title the title of the library item
+ * @param genre the genre under which the item is counted, "Journal" for journals
+ * @param borrows the number of times the item was checked out
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Number of times a library item was borrowed")
+public record ItemCirculationResponse(
+    @Schema(description = "Unique identifier of the library item", example = "7") Long itemId,
+    @Schema(description = "Title of the library item", example = "Clean Code") String title,
+    @Schema(description = "Genre of the item, Journal for journals", example = "Programming")
+        String genre,
+    @Schema(description = "Number of times the item was checked out", example = "42")
+        long borrows) {
+
+  /**
+   * Static factory method to create an ItemCirculationResponse from a library item and its count.
+   *
+   * @param item the library item
+   * @param itemBorrows the number of times the item was borrowed
+   * @return a new ItemCirculationResponse instance
+   */
+  public static ItemCirculationResponse from(LibraryItem item, ItemBorrows itemBorrows) {
+    return new ItemCirculationResponse(
+        item.getId(), item.getTitle(), CirculationStats.genreOf(item), itemBorrows.borrows());
+  }
+}
@@ -0,0 +1,30 @@
+package com.lms.library.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for the state of all live loans on a given day. Archived loans are not
+ * counted.
+ *
+ * @param asOf the day against which loans are checked for being overdue
+ * @param openLoans the number of loans with items still out
+ * @param closedLoans the number of loans whose items were all returned
+ * @param outstandingItems the number of items not yet returned
+ * @param overdueLoans the number of open loans past their expected return date
+ * @param overdueItems the number of items not yet returned from overdue loans
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "State of all live loans on a given day")
+public record LoanCensusResponse(
+    @Schema(description = "Day checked for overdue loans", example = "2024-01-15") LocalDate asOf,
+    @Schema(description = "Number of open loans", example = "40") long openLoans,
+    @Schema(description = "Number of closed loans", example = "310") long closedLoans,
+    @Schema(description = "Number of items not yet returned", example = "65")
+        long outstandingItems,
+    @Schema(description = "Number of open loans past their return date", example = "6")
+        long overdueLoans,
+    @Schema(description = "Number of items not yet returned from overdue loans", example = "9")
+        long overdueItems) {}
@@ -0,0 +1,32 @@
+package com.lms.library.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Data Transfer Object summarising a bulk member import.
+ *
+ * @param imported the number of members created
+ * @param skipped the number of members skipped because their email is already registered
+ * @param rejected the number of lines that failed parsing or validation
+ * @param errors the first validation errors, each prefixed with its line number
+ * @param elapsedMillis the wall-clock duration of the import in milliseconds
+ * @param membersPerSecond the import throughput in processed members per second
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Summary of a bulk member import")
+public record MemberImportReport(
+    @Schema(description = "Number of members created", example = "1999998") long imported,
+    @Schema(description = "Number of members whose email already exists", example = "2")
+        long skipped,
+    @Schema(description = "Number of rejected lines", example = "0") long rejected,
+    @Schema(
+            description = "First validation errors with line numbers",
+            example = "[\"line 7: Email is required\"]")
+        List<String> errors,
+    @Schema(description = "Duration of the import in milliseconds", example = "3100")
+        long elapsedMillis,
+    @Schema(description = "Throughput in members per second", example = "645161.29")
+        double membersPerSecond) {}
@@ -0,0 +1,36 @@
+package com.lms.library.dto;
+
+import com.lms.library.model.Member;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for member responses. Contains the personal information of a library member
+ * without their loans.
+ *
+ * @param id the unique identifier of the member
+ * @param firstName the member's first name
+ * @param lastName the member's last name
+ * @param email the member's email address
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Details of a library member")
+public record MemberResponse(
+    @Schema(description = "Unique identifier of the member", example = "1") Long id,
+    @Schema(description = "First name of the member", example = "Alice") String firstName,
+    @Schema(description = "Last name of the member", example = "Johnson") String lastName,
+    @Schema(description = "Email address of the member", example = "alice@example.com")
+        String email) {
+
+  /**
+   * Static factory method to create a MemberResponse from a Member entity.
+   *
+   * @param member the member entity to convert
+   * @return a new MemberResponse instance
+   */
+  public static MemberResponse from(Member member) {
+    return new MemberResponse(
+        member.getId(), member.getFirstName(), member.getLastName(), member.getEmail());
+  }
+}
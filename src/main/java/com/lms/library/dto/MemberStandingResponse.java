@@ -0,0 +1,45 @@
+package com.lms.library.dto;
+
+import com.lms.library.policy.MemberStanding;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for the borrowing standing of a member.
+ *
+ * @param memberId the unique identifier of the member
+ * @param openItems the number of items the member has on loan
+ * @param maxOpenItems the maximum number of items a member may have on loan
+ * @param overdueItems the number of items on loan past their expected return date
+ * @param accruedFineCents the fines accrued by overdue items, in cents
+ * @param canBorrow whether the member may check out at least one more item
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Borrowing standing of a member")
+public record MemberStandingResponse(
+    @Schema(description = "Unique identifier of the member", example = "1") Long memberId,
+    @Schema(description = "Number of items on loan", example = "3") int openItems,
+    @Schema(description = "Maximum number of items on loan", example = "10") int maxOpenItems,
+    @Schema(description = "Number of overdue items", example = "0") int overdueItems,
+    @Schema(description = "Fines accrued by overdue items, in cents", example = "150")
+        long accruedFineCents,
+    @Schema(description = "Whether the member may check out more items", example = "true")
+        boolean canBorrow) {
+
+  /**
+   * Static factory method to create a MemberStandingResponse from a member's standing.
+   *
+   * @param standing the standing of the member
+   * @return a new MemberStandingResponse instance
+   */
+  public static MemberStandingResponse from(MemberStanding standing) {
+    return new MemberStandingResponse(
+        standing.memberId(),
+        standing.openItems(),
+        standing.maxOpenItems(),
+        standing.overdueItems(),
+        standing.accruedFineCents(),
+        standing.canBorrow());
+  }
+}
@@ -0,0 +1,47 @@
+package com.lms.library.dto;
+
+import com.lms.library.analytics.CirculationStats;
+import com.lms.library.analytics.TrendingItems.TrendingItem;
+import com.lms.library.model.LibraryItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Data Transfer Object for the estimated number of times a library item was borrowed in a recent
+ * window. The true number lies between minBorrows and borrows.
+ *
+ * @param itemId the unique identifier of the library item
+ * @param title the title of the library item
+ * @param genre the genre under which the item is counted, "Journal" for journals
+ * @param borrows the estimated number of checkouts in the window, never below the true number
+ * @param minBorrows the number of checkouts the item is guaranteed to have in the window
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Schema(description = "Estimated number of times a library item was borrowed in a recent window")
+public record TrendingItemResponse(
+    @Schema(description = "Unique identifier of the library item", example = "7") Long itemId,
+    @Schema(description = "Title of the library item", example = "Clean Code") String title,
+    @Schema(description = "Genre of the item, Journal for journals", example = "Programming")
+        String genre,
+    @Schema(description = "Estimated number of checkouts, an upper bound", example = "42")
+        long borrows,
+    @Schema(description = "Guaranteed number of checkouts, a lower bound", example = "40")
+        long minBorrows) {
+
+  /**
+   * Static factory method to create a TrendingItemResponse from a library item and its estimate.
+   *
+   * @param item the library item
+   * @param trendingItem the estimated borrows of the item
+   * @return a new TrendingItemResponse instance
+   */
+  public static TrendingItemResponse from(LibraryItem item, TrendingItem trendingItem) {
+    return new TrendingItemResponse(
+        item.getId(),
+        item.getTitle(),
+        CirculationStats.genreOf(item),
+        trendingItem.borrows(),
+        trendingItem.minBorrows());
+  }
+}
@@ -0,0 +1,15 @@
+package com.lms.library.event;
+
+import java.time.Instant;
+
+/**
+ * Event published when a single item of a loan is returned.
+ *
+ * @param loanId the ID of the loan the item belongs to
+ * @param itemId the ID of the returned library item
+ * @param occurredAt the instant at which the item was returned
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public record ItemReturned(Long loanId, Long itemId, Instant occurredAt) implements LoanEvent {}
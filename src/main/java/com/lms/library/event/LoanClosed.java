@@ -0,0 +1,15 @@
+package com.lms.library.event;
+
+import java.time.Instant;
+
+/**
+ * Event published when the last outstanding item of a loan is returned and the loan is closed.
+ *
+ * @param loanId the ID of the closed loan
+ * @param memberId the ID of the member who owned the loan
+ * @param occurredAt the instant at which the loan was closed
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public record LoanClosed(Long loanId, Long memberId, Instant occurredAt) implements LoanEvent {}
@@ -0,0 +1,28 @@
+package com.lms.library.event;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Event published when a member checks out items and a new loan is created.
+ *
+ * @param loanId the ID of the created loan
+ * @param memberId the ID of the member who borrowed the items
+ * @param itemIds the IDs of the borrowed library items
+ * @param occurredAt the instant at which the loan was created
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public record LoanCreated(Long loanId, Long memberId, List<Long> itemIds, Instant occurredAt)
+    implements LoanEvent {
+
+  /**
+   * Compact constructor for LoanCreated that defensively copies the item IDs.
+   *
+   * @throws NullPointerException if itemIds is null
+   */
+  public LoanCreated {
+    itemIds = List.copyOf(itemIds);
+  }
+}
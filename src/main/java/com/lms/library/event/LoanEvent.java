@@ -0,0 +1,40 @@
+package com.lms.library.event;
+
+import java.time.Instant;
+
+/**
+ * Base type of all loan lifecycle events published on the {@link LoanEventBus}. This is a sealed
+ * interface that only permits the known lifecycle events.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see LoanCreated
+ * @see ItemReturned
+ * @see LoanClosed
+ * @since 2025
+ */
+public sealed interface LoanEvent permits LoanCreated, ItemReturned, LoanClosed {
+
+  /**
+   * Gets the ID of the loan the event refers to.
+   *
+   * @return the loan ID
+   */
+  Long loanId();
+
+  /**
+   * Gets the instant at which the event occurred.
+   *
+   * @return the event timestamp
+   */
+  Instant occurredAt();
+
+  /**
+   * Gets the name of the event type, used as the SSE event name.
+   *
+   * @return the event type name
+   */
+  default String type() {
+    return getClass().getSimpleName();
+  }
+}
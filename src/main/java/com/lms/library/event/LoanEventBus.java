@@ -0,0 +1,241 @@
+package com.lms.library.event;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process, lock-free event bus for loan lifecycle events. Events are written into a bounded ring
+ * buffer and broadcast to every subscriber; each subscriber reads the ring at its own pace on a
+ * dedicated virtual thread and receives events in batches.
+ *
+ * <p>Publishing never blocks: producers claim a sequence with a single atomic increment and store
+ * the event in the slot for that sequence. The ring has many producers, since checkouts and returns
+ * publish from the request threads, so sequences are claimed atomically rather than by a single
+ * writer. A subscriber that falls more than one ring capacity behind skips ahead to the oldest
+ * event still in the ring and the skipped events are counted as dropped for that subscriber only.
+ *
+ * <p>A subscriber that has caught up parks until a producer publishes the event it waits for, so
+ * idle subscribers cost no CPU. Producers only unpark subscribers that are parked.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see LoanEvent
+ * @since 2025
+ */
+@Component
+public class LoanEventBus {
+
+  private static final Logger log = LoggerFactory.getLogger(LoanEventBus.class);
+
+  private final int capacity;
+  private final int mask;
+  private final int maxBatchSize;
+  private final AtomicReferenceArray<Slot> slots;
+  private final AtomicLong nextSequence = new AtomicLong();
+  private final AtomicLong subscriptionIds = new AtomicLong(1);
+  private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Constructs a new LoanEventBus.
+   *
+   * @param capacity the number of slots in the ring buffer, must be a power of two
+   * @param maxBatchSize the maximum number of events handed to a subscriber at once
+   * @throws IllegalArgumentException if capacity is not a positive power of two or maxBatchSize is
+   *     not positive
+   */
+  public LoanEventBus(
+      @Value("${library.events.ring-capacity:1024}") int capacity,
+      @Value("${library.events.max-batch-size:64}") int maxBatchSize) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Ring capacity must be a positive power of two");
+    }
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("Max batch size must be positive");
+    }
+    this.capacity = capacity;
+    this.mask = capacity - 1;
+    this.maxBatchSize = maxBatchSize;
+    this.slots = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * Publishes an event to all current subscribers and wakes those waiting for it. Never blocks.
+   *
+   * @param event the event to publish
+   * @return the sequence number assigned to the event
+   */
+  public long publish(LoanEvent event) {
+    var sequence = nextSequence.getAndIncrement();
+    slots.set(index(sequence), new Slot(sequence, event));
+    // Checked after the store, so a subscriber either sees the event or is seen waiting
+    subscriptions.forEach(Subscription::wake);
+    return sequence;
+  }
+
+  /**
+   * Subscribes a consumer to events published from now on. The consumer is invoked on a dedicated
+   * virtual thread with batches of at most the configured batch size, in publication order.
+   *
+   * @param consumer the consumer receiving event batches
+   * @return the subscription, to be closed when the consumer is no longer interested
+   */
+  public Subscription subscribe(Consumer<List<LoanEvent>> consumer) {
+    var subscription = newSubscription(consumer);
+    subscription.thread =
+        Thread.ofVirtual()
+            .name("loan-event-consumer-" + subscription.id)
+            .start(subscription::run);
+    log.debug("Loan event subscription {} started", subscription.id);
+    return subscription;
+  }
+
+  /**
+   * Gets the number of active subscriptions.
+   *
+   * @return the number of subscribers
+   */
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  /** Closes all subscriptions. Called automatically when the application context shuts down. */
+  @PreDestroy
+  public void shutdown() {
+    subscriptions.forEach(Subscription::close);
+  }
+
+  /**
+   * Creates and registers a subscription without starting its consumer thread.
+   *
+   * @param consumer the consumer receiving event batches
+   * @return the registered subscription
+   */
+  Subscription newSubscription(Consumer<List<LoanEvent>> consumer) {
+    var subscription =
+        new Subscription(subscriptionIds.getAndIncrement(), nextSequence.get(), consumer);
+    subscriptions.add(subscription);
+    return subscription;
+  }
+
+  private int index(long sequence) {
+    return (int) (sequence & mask);
+  }
+
+  private record Slot(long sequence, LoanEvent event) {}
+
+  /**
+   * A subscriber's position in the ring buffer. Closing the subscription stops its consumer thread.
+   */
+  public final class Subscription implements AutoCloseable {
+
+    private final long id;
+    private final Consumer<List<LoanEvent>> consumer;
+    private long cursor;
+    private long dropped;
+    private final AtomicBoolean waiting = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile Thread thread;
+
+    private Subscription(long id, long cursor, Consumer<List<LoanEvent>> consumer) {
+      this.id = id;
+      this.cursor = cursor;
+      this.consumer = consumer;
+    }
+
+    /**
+     * Gets the number of events this subscriber missed because it fell behind the ring.
+     *
+     * @return the number of dropped events
+     */
+    public long getDropped() {
+      return dropped;
+    }
+
+    /** Stops delivering events to this subscription's consumer. */
+    @Override
+    public void close() {
+      closed = true;
+      subscriptions.remove(this);
+      var consumerThread = thread;
+      if (consumerThread != null) {
+        LockSupport.unpark(consumerThread);
+      }
+    }
+
+    /**
+     * Reads the next batch of published events and advances the cursor past them.
+     *
+     * @return the next batch, or an empty list if no new event has been published
+     */
+    List<LoanEvent> poll() {
+      var batch = new ArrayList<LoanEvent>(Math.min(maxBatchSize, capacity));
+      while (batch.size() < maxBatchSize) {
+        var slot = slots.get(index(cursor));
+        if (slot == null || slot.sequence() < cursor) {
+          // Not published yet
+          break;
+        }
+        if (slot.sequence() > cursor) {
+          // Lapped by the producers: resume at the oldest event still in the ring
+          var resumeAt = slot.sequence() - capacity + 1;
+          log.warn("Loan event subscription {} fell behind by {} events", id, resumeAt - cursor);
+          dropped += resumeAt - cursor;
+          cursor = resumeAt;
+          continue;
+        }
+        batch.add(slot.event());
+        cursor++;
+      }
+      return batch;
+    }
+
+    /** Unparks the consumer thread if it is waiting for an event. */
+    private void wake() {
+      var consumerThread = thread;
+      if (consumerThread != null && waiting.compareAndSet(true, false)) {
+        LockSupport.unpark(consumerThread);
+      }
+    }
+
+    /** Checks whether the event at the cursor, or a later one that lapped it, was published. */
+    private boolean hasNext() {
+      var slot = slots.get(index(cursor));
+      return slot != null && slot.sequence() >= cursor;
+    }
+
+    private void run() {
+      // Known to producers before the first wait, however soon the thread starts
+      thread = Thread.currentThread();
+      while (!closed) {
+        var batch = poll();
+        if (batch.isEmpty()) {
+          // Announce the wait before checking again, so a concurrent publish cannot be missed
+          waiting.set(true);
+          if (!hasNext() && !closed) {
+            LockSupport.park(this);
+          }
+          waiting.set(false);
+          continue;
+        }
+        try {
+          consumer.accept(batch);
+        } catch (RuntimeException ex) {
+          log.warn("Loan event subscription {} failed to handle a batch", id, ex);
+        }
+      }
+      log.debug("Loan event subscription {} stopped", id);
+    }
+  }
+}
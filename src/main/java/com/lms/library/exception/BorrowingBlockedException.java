@@ -0,0 +1,21 @@
+package com.lms.library.exception;
+
+/**
+ * Exception thrown when a member may not borrow more items, because they have overdue items or
+ * would exceed the limit of open items.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public class BorrowingBlockedException extends RuntimeException {
+
+  /**
+   * Constructs a new BorrowingBlockedException with the specified detail message.
+   *
+   * @param message the detail message explaining why the member may not borrow
+   */
+  public BorrowingBlockedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,21 @@
+package com.lms.library.exception;
+
+/**
+ * Exception thrown when a reader asks for changes that were already dropped from the change log.
+ * The reader must start over from a snapshot.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public class ChangeLogTruncatedException extends RuntimeException {
+
+  /**
+   * Constructs a new ChangeLogTruncatedException with the specified detail message.
+   *
+   * @param message the detail message naming the oldest retained change
+   */
+  public ChangeLogTruncatedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,21 @@
+package com.lms.library.exception;
+
+/**
+ * Exception thrown when a member is saved with an email address that already belongs to another
+ * member.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public class EmailAlreadyInUseException extends RuntimeException {
+
+  /**
+   * Constructs a new EmailAlreadyInUseException with the specified detail message.
+   *
+   * @param message the detail message explaining which email is already in use
+   */
+  public EmailAlreadyInUseException(String message) {
+    super(message);
+  }
+}
@@ -25,7 +25,7 @@ public class GlobalExceptionHandler {
   public GlobalExceptionHandler() {}
 
   /**
-   * Handles resource not found exceptions (Member, Item, Loan not found).
+   * Handles resource not found exceptions (Member, Item, Loan, Hold not found).
    *
    * @param ex the exception that was thrown
    * @param request the HTTP request that caused the exception
@@ -34,7 +34,8 @@ public class GlobalExceptionHandler {
   @ExceptionHandler({
     MemberNotFoundException.class,
     ItemNotFoundException.class,
-    LoanNotFoundException.class
+    LoanNotFoundException.class,
+    HoldNotFoundException.class
   })
   public ResponseEntity<ApiError> handleNotFoundExceptions(
       RuntimeException ex, HttpServletRequest request) {
@@ -68,6 +69,146 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
   }
 
+  /**
+   * Handles checkouts refused because the member has overdue items or too many items on loan.
+   *
+   * @param ex the BorrowingBlockedException that was thrown
+   * @param request the HTTP request that caused the exception
+   * @return ResponseEntity with CONFLICT status and error details
+   */
+  @ExceptionHandler(BorrowingBlockedException.class)
+  public ResponseEntity<ApiError> handleBorrowingBlocked(
+      BorrowingBlockedException ex, HttpServletRequest request) {
+    log.warn("Borrowing blocked: {}", ex.getMessage());
+    var apiError =
+        new ApiError(
+            HttpStatus.CONFLICT.value(),
+            HttpStatus.CONFLICT.getReasonPhrase(),
+            ex.getMessage(),
+            request.getRequestURI());
+    return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+  }
+
+  /**
+   * Handles idempotency keys sent again with a different request.
+   *
+   * @param ex the IdempotencyKeyReusedException that was thrown
+   * @param request the HTTP request that caused the exception
+   * @return ResponseEntity with UNPROCESSABLE_ENTITY status and error details
+   */
+  @ExceptionHandler(IdempotencyKeyReusedException.class)
+  public ResponseEntity<ApiError> handleIdempotencyKeyReused(
+      IdempotencyKeyReusedException ex, HttpServletRequest request) {
+    log.warn("Idempotency key reused: {}", ex.getMessage());
+    var apiError =
+        new ApiError(
+            HttpStatus.UNPROCESSABLE_ENTITY.value(),
+            HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase(),
+            ex.getMessage(),
+            request.getRequestURI());
+    return new ResponseEntity<>(apiError, HttpStatus.UNPROCESSABLE_ENTITY);
+  }
+
+  /**
+   * Handles attempts to save a member with an email address that is already in use.
+   *
+   * @param ex the EmailAlreadyInUseException that was thrown
+   * @param request the HTTP request that caused the exception
+   * @return ResponseEntity with CONFLICT status and error details
+   */
+  @ExceptionHandler(EmailAlreadyInUseException.class)
+  public ResponseEntity<ApiError> handleEmailAlreadyInUse(
+      EmailAlreadyInUseException ex, HttpServletRequest request) {
+    log.warn("Email already in use: {}", ex.getMessage());
+    var apiError =
+        new ApiError(
+            HttpStatus.CONFLICT.value(),
+            HttpStatus.CONFLICT.getReasonPhrase(),
+            ex.getMessage(),
+            request.getRequestURI());
+    return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+  }
+
+  /**
+   * Handles optimistic locking failures that persisted after all retries.
+   *
+   * @param ex the OptimisticLockException that was thrown
+   * @param request the HTTP request that caused the exception
+   * @return ResponseEntity with CONFLICT status and error details
+   */
+  @ExceptionHandler(OptimisticLockException.class)
+  public ResponseEntity<ApiError> handleOptimisticLock(
+      OptimisticLockException ex, HttpServletRequest request) {
+    log.warn("Concurrent modification: {}", ex.getMessage());
+    var apiError =
+        new ApiError(
+            HttpStatus.CONFLICT.value(),
+            HttpStatus.CONFLICT.getReasonPhrase(),
+            ex.getMessage(),
+            request.getRequestURI());
+    return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+  }
+
+  /**
+   * Handles requests that need a cluster node that cannot be reached.
+   *
+   * @param ex the NodeUnavailableException that was thrown
+   * @param request the HTTP request that caused the exception
+   * @return ResponseEntity with SERVICE_UNAVAILABLE status and error details
+   */
+  @ExceptionHandler(NodeUnavailableException.class)
+  public ResponseEntity<ApiError> handleNodeUnavailable(
+      NodeUnavailableException ex, HttpServletRequest request) {
+    log.warn("Cluster node unavailable: {}", ex.getMessage());
+    var apiError =
+        new ApiError(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+            ex.getMessage(),
+            request.getRequestURI());
+    return new ResponseEntity<>(apiError, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  /**
+   * Handles requests for changes that were already dropped from the change log.
+   *
+   * @param ex the ChangeLogTruncatedException that was thrown
+   * @param request the HTTP request that caused the exception
+   * @return ResponseEntity with GONE status and error details
+   */
+  @ExceptionHandler(ChangeLogTruncatedException.class)
+  public ResponseEntity<ApiError> handleChangeLogTruncated(
+      ChangeLogTruncatedException ex, HttpServletRequest request) {
+    log.warn("Change log truncated: {}", ex.getMessage());
+    var apiError =
+        new ApiError(
+            HttpStatus.GONE.value(),
+            HttpStatus.GONE.getReasonPhrase(),
+            ex.getMessage(),
+            request.getRequestURI());
+    return new ResponseEntity<>(apiError, HttpStatus.GONE);
+  }
+
+  /**
+   * Handles requests a read replica cannot serve.
+   *
+   * @param ex the ReplicaUnavailableException that was thrown
+   * @param request the HTTP request that caused the exception
+   * @return ResponseEntity with SERVICE_UNAVAILABLE status and error details
+   */
+  @ExceptionHandler(ReplicaUnavailableException.class)
+  public ResponseEntity<ApiError> handleReplicaUnavailable(
+      ReplicaUnavailableException ex, HttpServletRequest request) {
+    log.warn("Replica unavailable: {}", ex.getMessage());
+    var apiError =
+        new ApiError(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+            ex.getMessage(),
+            request.getRequestURI());
+    return new ResponseEntity<>(apiError, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
   /**
    * Handles illegal argument exceptions (validation errors).
    *
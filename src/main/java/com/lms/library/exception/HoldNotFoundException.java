@@ -0,0 +1,20 @@
+package com.lms.library.exception;
+
+/**
+ * Exception thrown when a requested hold is not found in the system.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public class HoldNotFoundException extends RuntimeException {
+
+  /**
+   * Constructs a new HoldNotFoundException with the specified detail message.
+   *
+   * @param message the detail message explaining which hold was not found
+   */
+  public HoldNotFoundException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,21 @@
+package com.lms.library.exception;
+
+/**
+ * Exception thrown when an idempotency key already used for one request is sent with a different
+ * request.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+  /**
+   * Constructs a new IdempotencyKeyReusedException with the specified detail message.
+   *
+   * @param message the detail message identifying the reused key
+   */
+  public IdempotencyKeyReusedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,20 @@
+package com.lms.library.exception;
+
+/**
+ * Exception thrown when a request must be handled by a cluster node that cannot be reached.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public class NodeUnavailableException extends RuntimeException {
+
+  /**
+   * Constructs a new NodeUnavailableException with the specified detail message.
+   *
+   * @param message the detail message naming the unreachable node
+   */
+  public NodeUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,21 @@
+package com.lms.library.exception;
+
+/**
+ * Exception thrown when an entity could not be saved because it was modified concurrently since it
+ * was read.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public class OptimisticLockException extends RuntimeException {
+
+  /**
+   * Constructs a new OptimisticLockException with the specified detail message.
+   *
+   * @param message the detail message explaining which entity was modified concurrently
+   */
+  public OptimisticLockException(String message) {
+    super(message);
+  }
+}
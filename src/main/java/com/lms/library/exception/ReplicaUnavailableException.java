@@ -0,0 +1,21 @@
+package com.lms.library.exception;
+
+/**
+ * Exception thrown when a read replica cannot serve a request, either because the request would
+ * modify data or because the replica has fallen too far behind the primary.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public class ReplicaUnavailableException extends RuntimeException {
+
+  /**
+   * Constructs a new ReplicaUnavailableException with the specified detail message.
+   *
+   * @param message the detail message explaining why the replica cannot serve the request
+   */
+  public ReplicaUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,178 @@
+package com.lms.library.idempotency;
+
+import com.lms.library.exception.IdempotencyKeyReusedException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Results of the requests sent with an {@code Idempotency-Key} header, so that a client retrying a
+ * request it got no answer for receives the original result instead of executing it again.
+ *
+ * <p>Each key remembers the fingerprint of its first request and that request's result. A retry
+ * with the same key and fingerprint is answered from the cache, waiting for the first request if
+ * it is still running; the same key with another fingerprint is rejected. A request that fails is
+ * forgotten, so that its retry executes again, and does not count towards the capacity.
+ *
+ * <p>Keys expire after {@code library.idempotency.ttl-ms}, and at most {@code
+ * library.idempotency.capacity} keys are kept; the oldest are evicted first. Since every key lives
+ * equally long, keys expire in the order they were added, and eviction only ever looks at the
+ * oldest key.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class IdempotencyCache {
+
+  /** Request header carrying the idempotency key. */
+  public static final String HEADER = "Idempotency-Key";
+
+  /** Maximum length of an idempotency key. */
+  public static final int MAX_KEY_LENGTH = 255;
+
+  private static final Logger log = LoggerFactory.getLogger(IdempotencyCache.class);
+
+  private final int capacity;
+  private final long ttlNanos;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Queue<Entry> oldestFirst = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queued = new AtomicInteger();
+
+  /**
+   * Constructs a new IdempotencyCache.
+   *
+   * @param capacity the maximum number of keys kept
+   * @param ttlMillis how long a key is kept after its first request
+   * @throws IllegalArgumentException if capacity is not positive or ttlMillis is negative
+   */
+  public IdempotencyCache(
+      @Value("${library.idempotency.capacity:10000}") int capacity,
+      @Value("${library.idempotency.ttl-ms:86400000}") long ttlMillis) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Idempotency cache capacity must be positive");
+    }
+    if (ttlMillis < 0) {
+      throw new IllegalArgumentException("Idempotency key TTL must not be negative");
+    }
+    this.capacity = capacity;
+    this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+  }
+
+  /**
+   * Executes an operation once per idempotency key. Fingerprints must identify the operation as
+   * well as its arguments, so that requests sharing a fingerprint expect results of the same type.
+   *
+   * @param <T> the type of the result
+   * @param key the idempotency key sent by the client, or null to execute without caching
+   * @param fingerprint the fingerprint of the request, e.g. its path and body
+   * @param operation the operation to execute on the first request with the key
+   * @return the result of the operation, executed now or by an earlier request with the key
+   * @throws IllegalArgumentException if the key is blank or longer than {@value #MAX_KEY_LENGTH}
+   * @throws IdempotencyKeyReusedException if the key was used with another fingerprint
+   */
+  public <T> T execute(String key, String fingerprint, Supplier<T> operation) {
+    if (key == null) {
+      return operation.get();
+    }
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      throw new IllegalArgumentException(
+          "Idempotency key must have between 1 and %d characters".formatted(MAX_KEY_LENGTH));
+    }
+
+    var now = System.nanoTime();
+    var created = new Entry(key, fingerprint, now + ttlNanos);
+    var entry =
+        entries.compute(
+            key, (k, current) -> current == null || current.isExpired(now) ? created : current);
+    if (entry != created) {
+      if (!entry.fingerprint.equals(fingerprint)) {
+        throw new IdempotencyKeyReusedException(
+            "Idempotency key '%s' was already used for another request".formatted(key));
+      }
+      log.debug("Replaying result of idempotency key {}", key);
+      return entry.await();
+    }
+
+    oldestFirst.add(created);
+    queued.incrementAndGet();
+    evict(now);
+    try {
+      var result = operation.get();
+      created.result.complete(result);
+      return result;
+    } catch (RuntimeException ex) {
+      entries.remove(key, created);
+      if (oldestFirst.remove(created)) {
+        queued.decrementAndGet();
+      }
+      created.result.completeExceptionally(ex);
+      throw ex;
+    }
+  }
+
+  /**
+   * Gets the number of keys currently cached.
+   *
+   * @return the number of keys, expired ones included until they are evicted
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /** Removes the oldest keys while they are expired or there are more keys than the capacity. */
+  private void evict(long now) {
+    for (var oldest = oldestFirst.peek(); oldest != null; oldest = oldestFirst.peek()) {
+      if (queued.get() <= capacity && !oldest.isExpired(now)) {
+        return;
+      }
+      if (oldestFirst.remove(oldest)) {
+        queued.decrementAndGet();
+        entries.remove(oldest.key, oldest);
+      }
+    }
+  }
+
+  /** First request made with a key, and its result once known. */
+  private static final class Entry {
+
+    private final String key;
+    private final String fingerprint;
+    private final long expiresAtNanos;
+    private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+    private Entry(String key, String fingerprint, long expiresAtNanos) {
+      this.key = key;
+      this.fingerprint = fingerprint;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+
+    private boolean isExpired(long now) {
+      return now - expiresAtNanos >= 0;
+    }
+
+    /** Waits for the result of the first request, rethrowing its exception if it failed. */
+    @SuppressWarnings("unchecked")
+    private <T> T await() {
+      try {
+        return (T) result.join();
+      } catch (CompletionException ex) {
+        if (ex.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw ex;
+      }
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.lms.library.model;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Represents a member's place in the waiting queue of a library item. A hold starts out waiting and
+ * ends either fulfilled, when the item is checked out to the member, or cancelled. The status and
+ * the fulfilling loan move together with compare-and-set, so a hold that is fulfilled and cancelled
+ * at the same time ends up in exactly one of the two states, with a loan only if it was fulfilled.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see HoldStatus
+ * @since 2025
+ */
+public class Hold {
+
+  private Long id;
+  private final Long memberId;
+  private final Long itemId;
+  private final Instant placedAt;
+  private final AtomicReference<State> state = new AtomicReference<>(State.WAITING);
+
+  /**
+   * Constructs a new waiting hold.
+   *
+   * @param memberId the ID of the member waiting for the item
+   * @param itemId the ID of the library item being waited for
+   * @param placedAt the instant at which the hold was placed
+   */
+  public Hold(Long memberId, Long itemId, Instant placedAt) {
+    this.memberId = memberId;
+    this.itemId = itemId;
+    this.placedAt = placedAt;
+  }
+
+  /**
+   * Gets the unique identifier of the hold.
+   *
+   * @return the hold ID
+   */
+  public Long getId() {
+    return id;
+  }
+
+  /**
+   * Sets the unique identifier of the hold.
+   *
+   * @param id the new ID to set
+   */
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  /**
+   * Gets the ID of the member waiting for the item.
+   *
+   * @return the member ID
+   */
+  public Long getMemberId() {
+    return memberId;
+  }
+
+  /**
+   * Gets the ID of the library item being waited for.
+   *
+   * @return the item ID
+   */
+  public Long getItemId() {
+    return itemId;
+  }
+
+  /**
+   * Gets the instant at which the hold was placed.
+   *
+   * @return the placement instant
+   */
+  public Instant getPlacedAt() {
+    return placedAt;
+  }
+
+  /**
+   * Gets the current status of the hold.
+   *
+   * @return the hold status
+   */
+  public HoldStatus getStatus() {
+    return state.get().status();
+  }
+
+  /**
+   * Gets the ID of the loan that fulfilled the hold.
+   *
+   * @return the loan ID, or null if the hold has not been fulfilled
+   */
+  public Long getLoanId() {
+    return state.get().loanId();
+  }
+
+  /**
+   * Checks if the member is still waiting for the item.
+   *
+   * @return true if the hold is waiting, false otherwise
+   */
+  public boolean isWaiting() {
+    return state.get() == State.WAITING;
+  }
+
+  /**
+   * Marks the hold as fulfilled by a loan, unless it is no longer waiting.
+   *
+   * @param loanId the ID of the loan in which the item was checked out to the member
+   * @return true if the hold was waiting and is now fulfilled, false otherwise
+   */
+  public boolean fulfil(Long loanId) {
+    return state.compareAndSet(State.WAITING, new State(HoldStatus.FULFILLED, loanId));
+  }
+
+  /**
+   * Cancels the hold, unless it is no longer waiting.
+   *
+   * @return true if the hold was waiting and is now cancelled, false otherwise
+   */
+  public boolean cancel() {
+    return state.compareAndSet(State.WAITING, State.CANCELLED);
+  }
+
+  /** Status of the hold and the loan that fulfilled it, if any. */
+  private record State(HoldStatus status, Long loanId) {
+
+    private static final State WAITING = new State(HoldStatus.WAITING, null);
+    private static final State CANCELLED = new State(HoldStatus.CANCELLED, null);
+  }
+}
@@ -0,0 +1,20 @@
+package com.lms.library.model;
+
+/**
+ * Represents the state of a hold placed by a member on a library item.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see Hold
+ * @since 2025
+ */
+public enum HoldStatus {
+  /** The member is waiting in the item's queue. */
+  WAITING,
+
+  /** The item was checked out to the member in a loan. */
+  FULFILLED,
+
+  /** The hold was withdrawn before the item became available to the member. */
+  CANCELLED,
+}
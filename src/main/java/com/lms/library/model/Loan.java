@@ -2,7 +2,11 @@ package com.lms.library.model;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents a loan transaction in the library system. Contains information about the member, loan
@@ -23,6 +27,8 @@ public class Loan {
   private LocalDate expectedReturnDate;
   private LoanStatus status = LoanStatus.OPEN;
   private final List<LoanItem> items = new ArrayList<>();
+  private final AtomicInteger outstandingItems = new AtomicInteger();
+  private long version;
 
   /**
    * Default constructor for Loan. Required for serialization and dependency injection frameworks.
@@ -88,12 +94,59 @@ public class Loan {
   }
 
   /**
-   * Gets the current status of the loan.
+   * Gets the items of the loan as an unmodifiable view. The list is not copied, so it reflects
+   * items added later; use {@link #addItem(LoanItem)} to modify it.
    *
-   * @return the loan status
+   * @return an unmodifiable view of the loan items
    */
   public List<LoanItem> getItems() {
-    return List.copyOf(items);
+    return Collections.unmodifiableList(items);
+  }
+
+  /**
+   * Gets the number of items in this loan that have not been returned yet. The count is maintained
+   * incrementally as items are added and returned.
+   *
+   * @return the number of outstanding items
+   */
+  public int getOutstandingItemCount() {
+    return outstandingItems.get();
+  }
+
+  /**
+   * Gets the date the loan was closed, i.e. the date its last outstanding item was returned.
+   *
+   * @return the closing date, or null if the loan is still open
+   */
+  public LocalDate getClosedDate() {
+    if (status != LoanStatus.CLOSED) {
+      return null;
+    }
+    return items.stream()
+        .map(LoanItem::getReturnedDate)
+        .filter(Objects::nonNull)
+        .max(Comparator.naturalOrder())
+        .orElse(loanDate);
+  }
+
+  /**
+   * Gets the optimistic-locking version of the loan. The version is incremented by the
+   * repository on every save.
+   *
+   * @return the loan version, or 0 if it has never been saved
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Sets the optimistic-locking version of the loan. Intended to be called by the repository
+   * only.
+   *
+   * @param version the new version to set
+   */
+  public void setVersion(long version) {
+    this.version = version;
   }
 
   /**
@@ -113,14 +166,24 @@ public class Loan {
   public void addItem(LoanItem item) {
     this.items.add(item);
     item.setLoan(this);
+    if (!item.isReturned()) {
+      outstandingItems.incrementAndGet();
+    }
   }
 
   /**
-   * Updates the loan status based on the return status of all items. If all items are returned,
+   * Updates the loan status based on the number of outstanding items. If all items are returned,
    * sets status to CLOSED; otherwise, sets to OPEN.
    */
   public void updateStatus() {
-    boolean allReturned = items.stream().allMatch(LoanItem::isReturned);
-    this.status = allReturned ? LoanStatus.CLOSED : LoanStatus.OPEN;
+    this.status = outstandingItems.get() == 0 ? LoanStatus.CLOSED : LoanStatus.OPEN;
+  }
+
+  /**
+   * Records that one of this loan's items has just been returned. Called by {@link
+   * LoanItem#markReturned()} exactly once per item.
+   */
+  void itemReturned() {
+    outstandingItems.decrementAndGet();
   }
 }
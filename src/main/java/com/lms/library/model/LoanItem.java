@@ -18,6 +18,8 @@ public class LoanItem {
   private Loan loan;
   private LibraryItem item;
   private LocalDate returnedDate;
+  private long version;
+  private boolean attached;
 
   /**
    * Default constructor for LoanItem. Required for serialization and dependency injection
@@ -37,6 +39,20 @@ public class LoanItem {
     this.returnedDate = null;
   }
 
+  /**
+   * Constructs a LoanItem restored from storage with its original return date. Does not change the
+   * availability of the library item.
+   *
+   * @param loan the loan that contains this item
+   * @param item the library item that was borrowed
+   * @param returnedDate the date the item was returned, or null if it is still on loan
+   */
+  public LoanItem(Loan loan, LibraryItem item, LocalDate returnedDate) {
+    this.loan = loan;
+    this.item = item;
+    this.returnedDate = returnedDate;
+  }
+
   /**
    * Gets the unique identifier of the loan item.
    *
@@ -73,6 +89,26 @@ public class LoanItem {
     return returnedDate;
   }
 
+  /**
+   * Gets the optimistic-locking version of the loan item. The version is incremented by the
+   * repository on every save.
+   *
+   * @return the loan item version, or 0 if it has never been saved
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Sets the optimistic-locking version of the loan item. Intended to be called by the repository
+   * only.
+   *
+   * @param version the new version to set
+   */
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
   /**
    * Sets the unique identifier of the loan item.
    *
@@ -93,19 +129,26 @@ public class LoanItem {
 
   /**
    * Marks this item as returned and updates the library item availability. Sets the returned date
-   * to current date and marks the library item as available.
+   * to current date and marks the library item as available. The first return of an item that
+   * belongs to a loan also decrements the loan's outstanding-item count.
    */
-  public void markReturned() {
+  public synchronized void markReturned() {
+    var wasReturned = isReturned();
     this.returnedDate = LocalDate.now();
     this.item.setAvailable(true);
+    if (!wasReturned && attached) {
+      loan.itemReturned();
+    }
   }
 
   /**
-   * Sets the loan for this item (package-private for bidirectional relationship management).
+   * Sets the loan for this item (package-private for bidirectional relationship management). Once
+   * set, returning this item is reflected in the loan's outstanding-item count.
    *
    * @param loan the loan to associate with this item
    */
-  protected void setLoan(Loan loan) {
+  protected synchronized void setLoan(Loan loan) {
     this.loan = loan;
+    this.attached = true;
   }
 }
@@ -0,0 +1,258 @@
+package com.lms.library.policy;
+
+import com.lms.library.exception.BorrowingBlockedException;
+import com.lms.library.model.Loan;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Running borrowing counters of every member: items on loan, overdue items and accrued fines. They
+ * are updated on checkout and return and by a daily {@link #tick(LocalDate) tick}, so the loan
+ * policy is enforced in constant time instead of by scanning the member's loans:
+ *
+ * <ul>
+ *   <li>a member may have at most {@code library.loans.max-open-items} items on loan;
+ *   <li>a member with an overdue item may not borrow until it is returned.
+ * </ul>
+ *
+ * <p>The tick marks the loans that fell due the day before as overdue, finding their members
+ * through an index of the members with loans due on each day, and then charges every overdue item
+ * the daily fine. Only the members with loans falling due or with overdue items are visited.
+ *
+ * <p>Each member's counters are guarded by their own lock. The counters cover the loans checked out
+ * through this node since it started; in clustered mode that is every loan of the members it owns.
+ * A saved loan is visible to returns before it is {@linkplain #loanOpened(Loan) recorded}, so while
+ * a member has a checkout in flight the returns of loans not yet recorded are kept and settled when
+ * the loan is recorded.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see MemberStanding
+ * @since 2025
+ */
+@Component
+public class MemberLedger {
+
+  private final int maxOpenItems;
+  private final long dailyFineCents;
+  private final Map<Long, Account> accounts = new ConcurrentHashMap<>();
+  private final NavigableMap<LocalDate, Set<Long>> membersByDueDate =
+      new ConcurrentSkipListMap<>();
+  private final Set<Long> membersWithOverdueItems = ConcurrentHashMap.newKeySet();
+  private LocalDate lastTick;
+
+  /**
+   * Constructs a new MemberLedger.
+   *
+   * @param maxOpenItems the maximum number of items a member may have on loan
+   * @param dailyFineCents the fine charged per overdue item and day, in cents
+   * @throws IllegalArgumentException if maxOpenItems is not positive or dailyFineCents is negative
+   */
+  public MemberLedger(
+      @Value("${library.loans.max-open-items:10}") int maxOpenItems,
+      @Value("${library.loans.daily-fine-cents:25}") long dailyFineCents) {
+    if (maxOpenItems <= 0) {
+      throw new IllegalArgumentException("Maximum open items must be positive");
+    }
+    if (dailyFineCents < 0) {
+      throw new IllegalArgumentException("Daily fine must not be negative");
+    }
+    this.maxOpenItems = maxOpenItems;
+    this.dailyFineCents = dailyFineCents;
+    this.lastTick = LocalDate.now();
+  }
+
+  /**
+   * Reserves room for items a member is about to check out. Must be followed by {@link
+   * #loanOpened(Loan)} once the loan is saved, or by {@link #release(Long, int)} if it is not.
+   *
+   * @param memberId the ID of the member
+   * @param items the number of items to check out
+   * @throws BorrowingBlockedException if the member has overdue items or would exceed the limit
+   */
+  public void reserve(Long memberId, int items) {
+    accounts.computeIfAbsent(memberId, id -> new Account()).reserve(memberId, items, maxOpenItems);
+  }
+
+  /**
+   * Releases items reserved for a checkout that failed.
+   *
+   * @param memberId the ID of the member
+   * @param items the number of items reserved
+   */
+  public void release(Long memberId, int items) {
+    accounts.get(memberId).release(items);
+  }
+
+  /**
+   * Records a saved loan, whose items were reserved beforehand, so that it is checked for being
+   * overdue once its expected return date has passed. Items returned since the loan was saved are
+   * no longer counted as on loan.
+   *
+   * @param loan the saved loan
+   */
+  public void loanOpened(Loan loan) {
+    var memberId = loan.getMember().getId();
+    accounts.get(memberId).open(loan);
+    membersByDueDate
+        .computeIfAbsent(loan.getExpectedReturnDate(), date -> ConcurrentHashMap.newKeySet())
+        .add(memberId);
+  }
+
+  /**
+   * Records the return of one item of a loan. The return of a loan saved but not yet recorded is
+   * settled when the loan is recorded.
+   *
+   * @param loan the loan the item belongs to
+   */
+  public void itemReturned(Loan loan) {
+    var account = accounts.get(loan.getMember().getId());
+    if (account != null) {
+      account.returned(loan.getId());
+    }
+  }
+
+  /**
+   * Advances the ledger to a day: for each day since the last tick, marks the loans due before it
+   * as overdue and charges each overdue item the daily fine. Ticking twice on the same day has no
+   * effect.
+   *
+   * @param today the current day
+   */
+  public synchronized void tick(LocalDate today) {
+    for (var day = lastTick.plusDays(1); !day.isAfter(today); day = day.plusDays(1)) {
+      var due = membersByDueDate.headMap(day);
+      for (var members : due.values()) {
+        for (var memberId : members) {
+          if (accounts.get(memberId).markOverdue(day)) {
+            membersWithOverdueItems.add(memberId);
+          }
+        }
+      }
+      due.clear();
+      membersWithOverdueItems.removeIf(memberId -> !accounts.get(memberId).charge(dailyFineCents));
+      lastTick = day;
+    }
+  }
+
+  /**
+   * Gets the counters of a member.
+   *
+   * @param memberId the ID of the member
+   * @return the member's counters, all zero if the member never borrowed
+   */
+  public MemberStanding standingOf(Long memberId) {
+    var account = accounts.get(memberId);
+    return account == null
+        ? new MemberStanding(memberId, 0, maxOpenItems, 0, 0)
+        : account.standing(memberId, maxOpenItems);
+  }
+
+  /** Counters of one member, and the due date and outstanding items of each of its open loans. */
+  private static final class Account {
+
+    private final Map<Long, OpenLoan> openLoans = new HashMap<>();
+    private final Map<Long, Integer> earlyReturns = new HashMap<>();
+    private int openItems;
+    private int reservedItems;
+    private int overdueItems;
+    private long accruedFineCents;
+
+    private synchronized void reserve(Long memberId, int items, int maxOpenItems) {
+      if (overdueItems > 0) {
+        throw new BorrowingBlockedException(
+            "Member %s has %d overdue items".formatted(memberId, overdueItems));
+      }
+      if (openItems + items > maxOpenItems) {
+        throw new BorrowingBlockedException(
+            "Member %s has %d items on loan and may not exceed %d"
+                .formatted(memberId, openItems, maxOpenItems));
+      }
+      openItems += items;
+      reservedItems += items;
+    }
+
+    private synchronized void release(int items) {
+      openItems -= items;
+      settled(items);
+    }
+
+    private synchronized void open(Loan loan) {
+      var items = loan.getItems().size();
+      var returned = earlyReturns.getOrDefault(loan.getId(), 0);
+      openItems -= returned;
+      if (returned < items) {
+        openLoans.put(loan.getId(), new OpenLoan(loan.getExpectedReturnDate(), items - returned));
+      }
+      settled(items);
+    }
+
+    private synchronized void returned(Long loanId) {
+      var loan = openLoans.get(loanId);
+      if (loan == null) {
+        // Possibly a loan saved by a checkout in flight; otherwise not counted by this node
+        if (reservedItems > 0) {
+          earlyReturns.merge(loanId, 1, Integer::sum);
+        }
+        return;
+      }
+      openItems--;
+      if (loan.overdue) {
+        overdueItems--;
+      }
+      if (--loan.outstandingItems == 0) {
+        openLoans.remove(loanId);
+      }
+    }
+
+    /** Ends a reservation; with no checkout in flight, no early return can still be settled. */
+    private void settled(int items) {
+      reservedItems -= items;
+      if (reservedItems == 0) {
+        earlyReturns.clear();
+      }
+    }
+
+    /** Marks the loans due before a day as overdue, returning whether any item is overdue. */
+    private synchronized boolean markOverdue(LocalDate day) {
+      for (var loan : openLoans.values()) {
+        if (!loan.overdue && loan.dueDate.isBefore(day)) {
+          loan.overdue = true;
+          overdueItems += loan.outstandingItems;
+        }
+      }
+      return overdueItems > 0;
+    }
+
+    /** Charges each overdue item the daily fine, returning whether any item is overdue. */
+    private synchronized boolean charge(long dailyFineCents) {
+      accruedFineCents += overdueItems * dailyFineCents;
+      return overdueItems > 0;
+    }
+
+    private synchronized MemberStanding standing(Long memberId, int maxOpenItems) {
+      return new MemberStanding(
+          memberId, openItems, maxOpenItems, overdueItems, accruedFineCents);
+    }
+  }
+
+  /** Due date and outstanding items of an open loan. */
+  private static final class OpenLoan {
+
+    private final LocalDate dueDate;
+    private int outstandingItems;
+    private boolean overdue;
+
+    private OpenLoan(LocalDate dueDate, int outstandingItems) {
+      this.dueDate = dueDate;
+      this.outstandingItems = outstandingItems;
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.lms.library.policy;
+
+/**
+ * Borrowing counters of a member at one instant.
+ *
+ * @param memberId the ID of the member
+ * @param openItems the number of items the member has on loan
+ * @param maxOpenItems the maximum number of items a member may have on loan
+ * @param overdueItems the number of items on loan past their expected return date
+ * @param accruedFineCents the fines accrued by overdue items, in cents
+ * @author Joel Silva
+ * @version 1.0
+ * @see MemberLedger
+ * @since 2025
+ */
+public record MemberStanding(
+    Long memberId, int openItems, int maxOpenItems, int overdueItems, long accruedFineCents) {
+
+  /**
+   * Checks whether the member may check out at least one more item.
+   *
+   * @return true if the member has no overdue items and is below the limit of open items
+   */
+  public boolean canBorrow() {
+    return overdueItems == 0 && openItems < maxOpenItems;
+  }
+}
@@ -0,0 +1,42 @@
+package com.lms.library.replication;
+
+import com.lms.library.analytics.DistinctBorrowers;
+
+/**
+ * Sketch of the distinct members who borrowed a library item or an item of a genre, shipped in
+ * snapshots. Replicas merge it into their own sketch, so they also count the borrowers of loans
+ * that were archived on the primary before the replica started. Exactly one of id and genre is
+ * set.
+ *
+ * @param id the ID of the library item, or null for a genre sketch
+ * @param genre the genre, or null for an item sketch
+ * @param sketch the serialized HyperLogLog sketch
+ * @author Joel Silva
+ * @version 1.0
+ * @see DistinctBorrowers
+ * @since 2025
+ */
+public record BorrowersChanged(Long id, String genre, byte[] sketch) implements ChangeRecord {
+
+  /**
+   * Captures the borrowers of a library item.
+   *
+   * @param itemId the ID of the library item
+   * @param sketch the serialized sketch of its borrowers
+   * @return the change recording the item's borrowers
+   */
+  public static BorrowersChanged ofItem(Long itemId, byte[] sketch) {
+    return new BorrowersChanged(itemId, null, sketch);
+  }
+
+  /**
+   * Captures the borrowers of a genre.
+   *
+   * @param genre the genre
+   * @param sketch the serialized sketch of its borrowers
+   * @return the change recording the genre's borrowers
+   */
+  public static BorrowersChanged ofGenre(String genre, byte[] sketch) {
+    return new BorrowersChanged(null, genre, sketch);
+  }
+}
@@ -0,0 +1,138 @@
+package com.lms.library.replication;
+
+import com.lms.library.analytics.DistinctBorrowers;
+import com.lms.library.exception.EmailAlreadyInUseException;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.repository.LoanItemRepository;
+import com.lms.library.repository.LoanRepository;
+import com.lms.library.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies changes captured on the primary to the local repositories of a read replica. Changes
+ * carry complete entity state and loans are only replaced by the same or a newer version, so
+ * applying a change again, or a snapshot over newer changes, is harmless.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ReplicaSynchronizer
+ * @since 2025
+ */
+@Component
+public class ChangeApplier {
+
+  private static final Logger log = LoggerFactory.getLogger(ChangeApplier.class);
+
+  private final MemberRepository memberRepository;
+  private final LibraryItemRepository libraryItemRepository;
+  private final LoanRepository loanRepository;
+  private final LoanItemRepository loanItemRepository;
+  private final DistinctBorrowers distinctBorrowers;
+
+  /**
+   * Constructs a new ChangeApplier.
+   *
+   * @param memberRepository repository for member operations
+   * @param libraryItemRepository repository for library item operations
+   * @param loanRepository repository for loan operations
+   * @param loanItemRepository repository for loan item operations
+   * @param distinctBorrowers sketches of the borrowers of items and genres, fed with replicated
+   *     loans and merged with the sketches shipped in snapshots
+   */
+  public ChangeApplier(
+      MemberRepository memberRepository,
+      LibraryItemRepository libraryItemRepository,
+      LoanRepository loanRepository,
+      LoanItemRepository loanItemRepository,
+      DistinctBorrowers distinctBorrowers) {
+    this.memberRepository = memberRepository;
+    this.libraryItemRepository = libraryItemRepository;
+    this.loanRepository = loanRepository;
+    this.loanItemRepository = loanItemRepository;
+    this.distinctBorrowers = distinctBorrowers;
+  }
+
+  /**
+   * Applies a change to the local repositories.
+   *
+   * @param change the change captured on the primary
+   */
+  public void apply(ChangeRecord change) {
+    switch (change) {
+      case MemberChanged member -> applyMember(member);
+      case ItemChanged item -> applyItem(item);
+      case LoanChanged loan -> applyLoan(loan);
+      case BorrowersChanged borrowers -> applyBorrowers(borrowers);
+    }
+  }
+
+  private void applyMember(MemberChanged change) {
+    try {
+      memberRepository.save(change.toMember());
+    } catch (EmailAlreadyInUseException ex) {
+      // Another member still holds the email locally; a later change will release it
+      log.warn("Skipped replicated member {}: {}", change.id(), ex.getMessage());
+    }
+  }
+
+  private void applyItem(ItemChanged change) {
+    // Keep the existing instance so loans referencing it see the new availability
+    libraryItemRepository
+        .findById(change.id())
+        .ifPresentOrElse(
+            item -> item.setAvailable(change.available()),
+            () -> libraryItemRepository.save(change.toLibraryItem()));
+  }
+
+  private void applyLoan(LoanChanged change) {
+    var member = memberRepository.findById(change.memberId());
+    if (member.isEmpty()) {
+      log.warn("Skipped replicated loan {}: unknown member {}", change.id(), change.memberId());
+      return;
+    }
+
+    var loan = new Loan(member.get(), change.loanDate(), change.expectedReturnDate());
+    loan.setId(change.id());
+    loan.setVersion(change.version());
+    for (var changedItem : change.items()) {
+      var item = libraryItemRepository.findById(changedItem.itemId());
+      if (item.isEmpty()) {
+        log.warn("Skipped replicated loan {}: unknown item {}", change.id(), changedItem.itemId());
+        return;
+      }
+      var loanItem = new LoanItem(loan, item.get(), changedItem.returnedDate());
+      loanItem.setId(changedItem.id());
+      loanItem.setVersion(changedItem.version());
+      loan.addItem(loanItem);
+    }
+    loan.updateStatus();
+
+    if (loanRepository.replicate(loan)) {
+      loan.getItems().stream()
+          .filter(loanItem -> loanItem.getId() != null)
+          .forEach(loanItemRepository::replicate);
+      distinctBorrowers.recordLoan(loan);
+    }
+  }
+
+  private void applyBorrowers(BorrowersChanged change) {
+    try {
+      if (change.id() != null) {
+        distinctBorrowers.mergeItem(change.id(), change.sketch());
+      } else {
+        distinctBorrowers.mergeGenre(change.genre(), change.sketch());
+      }
+    } catch (IllegalArgumentException ex) {
+      // The primary uses another precision; the replica keeps counting replicated loans only
+      log.warn("Skipped replicated borrowers of {}: {}", borrowersKey(change), ex.getMessage());
+    }
+  }
+
+  private static String borrowersKey(BorrowersChanged change) {
+    return change.id() != null ? "item " + change.id() : "genre " + change.genre();
+  }
+}
@@ -0,0 +1,12 @@
+package com.lms.library.replication;
+
+/**
+ * Change captured at a position of the change log.
+ *
+ * @param sequence the position of the change in the log, starting at 1
+ * @param change the captured change
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public record ChangeEntry(long sequence, ChangeRecord change) {}
@@ -0,0 +1,146 @@
+package com.lms.library.replication;
+
+import com.lms.library.exception.ChangeLogTruncatedException;
+import com.lms.library.model.LibraryItem;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import com.lms.library.model.Member;
+import com.lms.library.repository.ChangeCapture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-memory log of the changes saved through the repositories. Each change is assigned the
+ * next sequence number, and readers such as read replicas fetch the changes after the last
+ * sequence they applied. Once the log holds more than its capacity, the oldest changes are dropped
+ * and readers that fall behind them must start over from a snapshot.
+ *
+ * <p>The log is only kept on a replication primary, {@code library.replication.role=primary};
+ * elsewhere the repositories do not capture changes. Appends take no lock: concurrent saves may
+ * add their changes out of order, so readers only get the changes up to the first sequence number
+ * still being added.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ChangeCapture
+ * @since 2025
+ */
+@Component
+@ConditionalOnProperty(prefix = "library.replication", name = "role", havingValue = "primary")
+public class ChangeLog implements ChangeCapture {
+
+  private final int capacity;
+  private final NavigableMap<Long, ChangeEntry> entries = new ConcurrentSkipListMap<>();
+  private final AtomicLong lastSequence = new AtomicLong();
+  private final AtomicLong truncatedThrough = new AtomicLong();
+
+  /**
+   * Constructs a new ChangeLog.
+   *
+   * @param capacity the maximum number of changes kept
+   * @throws IllegalArgumentException if capacity is not positive
+   */
+  public ChangeLog(@Value("${library.replication.log-capacity:100000}") int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Change log capacity must be positive");
+    }
+    this.capacity = capacity;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void memberSaved(Member member) {
+    append(MemberChanged.of(member));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void itemSaved(LibraryItem item) {
+    append(ItemChanged.of(item));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void loanSaved(Loan loan) {
+    append(LoanChanged.of(loan));
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Loan items are not replicated on their own: the change records the availability of the
+   * library item, which checkouts and returns flip. The new state of the loan is captured once by
+   * the save of the loan that follows.
+   */
+  @Override
+  public void loanItemSaved(LoanItem loanItem) {
+    append(ItemChanged.of(loanItem.getItem()));
+  }
+
+  /**
+   * Appends a change to the log, dropping the oldest changes beyond the capacity.
+   *
+   * @param change the change to append
+   * @return the appended entry with its sequence number
+   */
+  public ChangeEntry append(ChangeRecord change) {
+    var entry = new ChangeEntry(lastSequence.incrementAndGet(), change);
+    entries.put(entry.sequence(), entry);
+
+    var floor = entry.sequence() - capacity;
+    if (floor > 0) {
+      truncatedThrough.accumulateAndGet(floor, Math::max);
+      entries.headMap(floor, true).clear();
+    }
+    return entry;
+  }
+
+  /**
+   * Reads the changes following a sequence number, oldest first. The changes stop before the
+   * first sequence number still being added, so a reader never skips a change.
+   *
+   * @param after the sequence number of the last change the reader has seen, or 0 for none
+   * @param limit the maximum number of changes to return
+   * @return the changes after the given sequence number
+   * @throws ChangeLogTruncatedException if changes following the sequence number were dropped
+   */
+  public List<ChangeEntry> readAfter(long after, int limit) {
+    checkRetained(after);
+    var changes = new ArrayList<ChangeEntry>();
+    var next = after + 1;
+    for (var entry : entries.tailMap(after, false).values()) {
+      if (changes.size() == limit || entry.sequence() != next++) {
+        break;
+      }
+      changes.add(entry);
+    }
+    // Changes may have been dropped while they were being read
+    checkRetained(after);
+    return changes;
+  }
+
+  /**
+   * Gets the sequence number of the last change appended or being appended. The saves of all the
+   * changes up to it have completed.
+   *
+   * @return the last sequence number, or 0 if nothing was appended yet
+   */
+  public long getLastSequence() {
+    return lastSequence.get();
+  }
+
+  private void checkRetained(long after) {
+    var truncated = truncatedThrough.get();
+    if (after < truncated) {
+      throw new ChangeLogTruncatedException(
+          "Changes after %d are no longer retained (oldest retained is %d)"
+              .formatted(after, truncated + 1));
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.lms.library.replication;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Base type of all changes captured from the repositories and shipped to read replicas. Every
+ * change carries the complete state of the changed entity, so applying a change twice or applying
+ * a newer snapshot over it gives the same result.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ChangeLog
+ * @since 2025
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+  @JsonSubTypes.Type(MemberChanged.class),
+  @JsonSubTypes.Type(ItemChanged.class),
+  @JsonSubTypes.Type(LoanChanged.class),
+  @JsonSubTypes.Type(BorrowersChanged.class)
+})
+public sealed interface ChangeRecord
+    permits MemberChanged, ItemChanged, LoanChanged, BorrowersChanged {
+
+  /**
+   * Gets the ID of the changed entity.
+   *
+   * @return the entity ID, null for the borrowers of a genre
+   */
+  Long id();
+}
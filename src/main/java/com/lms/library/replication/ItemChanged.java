@@ -0,0 +1,101 @@
+package com.lms.library.replication;
+
+import com.lms.library.model.Book;
+import com.lms.library.model.Journal;
+import com.lms.library.model.LibraryItem;
+import java.time.LocalDate;
+
+/**
+ * Change recording the state of a library item, captured when the item is saved and whenever a
+ * loan item save changes its availability. Book-specific and journal-specific fields are null for
+ * the other type.
+ *
+ * @param id the ID of the item
+ * @param itemType the type of item (BOOK or JOURNAL)
+ * @param title the title of the item
+ * @param author the author of the item
+ * @param publicationDate the publication date of the item
+ * @param isbn the ISBN of a book
+ * @param genre the genre of a book
+ * @param pageCount the number of pages of a book
+ * @param issn the ISSN of a journal
+ * @param publisher the publisher of a journal
+ * @param volume the volume number of a journal
+ * @param issue the issue number of a journal
+ * @param available whether the item is available for loan
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public record ItemChanged(
+    Long id,
+    String itemType,
+    String title,
+    String author,
+    LocalDate publicationDate,
+    String isbn,
+    String genre,
+    Integer pageCount,
+    String issn,
+    String publisher,
+    Integer volume,
+    Integer issue,
+    boolean available)
+    implements ChangeRecord {
+
+  /**
+   * Captures the current state of a library item.
+   *
+   * @param item the library item
+   * @return the change recording the item's state
+   */
+  public static ItemChanged of(LibraryItem item) {
+    return switch (item) {
+      case Book book ->
+          new ItemChanged(
+              book.getId(),
+              book.getType(),
+              book.getTitle(),
+              book.getAuthor(),
+              book.getPublicationDate(),
+              book.getIsbn(),
+              book.getGenre(),
+              book.getPageCount(),
+              null,
+              null,
+              null,
+              null,
+              book.isAvailable());
+      case Journal journal ->
+          new ItemChanged(
+              journal.getId(),
+              journal.getType(),
+              journal.getTitle(),
+              journal.getAuthor(),
+              journal.getPublicationDate(),
+              null,
+              null,
+              null,
+              journal.getIssn(),
+              journal.getPublisher(),
+              journal.getVolume(),
+              journal.getIssue(),
+              journal.isAvailable());
+    };
+  }
+
+  /**
+   * Rebuilds the library item from the recorded state.
+   *
+   * @return a new book or journal with the recorded ID and availability
+   */
+  public LibraryItem toLibraryItem() {
+    LibraryItem item =
+        "JOURNAL".equals(itemType)
+            ? new Journal(title, author, publicationDate, issn, publisher, volume, issue)
+            : new Book(title, author, publicationDate, isbn, genre, pageCount);
+    item.setId(id);
+    item.setAvailable(available);
+    return item;
+  }
+}
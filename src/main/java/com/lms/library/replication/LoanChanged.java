@@ -0,0 +1,65 @@
+package com.lms.library.replication;
+
+import com.lms.library.model.Loan;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Change recording the state of a loan together with its items, captured when the loan or one of
+ * its items is saved.
+ *
+ * @param id the ID of the loan
+ * @param memberId the ID of the member who borrowed the items
+ * @param loanDate the date the loan was created
+ * @param expectedReturnDate the date by which the items are due
+ * @param version the version of the loan
+ * @param items the items of the loan
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public record LoanChanged(
+    Long id,
+    Long memberId,
+    LocalDate loanDate,
+    LocalDate expectedReturnDate,
+    long version,
+    List<Item> items)
+    implements ChangeRecord {
+
+  /**
+   * Captures the current state of a loan.
+   *
+   * @param loan the loan
+   * @return the change recording the loan's state
+   */
+  public static LoanChanged of(Loan loan) {
+    var items =
+        loan.getItems().stream()
+            .map(
+                loanItem ->
+                    new Item(
+                        loanItem.getId(),
+                        loanItem.getItem().getId(),
+                        loanItem.getReturnedDate(),
+                        loanItem.getVersion()))
+            .toList();
+    return new LoanChanged(
+        loan.getId(),
+        loan.getMember().getId(),
+        loan.getLoanDate(),
+        loan.getExpectedReturnDate(),
+        loan.getVersion(),
+        items);
+  }
+
+  /**
+   * State of one item of a loan.
+   *
+   * @param id the ID of the loan item, null until the loan item has been saved
+   * @param itemId the ID of the library item
+   * @param returnedDate the date the item was returned, or null if it is still on loan
+   * @param version the version of the loan item
+   */
+  public record Item(Long id, Long itemId, LocalDate returnedDate, long version) {}
+}
@@ -0,0 +1,40 @@
+package com.lms.library.replication;
+
+import com.lms.library.model.Member;
+
+/**
+ * Change recording the state of a saved member.
+ *
+ * @param id the ID of the member
+ * @param firstName the first name of the member
+ * @param lastName the last name of the member
+ * @param email the email address of the member
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public record MemberChanged(Long id, String firstName, String lastName, String email)
+    implements ChangeRecord {
+
+  /**
+   * Captures the current state of a member.
+   *
+   * @param member the member
+   * @return the change recording the member's state
+   */
+  public static MemberChanged of(Member member) {
+    return new MemberChanged(
+        member.getId(), member.getFirstName(), member.getLastName(), member.getEmail());
+  }
+
+  /**
+   * Rebuilds the member from the recorded state.
+   *
+   * @return a new member with the recorded ID
+   */
+  public Member toMember() {
+    var member = new Member(firstName, lastName, email);
+    member.setId(id);
+    return member;
+  }
+}
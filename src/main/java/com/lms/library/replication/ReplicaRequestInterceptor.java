@@ -0,0 +1,61 @@
+package com.lms.library.replication;
+
+import com.lms.library.exception.ReplicaUnavailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Guards the API of a read replica. Requests that would modify data are rejected, and reads are
+ * rejected while the replica is further behind the primary than allowed. Served reads carry the
+ * replica's staleness in the {@value #STALENESS_HEADER} header.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ReplicaSynchronizer
+ * @since 2025
+ */
+public class ReplicaRequestInterceptor implements HandlerInterceptor {
+
+  /** Response header carrying how far behind the primary the replica was when serving a read. */
+  public static final String STALENESS_HEADER = "X-Replica-Staleness-Ms";
+
+  private final ReplicaSynchronizer replicaSynchronizer;
+
+  /**
+   * Constructs a new ReplicaRequestInterceptor.
+   *
+   * @param replicaSynchronizer the synchronizer tracking the replica's staleness
+   */
+  public ReplicaRequestInterceptor(ReplicaSynchronizer replicaSynchronizer) {
+    this.replicaSynchronizer = replicaSynchronizer;
+  }
+
+  /**
+   * Rejects writes and reads from a stale replica.
+   *
+   * @param request the current request
+   * @param response the current response
+   * @param handler the handler chosen for the request
+   * @return true to continue handling the request
+   * @throws ReplicaUnavailableException if the replica cannot serve the request
+   */
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    var method = request.getMethod();
+    if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+      throw new ReplicaUnavailableException(
+          "This instance is a read-only replica; send %s requests to the primary"
+              .formatted(method));
+    }
+    if (replicaSynchronizer.isStale()) {
+      throw new ReplicaUnavailableException(
+          "Replica is not in sync with the primary (last caught up %s ms ago)"
+              .formatted(replicaSynchronizer.getStalenessMillis()));
+    }
+    response.setHeader(STALENESS_HEADER, Long.toString(replicaSynchronizer.getStalenessMillis()));
+    return true;
+  }
+}
@@ -0,0 +1,180 @@
+package com.lms.library.replication;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.lms.library.exception.ChangeLogTruncatedException;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the repositories of a read replica in sync with the primary. On start, and whenever the
+ * replica has fallen behind the primary's change log, it loads a full snapshot; afterwards it
+ * polls the primary for the changes after the last one it applied.
+ *
+ * <p>The replica's staleness is the time since it last caught up with the primary. Once it exceeds
+ * {@code library.replication.max-staleness-ms}, the replica stops serving reads.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ReplicationSource
+ * @see ChangeApplier
+ * @since 2025
+ */
+@Component
+@ConditionalOnProperty(prefix = "library.replication", name = "role", havingValue = "replica")
+public class ReplicaSynchronizer {
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicaSynchronizer.class);
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final ChangeApplier changeApplier;
+  private final ObjectReader entryReader;
+  private final URI primaryUrl;
+  private final int batchSize;
+  private final long maxStalenessMillis;
+  private final HttpClient httpClient =
+      HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+  private volatile long appliedSequence = -1;
+  private volatile long lastSyncNanos;
+  private volatile boolean synced;
+
+  /**
+   * Constructs a new ReplicaSynchronizer.
+   *
+   * @param changeApplier applies the primary's changes to the local repositories
+   * @param objectMapper the mapper used to read the primary's NDJSON streams
+   * @param primaryUrl the base URL of the primary, for example {@code http://localhost:8080}
+   * @param batchSize the maximum number of changes fetched per request
+   * @param maxStalenessMillis how far behind the primary the replica may be and still serve reads
+   */
+  public ReplicaSynchronizer(
+      ChangeApplier changeApplier,
+      ObjectMapper objectMapper,
+      @Value("${library.replication.primary-url}") URI primaryUrl,
+      @Value("${library.replication.batch-size:1000}") int batchSize,
+      @Value("${library.replication.max-staleness-ms:5000}") long maxStalenessMillis) {
+    this.changeApplier = changeApplier;
+    this.entryReader = objectMapper.readerFor(ChangeEntry.class);
+    this.primaryUrl = primaryUrl;
+    this.batchSize = batchSize;
+    this.maxStalenessMillis = maxStalenessMillis;
+  }
+
+  /** Pulls and applies the primary's changes until the replica has caught up. */
+  @Scheduled(fixedDelayString = "${library.replication.poll-interval-ms:500}")
+  public void synchronize() {
+    try {
+      if (appliedSequence < 0) {
+        loadSnapshot();
+      }
+      while (pullChanges() == batchSize) {
+        log.debug("Replica catching up, applied change {}", appliedSequence);
+      }
+      lastSyncNanos = System.nanoTime();
+      synced = true;
+    } catch (ChangeLogTruncatedException ex) {
+      log.warn("Replica fell behind the primary's change log, reloading snapshot");
+      appliedSequence = -1;
+    } catch (IOException ex) {
+      log.warn("Cannot synchronise with primary {}: {}", primaryUrl, ex.getMessage());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Gets how long ago the replica last caught up with the primary.
+   *
+   * @return the staleness in milliseconds, or {@link Long#MAX_VALUE} if it never caught up
+   */
+  public long getStalenessMillis() {
+    return synced
+        ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastSyncNanos)
+        : Long.MAX_VALUE;
+  }
+
+  /**
+   * Checks whether the replica is too far behind the primary to serve reads.
+   *
+   * @return true if the staleness exceeds the configured maximum
+   */
+  public boolean isStale() {
+    return getStalenessMillis() > maxStalenessMillis;
+  }
+
+  /**
+   * Gets the sequence number of the last primary change applied to this replica.
+   *
+   * @return the applied sequence number, or -1 before the first snapshot was loaded
+   */
+  public long getAppliedSequence() {
+    return appliedSequence;
+  }
+
+  private void loadSnapshot() throws IOException, InterruptedException {
+    var response = send("/v1/replication/snapshot");
+    var sequence =
+        response
+            .headers()
+            .firstValueAsLong(ReplicationSource.SEQUENCE_HEADER)
+            .orElseThrow(
+                () -> new IOException("Snapshot has no " + ReplicationSource.SEQUENCE_HEADER));
+    // The sequence only advances once the whole snapshot was applied
+    var applied = apply(response.body(), false);
+    appliedSequence = sequence;
+    log.info("Loaded snapshot of {} entities up to change {}", applied, sequence);
+  }
+
+  private int pullChanges() throws IOException, InterruptedException {
+    var response =
+        send("/v1/replication/changes?after=%d&limit=%d".formatted(appliedSequence, batchSize));
+    return apply(response.body(), true);
+  }
+
+  private int apply(Stream<String> lines, boolean advance) throws IOException {
+    var applied = 0;
+    try (lines) {
+      for (var iterator = lines.iterator(); iterator.hasNext(); ) {
+        var line = iterator.next();
+        if (line.isBlank()) {
+          continue;
+        }
+        ChangeEntry entry = entryReader.readValue(line);
+        changeApplier.apply(entry.change());
+        if (advance) {
+          appliedSequence = entry.sequence();
+        }
+        applied++;
+      }
+    }
+    return applied;
+  }
+
+  private HttpResponse<Stream<String>> send(String path) throws IOException, InterruptedException {
+    var request =
+        HttpRequest.newBuilder(primaryUrl.resolve(path)).timeout(REQUEST_TIMEOUT).GET().build();
+    var response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+    if (response.statusCode() == 410) {
+      response.body().close();
+      throw new ChangeLogTruncatedException("Primary no longer retains change " + appliedSequence);
+    }
+    if (response.statusCode() != 200) {
+      response.body().close();
+      throw new IOException("Primary answered %d for %s".formatted(response.statusCode(), path));
+    }
+    return response;
+  }
+}
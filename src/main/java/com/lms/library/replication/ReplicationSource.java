@@ -0,0 +1,136 @@
+package com.lms.library.replication;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.lms.library.analytics.DistinctBorrowers;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.repository.LoanRepository;
+import com.lms.library.repository.MemberRepository;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serves the captured changes and full snapshots of the local repositories to read replicas. Only
+ * present on a replication primary.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ChangeLog
+ * @see ReplicaSynchronizer
+ * @since 2025
+ */
+@Component
+@ConditionalOnProperty(prefix = "library.replication", name = "role", havingValue = "primary")
+public class ReplicationSource {
+
+  /** Response header carrying the sequence number a snapshot was taken at. */
+  public static final String SEQUENCE_HEADER = "X-Change-Sequence";
+
+  private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+  private final ChangeLog changeLog;
+  private final MemberRepository memberRepository;
+  private final LibraryItemRepository libraryItemRepository;
+  private final LoanRepository loanRepository;
+  private final DistinctBorrowers distinctBorrowers;
+  private final ObjectWriter writer;
+
+  /**
+   * Constructs a new ReplicationSource.
+   *
+   * @param changeLog the log of captured changes
+   * @param memberRepository repository for member operations
+   * @param libraryItemRepository repository for library item operations
+   * @param loanRepository repository for loan operations
+   * @param distinctBorrowers sketches of the borrowers of items and genres, shipped with snapshots
+   * @param objectMapper the mapper used to write changes as NDJSON
+   */
+  public ReplicationSource(
+      ChangeLog changeLog,
+      MemberRepository memberRepository,
+      LibraryItemRepository libraryItemRepository,
+      LoanRepository loanRepository,
+      DistinctBorrowers distinctBorrowers,
+      ObjectMapper objectMapper) {
+    this.changeLog = changeLog;
+    this.memberRepository = memberRepository;
+    this.libraryItemRepository = libraryItemRepository;
+    this.loanRepository = loanRepository;
+    this.distinctBorrowers = distinctBorrowers;
+    this.writer = objectMapper.writer();
+  }
+
+  /**
+   * Gets the changes following a sequence number.
+   *
+   * @param after the sequence number of the last change the replica applied
+   * @param limit the maximum number of changes to return
+   * @return the changes after the given sequence number, oldest first
+   */
+  public List<ChangeEntry> getChangesAfter(long after, int limit) {
+    return changeLog.readAfter(after, limit);
+  }
+
+  /**
+   * Takes a snapshot of all members, library items and loans, followed by the sketches of the
+   * borrowers of items and genres. The snapshot is taken after reading the current sequence number,
+   * so replaying the changes after that sequence number on top of the snapshot brings a replica up
+   * to date even if saves happen while the snapshot is streamed.
+   *
+   * @return the snapshot
+   */
+  public Snapshot snapshot() {
+    var sequence = changeLog.getLastSequence();
+    var changes =
+        Stream.<Stream<? extends ChangeRecord>>of(
+                memberRepository.streamAll().map(MemberChanged::of),
+                libraryItemRepository.streamAll().map(ItemChanged::of),
+                loanRepository.streamAll().map(LoanChanged::of),
+                distinctBorrowers
+                    .itemSketches()
+                    .map(entry -> BorrowersChanged.ofItem(entry.getKey(), entry.getValue())),
+                distinctBorrowers
+                    .genreSketches()
+                    .map(entry -> BorrowersChanged.ofGenre(entry.getKey(), entry.getValue())))
+            .flatMap(stream -> stream.map(change -> new ChangeEntry(sequence, change)));
+    return new Snapshot(sequence, changes);
+  }
+
+  /**
+   * Writes change entries as NDJSON, one per line.
+   *
+   * @param entries the change entries to write
+   * @param ndjson the stream to write to
+   * @return the number of entries written
+   * @throws UncheckedIOException if writing fails
+   */
+  public long writeNdjson(Stream<ChangeEntry> entries, OutputStream ndjson) {
+    var out = new BufferedOutputStream(ndjson, IO_BUFFER_SIZE);
+    long written = 0;
+    try (entries) {
+      for (var iterator = entries.iterator(); iterator.hasNext(); written++) {
+        out.write(writer.writeValueAsBytes(iterator.next()));
+        out.write('\n');
+      }
+      out.flush();
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to write replication stream", ex);
+    }
+    return written;
+  }
+
+  /**
+   * Snapshot of the local repositories.
+   *
+   * @param sequence the sequence number of the last change included in the snapshot
+   * @param changes the state of every entity at the snapshot's sequence number, members first,
+   *     then items, then loans, then borrower sketches
+   */
+  public record Snapshot(long sequence, Stream<ChangeEntry> changes) {}
+}
@@ -0,0 +1,49 @@
+package com.lms.library.repository;
+
+import com.lms.library.model.LibraryItem;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import com.lms.library.model.Member;
+
+/**
+ * Listener notified by the repositories after every successful save, used to capture a stream of
+ * changes. Callbacks run on the saving thread with the live entity, so implementations must copy
+ * whatever state they keep before returning.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public interface ChangeCapture {
+
+  /** Change capture that ignores all changes. */
+  ChangeCapture NONE = new ChangeCapture() {};
+
+  /**
+   * Called after a member was saved.
+   *
+   * @param member the saved member
+   */
+  default void memberSaved(Member member) {}
+
+  /**
+   * Called after a library item was saved.
+   *
+   * @param item the saved library item
+   */
+  default void itemSaved(LibraryItem item) {}
+
+  /**
+   * Called after a loan was saved.
+   *
+   * @param loan the saved loan
+   */
+  default void loanSaved(Loan loan) {}
+
+  /**
+   * Called after a loan item was saved.
+   *
+   * @param loanItem the saved loan item
+   */
+  default void loanItemSaved(LoanItem loanItem) {}
+}
@@ -0,0 +1,155 @@
+package com.lms.library.repository;
+
+import com.lms.library.model.Hold;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository class for managing Hold entities. Every library item has a first-in, first-out queue
+ * of the holds placed on it, kept in a lock-free {@link ConcurrentLinkedQueue}, so members are
+ * served in the order in which their holds were saved.
+ *
+ * <p>Holds stay in the store after they are fulfilled or cancelled so that clients can poll their
+ * outcome. They are dropped from the item's queue once they reach its head. An index of the hold
+ * each member last placed on each item lets a member queue at most one waiting hold per item.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see Hold
+ * @since 2025
+ */
+@Repository
+public class HoldRepository {
+  private static final Map<Long, Hold> STORE = new ConcurrentHashMap<>();
+  private static final Map<Long, Queue<Hold>> QUEUES = new ConcurrentHashMap<>();
+  private static final Map<MemberItem, Hold> WAITING = new ConcurrentHashMap<>();
+  private static final AtomicLong ID_SEQ = new AtomicLong(1);
+
+  /** Default constructor for HoldRepository. */
+  public HoldRepository() {}
+
+  /**
+   * Saves a hold to the repository. A hold without an ID is assigned a new one and appended to the
+   * end of its item's queue.
+   *
+   * @param hold the hold to save
+   * @return the saved hold with generated ID
+   */
+  public Hold save(Hold hold) {
+    if (hold.getId() == null) {
+      hold.setId(ID_SEQ.getAndIncrement());
+      STORE.put(hold.getId(), hold);
+      QUEUES.computeIfAbsent(hold.getItemId(), id -> new ConcurrentLinkedQueue<>()).offer(hold);
+    } else {
+      STORE.put(hold.getId(), hold);
+    }
+    return hold;
+  }
+
+  /**
+   * Saves a new hold unless its member is already waiting for the item. The check and the save are
+   * atomic, so concurrent requests of a member for the same item queue a single hold.
+   *
+   * @param hold the new hold to save
+   * @return an Optional containing the saved hold, or empty if the member is already waiting
+   */
+  public Optional<Hold> saveIfNotWaiting(Hold hold) {
+    var placed =
+        WAITING.compute(
+            new MemberItem(hold.getMemberId(), hold.getItemId()),
+            (key, current) -> current != null && current.isWaiting() ? current : save(hold));
+    return placed == hold ? Optional.of(hold) : Optional.empty();
+  }
+
+  /**
+   * Finds a hold by its ID.
+   *
+   * @param id the ID of the hold to find
+   * @return an Optional containing the found hold, or empty if not found
+   */
+  public Optional<Hold> findById(Long id) {
+    return Optional.ofNullable(id).map(STORE::get);
+  }
+
+  /**
+   * Finds the hold first in line for an item. Holds at the head of the queue that are no longer
+   * waiting are removed on the way.
+   *
+   * @param itemId the ID of the library item
+   * @return an Optional containing the oldest waiting hold, or empty if nobody is waiting
+   */
+  public Optional<Hold> findNextWaiting(Long itemId) {
+    var queue = QUEUES.get(itemId);
+    if (queue == null) {
+      return Optional.empty();
+    }
+    for (var head = queue.peek(); head != null; head = queue.peek()) {
+      if (head.isWaiting()) {
+        return Optional.of(head);
+      }
+      // Remove this exact hold: a concurrent caller may already have polled it
+      queue.remove(head);
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Finds the waiting hold of a member on an item.
+   *
+   * @param memberId the ID of the member
+   * @param itemId the ID of the library item
+   * @return an Optional containing the member's waiting hold, or empty if there is none
+   */
+  public Optional<Hold> findWaiting(Long memberId, Long itemId) {
+    return Optional.ofNullable(QUEUES.get(itemId)).stream()
+        .flatMap(Queue::stream)
+        .filter(hold -> hold.isWaiting() && hold.getMemberId().equals(memberId))
+        .findFirst();
+  }
+
+  /**
+   * Finds all holds placed by a member, in the order in which they were placed.
+   *
+   * @param memberId the ID of the member
+   * @return list of the member's holds
+   */
+  public List<Hold> findByMemberId(Long memberId) {
+    return STORE.values().stream()
+        .filter(hold -> hold.getMemberId().equals(memberId))
+        .sorted(Comparator.comparing(Hold::getId))
+        .toList();
+  }
+
+  /**
+   * Gets the position of a hold in its item's queue, counting only waiting holds.
+   *
+   * @param hold the hold to locate
+   * @return the 1-based queue position, or 0 if the hold is not waiting
+   */
+  public int getQueuePosition(Hold hold) {
+    var queue = QUEUES.get(hold.getItemId());
+    if (queue == null || !hold.isWaiting()) {
+      return 0;
+    }
+    var position = 0;
+    for (var queued : queue) {
+      if (queued.isWaiting()) {
+        position++;
+      }
+      if (queued == hold) {
+        return position;
+      }
+    }
+    return 0;
+  }
+
+  /** Key of the hold a member placed on an item. */
+  private record MemberItem(Long memberId, Long itemId) {}
+}
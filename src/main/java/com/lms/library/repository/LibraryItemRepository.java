@@ -5,13 +5,16 @@ import com.lms.library.model.Journal;
 import com.lms.library.model.LibraryItem;
 import jakarta.annotation.PostConstruct;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -33,8 +36,22 @@ public class LibraryItemRepository {
   private static final Map<Long, LibraryItem> STORE = new ConcurrentHashMap<>();
   private static final AtomicLong ID_SEQ = new AtomicLong(1);
 
-  /** Default constructor for LibraryItemRepository. */
-  public LibraryItemRepository() {}
+  private final ChangeCapture changeCapture;
+
+  /** Default constructor for LibraryItemRepository. Changes are not captured. */
+  public LibraryItemRepository() {
+    this(ChangeCapture.NONE);
+  }
+
+  /**
+   * Constructs a new LibraryItemRepository that reports every save to a change capture.
+   *
+   * @param changeCapture the listener notified after every save
+   */
+  @Autowired
+  public LibraryItemRepository(ChangeCapture changeCapture) {
+    this.changeCapture = changeCapture;
+  }
 
   /**
    * Initializes the repository with sample data. Called automatically after dependency injection is
@@ -106,9 +123,54 @@ public class LibraryItemRepository {
       item.setId(ID_SEQ.getAndIncrement());
     }
     STORE.put(item.getId(), item);
+    changeCapture.itemSaved(item);
     return item;
   }
 
+  /**
+   * Saves a batch of library items. IDs for new items are reserved in one block so a bulk import
+   * does not contend on the ID sequence once per item, and the batch is published to the store in
+   * a single bulk insert.
+   *
+   * @param items the library items to save
+   * @return the saved library items with generated IDs, in the given order
+   */
+  public List<LibraryItem> saveAll(List<? extends LibraryItem> items) {
+    var unsaved = items.stream().filter(item -> item.getId() == null).count();
+    var nextId = ID_SEQ.getAndAdd(unsaved);
+    var batch = new HashMap<Long, LibraryItem>(items.size() * 2);
+    for (var item : items) {
+      if (item.getId() == null) {
+        item.setId(nextId++);
+      }
+      batch.put(item.getId(), item);
+    }
+    STORE.putAll(batch);
+    items.forEach(changeCapture::itemSaved);
+    return List.copyOf(items);
+  }
+
+  /**
+   * Reserves a block of consecutive IDs for library items that are given their IDs before they
+   * are saved, for example by a bulk loader saving from several threads.
+   *
+   * @param count the number of IDs to reserve
+   * @return the first ID of the block
+   */
+  public long reserveIds(long count) {
+    return ID_SEQ.getAndAdd(count);
+  }
+
+  /**
+   * Streams all library items without copying the store. The stream is weakly consistent and the
+   * order is unspecified.
+   *
+   * @return a stream of all library items
+   */
+  public Stream<LibraryItem> streamAll() {
+    return STORE.values().stream();
+  }
+
   /**
    * Finds a library item by its ID.
    *
@@ -0,0 +1,422 @@
+package com.lms.library.repository;
+
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository class for archived loans. Stores closed loans in append-only segment files on disk and
+ * keeps only a small in-memory index, so archived loans do not occupy the heap until they are read.
+ *
+ * <p>Loans are written in blocks, one block per {@link #appendAll(List)} call. Each block is a
+ * compact binary encoding of its loans compressed with DEFLATE and prefixed by its compressed and
+ * raw lengths. A read inflates the block holding the loan and rebuilds the loan with its member
+ * and library items from their repositories.
+ *
+ * <p>Archived loans reference IDs issued by the in-memory repositories, which restart from 1 on
+ * every boot, so segments left over from a previous run are deleted, with a warning, when the
+ * archive is opened. Without a configured directory the archive stays empty and refuses appends.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see LoanRepository
+ * @since 2025
+ */
+@Repository
+public class LoanArchiveRepository {
+
+  private static final Logger log = LoggerFactory.getLogger(LoanArchiveRepository.class);
+
+  private static final String SEGMENT_PREFIX = "loans-";
+  private static final String SEGMENT_SUFFIX = ".seg";
+  private static final int BLOCK_HEADER_BYTES = 2 * Integer.BYTES;
+  private static final long NO_DATE = Long.MIN_VALUE;
+
+  private final MemberRepository memberRepository;
+  private final LibraryItemRepository libraryItemRepository;
+  private final String configuredDirectory;
+  private final long segmentSizeBytes;
+
+  private final Map<Long, Entry> loanIndex = new ConcurrentHashMap<>();
+  private final Map<Long, Set<Long>> memberIndex = new ConcurrentHashMap<>();
+  private final List<FileChannel> segments = new CopyOnWriteArrayList<>();
+  private Path directory;
+
+  /**
+   * Constructs a new LoanArchiveRepository.
+   *
+   * @param memberRepository repository used to resolve the members of archived loans
+   * @param libraryItemRepository repository used to resolve the items of archived loans
+   * @param directory the directory holding the segment files, or blank for no archive
+   * @param segmentSizeBytes the size after which a new segment file is started
+   */
+  public LoanArchiveRepository(
+      MemberRepository memberRepository,
+      LibraryItemRepository libraryItemRepository,
+      @Value("${library.archive.directory:}") String directory,
+      @Value("${library.archive.segment-size-bytes:67108864}") long segmentSizeBytes) {
+    this.memberRepository = memberRepository;
+    this.libraryItemRepository = libraryItemRepository;
+    this.configuredDirectory = directory;
+    this.segmentSizeBytes = segmentSizeBytes;
+  }
+
+  /**
+   * Opens the archive, removing segments of a previous run. Called automatically after dependency
+   * injection is complete. Nothing is opened if no directory is configured.
+   */
+  @PostConstruct
+  public synchronized void open() {
+    if (configuredDirectory.isBlank()) {
+      log.info("LoanArchiveRepository has no directory; loans are not archived");
+      return;
+    }
+    try {
+      directory = Files.createDirectories(Path.of(configuredDirectory));
+      var deleted = 0;
+      try (var stale = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+        for (var segment : stale) {
+          Files.delete(segment);
+          deleted++;
+        }
+      }
+      if (deleted > 0) {
+        log.warn("Deleted {} loan archive segments of a previous run in {}", deleted, directory);
+      }
+      startSegment();
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to open loan archive", ex);
+    }
+    log.info("LoanArchiveRepository opened in {}", directory);
+  }
+
+  /** Closes all segment files. Called automatically when the application context shuts down. */
+  @PreDestroy
+  public synchronized void close() {
+    for (var segment : segments) {
+      try {
+        segment.close();
+      } catch (IOException ex) {
+        log.warn("Failed to close loan archive segment", ex);
+      }
+    }
+    segments.clear();
+    loanIndex.clear();
+    memberIndex.clear();
+  }
+
+  /**
+   * Appends loans to the archive as one compressed block. A loan that is already archived is
+   * replaced by the new copy; the old copy stays on disk but is no longer indexed.
+   *
+   * @param loans the loans to archive
+   * @throws IllegalStateException if the archive has no directory
+   * @throws UncheckedIOException if the block cannot be written
+   */
+  public synchronized void appendAll(List<Loan> loans) {
+    if (loans.isEmpty()) {
+      return;
+    }
+    if (segments.isEmpty()) {
+      throw new IllegalStateException(
+          "Loan archive is not open; set library.archive.directory to archive loans");
+    }
+    var raw = encode(loans);
+    var compressed = deflate(raw);
+    var length = BLOCK_HEADER_BYTES + compressed.length;
+    var block = ByteBuffer.allocate(length).putInt(compressed.length).putInt(raw.length);
+    block.put(compressed).flip();
+
+    int segment;
+    long offset;
+    try {
+      if (current().size() > 0 && current().size() + length > segmentSizeBytes) {
+        startSegment();
+      }
+      segment = segments.size() - 1;
+      offset = current().size();
+      while (block.hasRemaining()) {
+        current().write(block, offset + block.position());
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to append to loan archive", ex);
+    }
+
+    var location = new Block(segment, offset, length);
+    for (var loan : loans) {
+      var memberId = loan.getMember().getId();
+      loanIndex.put(loan.getId(), new Entry(location, loan.getVersion()));
+      memberIndex.computeIfAbsent(memberId, id -> ConcurrentHashMap.newKeySet()).add(loan.getId());
+    }
+    log.debug(
+        "Archived {} loans in a block of {} bytes ({} bytes uncompressed)",
+        loans.size(),
+        length,
+        raw.length);
+  }
+
+  /**
+   * Finds an archived loan by its ID, reading it from disk.
+   *
+   * @param id the ID of the loan to find
+   * @return an Optional containing the rebuilt loan, or empty if the loan is not archived
+   */
+  public Optional<Loan> findById(Long id) {
+    return Optional.ofNullable(id)
+        .map(loanIndex::get)
+        .flatMap(entry -> readBlock(entry.block()).stream().filter(l -> l.id() == id).findFirst())
+        .map(this::toLoan);
+  }
+
+  /**
+   * Finds all archived loans of a member, ordered by loan date (newest first). Each block holding
+   * one of the loans is read once.
+   *
+   * @param memberId the ID of the member
+   * @return the rebuilt archived loans of the member
+   */
+  public List<Loan> findByMemberIdOrderByLoanDateDesc(Long memberId) {
+    var loanIds = memberId == null ? Set.<Long>of() : memberIndex.getOrDefault(memberId, Set.of());
+    var blocks = new LinkedHashMap<Block, List<Long>>();
+    for (var loanId : loanIds) {
+      var entry = loanIndex.get(loanId);
+      if (entry != null) {
+        blocks.computeIfAbsent(entry.block(), b -> new ArrayList<>()).add(loanId);
+      }
+    }
+    var loans = new ArrayList<Loan>(loanIds.size());
+    blocks.forEach(
+        (block, ids) ->
+            readBlock(block).stream()
+                .filter(l -> ids.contains(l.id()))
+                .map(this::toLoan)
+                .forEach(loans::add));
+    loans.sort(Comparator.comparing(Loan::getLoanDate).reversed());
+    return loans;
+  }
+
+  /**
+   * Gets the version an archived loan had when it was archived.
+   *
+   * @param id the ID of the loan
+   * @return the loan version, or 0 if the loan is not archived
+   */
+  public long getLoanVersion(Long id) {
+    return Optional.ofNullable(id).map(loanIndex::get).map(Entry::version).orElse(0L);
+  }
+
+  /**
+   * Checks whether a loan is archived.
+   *
+   * @param id the ID of the loan
+   * @return true if the loan is archived, false otherwise
+   */
+  public boolean existsById(Long id) {
+    return id != null && loanIndex.containsKey(id);
+  }
+
+  /**
+   * Gets the number of archived loans.
+   *
+   * @return the number of archived loans
+   */
+  public long count() {
+    return loanIndex.size();
+  }
+
+  private FileChannel current() {
+    return segments.getLast();
+  }
+
+  private void startSegment() throws IOException {
+    var name = SEGMENT_PREFIX + "%05d".formatted(segments.size()) + SEGMENT_SUFFIX;
+    var file = directory.resolve(name);
+    segments.add(
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE));
+  }
+
+  private List<ArchivedLoan> readBlock(Block block) {
+    var buffer = ByteBuffer.allocate(block.length());
+    try {
+      var channel = segments.get(block.segment());
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, block.offset() + buffer.position()) < 0) {
+          throw new IllegalStateException("Truncated loan archive block");
+        }
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to read loan archive", ex);
+    }
+    buffer.flip();
+    var compressed = new byte[buffer.getInt()];
+    var raw = new byte[buffer.getInt()];
+    buffer.get(compressed);
+    inflate(compressed, raw);
+    return decode(raw);
+  }
+
+  private Loan toLoan(ArchivedLoan archived) {
+    var member =
+        memberRepository
+            .findById(archived.memberId())
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Archived loan %d references unknown member %d"
+                            .formatted(archived.id(), archived.memberId())));
+    var loan =
+        new Loan(
+            member,
+            LocalDate.ofEpochDay(archived.loanDate()),
+            LocalDate.ofEpochDay(archived.expectedReturnDate()));
+    loan.setId(archived.id());
+    loan.setVersion(archived.version());
+    for (var archivedItem : archived.items()) {
+      var item =
+          libraryItemRepository
+              .findById(archivedItem.itemId())
+              .orElseThrow(
+                  () ->
+                      new IllegalStateException(
+                          "Archived loan %d references unknown item %d"
+                              .formatted(archived.id(), archivedItem.itemId())));
+      var returnedDate =
+          archivedItem.returnedDate() == NO_DATE
+              ? null
+              : LocalDate.ofEpochDay(archivedItem.returnedDate());
+      var loanItem = new LoanItem(loan, item, returnedDate);
+      loanItem.setId(archivedItem.id());
+      loanItem.setVersion(archivedItem.version());
+      loan.addItem(loanItem);
+    }
+    loan.updateStatus();
+    return loan;
+  }
+
+  private static byte[] encode(List<Loan> loans) {
+    var bytes = new ByteArrayOutputStream(loans.size() * 64);
+    try (var out = new DataOutputStream(bytes)) {
+      out.writeInt(loans.size());
+      for (var loan : loans) {
+        out.writeLong(loan.getId());
+        out.writeLong(loan.getMember().getId());
+        out.writeLong(loan.getLoanDate().toEpochDay());
+        out.writeLong(loan.getExpectedReturnDate().toEpochDay());
+        out.writeLong(loan.getVersion());
+        out.writeInt(loan.getItems().size());
+        for (var item : loan.getItems()) {
+          out.writeLong(item.getId());
+          out.writeLong(item.getItem().getId());
+          out.writeLong(
+              item.getReturnedDate() == null ? NO_DATE : item.getReturnedDate().toEpochDay());
+          out.writeLong(item.getVersion());
+        }
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static List<ArchivedLoan> decode(byte[] raw) {
+    try (var in = new DataInputStream(new ByteArrayInputStream(raw))) {
+      var loanCount = in.readInt();
+      var loans = new ArrayList<ArchivedLoan>(loanCount);
+      for (var i = 0; i < loanCount; i++) {
+        var id = in.readLong();
+        var memberId = in.readLong();
+        var loanDate = in.readLong();
+        var expectedReturnDate = in.readLong();
+        var version = in.readLong();
+        var itemCount = in.readInt();
+        var items = new ArrayList<ArchivedItem>(itemCount);
+        for (var j = 0; j < itemCount; j++) {
+          items.add(new ArchivedItem(in.readLong(), in.readLong(), in.readLong(), in.readLong()));
+        }
+        loans.add(new ArchivedLoan(id, memberId, loanDate, expectedReturnDate, version, items));
+      }
+      return loans;
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Corrupt loan archive block", ex);
+    }
+  }
+
+  private static byte[] deflate(byte[] raw) {
+    var deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    try {
+      deflater.setInput(raw);
+      deflater.finish();
+      var out = new ByteArrayOutputStream(raw.length / 2 + 64);
+      var buffer = new byte[8192];
+      while (!deflater.finished()) {
+        out.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static void inflate(byte[] compressed, byte[] raw) {
+    var inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+      if (inflater.inflate(raw) != raw.length || !inflater.finished()) {
+        throw new IllegalStateException("Corrupt loan archive block");
+      }
+    } catch (DataFormatException ex) {
+      throw new IllegalStateException("Corrupt loan archive block", ex);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  /** Location of a compressed block within the segment files. */
+  private record Block(int segment, long offset, int length) {}
+
+  /** Index entry of an archived loan, holding what can be answered without reading the block. */
+  private record Entry(Block block, long version) {}
+
+  private record ArchivedLoan(
+      long id,
+      long memberId,
+      long loanDate,
+      long expectedReturnDate,
+      long version,
+      List<ArchivedItem> items) {}
+
+  private record ArchivedItem(long id, long itemId, long returnedDate, long version) {}
+}
@@ -1,13 +1,14 @@
 package com.lms.library.repository;
 
+import com.lms.library.exception.OptimisticLockException;
 import com.lms.library.model.LoanItem;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -23,14 +24,33 @@ import org.springframework.stereotype.Repository;
 public class LoanItemRepository {
 
   private static final Logger log = LoggerFactory.getLogger(LoanItemRepository.class);
-  private static final Map<Long, LoanItem> STORE = new ConcurrentHashMap<>();
+  private static final MemberShardedStore<LoanItem> STORE =
+      new MemberShardedStore<>(
+          MemberShardedStore.DEFAULT_SHARD_COUNT,
+          LoanItemRepository::memberIdOf,
+          LoanItemRepository::loanIdOf);
   private static final AtomicLong ID_SEQ = new AtomicLong(1);
 
-  /** Default constructor for LoanItemRepository. */
-  public LoanItemRepository() {}
+  private final ChangeCapture changeCapture;
+
+  /** Default constructor for LoanItemRepository. Changes are not captured. */
+  public LoanItemRepository() {
+    this(ChangeCapture.NONE);
+  }
+
+  /**
+   * Constructs a new LoanItemRepository that reports every save to a change capture.
+   *
+   * @param changeCapture the listener notified after every save
+   */
+  @Autowired
+  public LoanItemRepository(ChangeCapture changeCapture) {
+    this.changeCapture = changeCapture;
+  }
 
   /**
    * Saves a loan item to the repository. If the item has no ID, generates a new one automatically.
+   * Every save bumps the version of the loan item.
    *
    * @param item the loan item to save
    * @return the saved loan item with generated ID
@@ -39,10 +59,82 @@ public class LoanItemRepository {
     if (item.getId() == null) {
       item.setId(ID_SEQ.getAndIncrement());
     }
-    STORE.put(item.getId(), item);
+    STORE.compute(
+        item.getId(),
+        item,
+        (id, current) -> {
+          var currentVersion = current == null ? 0L : current.getVersion();
+          item.setVersion(Math.max(currentVersion, item.getVersion()) + 1);
+          return item;
+        });
+    changeCapture.loanItemSaved(item);
     return item;
   }
 
+  /**
+   * Saves an existing loan item only if it has not been modified since it was read. The check and
+   * the version increment happen atomically, so of several concurrent writers holding the same
+   * expected version exactly one succeeds.
+   *
+   * @param item the loan item to save
+   * @param expectedVersion the version the caller observed when it read the loan item
+   * @return the saved loan item with its incremented version
+   * @throws IllegalArgumentException if the loan item has no ID
+   * @throws OptimisticLockException if the stored version differs from the expected version
+   */
+  public LoanItem save(LoanItem item, long expectedVersion) {
+    if (item.getId() == null) {
+      throw new IllegalArgumentException("Cannot compare-and-set a loan item without an ID");
+    }
+    STORE.compute(
+        item.getId(),
+        item,
+        (id, current) -> {
+          var currentVersion = current == null ? 0L : current.getVersion();
+          if (currentVersion != expectedVersion) {
+            throw new OptimisticLockException(
+                "Loan item %s was modified concurrently (expected version %d, found %d)"
+                    .formatted(id, expectedVersion, currentVersion));
+          }
+          item.setVersion(expectedVersion + 1);
+          return item;
+        });
+    changeCapture.loanItemSaved(item);
+    return item;
+  }
+
+  /**
+   * Reserves a block of consecutive IDs for loan items that are given their IDs before they are
+   * saved, for example by a bulk loader saving from several threads.
+   *
+   * @param count the number of IDs to reserve
+   * @return the first ID of the block
+   */
+  public long reserveIds(long count) {
+    return ID_SEQ.getAndAdd(count);
+  }
+
+  /**
+   * Stores a loan item replicated from another instance, keeping its ID and version. Older versions
+   * than the stored one are ignored.
+   *
+   * @param item the replicated loan item
+   * @return true if the loan item was stored, false if a newer version is already stored
+   */
+  public boolean replicate(LoanItem item) {
+    var stored =
+        STORE.compute(
+            item.getId(),
+            item,
+            (id, current) ->
+                current == null || current.getVersion() <= item.getVersion() ? item : current);
+    if (stored != item) {
+      return false;
+    }
+    ID_SEQ.accumulateAndGet(item.getId() + 1, Math::max);
+    return true;
+  }
+
   /**
    * Finds all loan items for a specific loan.
    *
@@ -50,7 +142,7 @@ public class LoanItemRepository {
    * @return a list of all loan items for the specified loan
    */
   public List<LoanItem> findByLoanId(Long loanId) {
-    return STORE.values().stream().filter(i -> i.getLoan().getId().equals(loanId)).toList();
+    return STORE.findByGroup(loanId);
   }
 
   /**
@@ -61,8 +153,8 @@ public class LoanItemRepository {
    * @return an Optional containing the found loan item, or empty if not found
    */
   public Optional<LoanItem> findByLoanIdAndItemId(Long loanId, Long itemId) {
-    return STORE.values().stream()
-        .filter(i -> i.getLoan().getId().equals(loanId) && i.getItem().getId().equals(itemId))
+    return STORE.findByGroup(loanId).stream()
+        .filter(i -> i.getItem().getId().equals(itemId))
         .findFirst();
   }
 
@@ -73,9 +165,7 @@ public class LoanItemRepository {
    * @return a list of loan items that haven't been returned yet
    */
   public List<LoanItem> findActiveItemsByLoanId(Long loanId) {
-    return STORE.values().stream()
-        .filter(i -> i.getLoan().getId().equals(loanId) && !i.isReturned())
-        .toList();
+    return STORE.findByGroup(loanId).stream().filter(i -> !i.isReturned()).toList();
   }
 
   /**
@@ -88,4 +178,34 @@ public class LoanItemRepository {
       save(item);
     }
   }
+
+  /**
+   * Removes all loan items that belong to the given loans, using the loan index of each shard.
+   *
+   * @param loanIds the IDs of the loans whose items are removed
+   * @return the number of removed loan items
+   */
+  public int deleteByLoanIds(Set<Long> loanIds) {
+    if (loanIds.isEmpty()) {
+      return 0;
+    }
+    var removed = 0;
+    for (var loanId : loanIds) {
+      for (var item : STORE.findByGroup(loanId)) {
+        if (STORE.removeIf(item.getId(), item, current -> true)) {
+          removed++;
+        }
+      }
+    }
+    return removed;
+  }
+
+  private static Long memberIdOf(LoanItem item) {
+    var loan = item.getLoan();
+    return loan == null || loan.getMember() == null ? null : loan.getMember().getId();
+  }
+
+  private static Long loanIdOf(LoanItem item) {
+    return item.getLoan() == null ? null : item.getLoan().getId();
+  }
 }
@@ -1,17 +1,23 @@
 package com.lms.library.repository;
 
+import com.lms.library.exception.OptimisticLockException;
 import com.lms.library.model.Loan;
+import com.lms.library.model.LoanStatus;
+import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repository class for managing Loan entities. Provides data access operations for loans using an
- * in-memory store.
+ * in-memory store sharded by member ID, so saves and member-scoped queries for different members do
+ * not contend with each other.
  *
  * @author Joel Silva
  * @version 1.0
@@ -20,14 +26,34 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public class LoanRepository {
-  private static final Map<Long, Loan> STORE = new ConcurrentHashMap<>();
+  private static final MemberShardedStore<Loan> STORE =
+      new MemberShardedStore<>(
+          MemberShardedStore.DEFAULT_SHARD_COUNT,
+          LoanRepository::memberIdOf,
+          LoanRepository::memberIdOf);
   private static final AtomicLong ID_SEQ = new AtomicLong(1);
+  private static final Map<Long, AtomicLong> MEMBER_VERSIONS = new ConcurrentHashMap<>();
 
-  /** Default constructor for LoanRepository. */
-  public LoanRepository() {}
+  private final ChangeCapture changeCapture;
+
+  /** Default constructor for LoanRepository. Changes are not captured. */
+  public LoanRepository() {
+    this(ChangeCapture.NONE);
+  }
+
+  /**
+   * Constructs a new LoanRepository that reports every save to a change capture.
+   *
+   * @param changeCapture the listener notified after every save
+   */
+  @Autowired
+  public LoanRepository(ChangeCapture changeCapture) {
+    this.changeCapture = changeCapture;
+  }
 
   /**
-   * Saves a loan to the repository. If the loan has no ID, generates a new one automatically.
+   * Saves a loan to the repository. If the loan has no ID, generates a new one automatically. Every
+   * save bumps the version of the loan and of its member's loan list.
    *
    * @param loan the loan to save
    * @return the saved loan with generated ID
@@ -36,10 +62,111 @@ public class LoanRepository {
     if (loan.getId() == null) {
       loan.setId(ID_SEQ.getAndIncrement());
     }
-    STORE.put(loan.getId(), loan);
+    STORE.compute(
+        loan.getId(),
+        loan,
+        (id, current) -> {
+          var currentVersion = current == null ? 0L : current.getVersion();
+          loan.setVersion(Math.max(currentVersion, loan.getVersion()) + 1);
+          return loan;
+        });
+
+    bumpMemberVersion(loan);
+    changeCapture.loanSaved(loan);
     return loan;
   }
 
+  /**
+   * Saves an existing loan only if it has not been modified since it was read. The check and the
+   * version increment happen atomically, so of several concurrent writers holding the same
+   * expected version exactly one succeeds.
+   *
+   * @param loan the loan to save
+   * @param expectedVersion the version the caller observed when it read the loan
+   * @return the saved loan with its incremented version
+   * @throws IllegalArgumentException if the loan has no ID
+   * @throws OptimisticLockException if the stored version differs from the expected version
+   */
+  public Loan save(Loan loan, long expectedVersion) {
+    if (loan.getId() == null) {
+      throw new IllegalArgumentException("Cannot compare-and-set a loan without an ID");
+    }
+    STORE.compute(
+        loan.getId(),
+        loan,
+        (id, current) -> {
+          var currentVersion = current == null ? 0L : current.getVersion();
+          if (currentVersion != expectedVersion) {
+            throw new OptimisticLockException(
+                "Loan %s was modified concurrently (expected version %d, found %d)"
+                    .formatted(id, expectedVersion, currentVersion));
+          }
+          loan.setVersion(expectedVersion + 1);
+          return loan;
+        });
+
+    bumpMemberVersion(loan);
+    changeCapture.loanSaved(loan);
+    return loan;
+  }
+
+  /**
+   * Reserves a block of consecutive IDs for loans that are given their IDs before they are
+   * saved, for example by a bulk loader saving from several threads.
+   *
+   * @param count the number of IDs to reserve
+   * @return the first ID of the block
+   */
+  public long reserveIds(long count) {
+    return ID_SEQ.getAndAdd(count);
+  }
+
+  /**
+   * Stores a loan replicated from another instance, keeping its ID and version. Older versions than
+   * the stored one are ignored, so replaying a change is harmless.
+   *
+   * @param loan the replicated loan
+   * @return true if the loan was stored, false if a newer version is already stored
+   */
+  public boolean replicate(Loan loan) {
+    var stored =
+        STORE.compute(
+            loan.getId(),
+            loan,
+            (id, current) ->
+                current == null || current.getVersion() <= loan.getVersion() ? loan : current);
+    if (stored != loan) {
+      return false;
+    }
+    ID_SEQ.accumulateAndGet(loan.getId() + 1, Math::max);
+    bumpMemberVersion(loan);
+    return true;
+  }
+
+  /**
+   * Gets the current version of a loan without copying or rendering it.
+   *
+   * @param id the ID of the loan
+   * @return the loan version, or 0 if the loan has never been saved
+   */
+  public long getLoanVersion(Long id) {
+    return findById(id).map(Loan::getVersion).orElse(0L);
+  }
+
+  /**
+   * Gets the current version of a member's loan list. The version is incremented whenever any loan
+   * of the member is saved.
+   *
+   * @param memberId the ID of the member
+   * @return the member loan list version, or 0 if no loan has been saved for the member
+   */
+  public long getMemberLoansVersion(Long memberId) {
+    return Optional.ofNullable(memberId)
+        .map(MEMBER_VERSIONS::get)
+        .map(AtomicLong::get)
+        .orElse(0L);
+  }
+
   /**
    * Finds a loan by its ID.
    *
@@ -51,18 +178,52 @@ public class LoanRepository {
   }
 
   /**
-   * Finds all loans for a specific member, ordered by loan date (newest first).
+   * Finds all loans for a specific member, ordered by loan date (newest first). Only the member's
+   * shard is read.
    *
    * @param memberId the ID of the member
    * @return a list of loans for the member, sorted by loan date descending
    */
   public List<Loan> findByMemberIdOrderByLoanDateDesc(Long memberId) {
-    return STORE.values().stream()
-        .filter(l -> l.getMember().getId().equals(memberId))
+    return STORE.findByGroup(memberId, memberId).stream()
         .sorted(Comparator.comparing(Loan::getLoanDate).reversed())
         .toList();
   }
 
+  /**
+   * Streams all loans across all shards without copying them. The stream is weakly consistent and
+   * the order is unspecified.
+   *
+   * @return a stream of all loans
+   */
+  public Stream<Loan> streamAll() {
+    return STORE.stream();
+  }
+
+  /**
+   * Finds closed loans whose last item was returned before the given date.
+   *
+   * @param cutoff the exclusive upper bound for the closing date
+   * @return the closed loans that are older than the cutoff
+   */
+  public List<Loan> findClosedBefore(LocalDate cutoff) {
+    return STORE.stream()
+        .filter(l -> l.getStatus() == LoanStatus.CLOSED && l.getClosedDate().isBefore(cutoff))
+        .toList();
+  }
+
+  /**
+   * Removes a loan only if it has not been modified since it was read. Used to evict loans that
+   * were copied to another storage tier.
+   *
+   * @param loan the loan to remove
+   * @param expectedVersion the version the caller observed when it read the loan
+   * @return true if the loan was removed, false if it is missing or was modified concurrently
+   */
+  public boolean remove(Loan loan, long expectedVersion) {
+    return STORE.removeIf(loan.getId(), loan, current -> current.getVersion() == expectedVersion);
+  }
+
   /**
    * Finds a loan by ID including member and items information. In this in-memory implementation,
    * equivalent to findById.
@@ -84,4 +245,17 @@ public class LoanRepository {
   public Optional<Loan> findByIdWithItems(Long id) {
     return findById(id);
   }
+
+  private static Long memberIdOf(Loan loan) {
+    return loan.getMember() == null ? null : loan.getMember().getId();
+  }
+
+  private static void bumpMemberVersion(Loan loan) {
+    // Bump after the store update so a reader never sees a new version paired with old data
+    if (loan.getMember() != null && loan.getMember().getId() != null) {
+      MEMBER_VERSIONS
+          .computeIfAbsent(loan.getMember().getId(), id -> new AtomicLong())
+          .incrementAndGet();
+    }
+  }
 }
@@ -1,13 +1,19 @@
 package com.lms.library.repository;
 
+import com.lms.library.exception.EmailAlreadyInUseException;
 import com.lms.library.model.Member;
 import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -24,9 +30,24 @@ public class MemberRepository {
   private static final Logger log = LoggerFactory.getLogger(MemberRepository.class);
   private static final Map<Long, Member> STORE = new ConcurrentHashMap<>();
   private static final AtomicLong ID_SEQ = new AtomicLong(1);
+  private static final Map<String, Long> EMAIL_INDEX = new ConcurrentHashMap<>();
 
-  /** Default constructor for MemberRepository. */
-  public MemberRepository() {}
+  private final ChangeCapture changeCapture;
+
+  /** Default constructor for MemberRepository. Changes are not captured. */
+  public MemberRepository() {
+    this(ChangeCapture.NONE);
+  }
+
+  /**
+   * Constructs a new MemberRepository that reports every save to a change capture.
+   *
+   * @param changeCapture the listener notified after every save
+   */
+  @Autowired
+  public MemberRepository(ChangeCapture changeCapture) {
+    this.changeCapture = changeCapture;
+  }
 
   /**
    * Initializes the repository with sample members. Called automatically after dependency injection
@@ -34,27 +55,89 @@ public class MemberRepository {
    */
   @PostConstruct
   public void init() {
-    save(new Member("Alice", "Johnson", "alice@example.com"));
-    save(new Member("Bob", "Williams", "bob@example.com"));
-    save(new Member("Charlie", "Davis", "charlie@example.com"));
+    seed(new Member("Alice", "Johnson", "alice@example.com"));
+    seed(new Member("Bob", "Williams", "bob@example.com"));
+    seed(new Member("Charlie", "Davis", "charlie@example.com"));
 
     log.info("MemberRepository initialized with {} members.", STORE.size());
   }
 
   /**
    * Saves a member to the repository. If the member has no ID, generates a new one automatically.
+   * The member's email is registered in a case-insensitive index and must not belong to any other
+   * member.
    *
    * @param member the member to save
    * @return the saved member with generated ID
+   * @throws EmailAlreadyInUseException if another member already uses the same email
    */
   public Member save(Member member) {
-    if (member.getId() == null) {
+    var generatedId = member.getId() == null;
+    if (generatedId) {
       member.setId(ID_SEQ.getAndIncrement());
     }
-    STORE.put(member.getId(), member);
+
+    var owner = claimEmail(member);
+    if (owner != null) {
+      if (generatedId) {
+        member.setId(null);
+      }
+      throw new EmailAlreadyInUseException(
+          "Email '%s' is already in use by member %s".formatted(member.getEmail(), owner));
+    }
+    put(member);
+    changeCapture.memberSaved(member);
     return member;
   }
 
+  /**
+   * Saves a batch of members. IDs for new members are reserved in one block. Members whose email
+   * already belongs to another member, including an earlier member of the same batch, are skipped
+   * and left without a generated ID instead of failing the whole batch.
+   *
+   * @param members the members to save
+   * @return the members that were saved, in the given order
+   */
+  public List<Member> saveAll(List<Member> members) {
+    var nextId = ID_SEQ.getAndAdd(members.stream().filter(m -> m.getId() == null).count());
+    var saved = new ArrayList<Member>(members.size());
+    for (var member : members) {
+      var generatedId = member.getId() == null;
+      if (generatedId) {
+        member.setId(nextId++);
+      }
+      if (claimEmail(member) == null) {
+        put(member);
+        changeCapture.memberSaved(member);
+        saved.add(member);
+      } else if (generatedId) {
+        member.setId(null);
+      }
+    }
+    return saved;
+  }
+
+  /**
+   * Reserves a block of consecutive IDs for members that are given their IDs before they are
+   * saved, for example by a bulk loader saving from several threads.
+   *
+   * @param count the number of IDs to reserve
+   * @return the first ID of the block
+   */
+  public long reserveIds(long count) {
+    return ID_SEQ.getAndAdd(count);
+  }
+
+  /**
+   * Streams all members without copying the store. The stream is weakly consistent: members saved
+   * while it is consumed may or may not be included, and the order is unspecified.
+   *
+   * @return a stream of all members
+   */
+  public Stream<Member> streamAll() {
+    return STORE.values().stream();
+  }
+
   /**
    * Finds a member by their ID.
    *
@@ -66,13 +149,14 @@ public class MemberRepository {
   }
 
   /**
-   * Finds a member by their email address (case-insensitive).
+   * Finds a member by their email address (case-insensitive). Uses the email index instead of
+   * scanning all members.
    *
    * @param email the email address to search for
    * @return an Optional containing the found member, or empty if not found
    */
   public Optional<Member> findByEmail(String email) {
-    return STORE.values().stream().filter(m -> m.getEmail().equalsIgnoreCase(email)).findFirst();
+    return Optional.ofNullable(normalizeEmail(email)).map(EMAIL_INDEX::get).map(STORE::get);
   }
 
   /**
@@ -84,4 +168,41 @@ public class MemberRepository {
   public boolean existsById(Long id) {
     return Optional.ofNullable(id).map(STORE::containsKey).orElse(false);
   }
+
+  /**
+   * Registers the member's email in the index.
+   *
+   * @param member the member claiming its email
+   * @return the ID of the other member already owning the email, or null if the claim succeeded
+   */
+  private static Long claimEmail(Member member) {
+    var emailKey = normalizeEmail(member.getEmail());
+    if (emailKey == null) {
+      return null;
+    }
+    var owner = EMAIL_INDEX.putIfAbsent(emailKey, member.getId());
+    return owner == null || owner.equals(member.getId()) ? null : owner;
+  }
+
+  private static void put(Member member) {
+    var previous = STORE.put(member.getId(), member);
+    if (previous != null) {
+      // Release the previous email if the member changed it
+      var previousKey = normalizeEmail(previous.getEmail());
+      if (previousKey != null && !previousKey.equals(normalizeEmail(member.getEmail()))) {
+        EMAIL_INDEX.remove(previousKey, member.getId());
+      }
+    }
+  }
+
+  private void seed(Member member) {
+    // Sample members survive across application contexts sharing the static store
+    if (findByEmail(member.getEmail()).isEmpty()) {
+      save(member);
+    }
+  }
+
+  private static String normalizeEmail(String email) {
+    return email == null ? null : email.toLowerCase(Locale.ROOT);
+  }
 }
@@ -0,0 +1,332 @@
+package com.lms.library.repository;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * In-memory entity store partitioned into shards by member ID. Each shard owns its entities and a
+ * shard-local index from a group key (for example the member or loan an entity belongs to) to the
+ * IDs in that group, so writes and member-scoped queries touch a single shard and never scan the
+ * others. There is no index shared between shards: IDs are assigned sequentially and do not encode
+ * their shard, so a lookup by ID or group alone reads each shard's map in turn, without writing
+ * anything.
+ *
+ * <p>The store is also a read-only {@link Map} view from entity ID to entity across all shards.
+ * The member ID and group key of an entity must not change once it has been stored, and all
+ * entities of a group must belong to the same member.
+ *
+ * @param <V> the entity type
+ * @author Joel Silva
+ * @version 1.0
+ * @see LoanRepository
+ * @see LoanItemRepository
+ * @since 2025
+ */
+public final class MemberShardedStore<V> extends AbstractMap<Long, V> {
+
+  /** Number of shards, overridable with the {@code library.repository.shards} system property. */
+  public static final int DEFAULT_SHARD_COUNT = Integer.getInteger("library.repository.shards", 16);
+
+  private final Function<V, Long> memberIdOf;
+  private final Function<V, Long> groupIdOf;
+  private final List<Shard<V>> shards;
+
+  /**
+   * Constructs a new MemberShardedStore.
+   *
+   * @param shardCount the number of shards
+   * @param memberIdOf extracts the member ID used to pick an entity's shard, may return null
+   * @param groupIdOf extracts the key of the shard-local group index, may return null
+   * @throws IllegalArgumentException if shardCount is not positive
+   */
+  public MemberShardedStore(
+      int shardCount, Function<V, Long> memberIdOf, Function<V, Long> groupIdOf) {
+    if (shardCount <= 0) {
+      throw new IllegalArgumentException("Shard count must be positive");
+    }
+    this.memberIdOf = memberIdOf;
+    this.groupIdOf = groupIdOf;
+    this.shards = IntStream.range(0, shardCount).mapToObj(i -> new Shard<V>()).toList();
+  }
+
+  /**
+   * Atomically computes the entity stored under an ID within the shard of the given entity's member
+   * and indexes the result under its group.
+   *
+   * @param id the entity ID
+   * @param value the entity that determines the shard and group
+   * @param remapping computes the new entity from the ID and the currently stored entity
+   * @return the stored entity, or null if the remapping removed it
+   */
+  public V compute(Long id, V value, BiFunction<Long, V, V> remapping) {
+    var shard = shardOf(memberIdOf.apply(value));
+    var result = shard.entities.compute(id, remapping);
+
+    var groupId = groupIdOf.apply(value);
+    if (result != null && groupId != null) {
+      shard.groups.compute(
+          groupId,
+          (key, ids) -> {
+            var groupIds = ids == null ? ConcurrentHashMap.<Long>newKeySet() : ids;
+            groupIds.add(id);
+            return groupIds;
+          });
+    }
+    return result;
+  }
+
+  /**
+   * Stores an entity under an ID, replacing any previous entity.
+   *
+   * @param id the entity ID
+   * @param value the entity to store
+   * @return the entity previously stored under the ID, or null if there was none
+   */
+  @Override
+  public V put(Long id, V value) {
+    var previous = new AtomicReference<V>();
+    compute(
+        id,
+        value,
+        (key, current) -> {
+          previous.set(current);
+          return value;
+        });
+    return previous.get();
+  }
+
+  /**
+   * Finds all entities of a group belonging to a member. Only the member's shard is read.
+   *
+   * @param memberId the member ID of the group's entities
+   * @param groupId the group key
+   * @return the entities of the group, in no particular order
+   */
+  public List<V> findByGroup(Long memberId, Long groupId) {
+    return groupId == null ? List.of() : findInShard(shardOf(memberId), groupId).toList();
+  }
+
+  /**
+   * Finds all entities of a group whose member is not known to the caller. Reads the group index of
+   * each shard; prefer {@link #findByGroup(Long, Long)} when the member is known.
+   *
+   * @param groupId the group key
+   * @return the entities of the group, in no particular order
+   */
+  public List<V> findByGroup(Long groupId) {
+    return groupId == null
+        ? List.of()
+        : shards.stream().flatMap(shard -> findInShard(shard, groupId)).toList();
+  }
+
+  /**
+   * Removes an entity if it matches a condition. The check and the removal happen atomically.
+   *
+   * @param id the entity ID
+   * @param value the entity that determines the shard, usually the stored one
+   * @param condition the condition the stored entity must satisfy
+   * @return true if the entity was removed
+   */
+  public boolean removeIf(Long id, V value, Predicate<V> condition) {
+    if (id == null) {
+      return false;
+    }
+    var shard = shardOf(memberIdOf.apply(value));
+    var removed = new AtomicBoolean();
+    shard.entities.computeIfPresent(
+        id,
+        (key, current) -> {
+          if (!condition.test(current)) {
+            return current;
+          }
+          removed.set(true);
+          var groupId = groupIdOf.apply(current);
+          if (groupId != null) {
+            shard.groups.computeIfPresent(
+                groupId,
+                (group, ids) -> {
+                  ids.remove(id);
+                  return ids.isEmpty() ? null : ids;
+                });
+          }
+          return null;
+        });
+    return removed.get();
+  }
+
+  /**
+   * Streams all entities across all shards.
+   *
+   * @return a weakly consistent stream of all entities
+   */
+  public Stream<V> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Creates a spliterator over all entities across all shards. It splits between shards first and
+   * then within a shard, so a fork/join scan can spread even a single large shard over workers.
+   *
+   * @return a weakly consistent spliterator of all entities
+   */
+  public Spliterator<V> spliterator() {
+    return new ShardSpliterator<>(shards, 0, shards.size());
+  }
+
+  /**
+   * Gets the number of entities held by each shard, indexed by shard.
+   *
+   * @return the shard sizes
+   */
+  public List<Integer> shardSizes() {
+    return shards.stream().map(shard -> shard.entities.size()).toList();
+  }
+
+  @Override
+  public V get(Object id) {
+    if (id == null) {
+      return null;
+    }
+    for (var shard : shards) {
+      var entity = shard.entities.get(id);
+      if (entity != null) {
+        return entity;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public boolean containsKey(Object id) {
+    return get(id) != null;
+  }
+
+  @Override
+  public int size() {
+    return shards.stream().mapToInt(shard -> shard.entities.size()).sum();
+  }
+
+  @Override
+  public void clear() {
+    shards.forEach(
+        shard -> {
+          shard.entities.clear();
+          shard.groups.clear();
+        });
+  }
+
+  @Override
+  public Set<Entry<Long, V>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<Long, V>> iterator() {
+        return shards.stream()
+            .flatMap(shard -> shard.entities.entrySet().stream())
+            .<Entry<Long, V>>map(e -> Map.entry(e.getKey(), e.getValue()))
+            .iterator();
+      }
+
+      @Override
+      public int size() {
+        return MemberShardedStore.this.size();
+      }
+    };
+  }
+
+  private Shard<V> shardOf(Long memberId) {
+    return shards.get(memberId == null ? 0 : (int) Math.floorMod(memberId, (long) shards.size()));
+  }
+
+  private Stream<V> findInShard(Shard<V> shard, Long groupId) {
+    return shard.groups.getOrDefault(groupId, Set.of()).stream()
+        .map(shard.entities::get)
+        .filter(Objects::nonNull);
+  }
+
+  /** Spliterator over the shards in [from, to), then over the entities of the last one left. */
+  private static final class ShardSpliterator<V> implements Spliterator<V> {
+
+    private final List<Shard<V>> shards;
+    private int from;
+    private final int to;
+    private Spliterator<V> current;
+
+    private ShardSpliterator(List<Shard<V>> shards, int from, int to) {
+      this.shards = shards;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super V> action) {
+      while (true) {
+        if (current != null && current.tryAdvance(action)) {
+          return true;
+        }
+        if (from == to) {
+          return false;
+        }
+        current = shards.get(from++).entities.values().spliterator();
+      }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super V> action) {
+      if (current != null) {
+        current.forEachRemaining(action);
+      }
+      while (from < to) {
+        shards.get(from++).entities.values().spliterator().forEachRemaining(action);
+      }
+    }
+
+    @Override
+    public Spliterator<V> trySplit() {
+      if (current == null && to - from > 1) {
+        var middle = (from + to) >>> 1;
+        var prefix = new ShardSpliterator<>(shards, from, middle);
+        from = middle;
+        return prefix;
+      }
+      if (current == null && from < to) {
+        current = shards.get(from++).entities.values().spliterator();
+      }
+      return from == to && current != null ? current.trySplit() : null;
+    }
+
+    @Override
+    public long estimateSize() {
+      var size = current == null ? 0L : current.estimateSize();
+      for (var i = from; i < to; i++) {
+        size += shards.get(i).entities.size();
+      }
+      return size;
+    }
+
+    @Override
+    public int characteristics() {
+      return CONCURRENT | NONNULL;
+    }
+  }
+
+  private static final class Shard<V> {
+    private final Map<Long, V> entities = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> groups = new ConcurrentHashMap<>();
+  }
+}
@@ -0,0 +1,129 @@
+package com.lms.library.scan;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs reports that must read a whole store, such as a census of the catalogue or of all loans, on
+ * a dedicated fork/join pool. The source spliterator is split recursively until each chunk holds
+ * at most the configured number of elements; chunks are reduced with a {@link Collector} on the
+ * workers and their results combined in encounter order.
+ *
+ * <p>The pool is bounded and separate from the common pool used by parallel streams and from the
+ * threads serving requests, so a long scan uses the cores it is given without delaying requests
+ * beyond that. Concurrent scans share the pool and queue behind each other's chunks.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@Component
+public class ScanEngine {
+
+  private final ForkJoinPool pool;
+  private final int chunkSize;
+
+  /**
+   * Constructs a new ScanEngine.
+   *
+   * @param parallelism the number of scan workers, or 0 to use one per available processor
+   * @param chunkSize the number of elements below which a chunk is reduced without splitting
+   * @throws IllegalArgumentException if parallelism is negative or chunkSize is not positive
+   */
+  public ScanEngine(
+      @Value("${library.scan.parallelism:0}") int parallelism,
+      @Value("${library.scan.chunk-size:1024}") int chunkSize) {
+    if (parallelism < 0) {
+      throw new IllegalArgumentException("Parallelism must not be negative");
+    }
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive");
+    }
+    var workers = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+    var workerIds = new AtomicInteger();
+    this.pool =
+        new ForkJoinPool(
+            workers,
+            forkJoinPool -> {
+              var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+              thread.setName("scan-worker-" + workerIds.incrementAndGet());
+              return thread;
+            },
+            null,
+            false,
+            0,
+            workers,
+            1,
+            forkJoinPool -> true,
+            60,
+            TimeUnit.SECONDS);
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Reduces every element of a source on the scan workers.
+   *
+   * @param source the elements to reduce, ideally splittable in balanced halves
+   * @param collector the reduction; its combiner merges the results of adjacent chunks
+   * @param <T> the element type
+   * @param <A> the accumulation type of the collector
+   * @param <R> the result type
+   * @return the result of the reduction
+   */
+  public <T, A, R> R scan(Spliterator<T> source, Collector<T, A, R> collector) {
+    return collector.finisher().apply(pool.invoke(new ScanTask<>(source, collector, chunkSize)));
+  }
+
+  /**
+   * Gets the number of scan workers.
+   *
+   * @return the parallelism of the scan pool
+   */
+  public int getParallelism() {
+    return pool.getParallelism();
+  }
+
+  /** Stops the scan workers. Called automatically when the application context shuts down. */
+  @PreDestroy
+  public void close() {
+    pool.close();
+  }
+
+  /** Splits its chunk while it is larger than the chunk size, then accumulates it. */
+  private static final class ScanTask<T, A> extends RecursiveTask<A> {
+
+    private final Spliterator<T> source;
+    private final Collector<T, A, ?> collector;
+    private final int chunkSize;
+
+    private ScanTask(Spliterator<T> source, Collector<T, A, ?> collector, int chunkSize) {
+      this.source = source;
+      this.collector = collector;
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected A compute() {
+      if (source.estimateSize() > chunkSize) {
+        var prefix = source.trySplit();
+        if (prefix != null) {
+          var left = new ScanTask<>(prefix, collector, chunkSize);
+          left.fork();
+          var right = new ScanTask<>(source, collector, chunkSize).compute();
+          return collector.combiner().apply(left.join(), right);
+        }
+      }
+      var container = collector.supplier().get();
+      var accumulator = collector.accumulator();
+      source.forEachRemaining(element -> accumulator.accept(container, element));
+      return container;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.lms.library.service;
+
+import java.util.Locale;
+
+/**
+ * Supported file formats for bulk catalogue imports.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see CatalogueImportService
+ * @since 2025
+ */
+public enum CatalogueFormat {
+  /** Comma-separated values with a header row naming the catalogue record fields. */
+  CSV,
+
+  /** One JSON object per line (JSON Lines / NDJSON). */
+  JSON_LINES;
+
+  /**
+   * Detects the format from a file name extension.
+   *
+   * @param fileName the file name, e.g. {@code catalogue.csv} or {@code catalogue.jsonl}
+   * @return the matching format
+   * @throws IllegalArgumentException if the extension is missing or not supported
+   */
+  public static CatalogueFormat fromFileName(String fileName) {
+    var name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+    if (name.endsWith(".csv")) {
+      return CSV;
+    }
+    if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+      return JSON_LINES;
+    }
+    throw new IllegalArgumentException(
+        "Cannot detect catalogue format of '%s', expected .csv, .jsonl or .ndjson"
+            .formatted(fileName));
+  }
+}
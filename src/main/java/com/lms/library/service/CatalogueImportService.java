@@ -0,0 +1,26 @@
+package com.lms.library.service;
+
+import com.lms.library.dto.CatalogueImportReport;
+import java.nio.file.Path;
+
+/**
+ * Service interface for bulk catalogue imports. Defines the contract for loading books and
+ * journals from large export files.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see CatalogueImportServiceImpl
+ * @since 2025
+ */
+public interface CatalogueImportService {
+  /**
+   * Imports all catalogue entries from a file. Invalid lines are rejected and reported without
+   * aborting the import.
+   *
+   * @param path the path of the file to import
+   * @param format the format of the file
+   * @return a report of imported and rejected entries and the achieved throughput
+   * @throws IllegalArgumentException if the file cannot be read or a CSV file has no header
+   */
+  CatalogueImportReport importCatalogue(Path path, CatalogueFormat format);
+}
@@ -0,0 +1,212 @@
+package com.lms.library.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.library.dto.CatalogueImportReport;
+import com.lms.library.model.LibraryItem;
+import com.lms.library.repository.LibraryItemRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the CatalogueImportService interface. Imports run as a pipeline of three
+ * stages:
+ *
+ * <ol>
+ *   <li>the calling thread reads the file through NIO in fixed-size chunks of whole lines;
+ *   <li>each chunk is parsed and validated on a bounded worker pool;
+ *   <li>parsed chunks are inserted in file order, one batch per chunk, via {@link
+ *       LibraryItemRepository#saveAll(List)}.
+ * </ol>
+ *
+ * <p>At most two chunks per worker are in flight at once, so the reader stalls instead of
+ * buffering the whole file when parsing or insertion falls behind.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see CatalogueImportService
+ * @since 2025
+ */
+@Service
+public class CatalogueImportServiceImpl implements CatalogueImportService {
+
+  private static final Logger log = LoggerFactory.getLogger(CatalogueImportServiceImpl.class);
+
+  static final int MAX_REPORTED_ERRORS = 100;
+
+  private final LibraryItemRepository libraryItemRepository;
+  private final ObjectMapper objectMapper;
+  private final int chunkSizeBytes;
+  private final int parallelism;
+
+  /**
+   * Constructs a new CatalogueImportServiceImpl.
+   *
+   * @param libraryItemRepository the repository for library item data access
+   * @param objectMapper the mapper used to read JSON lines
+   * @param chunkSizeBytes the number of bytes read from the file at a time
+   * @param parallelism the number of parser threads, or 0 to use one per available processor
+   * @throws IllegalArgumentException if chunkSizeBytes is not positive or parallelism is negative
+   */
+  public CatalogueImportServiceImpl(
+      LibraryItemRepository libraryItemRepository,
+      ObjectMapper objectMapper,
+      @Value("${library.catalogue.import.chunk-size-bytes:1048576}") int chunkSizeBytes,
+      @Value("${library.catalogue.import.parallelism:0}") int parallelism) {
+    if (chunkSizeBytes <= 0) {
+      throw new IllegalArgumentException("Chunk size must be positive");
+    }
+    if (parallelism < 0) {
+      throw new IllegalArgumentException("Parallelism must not be negative");
+    }
+    this.libraryItemRepository = libraryItemRepository;
+    this.objectMapper = objectMapper;
+    this.chunkSizeBytes = chunkSizeBytes;
+    this.parallelism =
+        parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+  }
+
+  @Override
+  public CatalogueImportReport importCatalogue(Path path, CatalogueFormat format) {
+    if (!Files.isReadable(path)) {
+      throw new IllegalArgumentException("Catalogue file is not readable: " + path);
+    }
+    log.info("Importing {} catalogue from {} with {} parser threads", format, path, parallelism);
+    var started = System.nanoTime();
+    var progress = new Progress();
+
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ);
+        var executor = Executors.newFixedThreadPool(parallelism)) {
+      var reader = new ChunkedLineReader(channel, chunkSizeBytes);
+      var pending = new ArrayDeque<Future<ParsedChunk>>();
+      CatalogueRecordParser parser = null;
+      var nextLineNumber = 1L;
+
+      for (var lines = reader.nextChunk(); lines != null; lines = reader.nextChunk()) {
+        var firstLineNumber = nextLineNumber;
+        nextLineNumber += lines.size();
+        if (parser == null) {
+          parser = createParser(format, lines);
+          if (format == CatalogueFormat.CSV) {
+            lines = lines.subList(1, lines.size());
+            firstLineNumber++;
+          }
+        }
+        pending.add(submit(executor, parser, lines, firstLineNumber));
+        if (pending.size() >= parallelism * 2) {
+          insert(pending.remove(), progress);
+        }
+      }
+      drain(pending, progress);
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to read catalogue file " + path, ex);
+    }
+
+    var elapsedNanos = System.nanoTime() - started;
+    var elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    var itemsPerSecond = elapsedNanos == 0 ? 0.0 : progress.imported / elapsedSeconds;
+    log.info(
+        "Imported {} catalogue items ({} rejected) in {} ms ({} items/s)",
+        progress.imported,
+        progress.rejected,
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        Math.round(itemsPerSecond));
+    return new CatalogueImportReport(
+        progress.imported,
+        progress.rejected,
+        List.copyOf(progress.errors),
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        itemsPerSecond);
+  }
+
+  private CatalogueRecordParser createParser(CatalogueFormat format, List<String> firstChunk) {
+    if (format == CatalogueFormat.JSON_LINES) {
+      return CatalogueRecordParser.forJsonLines(objectMapper);
+    }
+    if (firstChunk.isEmpty() || firstChunk.getFirst().isBlank()) {
+      throw new IllegalArgumentException("CSV catalogue must start with a header row");
+    }
+    return CatalogueRecordParser.forCsv(firstChunk.getFirst());
+  }
+
+  private static Future<ParsedChunk> submit(
+      ExecutorService executor, CatalogueRecordParser parser, List<String> lines, long firstLine) {
+    return executor.submit(() -> parse(parser, lines, firstLine));
+  }
+
+  private static ParsedChunk parse(
+      CatalogueRecordParser parser, List<String> lines, long firstLine) {
+    var items = new ArrayList<LibraryItem>(lines.size());
+    var errors = new ArrayList<String>();
+    for (var i = 0; i < lines.size(); i++) {
+      var line = lines.get(i);
+      if (line.isBlank()) {
+        continue;
+      }
+      try {
+        items.add(parser.parse(line));
+      } catch (IllegalArgumentException ex) {
+        errors.add("line %d: %s".formatted(firstLine + i, ex.getMessage()));
+      }
+    }
+    return new ParsedChunk(items, errors);
+  }
+
+  private void drain(Queue<Future<ParsedChunk>> pending, Progress progress) {
+    while (!pending.isEmpty()) {
+      insert(pending.remove(), progress);
+    }
+  }
+
+  private void insert(Future<ParsedChunk> future, Progress progress) {
+    var chunk = await(future);
+    if (!chunk.items().isEmpty()) {
+      libraryItemRepository.saveAll(chunk.items());
+    }
+    progress.imported += chunk.items().size();
+    progress.rejected += chunk.errors().size();
+    for (var error : chunk.errors()) {
+      if (progress.errors.size() < MAX_REPORTED_ERRORS) {
+        progress.errors.add(error);
+      }
+    }
+  }
+
+  private static ParsedChunk await(Future<ParsedChunk> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Catalogue import was interrupted", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Catalogue import failed", ex.getCause());
+    }
+  }
+
+  private record ParsedChunk(List<LibraryItem> items, List<String> errors) {}
+
+  private static final class Progress {
+    private long imported;
+    private long rejected;
+    private final List<String> errors = new ArrayList<>();
+  }
+}
@@ -0,0 +1,211 @@
+package com.lms.library.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.library.dto.CatalogueRecord;
+import com.lms.library.model.Book;
+import com.lms.library.model.Journal;
+import com.lms.library.model.LibraryItem;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parses and validates single lines of a catalogue import file into library items. Instances are
+ * immutable and safe to share between parser threads.
+ *
+ * <p>CSV files must start with a header row naming the {@link CatalogueRecord} fields, in any
+ * order. Fields may be quoted with double quotes to embed commas; quoted line breaks are not
+ * supported.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see CatalogueImportServiceImpl
+ * @since 2025
+ */
+final class CatalogueRecordParser {
+
+  private final CatalogueFormat format;
+  private final ObjectMapper objectMapper;
+  private final Map<String, Integer> columns;
+
+  private CatalogueRecordParser(
+      CatalogueFormat format, ObjectMapper objectMapper, Map<String, Integer> columns) {
+    this.format = format;
+    this.objectMapper = objectMapper;
+    this.columns = columns;
+  }
+
+  /**
+   * Creates a parser for JSON lines.
+   *
+   * @param objectMapper the mapper used to read each line
+   * @return the parser
+   */
+  static CatalogueRecordParser forJsonLines(ObjectMapper objectMapper) {
+    return new CatalogueRecordParser(CatalogueFormat.JSON_LINES, objectMapper, Map.of());
+  }
+
+  /**
+   * Creates a parser for CSV rows described by a header row.
+   *
+   * @param header the header row of the file
+   * @return the parser
+   * @throws IllegalArgumentException if the header does not name a type and title column
+   */
+  static CatalogueRecordParser forCsv(String header) {
+    var columns = new HashMap<String, Integer>();
+    var names = splitCsv(header.strip().replace("\uFEFF", ""));
+    for (var i = 0; i < names.size(); i++) {
+      columns.put(names.get(i).strip().toLowerCase(Locale.ROOT), i);
+    }
+    if (!columns.containsKey("type") || !columns.containsKey("title")) {
+      throw new IllegalArgumentException("CSV header must contain at least 'type' and 'title'");
+    }
+    return new CatalogueRecordParser(CatalogueFormat.CSV, null, Map.copyOf(columns));
+  }
+
+  /**
+   * Parses and validates a line into a library item.
+   *
+   * @param line the line to parse
+   * @return the library item, not yet saved
+   * @throws IllegalArgumentException if the line is malformed or fails validation
+   */
+  LibraryItem parse(String line) {
+    return toLibraryItem(format == CatalogueFormat.CSV ? readCsv(line) : readJson(line));
+  }
+
+  /**
+   * Validates a catalogue record and converts it into a book or journal.
+   *
+   * @param catalogueRecord the record to convert
+   * @return the library item, not yet saved
+   * @throws IllegalArgumentException if a required field is missing or invalid
+   */
+  static LibraryItem toLibraryItem(CatalogueRecord catalogueRecord) {
+    var title = required(catalogueRecord.title(), "Title");
+    var author = required(catalogueRecord.author(), "Author");
+    if (catalogueRecord.publicationDate() == null) {
+      throw new IllegalArgumentException("Publication date is required");
+    }
+    var type = required(catalogueRecord.type(), "Type").toUpperCase(Locale.ROOT);
+    return switch (type) {
+      case "BOOK" ->
+          new Book(
+              title,
+              author,
+              catalogueRecord.publicationDate(),
+              required(catalogueRecord.isbn(), "ISBN"),
+              catalogueRecord.genre(),
+              positive(catalogueRecord.pageCount(), "Page count"));
+      case "JOURNAL" ->
+          new Journal(
+              title,
+              author,
+              catalogueRecord.publicationDate(),
+              required(catalogueRecord.issn(), "ISSN"),
+              catalogueRecord.publisher(),
+              positive(catalogueRecord.volume(), "Volume"),
+              positive(catalogueRecord.issue(), "Issue"));
+      default -> throw new IllegalArgumentException("Unknown item type: " + catalogueRecord.type());
+    };
+  }
+
+  private CatalogueRecord readJson(String line) {
+    try {
+      return objectMapper.readValue(line, CatalogueRecord.class);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalArgumentException("Malformed JSON: " + ex.getOriginalMessage());
+    }
+  }
+
+  private CatalogueRecord readCsv(String line) {
+    var fields = splitCsv(line);
+    return new CatalogueRecord(
+        field(fields, "type"),
+        field(fields, "title"),
+        field(fields, "author"),
+        date(fields, "publicationdate"),
+        field(fields, "isbn"),
+        field(fields, "genre"),
+        integer(fields, "pagecount"),
+        field(fields, "issn"),
+        field(fields, "publisher"),
+        integer(fields, "volume"),
+        integer(fields, "issue"));
+  }
+
+  private String field(List<String> fields, String column) {
+    var index = columns.get(column);
+    if (index == null || index >= fields.size()) {
+      return null;
+    }
+    var value = fields.get(index).strip();
+    return value.isEmpty() ? null : value;
+  }
+
+  private LocalDate date(List<String> fields, String column) {
+    var value = field(fields, column);
+    try {
+      return value == null ? null : LocalDate.parse(value);
+    } catch (DateTimeParseException ex) {
+      throw new IllegalArgumentException("Invalid date for %s: %s".formatted(column, value));
+    }
+  }
+
+  private Integer integer(List<String> fields, String column) {
+    var value = field(fields, column);
+    try {
+      return value == null ? null : Integer.valueOf(value);
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("Invalid number for %s: %s".formatted(column, value));
+    }
+  }
+
+  private static String required(String value, String name) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException(name + " is required");
+    }
+    return value.strip();
+  }
+
+  private static int positive(Integer value, String name) {
+    if (value == null || value <= 0) {
+      throw new IllegalArgumentException(name + " must be positive");
+    }
+    return value;
+  }
+
+  private static List<String> splitCsv(String line) {
+    var fields = new ArrayList<String>();
+    var current = new StringBuilder();
+    var quoted = false;
+    for (var i = 0; i < line.length(); i++) {
+      var c = line.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          current.append(c);
+        } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          current.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(current.toString());
+        current.setLength(0);
+      } else {
+        current.append(c);
+      }
+    }
+    fields.add(current.toString());
+    return fields;
+  }
+}
@@ -0,0 +1,100 @@
+package com.lms.library.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads a UTF-8 text file through a {@link FileChannel} in fixed-size chunks and splits each chunk
+ * into whole lines. A line cut by a chunk boundary is carried over to the next chunk, so callers
+ * always receive complete lines and memory use stays bounded by the chunk size.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see CatalogueImportServiceImpl
+ * @since 2025
+ */
+final class ChunkedLineReader {
+
+  private static final byte[] EMPTY = new byte[0];
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer;
+  private byte[] carry = EMPTY;
+  private boolean endOfFile;
+
+  /**
+   * Constructs a new ChunkedLineReader.
+   *
+   * @param channel the channel to read from
+   * @param chunkSizeBytes the number of bytes read from the channel at a time
+   */
+  ChunkedLineReader(FileChannel channel, int chunkSizeBytes) {
+    this.channel = channel;
+    this.buffer = ByteBuffer.allocateDirect(chunkSizeBytes);
+  }
+
+  /**
+   * Reads the next chunk of complete lines. Line terminators ({@code \n} or {@code \r\n}) are
+   * removed; empty lines are kept so callers can track line numbers.
+   *
+   * @return the lines of the next chunk, or null once the file is exhausted
+   * @throws IOException if the channel cannot be read
+   */
+  List<String> nextChunk() throws IOException {
+    while (true) {
+      if (endOfFile) {
+        if (carry.length == 0) {
+          return null;
+        }
+        var last = carry;
+        carry = EMPTY;
+        return splitLines(last, last.length);
+      }
+      buffer.clear();
+      if (channel.read(buffer) < 0) {
+        endOfFile = true;
+        continue;
+      }
+      buffer.flip();
+      var data = Arrays.copyOf(carry, carry.length + buffer.remaining());
+      buffer.get(data, carry.length, buffer.remaining());
+
+      var end = lastNewline(data);
+      if (end < 0) {
+        // A single line longer than the chunk: keep reading until it ends
+        carry = data;
+        continue;
+      }
+      carry = Arrays.copyOfRange(data, end + 1, data.length);
+      return splitLines(data, end);
+    }
+  }
+
+  private static int lastNewline(byte[] data) {
+    // '\n' never occurs inside a multi-byte UTF-8 sequence, so splitting on it is safe
+    for (var i = data.length - 1; i >= 0; i--) {
+      if (data[i] == '\n') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static List<String> splitLines(byte[] data, int length) {
+    var lines = new ArrayList<String>();
+    var start = 0;
+    for (var i = 0; i <= length; i++) {
+      if (i == length || data[i] == '\n') {
+        var end = i > start && data[i - 1] == '\r' ? i - 1 : i;
+        lines.add(new String(data, start, end - start, StandardCharsets.UTF_8));
+        start = i + 1;
+      }
+    }
+    return lines;
+  }
+}
@@ -0,0 +1,75 @@
+package com.lms.library.service;
+
+import com.lms.library.analytics.TrendingWindow;
+import com.lms.library.dto.DailyCirculationResponse;
+import com.lms.library.dto.GenreBorrowersResponse;
+import com.lms.library.dto.GenreCirculationResponse;
+import com.lms.library.dto.ItemBorrowersResponse;
+import com.lms.library.dto.ItemCirculationResponse;
+import com.lms.library.dto.TrendingItemResponse;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for circulation analytics. Answers are read from aggregates updated on every
+ * checkout and return, so their cost does not grow with the number of loans.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see CirculationAnalyticsServiceImpl
+ * @since 2025
+ */
+public interface CirculationAnalyticsService {
+  /**
+   * Retrieves the most borrowed library items.
+   *
+   * @param limit the maximum number of items
+   * @return the items in descending order of borrows
+   * @throws IllegalArgumentException if limit is not positive or exceeds the maximum
+   */
+  List<ItemCirculationResponse> getMostBorrowedItems(int limit);
+
+  /**
+   * Retrieves the items borrowed most in a recent window. Counts are estimated in bounded memory,
+   * and exact unless the window saw more distinct items than are tracked.
+   *
+   * @param window the window, ending now
+   * @param limit the maximum number of items
+   * @return the items in descending order of estimated borrows
+   * @throws IllegalArgumentException if limit is not positive or exceeds the maximum
+   */
+  List<TrendingItemResponse> getTrendingItems(TrendingWindow window, int limit);
+
+  /**
+   * Retrieves the loans, borrowed items and returned items of every day of a range.
+   *
+   * @param from the first day, inclusive
+   * @param to the last day, inclusive
+   * @return one entry per day in chronological order, including days without activity
+   * @throws IllegalArgumentException if to is before from or the range exceeds the maximum
+   */
+  List<DailyCirculationResponse> getDailyCirculation(LocalDate from, LocalDate to);
+
+  /**
+   * Retrieves the circulation and loan durations of every genre.
+   *
+   * @return one entry per genre, in descending order of borrows
+   */
+  List<GenreCirculationResponse> getGenreCirculation();
+
+  /**
+   * Estimates the number of distinct members who borrowed a library item.
+   *
+   * @param itemId the ID of the item
+   * @return the estimate and its relative standard error
+   * @throws com.lms.library.exception.ItemNotFoundException if no item exists with the given ID
+   */
+  ItemBorrowersResponse getItemBorrowers(Long itemId);
+
+  /**
+   * Estimates the number of distinct members who borrowed an item of each genre.
+   *
+   * @return one entry per genre, in descending order of distinct borrowers
+   */
+  List<GenreBorrowersResponse> getGenreBorrowers();
+}
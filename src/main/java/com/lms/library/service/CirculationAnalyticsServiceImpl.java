@@ -0,0 +1,132 @@
+package com.lms.library.service;
+
+import com.lms.library.analytics.CirculationStats;
+import com.lms.library.analytics.DistinctBorrowers;
+import com.lms.library.analytics.TrendingItems;
+import com.lms.library.analytics.TrendingWindow;
+import com.lms.library.dto.DailyCirculationResponse;
+import com.lms.library.dto.GenreBorrowersResponse;
+import com.lms.library.dto.GenreCirculationResponse;
+import com.lms.library.dto.ItemBorrowersResponse;
+import com.lms.library.dto.ItemCirculationResponse;
+import com.lms.library.dto.TrendingItemResponse;
+import com.lms.library.exception.ItemNotFoundException;
+import com.lms.library.repository.LibraryItemRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the CirculationAnalyticsService interface. Reads the {@link CirculationStats}
+ * aggregates and the {@link TrendingItems} and {@link DistinctBorrowers} sketches, looking up only
+ * the titles of the items it returns.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see CirculationAnalyticsService
+ * @since 2025
+ */
+@Service
+public class CirculationAnalyticsServiceImpl implements CirculationAnalyticsService {
+
+  /** Maximum number of items returned by a most borrowed query. */
+  static final int MAX_LIMIT = 100;
+
+  /** Maximum number of days returned by a daily circulation query. */
+  static final int MAX_DAYS = 366;
+
+  private final CirculationStats circulationStats;
+  private final TrendingItems trendingItems;
+  private final DistinctBorrowers distinctBorrowers;
+  private final LibraryItemRepository libraryItemRepository;
+
+  /**
+   * Constructs a new CirculationAnalyticsServiceImpl with required dependencies.
+   *
+   * @param circulationStats the circulation aggregates to read
+   * @param trendingItems the sketches of recent checkouts to read
+   * @param distinctBorrowers the sketches of the borrowers of items and genres to read
+   * @param libraryItemRepository repository for library item operations
+   */
+  public CirculationAnalyticsServiceImpl(
+      CirculationStats circulationStats,
+      TrendingItems trendingItems,
+      DistinctBorrowers distinctBorrowers,
+      LibraryItemRepository libraryItemRepository) {
+    this.circulationStats = circulationStats;
+    this.trendingItems = trendingItems;
+    this.distinctBorrowers = distinctBorrowers;
+    this.libraryItemRepository = libraryItemRepository;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<ItemCirculationResponse> getMostBorrowedItems(int limit) {
+    checkLimit(limit);
+    return circulationStats.mostBorrowed(limit).stream()
+        .flatMap(
+            itemBorrows ->
+                libraryItemRepository.findById(itemBorrows.itemId()).stream()
+                    .map(item -> ItemCirculationResponse.from(item, itemBorrows)))
+        .toList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<TrendingItemResponse> getTrendingItems(TrendingWindow window, int limit) {
+    checkLimit(limit);
+    return trendingItems.top(window, limit, Instant.now()).stream()
+        .flatMap(
+            trendingItem ->
+                libraryItemRepository.findById(trendingItem.itemId()).stream()
+                    .map(item -> TrendingItemResponse.from(item, trendingItem)))
+        .toList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<DailyCirculationResponse> getDailyCirculation(LocalDate from, LocalDate to) {
+    if (to.isBefore(from)) {
+      throw new IllegalArgumentException("End date must not be before start date");
+    }
+    if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+      throw new IllegalArgumentException("Date range must not exceed %d days".formatted(MAX_DAYS));
+    }
+    return circulationStats.daily(from, to).stream().map(DailyCirculationResponse::from).toList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<GenreCirculationResponse> getGenreCirculation() {
+    return circulationStats.byGenre().stream().map(GenreCirculationResponse::from).toList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public ItemBorrowersResponse getItemBorrowers(Long itemId) {
+    var item =
+        libraryItemRepository
+            .findById(itemId)
+            .orElseThrow(
+                () -> new ItemNotFoundException("Item not found with ID: %s".formatted(itemId)));
+    return ItemBorrowersResponse.from(
+        item, distinctBorrowers.ofItem(itemId), distinctBorrowers.getItemError());
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<GenreBorrowersResponse> getGenreBorrowers() {
+    var relativeError = distinctBorrowers.getGenreError();
+    return distinctBorrowers.ofGenres().stream()
+        .map(genreBorrowers -> GenreBorrowersResponse.from(genreBorrowers, relativeError))
+        .toList();
+  }
+
+  private static void checkLimit(int limit) {
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException("Limit must be between 1 and %d".formatted(MAX_LIMIT));
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.lms.library.service;
+
+import com.lms.library.exception.HoldNotFoundException;
+import com.lms.library.exception.ItemNotFoundException;
+import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.model.Hold;
+import java.util.List;
+
+/**
+ * Service interface for item hold operations. A member waiting for an item places a hold on it and
+ * polls the hold, instead of retrying the checkout until the item is returned.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see HoldServiceImpl
+ * @since 2025
+ */
+public interface HoldService {
+  /**
+   * Places a hold for a member at the end of an item's queue. If the item is available and nobody
+   * is ahead in the queue, it is checked out to the member straight away and the returned hold is
+   * already fulfilled.
+   *
+   * @param memberId the ID of the member placing the hold
+   * @param itemId the ID of the library item to wait for
+   * @return the placed hold
+   * @throws MemberNotFoundException if member is not found
+   * @throws ItemNotFoundException if item is not found
+   * @throws IllegalStateException if the member is already waiting for the item
+   */
+  Hold placeHold(Long memberId, Long itemId);
+
+  /**
+   * Retrieves a hold by its ID.
+   *
+   * @param holdId the ID of the hold
+   * @return the hold
+   * @throws HoldNotFoundException if hold is not found
+   */
+  Hold getHold(Long holdId);
+
+  /**
+   * Retrieves all holds placed by a member.
+   *
+   * @param memberId the ID of the member
+   * @return list of the member's holds, in the order in which they were placed
+   * @throws MemberNotFoundException if member is not found
+   */
+  List<Hold> getMemberHolds(Long memberId);
+
+  /**
+   * Cancels a waiting hold. The member loses their place in the item's queue.
+   *
+   * @param holdId the ID of the hold
+   * @return the cancelled hold
+   * @throws HoldNotFoundException if hold is not found
+   * @throws IllegalStateException if the hold is no longer waiting
+   */
+  Hold cancelHold(Long holdId);
+
+  /**
+   * Gets the position of a hold in its item's queue.
+   *
+   * @param hold the hold to locate
+   * @return the 1-based queue position, or 0 if the hold is not waiting
+   */
+  int getQueuePosition(Hold hold);
+}
@@ -0,0 +1,124 @@
+package com.lms.library.service;
+
+import com.lms.library.exception.HoldNotFoundException;
+import com.lms.library.exception.ItemNotFoundException;
+import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.model.Hold;
+import com.lms.library.repository.HoldRepository;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.repository.MemberRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the HoldService interface. Holds are queued per item in the {@link
+ * HoldRepository}; the {@link LoanService} allocates returned items to the first holder in line.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see HoldService
+ * @since 2025
+ */
+@Service
+public class HoldServiceImpl implements HoldService {
+
+  private static final Logger log = LoggerFactory.getLogger(HoldServiceImpl.class);
+
+  private final MemberRepository memberRepository;
+  private final LibraryItemRepository libraryItemRepository;
+  private final HoldRepository holdRepository;
+  private final LoanService loanService;
+
+  /**
+   * Constructs a new HoldServiceImpl with required dependencies.
+   *
+   * @param memberRepository repository for member operations
+   * @param libraryItemRepository repository for library item operations
+   * @param holdRepository repository for the hold queues of library items
+   * @param loanService loan service used to check out available items to their holders
+   */
+  public HoldServiceImpl(
+      MemberRepository memberRepository,
+      LibraryItemRepository libraryItemRepository,
+      HoldRepository holdRepository,
+      LoanService loanService) {
+    this.memberRepository = memberRepository;
+    this.libraryItemRepository = libraryItemRepository;
+    this.holdRepository = holdRepository;
+    this.loanService = loanService;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Hold placeHold(Long memberId, Long itemId) {
+    if (!memberRepository.existsById(memberId)) {
+      throw new MemberNotFoundException("Member not found with ID: %s".formatted(memberId));
+    }
+    var item =
+        libraryItemRepository
+            .findById(itemId)
+            .orElseThrow(
+                () -> new ItemNotFoundException("Item not found with ID: %s".formatted(itemId)));
+    var hold =
+        holdRepository
+            .saveIfNotWaiting(new Hold(memberId, itemId, Instant.now()))
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Member %s is already waiting for item %s".formatted(memberId, itemId)));
+    log.info("Member {} placed hold {} on item {}", memberId, hold.getId(), itemId);
+
+    if (item.isAvailable()) {
+      // Nobody returns an item that is on the shelf, so allocate it now
+      loanService.allocateToNextHolder(itemId);
+    }
+    return hold;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Hold getHold(Long holdId) {
+    return holdRepository
+        .findById(holdId)
+        .orElseThrow(
+            () -> new HoldNotFoundException("Hold not found with ID: %s".formatted(holdId)));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Hold> getMemberHolds(Long memberId) {
+    if (!memberRepository.existsById(memberId)) {
+      throw new MemberNotFoundException("Member not found with ID: %s".formatted(memberId));
+    }
+
+    return holdRepository.findByMemberId(memberId);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Hold cancelHold(Long holdId) {
+    var hold = getHold(holdId);
+    if (!hold.cancel()) {
+      var status = hold.getStatus().name().toLowerCase(Locale.ROOT);
+      throw new IllegalStateException("Hold is already %s".formatted(status));
+    }
+
+    log.info("Cancelled hold {} on item {}", holdId, hold.getItemId());
+    var item = libraryItemRepository.findById(hold.getItemId());
+    if (item.isPresent() && item.get().isAvailable()) {
+      // The cancelled hold may have been the one keeping the item from the next holder
+      loanService.allocateToNextHolder(hold.getItemId());
+    }
+    return hold;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int getQueuePosition(Hold hold) {
+    return holdRepository.getQueuePosition(hold);
+  }
+}
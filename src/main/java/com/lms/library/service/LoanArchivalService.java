@@ -0,0 +1,24 @@
+package com.lms.library.service;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for moving old closed loans out of the in-memory loan repositories into the
+ * on-disk loan archive.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see LoanArchivalServiceImpl
+ * @since 2025
+ */
+public interface LoanArchivalService {
+  /**
+   * Archives all closed loans whose last item was returned before the given date. Archived loans
+   * remain readable through {@link LoanService#getLoanById(Long)} and {@link
+   * LoanService#getMemberLoans(Long)}.
+   *
+   * @param closedBefore the exclusive upper bound for the closing date of archived loans
+   * @return the number of loans moved to the archive
+   */
+  int archiveClosedLoans(LocalDate closedBefore);
+}
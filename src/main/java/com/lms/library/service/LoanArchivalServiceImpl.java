@@ -0,0 +1,88 @@
+package com.lms.library.service;
+
+import com.lms.library.model.Loan;
+import com.lms.library.repository.LoanArchiveRepository;
+import com.lms.library.repository.LoanItemRepository;
+import com.lms.library.repository.LoanRepository;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the LoanArchivalService interface. Each batch of loans is first appended to the
+ * archive and only then evicted from the loan repositories, so a loan is always readable from at
+ * least one tier. A loan modified between the two steps stays in the loan repository and is
+ * archived again by a later run.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see LoanArchivalService
+ * @since 2025
+ */
+@Service
+public class LoanArchivalServiceImpl implements LoanArchivalService {
+
+  private static final Logger log = LoggerFactory.getLogger(LoanArchivalServiceImpl.class);
+
+  private final LoanRepository loanRepository;
+  private final LoanItemRepository loanItemRepository;
+  private final LoanArchiveRepository loanArchiveRepository;
+  private final int batchSize;
+
+  /**
+   * Constructs a new LoanArchivalServiceImpl with required dependencies.
+   *
+   * @param loanRepository repository for loan operations
+   * @param loanItemRepository repository for loan item operations
+   * @param loanArchiveRepository repository for archived loans
+   * @param batchSize the number of loans compressed together in one archive block
+   * @throws IllegalArgumentException if batchSize is not positive
+   */
+  public LoanArchivalServiceImpl(
+      LoanRepository loanRepository,
+      LoanItemRepository loanItemRepository,
+      LoanArchiveRepository loanArchiveRepository,
+      @Value("${library.archive.batch-size:256}") int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    this.loanRepository = loanRepository;
+    this.loanItemRepository = loanItemRepository;
+    this.loanArchiveRepository = loanArchiveRepository;
+    this.batchSize = batchSize;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int archiveClosedLoans(LocalDate closedBefore) {
+    var candidates = loanRepository.findClosedBefore(closedBefore);
+    var archived = 0;
+    for (var from = 0; from < candidates.size(); from += batchSize) {
+      var to = Math.min(from + batchSize, candidates.size());
+      archived += archiveBatch(candidates.subList(from, to));
+    }
+    if (archived > 0) {
+      log.info("Archived {} loans closed before {}", archived, closedBefore);
+    }
+    return archived;
+  }
+
+  private int archiveBatch(List<Loan> batch) {
+    var versions = batch.stream().collect(Collectors.toMap(Loan::getId, Loan::getVersion));
+    loanArchiveRepository.appendAll(batch);
+
+    var evicted = new HashSet<Long>();
+    for (var loan : batch) {
+      if (loanRepository.remove(loan, versions.get(loan.getId()))) {
+        evicted.add(loan.getId());
+      }
+    }
+    loanItemRepository.deleteByLoanIds(evicted);
+    return evicted.size();
+  }
+}
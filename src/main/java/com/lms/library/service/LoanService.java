@@ -1,12 +1,16 @@
 package com.lms.library.service;
 
 import com.lms.library.dto.LoanRequest;
+import com.lms.library.exception.BorrowingBlockedException;
 import com.lms.library.exception.ItemNotAvailableException;
 import com.lms.library.exception.ItemNotFoundException;
 import com.lms.library.exception.LoanNotFoundException;
 import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.exception.OptimisticLockException;
 import com.lms.library.model.Loan;
+import com.lms.library.policy.MemberStanding;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service interface for loan management operations. Defines the contract for loan-related business
@@ -19,19 +23,32 @@ import java.util.List;
  */
 public interface LoanService {
   /**
-   * Checks out items for a member, creating a new loan.
+   * Checks out items for a member, creating a new loan. An item that other members are waiting for
+   * can only be checked out by the member first in its hold queue, whose hold is then fulfilled.
    *
    * @param memberId the ID of the member checking out items
    * @param loanRequest the request containing item IDs to checkout
    * @return the created loan with all items
    * @throws MemberNotFoundException if member is not found
+   * @throws BorrowingBlockedException if the member has overdue items or would exceed the limit of
+   *     open items
    * @throws ItemNotFoundException if any item is not found
-   * @throws ItemNotAvailableException if any item is not available
+   * @throws ItemNotAvailableException if any item is not available or is held for another member
    */
   Loan checkoutItems(Long memberId, LoanRequest loanRequest);
 
   /**
-   * Retrieves all loans for a specific member.
+   * Retrieves a member's open and overdue item counts and accrued fines, which decide whether the
+   * member may borrow.
+   *
+   * @param memberId the ID of the member
+   * @return the member's counters
+   * @throws MemberNotFoundException if member is not found
+   */
+  MemberStanding getMemberStanding(Long memberId);
+
+  /**
+   * Retrieves all loans for a specific member, including archived loans.
    *
    * @param memberId the ID of the member
    * @return list of loans for the member, ordered by loan date descending
@@ -40,7 +57,7 @@ public interface LoanService {
   List<Loan> getMemberLoans(Long memberId);
 
   /**
-   * Retrieves a specific loan by its ID.
+   * Retrieves a specific loan by its ID. Archived loans are read from the loan archive.
    *
    * @param loanId the ID of the loan to retrieve
    * @return the loan with member and items information
@@ -49,7 +66,28 @@ public interface LoanService {
   Loan getLoanById(Long loanId);
 
   /**
-   * Processes the return of items for a loan.
+   * Retrieves the current version of a loan without loading it. The version changes every time the
+   * loan is saved, so it can be used as a validator for conditional requests.
+   *
+   * @param loanId the ID of the loan
+   * @return the current loan version
+   * @throws LoanNotFoundException if loan is not found
+   */
+  long getLoanVersion(Long loanId);
+
+  /**
+   * Retrieves the current version of a member's loan list without loading the loans. The version
+   * changes every time any loan of the member is saved.
+   *
+   * @param memberId the ID of the member
+   * @return the current version of the member's loan list
+   * @throws MemberNotFoundException if member is not found
+   */
+  long getMemberLoansVersion(Long memberId);
+
+  /**
+   * Processes the return of items for a loan. Each returned item that members are waiting for is
+   * checked out to the member first in its hold queue.
    *
    * @param loanId the ID of the loan to return items from
    * @param itemIds list of specific item IDs to return, or empty list to return all items
@@ -57,6 +95,16 @@ public interface LoanService {
    * @throws LoanNotFoundException if loan is not found
    * @throws ItemNotFoundException if any specified item is not found in the loan
    * @throws IllegalStateException if loan is already closed
+   * @throws OptimisticLockException if the loan keeps being modified concurrently
    */
   Loan returnItems(Long loanId, List<Long> itemIds);
+
+  /**
+   * Checks out an item to the member first in its hold queue, if the item is available. Holds whose
+   * member no longer exists are cancelled and skipped.
+   *
+   * @param itemId the ID of the library item
+   * @return the loan created for the holder, or empty if nobody is waiting or the item is taken
+   */
+  Optional<Loan> allocateToNextHolder(Long itemId);
 }
@@ -1,19 +1,39 @@
 package com.lms.library.service;
 
+import com.lms.library.analytics.CirculationStats;
+import com.lms.library.analytics.DistinctBorrowers;
 import com.lms.library.dto.LoanRequest;
+import com.lms.library.event.ItemReturned;
+import com.lms.library.event.LoanClosed;
+import com.lms.library.event.LoanCreated;
+import com.lms.library.event.LoanEventBus;
+import com.lms.library.exception.BorrowingBlockedException;
 import com.lms.library.exception.ItemNotAvailableException;
 import com.lms.library.exception.ItemNotFoundException;
 import com.lms.library.exception.LoanNotFoundException;
 import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.exception.OptimisticLockException;
+import com.lms.library.model.Hold;
 import com.lms.library.model.Loan;
 import com.lms.library.model.LoanItem;
 import com.lms.library.model.LoanStatus;
+import com.lms.library.model.Member;
+import com.lms.library.policy.MemberLedger;
+import com.lms.library.policy.MemberStanding;
+import com.lms.library.repository.HoldRepository;
 import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.repository.LoanArchiveRepository;
 import com.lms.library.repository.LoanItemRepository;
 import com.lms.library.repository.LoanRepository;
 import com.lms.library.repository.MemberRepository;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -32,10 +52,20 @@ public class LoanServiceImpl implements LoanService {
 
   private static final Logger log = LoggerFactory.getLogger(LoanServiceImpl.class);
 
+  /** Maximum number of attempts for a return before a concurrent modification is reported. */
+  static final int MAX_RETURN_ATTEMPTS = 3;
+
   private final MemberRepository memberRepository;
   private final LibraryItemRepository libraryItemRepository;
   private final LoanRepository loanRepository;
   private final LoanItemRepository loanItemRepository;
+  private final LoanArchiveRepository loanArchiveRepository;
+  private final LoanEventBus loanEventBus;
+  private final HoldRepository holdRepository;
+  private final CirculationStats circulationStats;
+  private final DistinctBorrowers distinctBorrowers;
+  private final MemberLedger memberLedger;
+  private volatile LoanService allocationCoordinator = this;
 
   /**
    * Constructs a new LoanServiceImpl with required dependencies.
@@ -44,16 +74,35 @@ public class LoanServiceImpl implements LoanService {
    * @param libraryItemRepository repository for library item operations
    * @param loanRepository repository for loan operations
    * @param loanItemRepository repository for loan item operations
+   * @param loanArchiveRepository repository for archived loans, consulted when a loan is not found
+   *     in the loan repository
+   * @param loanEventBus event bus to which loan lifecycle events are published
+   * @param holdRepository repository for the hold queues of library items
+   * @param circulationStats circulation aggregates updated on every checkout and return
+   * @param distinctBorrowers sketches of the borrowers of items and genres, updated on checkout
+   * @param memberLedger per-member counters enforcing the loan limit and overdue block
    */
   public LoanServiceImpl(
       MemberRepository memberRepository,
       LibraryItemRepository libraryItemRepository,
       LoanRepository loanRepository,
-      LoanItemRepository loanItemRepository) {
+      LoanItemRepository loanItemRepository,
+      LoanArchiveRepository loanArchiveRepository,
+      LoanEventBus loanEventBus,
+      HoldRepository holdRepository,
+      CirculationStats circulationStats,
+      DistinctBorrowers distinctBorrowers,
+      MemberLedger memberLedger) {
     this.memberRepository = memberRepository;
     this.libraryItemRepository = libraryItemRepository;
     this.loanRepository = loanRepository;
     this.loanItemRepository = loanItemRepository;
+    this.loanArchiveRepository = loanArchiveRepository;
+    this.loanEventBus = loanEventBus;
+    this.holdRepository = holdRepository;
+    this.circulationStats = circulationStats;
+    this.distinctBorrowers = distinctBorrowers;
+    this.memberLedger = memberLedger;
   }
 
   /** {@inheritDoc} */
@@ -67,9 +116,172 @@ public class LoanServiceImpl implements LoanService {
                     new MemberNotFoundException(
                         "Member not found with ID: %s".formatted(memberId)));
 
+    // Checked and counted before any item is taken, so concurrent checkouts cannot both pass
+    memberLedger.reserve(memberId, loanRequest.items().size());
+    Loan savedLoan;
+    try {
+      savedLoan = createLoan(member, loanRequest);
+    } catch (RuntimeException ex) {
+      memberLedger.release(memberId, loanRequest.items().size());
+      throw ex;
+    }
+    memberLedger.loanOpened(savedLoan);
+
+    log.info(
+        "Created loan {} with {} items for member {}",
+        savedLoan.getId(),
+        loanRequest.items().size(),
+        memberId);
+
+    circulationStats.recordCheckout(savedLoan);
+    distinctBorrowers.recordLoan(savedLoan);
+    loanEventBus.publish(
+        new LoanCreated(savedLoan.getId(), memberId, loanRequest.items(), Instant.now()));
+    return savedLoan;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<Loan> getMemberLoans(Long memberId) {
+    if (!memberRepository.existsById(memberId)) {
+      throw new MemberNotFoundException("Member not found with ID: %s".formatted(memberId));
+    }
+
+    var loans = loanRepository.findByMemberIdOrderByLoanDateDesc(memberId);
+    var archivedLoans = loanArchiveRepository.findByMemberIdOrderByLoanDateDesc(memberId);
+    if (archivedLoans.isEmpty()) {
+      return loans;
+    }
+
+    // A loan being archived can briefly be in both tiers; the in-memory copy wins
+    var hotLoanIds = loans.stream().map(Loan::getId).collect(Collectors.toSet());
+    return Stream.concat(
+            loans.stream(), archivedLoans.stream().filter(l -> !hotLoanIds.contains(l.getId())))
+        .sorted(Comparator.comparing(Loan::getLoanDate).reversed())
+        .toList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Loan getLoanById(Long loanId) {
+    return loanRepository
+        .findByIdWithMemberAndItems(loanId)
+        .or(() -> loanArchiveRepository.findById(loanId))
+        .orElseThrow(
+            () -> new LoanNotFoundException("Loan not found with ID: %s".formatted(loanId)));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public MemberStanding getMemberStanding(Long memberId) {
+    if (!memberRepository.existsById(memberId)) {
+      throw new MemberNotFoundException("Member not found with ID: %s".formatted(memberId));
+    }
+
+    return memberLedger.standingOf(memberId);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getLoanVersion(Long loanId) {
+    var version = loanRepository.getLoanVersion(loanId);
+    if (version == 0) {
+      version = loanArchiveRepository.getLoanVersion(loanId);
+    }
+    if (version == 0) {
+      throw new LoanNotFoundException("Loan not found with ID: %s".formatted(loanId));
+    }
+    return version;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long getMemberLoansVersion(Long memberId) {
+    if (!memberRepository.existsById(memberId)) {
+      throw new MemberNotFoundException("Member not found with ID: %s".formatted(memberId));
+    }
+
+    return loanRepository.getMemberLoansVersion(memberId);
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Item and loan updates are saved with compare-and-set against the versions observed when they
+   * were read. If a concurrent return wins the race, the whole operation is retried against fresh
+   * state up to {@value #MAX_RETURN_ATTEMPTS} times. A return that finds the loan closed on retry
+   * leaves it unchanged.
+   *
+   * <p>The compare-and-set only detects conflicts: items are marked returned and the loan status is
+   * updated on the stored instances before they are saved, and a losing writer's changes are not
+   * rolled back. They are the changes the winner makes as well, since returning an item sets the
+   * same state however often it happens and the status is derived from the items. Statistics,
+   * counters and events are only recorded once a save succeeded, and only once the return
+   * succeeded are the items allocated to their holders, so a retried return never allocates an
+   * item twice. While allocations are {@linkplain #routeAllocationsThrough routed through a
+   * coordinator}, the coordinator allocates the returned items instead.
+   *
+   * @throws OptimisticLockException if the loan keeps being modified concurrently after all retries
+   */
+  @Override
+  public Loan returnItems(Long loanId, List<Long> itemIds) {
+    var loan = returnWithRetries(loanId, itemIds);
+    if (allocationCoordinator == this) {
+      itemIds.forEach(this::allocateToNextHolder);
+    }
+    return loan;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The item is checked out through the {@linkplain #routeAllocationsThrough allocation
+   * coordinator}, which is this service unless another one was set.
+   */
+  @Override
+  public Optional<Loan> allocateToNextHolder(Long itemId) {
+    for (var hold = holdRepository.findNextWaiting(itemId);
+        hold.isPresent();
+        hold = holdRepository.findNextWaiting(itemId)) {
+      var memberId = hold.get().getMemberId();
+      try {
+        var loan = allocationCoordinator.checkoutItems(memberId, new LoanRequest(List.of(itemId)));
+        // A coordinator may have created the loan on another node, which does not know the hold
+        hold.get().fulfil(loan.getId());
+        log.info("Allocated item {} to member {} in loan {}", itemId, memberId, loan.getId());
+        return Optional.of(loan);
+      } catch (MemberNotFoundException ex) {
+        log.warn("Cancelling hold {} of unknown member {}", hold.get().getId(), memberId);
+        hold.get().cancel();
+      } catch (ItemNotAvailableException ex) {
+        // Still on loan, or taken by the holder in the meantime; the hold keeps its place
+        return Optional.empty();
+      } catch (BorrowingBlockedException ex) {
+        // The item waits for the holder, who may check it out once allowed to borrow again
+        log.info("Hold {} not fulfilled: {}", hold.get().getId(), ex.getMessage());
+        return Optional.empty();
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Routes hold allocation through a coordinating loan service, such as the clustered one, which
+   * must reserve items before this service may check them out. Allocated items are then checked
+   * out through the coordinator, and returns no longer allocate the returned items themselves: the
+   * coordinator allocates them once it has released them.
+   *
+   * @param coordinator the loan service through which allocated items are checked out
+   */
+  public void routeAllocationsThrough(LoanService coordinator) {
+    this.allocationCoordinator = coordinator;
+  }
+
+  private Loan createLoan(Member member, LoanRequest loanRequest) {
     var loanDate = LocalDate.now();
     var expectedReturnDate = loanDate.plusDays(14);
     var loan = new Loan(member, loanDate, expectedReturnDate);
+    var fulfilledHolds = new ArrayList<Hold>();
 
     for (Long itemId : loanRequest.items()) {
       // Use the available item query to avoid proxy issues
@@ -90,80 +302,109 @@ public class LoanServiceImpl implements LoanService {
                         "Item '%s' is currently loaned out".formatted(unavailableItem.getTitle()));
                   });
 
+      var nextHold = holdRepository.findNextWaiting(itemId);
+      if (nextHold.isPresent()) {
+        if (!nextHold.get().getMemberId().equals(member.getId())) {
+          throw new ItemNotAvailableException(
+              "Item '%s' is on hold for another member".formatted(item.getTitle()));
+        }
+        fulfilledHolds.add(nextHold.get());
+      }
+
       item.setAvailable(false);
       libraryItemRepository.save(item);
 
       LoanItem loanItem = new LoanItem(loan, item);
       loan.addItem(loanItem);
 
-      log.info("Added item {} to loan for member {}", itemId, memberId);
+      log.info("Added item {} to loan for member {}", itemId, member.getId());
     }
 
     var savedLoan = loanRepository.save(loan);
     loanItemRepository.saveAll(loan.getItems());
-
-    log.info(
-        "Created loan {} with {} items for member {}",
-        savedLoan.getId(),
-        loanRequest.items().size(),
-        memberId);
-
+    fulfilledHolds.forEach(hold -> hold.fulfil(savedLoan.getId()));
     return savedLoan;
   }
 
-  /** {@inheritDoc} */
-  @Override
-  public List<Loan> getMemberLoans(Long memberId) {
-    if (!memberRepository.existsById(memberId)) {
-      throw new MemberNotFoundException("Member not found with ID: %s".formatted(memberId));
+  private Loan returnWithRetries(Long loanId, List<Long> itemIds) {
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return tryReturnItems(loanId, itemIds, attempt > 1);
+      } catch (OptimisticLockException ex) {
+        if (attempt >= MAX_RETURN_ATTEMPTS) {
+          throw ex;
+        }
+        log.warn(
+            "Concurrent update on loan {} (attempt {}/{}): {}",
+            loanId,
+            attempt,
+            MAX_RETURN_ATTEMPTS,
+            ex.getMessage());
+      }
     }
-
-    return loanRepository.findByMemberIdOrderByLoanDateDesc(memberId);
-  }
-
-  /** {@inheritDoc} */
-  @Override
-  public Loan getLoanById(Long loanId) {
-    return loanRepository
-        .findByIdWithMemberAndItems(loanId)
-        .orElseThrow(
-            () -> new LoanNotFoundException("Loan not found with ID: %s".formatted(loanId)));
   }
 
-  /** {@inheritDoc} */
-  @Override
-  public Loan returnItems(Long loanId, List<Long> itemIds) {
+  private Loan tryReturnItems(Long loanId, List<Long> itemIds, boolean retry) {
     var loan =
         loanRepository
             .findByIdWithItems(loanId)
             .orElseThrow(
-                () -> new LoanNotFoundException("Loan not found with ID: %s".formatted(loanId)));
+                () ->
+                    loanArchiveRepository.existsById(loanId)
+                        ? new IllegalStateException("Loan is already closed")
+                        : new LoanNotFoundException(
+                            "Loan not found with ID: %s".formatted(loanId)));
+    var loanVersion = loan.getVersion();
 
     if (loan.getStatus() == LoanStatus.CLOSED) {
+      if (retry) {
+        // Closed since the first attempt by the writer that also published LoanClosed, so there
+        // is nothing left to save once every requested item is confirmed returned
+        for (Long itemId : itemIds) {
+          if (!findLoanItem(loanId, itemId).isReturned()) {
+            throw new IllegalStateException(
+                "Item %s of closed loan %s is not returned".formatted(itemId, loanId));
+          }
+        }
+        return loan;
+      }
       throw new IllegalStateException("Loan is already closed");
     }
 
     for (Long itemId : itemIds) {
-      var loanItem =
-          loanItemRepository
-              .findByLoanIdAndItemId(loanId, itemId)
-              .orElseThrow(
-                  () ->
-                      new ItemNotFoundException(
-                          "Item %s not found in loan %s".formatted(itemId, loanId)));
+      var loanItem = findLoanItem(loanId, itemId);
+      var loanItemVersion = loanItem.getVersion();
 
       if (!loanItem.isReturned()) {
         loanItem.markReturned();
-        loanItemRepository.save(loanItem);
+        loanItemRepository.save(loanItem, loanItemVersion);
         log.info("Returned item {} from loan {}", itemId, loanId);
+        circulationStats.recordReturn(loanItem);
+        memberLedger.itemReturned(loan);
+        loanEventBus.publish(new ItemReturned(loanId, itemId, Instant.now()));
       }
     }
 
     // Update loan status
     loan.updateStatus();
-    Loan updatedLoan = loanRepository.save(loan);
+    Loan updatedLoan = loanRepository.save(loan, loanVersion);
 
     log.info("Updated loan {} status to {}", loanId, updatedLoan.getStatus());
-    return updatedLoan;
+    // The loan was open when read, so only the writer whose save closed it gets here with CLOSED
+    return updatedLoan.getStatus() == LoanStatus.CLOSED ? publishClosed(updatedLoan) : updatedLoan;
+  }
+
+  private LoanItem findLoanItem(Long loanId, Long itemId) {
+    return loanItemRepository
+        .findByLoanIdAndItemId(loanId, itemId)
+        .orElseThrow(
+            () ->
+                new ItemNotFoundException(
+                    "Item %s not found in loan %s".formatted(itemId, loanId)));
+  }
+
+  private Loan publishClosed(Loan loan) {
+    loanEventBus.publish(new LoanClosed(loan.getId(), loan.getMember().getId(), Instant.now()));
+    return loan;
   }
 }
@@ -0,0 +1,50 @@
+package com.lms.library.service;
+
+import com.lms.library.dto.MemberImportReport;
+import com.lms.library.dto.MemberResponse;
+import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.model.Member;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Service interface for member management operations. Defines the contract for member-related
+ * business logic.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see MemberServiceImpl
+ * @since 2025
+ */
+public interface MemberService {
+  /**
+   * Retrieves a member by their email address (case-insensitive).
+   *
+   * @param email the email address of the member
+   * @return the member owning the email address
+   * @throws MemberNotFoundException if no member uses the email address
+   */
+  Member getMemberByEmail(String email);
+
+  /**
+   * Imports members from an NDJSON stream, one {@link MemberResponse} object per line (the id is
+   * ignored). Lines are read and saved in batches as they arrive, so memory use does not grow with
+   * the size of the stream. Members whose email is already registered are skipped.
+   *
+   * @param ndjson the stream to read, which is not closed
+   * @return a report of created, skipped and rejected members
+   * @throws UncheckedIOException if the stream cannot be read
+   */
+  MemberImportReport importMembers(InputStream ndjson);
+
+  /**
+   * Writes all members to an NDJSON stream, one {@link MemberResponse} object per line, without
+   * materialising the member list.
+   *
+   * @param ndjson the stream to write to, which is flushed but not closed
+   * @return the number of members written
+   * @throws UncheckedIOException if the stream cannot be written
+   */
+  long exportMembers(OutputStream ndjson);
+}
@@ -0,0 +1,197 @@
+package com.lms.library.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.lms.library.dto.MemberImportReport;
+import com.lms.library.dto.MemberResponse;
+import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.model.Member;
+import com.lms.library.repository.MemberRepository;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the MemberService interface. Provides business logic for member lookups and
+ * bulk NDJSON import and export.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see MemberService
+ * @since 2025
+ */
+@Service
+public class MemberServiceImpl implements MemberService {
+
+  private static final Logger log = LoggerFactory.getLogger(MemberServiceImpl.class);
+
+  static final int MAX_REPORTED_ERRORS = 100;
+
+  private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+  private final MemberRepository memberRepository;
+  private final ObjectReader memberReader;
+  private final ObjectWriter memberWriter;
+  private final int batchSize;
+
+  /**
+   * Constructs a new MemberServiceImpl with required dependencies.
+   *
+   * @param memberRepository repository for member operations
+   * @param objectMapper the mapper used to read and write NDJSON lines
+   * @param batchSize the number of imported members saved per repository batch
+   * @throws IllegalArgumentException if batchSize is not positive
+   */
+  public MemberServiceImpl(
+      MemberRepository memberRepository,
+      ObjectMapper objectMapper,
+      @Value("${library.members.import.batch-size:1000}") int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    this.memberRepository = memberRepository;
+    this.memberReader = objectMapper.readerFor(MemberResponse.class);
+    this.memberWriter = objectMapper.writerFor(MemberResponse.class);
+    this.batchSize = batchSize;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Member getMemberByEmail(String email) {
+    return memberRepository
+        .findByEmail(email)
+        .orElseThrow(
+            () -> new MemberNotFoundException("Member not found with email: %s".formatted(email)));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public MemberImportReport importMembers(InputStream ndjson) {
+    var started = System.nanoTime();
+    var batch = new ArrayList<Member>(batchSize);
+    var errors = new ArrayList<String>();
+    long imported = 0;
+    long skipped = 0;
+    long rejected = 0;
+    long lineNumber = 0;
+
+    // The request body is pulled one buffer at a time, so a slow import slows the sender down
+    var reader =
+        new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8), IO_BUFFER_SIZE);
+    try {
+      for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          batch.add(toMember(line));
+        } catch (IllegalArgumentException ex) {
+          rejected++;
+          if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add("line %d: %s".formatted(lineNumber, ex.getMessage()));
+          }
+        }
+        if (batch.size() == batchSize) {
+          var saved = flush(batch);
+          imported += saved;
+          skipped += batchSize - saved;
+        }
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to read member import stream", ex);
+    }
+    var remaining = batch.size();
+    var saved = flush(batch);
+    imported += saved;
+    skipped += remaining - saved;
+
+    var elapsedNanos = System.nanoTime() - started;
+    var elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    var membersPerSecond =
+        elapsedNanos == 0 ? 0.0 : (imported + skipped + rejected) / elapsedSeconds;
+    log.info(
+        "Imported {} members ({} skipped, {} rejected) in {} ms ({} members/s)",
+        imported,
+        skipped,
+        rejected,
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        Math.round(membersPerSecond));
+    return new MemberImportReport(
+        imported,
+        skipped,
+        rejected,
+        List.copyOf(errors),
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        membersPerSecond);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long exportMembers(OutputStream ndjson) {
+    var out = new BufferedOutputStream(ndjson, IO_BUFFER_SIZE);
+    long exported = 0;
+    try (var members = memberRepository.streamAll()) {
+      for (var iterator = members.iterator(); iterator.hasNext(); exported++) {
+        out.write(memberWriter.writeValueAsBytes(MemberResponse.from(iterator.next())));
+        out.write('\n');
+      }
+      out.flush();
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to write member export stream", ex);
+    }
+    log.info("Exported {} members", exported);
+    return exported;
+  }
+
+  private Member toMember(String line) {
+    MemberResponse memberRecord;
+    try {
+      memberRecord = memberReader.readValue(line);
+    } catch (JsonProcessingException ex) {
+      throw new IllegalArgumentException("Malformed JSON: " + ex.getOriginalMessage());
+    }
+    if (memberRecord == null) {
+      // A literal null line parses without error but holds no member
+      throw new IllegalArgumentException("Malformed JSON: expected a member object, found null");
+    }
+    var email = required(memberRecord.email(), "Email");
+    if (email.indexOf('@') <= 0) {
+      throw new IllegalArgumentException("Invalid email: " + email);
+    }
+    return new Member(
+        required(memberRecord.firstName(), "First name"),
+        required(memberRecord.lastName(), "Last name"),
+        email);
+  }
+
+  private int flush(List<Member> batch) {
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    var saved = memberRepository.saveAll(batch).size();
+    batch.clear();
+    return saved;
+  }
+
+  private static String required(String value, String name) {
+    if (value == null || value.isBlank()) {
+      throw new IllegalArgumentException(name + " is required");
+    }
+    return value.strip();
+  }
+}
@@ -0,0 +1,33 @@
+package com.lms.library.service;
+
+import com.lms.library.dto.AvailabilityCensusResponse;
+import com.lms.library.dto.LoanCensusResponse;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service interface for reports that read a whole store. Unlike circulation analytics, their cost
+ * grows with the size of the catalogue or the number of loans, so they run on the scan workers
+ * rather than on the requesting thread.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ReportServiceImpl
+ * @since 2025
+ */
+public interface ReportService {
+  /**
+   * Counts the available and loaned items of every genre in the catalogue.
+   *
+   * @return one entry per genre, in alphabetical order
+   */
+  List<AvailabilityCensusResponse> getAvailabilityCensus();
+
+  /**
+   * Counts the open, closed and overdue live loans and their outstanding items.
+   *
+   * @param asOf the day against which loans are checked for being overdue
+   * @return the counts over all live loans
+   */
+  LoanCensusResponse getLoanCensus(LocalDate asOf);
+}
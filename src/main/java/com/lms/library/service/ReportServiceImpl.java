@@ -0,0 +1,124 @@
+package com.lms.library.service;
+
+import com.lms.library.analytics.CirculationStats;
+import com.lms.library.dto.AvailabilityCensusResponse;
+import com.lms.library.dto.LoanCensusResponse;
+import com.lms.library.model.LibraryItem;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanStatus;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.repository.LoanRepository;
+import com.lms.library.scan.ScanEngine;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the ReportService interface. Every report is a single pass over a store,
+ * reduced on the {@link ScanEngine} workers.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see ReportService
+ * @since 2025
+ */
+@Service
+public class ReportServiceImpl implements ReportService {
+
+  private final ScanEngine scanEngine;
+  private final LibraryItemRepository libraryItemRepository;
+  private final LoanRepository loanRepository;
+
+  /**
+   * Constructs a new ReportServiceImpl with required dependencies.
+   *
+   * @param scanEngine the engine running the scans
+   * @param libraryItemRepository repository for library item operations
+   * @param loanRepository repository for loan operations
+   */
+  public ReportServiceImpl(
+      ScanEngine scanEngine,
+      LibraryItemRepository libraryItemRepository,
+      LoanRepository loanRepository) {
+    this.scanEngine = scanEngine;
+    this.libraryItemRepository = libraryItemRepository;
+    this.loanRepository = loanRepository;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<AvailabilityCensusResponse> getAvailabilityCensus() {
+    var byGenre =
+        scanEngine.scan(
+            libraryItemRepository.streamAll().spliterator(),
+            Collectors.groupingBy(
+                CirculationStats::genreOf,
+                TreeMap::new,
+                Collectors.partitioningBy(LibraryItem::isAvailable, Collectors.counting())));
+    return byGenre.entrySet().stream()
+        .map(
+            entry -> {
+              var available = entry.getValue().get(true);
+              var onLoan = entry.getValue().get(false);
+              return new AvailabilityCensusResponse(
+                  entry.getKey(), available + onLoan, available, onLoan);
+            })
+        .toList();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public LoanCensusResponse getLoanCensus(LocalDate asOf) {
+    var census =
+        scanEngine.scan(
+            loanRepository.streamAll().spliterator(),
+            Collector.of(
+                LoanCensus::new,
+                (tally, loan) -> tally.add(loan, asOf),
+                LoanCensus::combine,
+                Collector.Characteristics.UNORDERED));
+    return new LoanCensusResponse(
+        asOf,
+        census.openLoans,
+        census.closedLoans,
+        census.outstandingItems,
+        census.overdueLoans,
+        census.overdueItems);
+  }
+
+  /** Counts of one chunk of loans, later combined with those of the other chunks. */
+  private static final class LoanCensus {
+
+    private long openLoans;
+    private long closedLoans;
+    private long outstandingItems;
+    private long overdueLoans;
+    private long overdueItems;
+
+    private void add(Loan loan, LocalDate asOf) {
+      if (loan.getStatus() == LoanStatus.CLOSED) {
+        closedLoans++;
+        return;
+      }
+      var outstanding = loan.getOutstandingItemCount();
+      openLoans++;
+      outstandingItems += outstanding;
+      if (loan.getExpectedReturnDate().isBefore(asOf)) {
+        overdueLoans++;
+        overdueItems += outstanding;
+      }
+    }
+
+    private LoanCensus combine(LoanCensus other) {
+      openLoans += other.openLoans;
+      closedLoans += other.closedLoans;
+      outstandingItems += other.outstandingItems;
+      overdueLoans += other.overdueLoans;
+      overdueItems += other.overdueItems;
+      return this;
+    }
+  }
+}
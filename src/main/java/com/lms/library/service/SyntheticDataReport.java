@@ -0,0 +1,33 @@
+package com.lms.library.service;
+
+/**
+ * Summary of a synthetic dataset generation.
+ *
+ * @param members the number of members saved
+ * @param items the number of books and journals saved
+ * @param loans the number of loans saved
+ * @param loanItems the number of loan items saved
+ * @param elapsedMillis the wall-clock duration of the generation in milliseconds
+ * @param recordsPerSecond the throughput in saved records of any kind per second
+ * @author Joel Silva
+ * @version 1.0
+ * @see SyntheticDataService
+ * @since 2025
+ */
+public record SyntheticDataReport(
+    long members,
+    long items,
+    long loans,
+    long loanItems,
+    long elapsedMillis,
+    double recordsPerSecond) {
+
+  /**
+   * Gets the total number of saved records.
+   *
+   * @return the number of members, items, loans and loan items saved
+   */
+  public long records() {
+    return members + items + loans + loanItems;
+  }
+}
@@ -0,0 +1,24 @@
+package com.lms.library.service;
+
+/**
+ * Service interface for populating the repositories with a synthetic dataset, so that benchmarks
+ * run against realistic volumes instead of the handful of sample records. The records are saved
+ * straight into the repositories: generated loans are not seen by the circulation counters, the
+ * borrower sketches or the member ledger, so analytics and borrowing limits ignore them.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see SyntheticDataServiceImpl
+ * @since 2025
+ */
+public interface SyntheticDataService {
+  /**
+   * Generates members, books, journals and a history of returned loans, and saves them.
+   *
+   * @param spec the dataset to generate
+   * @return a report of the saved records and the achieved throughput
+   * @throws IllegalStateException if generated members clash with existing ones, for example
+   *     because the same dataset was already generated
+   */
+  SyntheticDataReport generate(SyntheticDataSpec spec);
+}
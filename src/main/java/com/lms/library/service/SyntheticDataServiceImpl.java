@@ -0,0 +1,452 @@
+package com.lms.library.service;
+
+import com.lms.library.model.Book;
+import com.lms.library.model.Journal;
+import com.lms.library.model.LibraryItem;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import com.lms.library.model.Member;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.repository.LoanItemRepository;
+import com.lms.library.repository.LoanRepository;
+import com.lms.library.repository.MemberRepository;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Implementation of the SyntheticDataService interface. Records are generated and saved in
+ * fixed-size chunks on a bounded worker pool, one record type after the other. Every chunk draws
+ * from its own random generator, seeded from the dataset seed and the chunk's position, and the
+ * IDs of each record type are reserved in one block and assigned by position. The dataset and its
+ * IDs therefore do not depend on the number of workers or on which worker ran which chunk. Loan
+ * item IDs leave room for the largest loan, so some of them are never used.
+ *
+ * <p>The dataset aims at realistic shapes rather than realistic text:
+ *
+ * <ul>
+ *   <li>genres follow fixed weights, and books are spread over a pool of authors whose output
+ *       follows a Zipf distribution, so a few authors are prolific;
+ *   <li>item popularity follows a Zipf distribution over a fixed random permutation of the
+ *       catalogue, so popularity does not correlate with IDs, type or genre;
+ *   <li>loans hold one to three items and are spread uniformly over the history; loan durations
+ *       are exponential around two weeks, so some items come back late.
+ * </ul>
+ *
+ * <p>Loans are independent samples: a popular item may appear in loans whose periods overlap,
+ * which the checkout path would reject. Every loan is returned by the end of the history, so all
+ * items stay available and no member has items on loan. Loans bypass the checkout path, so {@code
+ * CirculationStats}, {@code DistinctBorrowers} and the {@code MemberLedger} do not count them.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @see SyntheticDataService
+ * @since 2025
+ */
+@Service
+public class SyntheticDataServiceImpl implements SyntheticDataService {
+
+  private static final Logger log = LoggerFactory.getLogger(SyntheticDataServiceImpl.class);
+
+  /** The longest generated loan, in days. */
+  static final int MAX_LOAN_DAYS = 56;
+
+  static final int CHUNK_SIZE = 16_384;
+
+  private static final int MAX_LOAN_ITEMS = 3;
+
+  private static final int LOAN_PERIOD_DAYS = 14;
+  private static final double MEAN_LOAN_DAYS = 12;
+  private static final int BOOKS_PER_AUTHOR = 8;
+  private static final double AUTHOR_ZIPF_EXPONENT = 0.9;
+  private static final double MEAN_BOOK_AGE_DAYS = 15 * 365.25;
+  private static final int MAX_BOOK_AGE_DAYS = 100 * 365;
+  private static final int MAX_JOURNAL_AGE_DAYS = 20 * 365;
+
+  private static final long ITEM_STREAM = 1;
+  private static final long MEMBER_STREAM = 2;
+  private static final long LOAN_STREAM = 3;
+  private static final long PERMUTATION_STREAM = 4;
+
+  private static final List<String> FIRST_NAMES =
+      List.of(
+          "Olivia", "Liam", "Emma", "Noah", "Ava", "Lucas", "Sofia", "Mateo", "Mia", "Ethan",
+          "Amelia", "James", "Isabella", "Hugo", "Chloe", "Leo", "Grace", "Daniel", "Lea",
+          "Samuel", "Ines", "Tomas", "Nora", "Arthur", "Alice", "Rafael", "Clara", "Joao",
+          "Maria", "Omar", "Yuki", "Wei", "Priya", "Kofi", "Anya", "Diego", "Elena", "Jonas");
+
+  private static final List<String> LAST_NAMES =
+      List.of(
+          "Smith", "Johnson", "Silva", "Garcia", "Martin", "Brown", "Costa", "Muller", "Rossi",
+          "Kim", "Nguyen", "Dubois", "Santos", "Novak", "Kowalski", "Tanaka", "Chen", "Patel",
+          "Okafor", "Jensen", "Ferreira", "Lopez", "Schmidt", "Wilson", "Moreau", "Ivanova",
+          "Haddad", "Murphy", "Larsen", "Almeida", "Fischer", "Rivera", "Sato", "Singh");
+
+  private static final List<String> GENRES =
+      List.of(
+          "Fiction", "Mystery", "Fantasy", "Science Fiction", "Romance", "Children", "History",
+          "Biography", "Science", "Programming");
+
+  /** Relative weights of {@link #GENRES}; the first five are fiction. */
+  private static final int[] GENRE_WEIGHTS = {24, 12, 10, 9, 9, 9, 8, 7, 7, 5};
+
+  private static final int FICTION_GENRES = 5;
+
+  private static final List<String> ADJECTIVES =
+      List.of(
+          "Silent", "Hidden", "Last", "Broken", "Golden", "Distant", "Burning", "Forgotten",
+          "Crimson", "Endless", "Quiet", "Winter", "Lost", "Bright", "Hollow", "Secret");
+
+  private static final List<String> NOUNS =
+      List.of(
+          "River", "Garden", "House", "Kingdom", "Letter", "Mirror", "Island", "Promise",
+          "Shadow", "Harbour", "Storm", "Orchard", "Station", "Crown", "Lighthouse", "Road");
+
+  private static final List<String> SUBJECTS =
+      List.of(
+          "Algorithms", "the Ocean", "Ancient Rome", "the Brain", "Climate", "Cities",
+          "Medicine", "Music", "Mathematics", "Empires", "Energy", "Language", "Design",
+          "Distributed Systems", "Evolution", "the Cosmos");
+
+  private static final List<String> FIELDS =
+      List.of(
+          "Neuroscience", "Applied Physics", "Economics", "Computer Science", "Marine Biology",
+          "Public Health", "Linguistics", "Materials Science", "Statistics", "Ecology");
+
+  private static final List<String> PUBLISHERS =
+      List.of("Springer", "Elsevier", "IEEE", "ACM", "Wiley", "Nature Publishing Group");
+
+  private final MemberRepository memberRepository;
+  private final LibraryItemRepository libraryItemRepository;
+  private final LoanRepository loanRepository;
+  private final LoanItemRepository loanItemRepository;
+  private final int parallelism;
+
+  /**
+   * Constructs a new SyntheticDataServiceImpl.
+   *
+   * @param memberRepository the repository for member data access
+   * @param libraryItemRepository the repository for library item data access
+   * @param loanRepository the repository for loan data access
+   * @param loanItemRepository the repository for loan item data access
+   * @param parallelism the number of generator threads, or 0 to use one per available processor
+   * @throws IllegalArgumentException if parallelism is negative
+   */
+  public SyntheticDataServiceImpl(
+      MemberRepository memberRepository,
+      LibraryItemRepository libraryItemRepository,
+      LoanRepository loanRepository,
+      LoanItemRepository loanItemRepository,
+      @Value("${library.synthetic.parallelism:0}") int parallelism) {
+    if (parallelism < 0) {
+      throw new IllegalArgumentException("Parallelism must not be negative");
+    }
+    this.memberRepository = memberRepository;
+    this.libraryItemRepository = libraryItemRepository;
+    this.loanRepository = loanRepository;
+    this.loanItemRepository = loanItemRepository;
+    this.parallelism =
+        parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+  }
+
+  @Override
+  public SyntheticDataReport generate(SyntheticDataSpec spec) {
+    log.info("Generating synthetic dataset {} with {} threads", spec, parallelism);
+    var started = System.nanoTime();
+    var items = new LibraryItem[spec.books() + spec.journals()];
+    var members = new Member[spec.members()];
+    var loanItems = new LongAdder();
+
+    try (var executor = Executors.newFixedThreadPool(parallelism)) {
+      var authors =
+          new ZipfSampler(Math.max(1, spec.books() / BOOKS_PER_AUTHOR), AUTHOR_ZIPF_EXPONENT);
+      var firstItemId = libraryItemRepository.reserveIds(items.length);
+      run(
+          executor,
+          spec.seed(),
+          ITEM_STREAM,
+          items.length,
+          (random, from, to) -> {
+            for (var i = from; i < to; i++) {
+              items[i] = i < spec.books() ? book(spec, authors, random) : journal(spec, random);
+              items[i].setId(firstItemId + i);
+            }
+            libraryItemRepository.saveAll(Arrays.asList(items).subList(from, to));
+          });
+
+      var firstMemberId = memberRepository.reserveIds(members.length);
+      run(
+          executor,
+          spec.seed(),
+          MEMBER_STREAM,
+          members.length,
+          (random, from, to) -> {
+            for (var i = from; i < to; i++) {
+              members[i] = member(random, i);
+              members[i].setId(firstMemberId + i);
+            }
+            var chunk = Arrays.asList(members).subList(from, to);
+            if (memberRepository.saveAll(chunk).size() != chunk.size()) {
+              throw new IllegalStateException(
+                  "Synthetic member emails are in use; was this dataset already generated?");
+            }
+          });
+
+      if (spec.loans() > 0) {
+        var popularity = new ZipfSampler(items.length, spec.zipfExponent());
+        var stride = permutationStride(spec.seed(), items.length);
+        var firstLoanId = loanRepository.reserveIds(spec.loans());
+        var firstLoanItemId = loanItemRepository.reserveIds((long) spec.loans() * MAX_LOAN_ITEMS);
+        run(
+            executor,
+            spec.seed(),
+            LOAN_STREAM,
+            spec.loans(),
+            (random, from, to) -> {
+              for (var i = from; i < to; i++) {
+                var loan = loan(spec, popularity, stride, items, members, random);
+                loan.setId(firstLoanId + i);
+                var loanItemId = firstLoanItemId + (long) i * MAX_LOAN_ITEMS;
+                for (var loanItem : loan.getItems()) {
+                  loanItem.setId(loanItemId++);
+                }
+                loanRepository.save(loan);
+                loanItemRepository.saveAll(loan.getItems());
+                loanItems.add(loan.getItems().size());
+              }
+            });
+      }
+    }
+
+    var elapsedNanos = System.nanoTime() - started;
+    var records = (long) items.length + members.length + spec.loans() + loanItems.sum();
+    var elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    var recordsPerSecond = elapsedNanos == 0 ? 0.0 : records / elapsedSeconds;
+    log.info(
+        "Generated {} synthetic records in {} ms ({} records/s)",
+        records,
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        Math.round(recordsPerSecond));
+    return new SyntheticDataReport(
+        members.length,
+        items.length,
+        spec.loans(),
+        loanItems.sum(),
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        recordsPerSecond);
+  }
+
+  /** Runs the task on every chunk of {@code count} records and waits for all chunks. */
+  private static void run(
+      ExecutorService executor, long seed, long stream, int count, ChunkTask task) {
+    var futures = new ArrayList<Future<?>>();
+    for (var from = 0; from < count; from += CHUNK_SIZE) {
+      var start = from;
+      var end = Math.min(from + CHUNK_SIZE, count);
+      var random = new SplittableRandom(chunkSeed(seed, stream, from / CHUNK_SIZE));
+      futures.add(executor.submit(() -> task.run(random, start, end)));
+    }
+    futures.forEach(SyntheticDataServiceImpl::await);
+  }
+
+  private static Book book(SyntheticDataSpec spec, ZipfSampler authors, SplittableRandom random) {
+    var genre = weightedGenre(random);
+    var fiction = GENRES.indexOf(genre) < FICTION_GENRES;
+    var ageDays = Math.min(MAX_BOOK_AGE_DAYS, exponential(random, MEAN_BOOK_AGE_DAYS));
+    var pageCount = Math.clamp(Math.round(320 + 110 * random.nextGaussian()), 48, 1400);
+    return new Book(
+        fiction ? fictionTitle(random) : nonFictionTitle(random),
+        authorName(authors.sample(random) - 1),
+        spec.endDate().minusDays(ageDays),
+        isbn13(random),
+        genre,
+        pageCount);
+  }
+
+  private static Journal journal(SyntheticDataSpec spec, SplittableRandom random) {
+    var field = pick(random, FIELDS);
+    var title =
+        switch (random.nextInt(4)) {
+          case 0 -> "Journal of " + field;
+          case 1 -> field + " Review";
+          case 2 -> "Annals of " + field;
+          default -> field + " Quarterly";
+        };
+    return new Journal(
+        title,
+        "Various",
+        spec.endDate().minusDays(random.nextInt(MAX_JOURNAL_AGE_DAYS)),
+        issn(random),
+        pick(random, PUBLISHERS),
+        random.nextInt(1, 91),
+        random.nextInt(1, 13));
+  }
+
+  private static Member member(SplittableRandom random, int index) {
+    var firstName = pick(random, FIRST_NAMES);
+    var lastName = pick(random, LAST_NAMES);
+    // The index keeps emails unique however often the names repeat
+    var email = firstName + "." + lastName + "." + index + "@synthetic.example";
+    return new Member(firstName, lastName, email.toLowerCase(Locale.ROOT));
+  }
+
+  private static Loan loan(
+      SyntheticDataSpec spec,
+      ZipfSampler popularity,
+      long stride,
+      LibraryItem[] items,
+      Member[] members,
+      SplittableRandom random) {
+    var member = members[random.nextInt(members.length)];
+    var daysAgo = MAX_LOAN_DAYS + 1 + random.nextInt(spec.historyDays() - MAX_LOAN_DAYS);
+    var loanDate = spec.endDate().minusDays(daysAgo);
+    var loan = new Loan(member, loanDate, loanDate.plusDays(LOAN_PERIOD_DAYS));
+
+    var roll = random.nextInt(10);
+    var itemCount = Math.min(items.length, roll < 6 ? 1 : roll < 9 ? 2 : MAX_LOAN_ITEMS);
+    var chosen = new LibraryItem[itemCount];
+    for (var chosenCount = 0; chosenCount < itemCount; ) {
+      var rank = popularity.sample(random);
+      var item = items[(int) ((rank - 1) * stride % items.length)];
+      if (!contains(chosen, chosenCount, item)) {
+        chosen[chosenCount++] = item;
+        var loanDays = Math.min(MAX_LOAN_DAYS, 1 + exponential(random, MEAN_LOAN_DAYS));
+        loan.addItem(new LoanItem(loan, item, loanDate.plusDays(loanDays)));
+      }
+    }
+    loan.updateStatus();
+    return loan;
+  }
+
+  private static boolean contains(LibraryItem[] chosen, int count, LibraryItem item) {
+    for (var i = 0; i < count; i++) {
+      if (chosen[i] == item) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Picks the multiplier of the permutation that maps popularity ranks to catalogue positions.
+   * Any multiplier coprime with the catalogue size visits every position exactly once.
+   */
+  private static long permutationStride(long seed, int itemCount) {
+    var random = new SplittableRandom(chunkSeed(seed, PERMUTATION_STREAM, 0));
+    var size = BigInteger.valueOf(itemCount);
+    while (true) {
+      var stride = random.nextLong(1, Math.max(2, itemCount));
+      if (BigInteger.valueOf(stride).gcd(size).equals(BigInteger.ONE)) {
+        return stride;
+      }
+    }
+  }
+
+  private static long chunkSeed(long seed, long stream, long chunk) {
+    return seed * 0x9E3779B97F4A7C15L + stream * 0xC2B2AE3D27D4EB4FL + chunk;
+  }
+
+  private static String weightedGenre(SplittableRandom random) {
+    var total = 0;
+    for (var weight : GENRE_WEIGHTS) {
+      total += weight;
+    }
+    var roll = random.nextInt(total);
+    for (var i = 0; i < GENRE_WEIGHTS.length; i++) {
+      roll -= GENRE_WEIGHTS[i];
+      if (roll < 0) {
+        return GENRES.get(i);
+      }
+    }
+    return GENRES.getLast();
+  }
+
+  private static String fictionTitle(SplittableRandom random) {
+    return switch (random.nextInt(4)) {
+      case 0 -> "The " + pick(random, ADJECTIVES) + " " + pick(random, NOUNS);
+      case 1 -> pick(random, NOUNS) + " of the " + pick(random, NOUNS);
+      case 2 -> "The " + pick(random, NOUNS) + "'s " + pick(random, NOUNS);
+      default -> "A " + pick(random, ADJECTIVES) + " " + pick(random, NOUNS);
+    };
+  }
+
+  private static String nonFictionTitle(SplittableRandom random) {
+    var subject = pick(random, SUBJECTS);
+    return switch (random.nextInt(4)) {
+      case 0 -> "Understanding " + subject;
+      case 1 -> "A Short History of " + subject;
+      case 2 -> "The Story of " + subject;
+      default -> "Essays on " + subject;
+    };
+  }
+
+  /** Names the author of the given pool index; the middle initial multiplies the distinct names. */
+  private static String authorName(long index) {
+    var first = FIRST_NAMES.get((int) (index % FIRST_NAMES.size()));
+    var rest = index / FIRST_NAMES.size();
+    var initial = (char) ('A' + rest % 26);
+    var last = LAST_NAMES.get((int) (rest / 26 % LAST_NAMES.size()));
+    return first + " " + initial + ". " + last;
+  }
+
+  private static String isbn13(SplittableRandom random) {
+    var digits = "978" + String.valueOf(1_000_000_000 + random.nextInt(1_000_000_000)).substring(1);
+    var sum = 0;
+    for (var i = 0; i < digits.length(); i++) {
+      sum += (digits.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+    }
+    return digits + (10 - sum % 10) % 10;
+  }
+
+  private static String issn(SplittableRandom random) {
+    var digits = String.valueOf(10_000_000 + random.nextInt(10_000_000)).substring(1);
+    var sum = 0;
+    for (var i = 0; i < digits.length(); i++) {
+      sum += (digits.charAt(i) - '0') * (8 - i);
+    }
+    var check = (11 - sum % 11) % 11;
+    return digits.substring(0, 4) + "-" + digits.substring(4) + (check == 10 ? "X" : check);
+  }
+
+  private static int exponential(SplittableRandom random, double mean) {
+    return (int) (-Math.log(1 - random.nextDouble()) * mean);
+  }
+
+  private static <T> T pick(SplittableRandom random, List<T> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  private static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Synthetic data generation was interrupted", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Synthetic data generation failed", ex.getCause());
+    }
+  }
+
+  /** Generates and saves the records with the positions {@code from} (inclusive) to {@code to}. */
+  @FunctionalInterface
+  private interface ChunkTask {
+    void run(SplittableRandom random, int from, int to);
+  }
+}
@@ -0,0 +1,52 @@
+package com.lms.library.service;
+
+import java.time.LocalDate;
+
+/**
+ * Describes a synthetic dataset. The same specification always produces the same dataset.
+ *
+ * @param seed the seed from which every generated value is derived
+ * @param members the number of members
+ * @param books the number of books
+ * @param journals the number of journals
+ * @param loans the number of historical loans, all of them returned by {@code endDate}
+ * @param zipfExponent the skew of item popularity; 0 makes every item equally popular
+ * @param historyDays the number of days before {@code endDate} covered by the loans
+ * @param endDate the date by which every historical loan has been returned
+ * @author Joel Silva
+ * @version 1.0
+ * @see SyntheticDataService
+ * @since 2025
+ */
+public record SyntheticDataSpec(
+    long seed,
+    int members,
+    int books,
+    int journals,
+    int loans,
+    double zipfExponent,
+    int historyDays,
+    LocalDate endDate) {
+
+  /**
+   * Validates the specification.
+   *
+   * @throws IllegalArgumentException if a count is negative, loans are requested without members
+   *     or items, the exponent is negative, or the history is shorter than the longest loan
+   */
+  public SyntheticDataSpec {
+    if (members < 0 || books < 0 || journals < 0 || loans < 0) {
+      throw new IllegalArgumentException("Synthetic record counts must not be negative");
+    }
+    if (loans > 0 && (members == 0 || books + journals == 0)) {
+      throw new IllegalArgumentException("Synthetic loans need at least one member and one item");
+    }
+    if (zipfExponent < 0) {
+      throw new IllegalArgumentException("Zipf exponent must not be negative");
+    }
+    if (historyDays <= SyntheticDataServiceImpl.MAX_LOAN_DAYS) {
+      throw new IllegalArgumentException(
+          "History must span more than %d days".formatted(SyntheticDataServiceImpl.MAX_LOAN_DAYS));
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.lms.library.service;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples ranks from a Zipf distribution, where rank {@code k} of {@code n} is drawn with a
+ * probability proportional to {@code 1 / k^exponent}. Uses the rejection-inversion method of
+ * Hörmann and Derflinger, which needs constant time and memory per sample however many ranks there
+ * are, so it scales to catalogues of millions of items without a cumulative table.
+ *
+ * <p>Instances are immutable and may be shared between threads, each passing its own random
+ * generator.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+public final class ZipfSampler {
+
+  private final long numberOfElements;
+  private final double exponent;
+  private final double hIntegralX1;
+  private final double hIntegralNumberOfElements;
+  private final double s;
+
+  /**
+   * Constructs a new ZipfSampler.
+   *
+   * @param numberOfElements the number of ranks
+   * @param exponent the skew of the distribution; 0 is uniform, around 1 is typical of popularity
+   * @throws IllegalArgumentException if numberOfElements is not positive or exponent is negative
+   */
+  public ZipfSampler(long numberOfElements, double exponent) {
+    if (numberOfElements <= 0) {
+      throw new IllegalArgumentException("Number of elements must be positive");
+    }
+    if (exponent < 0) {
+      throw new IllegalArgumentException("Exponent must not be negative");
+    }
+    this.numberOfElements = numberOfElements;
+    this.exponent = exponent;
+    this.hIntegralX1 = hIntegral(1.5) - 1;
+    this.hIntegralNumberOfElements = hIntegral(numberOfElements + 0.5);
+    this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+  }
+
+  /**
+   * Draws a rank.
+   *
+   * @param random the source of randomness
+   * @return a rank between 1 and the number of elements, 1 being the most likely
+   */
+  public long sample(RandomGenerator random) {
+    while (true) {
+      var u =
+          hIntegralNumberOfElements
+              + random.nextDouble() * (hIntegralX1 - hIntegralNumberOfElements);
+      var x = hIntegralInverse(u);
+      var k = Math.clamp((long) (x + 0.5), 1, numberOfElements);
+      if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+        return k;
+      }
+    }
+  }
+
+  /** Integral of {@link #h(double)}, shifted so that it is well defined for every exponent. */
+  private double hIntegral(double x) {
+    var logX = Math.log(x);
+    return helper2((1 - exponent) * logX) * logX;
+  }
+
+  private double h(double x) {
+    return Math.exp(-exponent * Math.log(x));
+  }
+
+  private double hIntegralInverse(double x) {
+    var t = Math.max(x * (1 - exponent), -1);
+    return Math.exp(helper1(t) * x);
+  }
+
+  /** {@code log(1 + x) / x}, accurate near 0. */
+  private static double helper1(double x) {
+    return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+  }
+
+  /** {@code (exp(x) - 1) / x}, accurate near 0. */
+  private static double helper2(double x) {
+    return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x / 3 * (1 + 0.25 * x));
+  }
+}
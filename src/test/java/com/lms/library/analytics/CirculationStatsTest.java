@@ -0,0 +1,224 @@
+package com.lms.library.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.lms.library.analytics.CirculationStats.DailyCirculation;
+import com.lms.library.analytics.CirculationStats.ItemBorrows;
+import com.lms.library.model.Book;
+import com.lms.library.model.Journal;
+import com.lms.library.model.LibraryItem;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import com.lms.library.model.Member;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for CirculationStats.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Circulation Stats Unit Tests")
+class CirculationStatsTest {
+
+  private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+  private CirculationStats circulationStats;
+  private Member member;
+  private Book programmingBook;
+  private Book untaggedBook;
+  private Journal journal;
+
+  @BeforeEach
+  void setUp() {
+    circulationStats = new CirculationStats();
+
+    member = new Member("John", "Doe", "john.doe@example.com");
+    member.setId(1L);
+
+    programmingBook =
+        new Book(
+            "Clean Code",
+            "Robert Martin",
+            LocalDate.of(2008, 1, 1),
+            "978-0132350884",
+            "Programming",
+            464);
+    programmingBook.setId(1L);
+
+    untaggedBook =
+        new Book("Untitled", "Anonymous", LocalDate.of(2000, 1, 1), "978-0000000002", null, 100);
+    untaggedBook.setId(2L);
+
+    journal =
+        new Journal(
+            "Nature", "Various", LocalDate.of(2024, 1, 1), "1234-5678", "Nature Publishing", 1, 1);
+    journal.setId(3L);
+  }
+
+  private Loan checkout(LocalDate loanDate, LibraryItem... items) {
+    var loan = new Loan(member, loanDate, loanDate.plusDays(14));
+    for (var item : items) {
+      loan.addItem(new LoanItem(loan, item));
+    }
+    circulationStats.recordCheckout(loan);
+    return loan;
+  }
+
+  private void returnAfter(Loan loan, LibraryItem item, int days) {
+    circulationStats.recordReturn(new LoanItem(loan, item, loan.getLoanDate().plusDays(days)));
+  }
+
+  @Nested
+  @DisplayName("Item Ranking Tests")
+  class ItemRankingTests {
+
+    @Test
+    @DisplayName("Should rank items by borrows, ties broken by item ID")
+    void mostBorrowed_ShouldRankByBorrows() {
+      // Given
+      checkout(DAY, journal, untaggedBook);
+      checkout(DAY, journal);
+      checkout(DAY, programmingBook);
+
+      // When
+      var ranking = circulationStats.mostBorrowed(10);
+
+      // Then
+      assertThat(ranking)
+          .containsExactly(new ItemBorrows(3L, 2), new ItemBorrows(1L, 1), new ItemBorrows(2L, 1));
+    }
+
+    @Test
+    @DisplayName("Should return only the requested number of items")
+    void mostBorrowed_ShouldHonourLimit() {
+      // Given
+      checkout(DAY, programmingBook, untaggedBook, journal);
+
+      // When
+      var ranking = circulationStats.mostBorrowed(2);
+
+      // Then
+      assertThat(ranking).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should keep one ranking entry per item under concurrent checkouts")
+    void recordCheckout_ShouldKeepRankingConsistent_WhenConcurrent() {
+      // Given
+      var checkouts = 4_000;
+
+      // When
+      try (var executor = Executors.newFixedThreadPool(8)) {
+        IntStream.range(0, checkouts)
+            .forEach(
+                i ->
+                    executor.submit(
+                        () -> checkout(DAY, i % 2 == 0 ? programmingBook : journal, untaggedBook)));
+      }
+
+      // Then
+      assertAll(
+          () ->
+              assertThat(circulationStats.mostBorrowed(10))
+                  .containsExactly(
+                      new ItemBorrows(2L, checkouts),
+                      new ItemBorrows(1L, checkouts / 2),
+                      new ItemBorrows(3L, checkouts / 2)),
+          () -> assertThat(circulationStats.borrowsOf(2L)).isEqualTo(checkouts),
+          () -> assertThat(circulationStats.borrowsOf(99L)).isZero());
+    }
+  }
+
+  @Nested
+  @DisplayName("Daily Circulation Tests")
+  class DailyCirculationTests {
+
+    @Test
+    @DisplayName("Should count loans, borrows and returns per day, including idle days")
+    void daily_ShouldCountPerDay() {
+      // Given
+      var loan = checkout(DAY, programmingBook, journal);
+      checkout(DAY.plusDays(1), untaggedBook);
+      returnAfter(loan, journal, 2);
+
+      // When
+      var days = circulationStats.daily(DAY.minusDays(1), DAY.plusDays(2));
+
+      // Then
+      assertThat(days)
+          .containsExactly(
+              new DailyCirculation(DAY.minusDays(1), 0, 0, 0),
+              new DailyCirculation(DAY, 1, 2, 0),
+              new DailyCirculation(DAY.plusDays(1), 1, 1, 0),
+              new DailyCirculation(DAY.plusDays(2), 0, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Should ignore loan items that are not returned")
+    void recordReturn_ShouldIgnoreOutstandingItems() {
+      // Given
+      var loan = checkout(DAY, programmingBook);
+
+      // When
+      circulationStats.recordReturn(loan.getItems().getFirst());
+
+      // Then
+      assertThat(circulationStats.byGenre().getFirst().returns()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("Genre Circulation Tests")
+  class GenreCirculationTests {
+
+    @Test
+    @DisplayName("Should count books without a genre as Unknown and journals as Journal")
+    void byGenre_ShouldNameGenres() {
+      // Given
+      checkout(DAY, programmingBook, untaggedBook, journal);
+      checkout(DAY, journal);
+
+      // When
+      var genres = circulationStats.byGenre();
+
+      // Then
+      assertThat(genres)
+          .extracting(genre -> genre.genre() + "=" + genre.borrows())
+          .containsExactly("Journal=2", "Programming=1", "Unknown=1");
+    }
+
+    @Test
+    @DisplayName("Should bucket loan durations and average them")
+    void byGenre_ShouldBuildDurationHistogram() {
+      // Given
+      var loan = checkout(DAY, programmingBook);
+      returnAfter(loan, programmingBook, 0);
+      returnAfter(loan, programmingBook, 7);
+      returnAfter(loan, programmingBook, 8);
+      returnAfter(loan, programmingBook, 56);
+      returnAfter(loan, programmingBook, 90);
+
+      // When
+      var genre = circulationStats.byGenre().getFirst();
+
+      // Then
+      assertAll(
+          () -> assertThat(genre.returns()).isEqualTo(5),
+          () -> assertThat(genre.totalLoanDays()).isEqualTo(161),
+          () -> assertThat(genre.averageLoanDays()).isEqualTo(32.2),
+          () ->
+              assertThat(genre.durationHistogram())
+                  .isEqualTo(List.of(2L, 1L, 0L, 0L, 0L, 1L, 1L)));
+    }
+  }
+}
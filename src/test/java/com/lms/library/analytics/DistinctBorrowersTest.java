@@ -0,0 +1,108 @@
+package com.lms.library.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.lms.library.analytics.DistinctBorrowers.GenreBorrowers;
+import com.lms.library.model.Book;
+import com.lms.library.model.Journal;
+import com.lms.library.model.LibraryItem;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import com.lms.library.model.Member;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for DistinctBorrowers.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Distinct Borrowers Unit Tests")
+class DistinctBorrowersTest {
+
+  private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+  private DistinctBorrowers distinctBorrowers;
+  private Book book;
+  private Journal journal;
+
+  @BeforeEach
+  void setUp() {
+    distinctBorrowers = new DistinctBorrowers(10, 14);
+
+    book =
+        new Book(
+            "Clean Code",
+            "Robert Martin",
+            LocalDate.of(2008, 1, 1),
+            "978-0132350884",
+            "Programming",
+            464);
+    book.setId(1L);
+
+    journal =
+        new Journal(
+            "Nature", "Various", LocalDate.of(2024, 1, 1), "1234-5678", "Nature Publishing", 1, 1);
+    journal.setId(2L);
+  }
+
+  private static Loan loanOf(long memberId, LibraryItem... items) {
+    var member = new Member("John", "Doe", "member" + memberId + "@example.com");
+    member.setId(memberId);
+    var loan = new Loan(member, DAY, DAY.plusDays(14));
+    for (var item : items) {
+      loan.addItem(new LoanItem(loan, item));
+    }
+    return loan;
+  }
+
+  @Test
+  @DisplayName("Should count each member once per item and per genre")
+  void recordLoan_ShouldCountDistinctMembers() {
+    // Given
+    distinctBorrowers.recordLoan(loanOf(1, book, journal));
+    distinctBorrowers.recordLoan(loanOf(1, book));
+    distinctBorrowers.recordLoan(loanOf(2, book));
+
+    // When & Then
+    assertThat(distinctBorrowers.ofItem(1L)).isEqualTo(2);
+    assertThat(distinctBorrowers.ofItem(2L)).isEqualTo(1);
+    assertThat(distinctBorrowers.ofItem(99L)).isZero();
+    assertThat(distinctBorrowers.ofGenres())
+        .containsExactly(new GenreBorrowers("Programming", 2), new GenreBorrowers("Journal", 1));
+  }
+
+  @Test
+  @DisplayName("Should merge the sketches of another node without double counting")
+  void merge_ShouldUnionSketches() {
+    // Given
+    var other = new DistinctBorrowers(10, 14);
+    distinctBorrowers.recordLoan(loanOf(1, book));
+    other.recordLoan(loanOf(1, book));
+    other.recordLoan(loanOf(2, book));
+
+    // When
+    other.itemSketches().forEach(e -> distinctBorrowers.mergeItem(e.getKey(), e.getValue()));
+    other.genreSketches().forEach(e -> distinctBorrowers.mergeGenre(e.getKey(), e.getValue()));
+
+    // Then
+    assertThat(distinctBorrowers.ofItem(1L)).isEqualTo(2);
+    assertThat(distinctBorrowers.ofGenres()).containsExactly(new GenreBorrowers("Programming", 2));
+  }
+
+  @Test
+  @DisplayName("Should reject a sketch of another precision")
+  void mergeItem_ShouldThrowException_WhenPrecisionDiffers() {
+    // Given
+    var sketch = new HyperLogLog(12).toBytes();
+
+    // When & Then
+    assertThatThrownBy(() -> distinctBorrowers.mergeItem(1L, sketch))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
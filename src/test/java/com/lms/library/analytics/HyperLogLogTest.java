@@ -0,0 +1,175 @@
+package com.lms.library.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for HyperLogLog.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("HyperLogLog Unit Tests")
+class HyperLogLogTest {
+
+  private static HyperLogLog sketchOf(int precision, long fromInclusive, long toExclusive) {
+    var sketch = new HyperLogLog(precision);
+    LongStream.range(fromInclusive, toExclusive).forEach(sketch::add);
+    return sketch;
+  }
+
+  @Nested
+  @DisplayName("Estimate Tests")
+  class EstimateTests {
+
+    @Test
+    @DisplayName("Should estimate 0 for an empty sketch")
+    void estimate_ShouldBeZero_WhenEmpty() {
+      assertThat(new HyperLogLog(10).estimate()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count small cardinalities almost exactly")
+    void estimate_ShouldBeNearExact_WhenFewValues() {
+      // Given
+      var sketch = sketchOf(14, 1, 51);
+
+      // When & Then
+      assertThat(sketch.estimate()).isCloseTo(50, within(1L));
+    }
+
+    @Test
+    @DisplayName("Should ignore values added again")
+    void add_ShouldIgnoreDuplicates() {
+      // Given
+      var sketch = sketchOf(10, 1, 201);
+      var estimate = sketch.estimate();
+
+      // When
+      LongStream.range(1, 201).forEach(sketch::add);
+
+      // Then
+      assertThat(sketch.estimate()).isEqualTo(estimate);
+    }
+
+    @Test
+    @DisplayName("Should stay within three standard errors of large cardinalities")
+    void estimate_ShouldBeWithinError_WhenManyValues() {
+      // Given
+      var precision = 12;
+      var sketch = sketchOf(precision, 0, 100_000);
+
+      // When
+      var estimate = sketch.estimate();
+
+      // Then
+      var tolerance = 3 * HyperLogLog.relativeError(precision) * 100_000;
+      assertThat((double) estimate).isCloseTo(100_000, within(tolerance));
+    }
+  }
+
+  @Nested
+  @DisplayName("Merge Tests")
+  class MergeTests {
+
+    @Test
+    @DisplayName("Should estimate the union of overlapping sketches")
+    void merge_ShouldEstimateUnion() {
+      // Given
+      var sketch = sketchOf(12, 0, 30_000);
+      var other = sketchOf(12, 20_000, 50_000);
+
+      // When
+      sketch.merge(other);
+
+      // Then
+      assertThat((double) sketch.estimate()).isCloseTo(50_000, within(2_500.0));
+    }
+
+    @Test
+    @DisplayName("Should give the same registers as adding every value to one sketch")
+    void merge_ShouldMatchSingleSketch() {
+      // Given
+      var sparse = sketchOf(10, 0, 100);
+      var dense = sketchOf(10, 100, 5_000);
+
+      // When
+      sparse.merge(dense);
+      sparse.merge(dense);
+
+      // Then
+      assertThat(sparse.toBytes()).isEqualTo(sketchOf(10, 0, 5_000).toBytes());
+    }
+
+    @Test
+    @DisplayName("Should reject a sketch of another precision")
+    void merge_ShouldThrowException_WhenPrecisionDiffers() {
+      assertThatThrownBy(() -> new HyperLogLog(10).merge(new HyperLogLog(12)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Cannot merge a sketch of precision 12 into one of precision 10");
+    }
+  }
+
+  @Nested
+  @DisplayName("Serialization Tests")
+  class SerializationTests {
+
+    @Test
+    @DisplayName("Should keep a sketch of few values compact")
+    void toBytes_ShouldBeCompact_WhenSparse() {
+      // Given
+      var sketch = sketchOf(14, 1, 11);
+
+      // When
+      var bytes = sketch.toBytes();
+
+      // Then
+      assertThat(bytes).hasSizeLessThanOrEqualTo(2 + 3 * 10);
+      assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(sketch.estimate());
+    }
+
+    @Test
+    @DisplayName("Should round-trip a dense sketch")
+    void fromBytes_ShouldRestoreDenseSketch() {
+      // Given
+      var sketch = sketchOf(8, 0, 10_000);
+
+      // When
+      var bytes = sketch.toBytes();
+      var restored = HyperLogLog.fromBytes(bytes);
+
+      // Then
+      assertThat(bytes).hasSize(2 + 256);
+      assertThat(restored.getPrecision()).isEqualTo(8);
+      assertThat(restored.estimate()).isEqualTo(sketch.estimate());
+    }
+
+    @Test
+    @DisplayName("Should reject truncated or malformed bytes")
+    void fromBytes_ShouldThrowException_WhenInvalid() {
+      assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[] {10}))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[] {10, 1, 0}))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[] {4, 0, 0, 16, 1}))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Serialized sketch has an invalid register");
+    }
+  }
+
+  @Test
+  @DisplayName("Should reject a precision out of range")
+  void constructor_ShouldThrowException_WhenPrecisionOutOfRange() {
+    assertThatThrownBy(() -> new HyperLogLog(3))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Precision must be between 4 and 16");
+    assertThatThrownBy(() -> new HyperLogLog(17)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,162 @@
+package com.lms.library.analytics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.lms.library.analytics.TrendingItems.TrendingItem;
+import com.lms.library.event.LoanCreated;
+import com.lms.library.event.LoanEventBus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for TrendingItems.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Trending Items Unit Tests")
+class TrendingItemsTest {
+
+  private static final Instant NOW = Instant.parse("2025-10-30T10:02:00Z");
+
+  private LoanEventBus loanEventBus;
+  private TrendingItems trendingItems;
+
+  @BeforeEach
+  void setUp() {
+    loanEventBus = new LoanEventBus(16, 8);
+    trendingItems = new TrendingItems(loanEventBus, 4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    trendingItems.stop();
+    loanEventBus.shutdown();
+  }
+
+  @Nested
+  @DisplayName("Window Tests")
+  class WindowTests {
+
+    @Test
+    @DisplayName("Should count checkouts exactly while buckets have room")
+    void top_ShouldCountExactly_WhenBucketsHaveRoom() {
+      // Given
+      trendingItems.record(List.of(1L, 2L), NOW);
+      trendingItems.record(List.of(2L), NOW.minus(Duration.ofMinutes(20)));
+      trendingItems.record(List.of(3L), NOW.minus(Duration.ofMinutes(30)));
+
+      // When
+      var top = trendingItems.top(TrendingWindow.HOUR, 10, NOW);
+
+      // Then
+      assertThat(top)
+          .containsExactly(
+              new TrendingItem(2L, 2, 2), new TrendingItem(1L, 1, 1), new TrendingItem(3L, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Should drop checkouts once their bucket leaves the window")
+    void top_ShouldDropExpiredBuckets() {
+      // Given
+      trendingItems.record(List.of(1L), NOW.minus(Duration.ofHours(2)));
+      trendingItems.record(List.of(2L), NOW);
+
+      // When
+      var hour = trendingItems.top(TrendingWindow.HOUR, 10, NOW);
+      var day = trendingItems.top(TrendingWindow.DAY, 10, NOW);
+      var nextWeek = trendingItems.top(TrendingWindow.WEEK, 10, NOW.plus(Duration.ofDays(8)));
+
+      // Then
+      assertThat(hour).extracting(TrendingItem::itemId).containsExactly(2L);
+      assertThat(day).extracting(TrendingItem::itemId).containsExactly(1L, 2L);
+      assertThat(nextWeek).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reuse a bucket for a new time slice when the ring wraps around")
+    void record_ShouldClearBucket_WhenRingWrapsAround() {
+      // Given
+      trendingItems.record(List.of(1L), NOW);
+      var anHourLater = NOW.plus(Duration.ofHours(1));
+
+      // When
+      trendingItems.record(List.of(2L), anHourLater);
+      trendingItems.record(List.of(3L), NOW);
+
+      // Then
+      assertThat(trendingItems.top(TrendingWindow.HOUR, 10, anHourLater))
+          .containsExactly(new TrendingItem(2L, 1, 1));
+    }
+  }
+
+  @Nested
+  @DisplayName("Estimate Tests")
+  class EstimateTests {
+
+    @Test
+    @DisplayName("Should keep heavy hitters and bound the counts of others when buckets overflow")
+    void top_ShouldBoundCounts_WhenBucketsOverflow() {
+      // Given
+      var heavy = LongStream.rangeClosed(1, 50).mapToObj(i -> 1L).toList();
+      var tail = LongStream.rangeClosed(100, 199).boxed().toList();
+      trendingItems.record(heavy, NOW);
+      trendingItems.record(tail, NOW);
+      trendingItems.record(List.of(2L, 2L, 2L), NOW.minus(Duration.ofMinutes(5)));
+
+      // When
+      var top = trendingItems.top(TrendingWindow.HOUR, 2, NOW);
+
+      // Then
+      assertThat(top.getFirst()).isEqualTo(new TrendingItem(1L, 50, 50));
+      assertThat(top.get(1).itemId()).isEqualTo(2L);
+      assertThat(top.get(1).minBorrows()).isEqualTo(3);
+      assertThat(top.get(1).borrows()).isGreaterThan(3);
+    }
+
+    @Test
+    @DisplayName("Should reject a capacity that is not positive")
+    void constructor_ShouldRejectNonPositiveCapacity() {
+      // When & Then
+      assertThatThrownBy(() -> new TrendingItems(loanEventBus, 0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Trending capacity must be positive");
+    }
+  }
+
+  @Nested
+  @DisplayName("Event Feed Tests")
+  class EventFeedTests {
+
+    @Test
+    @DisplayName("Should count the items of published loans")
+    void start_ShouldCountPublishedCheckouts() throws InterruptedException {
+      // Given
+      trendingItems.start();
+      var now = Instant.now();
+      var expected = List.of(new TrendingItem(7L, 2, 2), new TrendingItem(8L, 1, 1));
+
+      // When
+      loanEventBus.publish(new LoanCreated(1L, 1L, List.of(7L, 8L), now));
+      loanEventBus.publish(new LoanCreated(2L, 2L, List.of(7L), now));
+
+      // Then
+      var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (!trendingItems.top(TrendingWindow.HOUR, 10, now).equals(expected)
+          && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertThat(trendingItems.top(TrendingWindow.HOUR, 10, now)).isEqualTo(expected);
+    }
+  }
+}
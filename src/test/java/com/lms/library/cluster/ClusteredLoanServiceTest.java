@@ -0,0 +1,324 @@
+package com.lms.library.cluster;
+
+import static com.lms.library.util.TestUtil.createTestBook;
+import static com.lms.library.util.TestUtil.createTestLoanItem;
+import static com.lms.library.util.TestUtil.createTestMember;
+import static com.lms.library.util.TestUtil.resetLibraryItemRepositoryState;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lms.library.dto.LoanRequest;
+import com.lms.library.exception.ItemNotAvailableException;
+import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.exception.NodeUnavailableException;
+import com.lms.library.model.Loan;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.service.LoanService;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ClusteredLoanService, running three nodes over an in-process transport.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Clustered Loan Service Unit Tests")
+class ClusteredLoanServiceTest {
+
+  private static final List<String> NODES = List.of("node-1", "node-2", "node-3");
+  private static final long COMMIT_TIMEOUT_MILLIS = 300;
+
+  private final ConsistentHashRing ring = new ConsistentHashRing(NODES, 64);
+  private final InProcessClusterTransport transport = new InProcessClusterTransport();
+  private final Map<String, LoanService> localServices = new HashMap<>();
+  private final Map<String, ItemReservationLedger> ledgers = new HashMap<>();
+  private final Map<String, ClusteredLoanService> services = new HashMap<>();
+
+  private LibraryItemRepository libraryItemRepository;
+  private Long memberId;
+  private Long firstItemId;
+  private Long secondItemId;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    resetLibraryItemRepositoryState();
+    libraryItemRepository = new LibraryItemRepository();
+    LongStream.rangeClosed(1, 50).forEach(id -> libraryItemRepository.save(createTestBook(id)));
+
+    for (var nodeId : NODES) {
+      var localService = mock(LoanService.class);
+      var ledger = new ItemReservationLedger(libraryItemRepository, 30_000);
+      var service =
+          new ClusteredLoanService(nodeId, ring, transport, localService, COMMIT_TIMEOUT_MILLIS);
+      transport.register(nodeId, ledger, service);
+      localServices.put(nodeId, localService);
+      ledgers.put(nodeId, ledger);
+      services.put(nodeId, service);
+    }
+
+    // A member owned by node-1 and two items owned by different nodes other than node-1
+    memberId = firstKeyOwnedBy("node-1");
+    firstItemId = firstKeyOwnedBy("node-2");
+    secondItemId = firstKeyOwnedBy("node-3");
+  }
+
+  @Nested
+  @DisplayName("Checkout Items Tests")
+  class CheckoutItemsTests {
+
+    @Test
+    @DisplayName("Should forward the checkout to the node owning the member")
+    void checkoutItems_ShouldForwardToMemberOwner() {
+      // Given
+      var request = new LoanRequest(List.of(firstItemId));
+      stubCheckout(7L);
+
+      // When
+      var result = services.get("node-2").checkoutItems(memberId, request);
+
+      // Then
+      assertThat(result.getId()).isEqualTo(7L);
+      verify(localServices.get("node-1")).checkoutItems(memberId, request);
+      verify(localServices.get("node-2"), never()).checkoutItems(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should commit reservations on every owner of the requested items")
+    void checkoutItems_ShouldCommitOnAllOwners() {
+      // Given
+      stubCheckout(7L);
+
+      // When
+      services
+          .get("node-1")
+          .checkoutItems(memberId, new LoanRequest(List.of(firstItemId, secondItemId)));
+
+      // Then
+      assertThat(libraryItemRepository.findAvailableItemById(firstItemId)).isEmpty();
+      assertThat(libraryItemRepository.findAvailableItemById(secondItemId)).isEmpty();
+      assertThatThrownBy(() -> ledgers.get("node-3").prepare("other", List.of(secondItemId)))
+          .isInstanceOf(ItemNotAvailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should abort prepared reservations when another owner refuses")
+    void checkoutItems_ShouldAbort_WhenItemReservedElsewhere() {
+      // Given
+      ledgers.get("node-3").prepare("other", List.of(secondItemId));
+      var request = new LoanRequest(List.of(firstItemId, secondItemId));
+
+      // When & Then
+      assertThatThrownBy(() -> services.get("node-1").checkoutItems(memberId, request))
+          .isInstanceOf(ItemNotAvailableException.class);
+      verify(localServices.get("node-1"), never()).checkoutItems(anyLong(), any());
+      ledgers.get("node-2").prepare("next", List.of(firstItemId));
+    }
+
+    @Test
+    @DisplayName("Should abort prepared reservations when the loan cannot be created")
+    void checkoutItems_ShouldAbort_WhenLocalCheckoutFails() {
+      // Given
+      when(localServices.get("node-1").checkoutItems(eq(memberId), any()))
+          .thenThrow(new MemberNotFoundException("Member not found with ID: " + memberId));
+      var request = new LoanRequest(List.of(firstItemId, secondItemId));
+
+      // When & Then
+      assertThatThrownBy(() -> services.get("node-1").checkoutItems(memberId, request))
+          .isInstanceOf(MemberNotFoundException.class);
+      ledgers.get("node-2").prepare("next", List.of(firstItemId));
+      ledgers.get("node-3").prepare("next", List.of(secondItemId));
+    }
+
+    @Test
+    @DisplayName("Should fail and abort when an owning node is unreachable")
+    void checkoutItems_ShouldFail_WhenOwnerUnavailable() {
+      // Given
+      transport.unregister("node-3");
+      var request = new LoanRequest(List.of(firstItemId, secondItemId));
+
+      // When & Then
+      assertThatThrownBy(() -> services.get("node-1").checkoutItems(memberId, request))
+          .isInstanceOf(NodeUnavailableException.class);
+      ledgers.get("node-2").prepare("next", List.of(firstItemId));
+    }
+
+    @Test
+    @DisplayName("Should retry the commit until an unreachable owner acknowledges it")
+    void checkoutItems_ShouldRetryCommit_WhenOwnerTemporarilyUnavailable() {
+      // Given
+      stubCheckout(7L);
+      var participant = spy(ledgers.get("node-3"));
+      doThrow(new NodeUnavailableException("Cluster node node-3 is unavailable"))
+          .doCallRealMethod()
+          .when(participant)
+          .commit(any(), any());
+      transport.register("node-3", participant, services.get("node-3"));
+
+      // When
+      var result =
+          services
+              .get("node-1")
+              .checkoutItems(memberId, new LoanRequest(List.of(firstItemId, secondItemId)));
+
+      // Then
+      assertThat(result.getId()).isEqualTo(7L);
+      verify(participant, times(2)).commit(any(), eq("node-1/7"));
+      assertThatThrownBy(() -> ledgers.get("node-3").prepare("other", List.of(secondItemId)))
+          .isInstanceOf(ItemNotAvailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should roll back the checkout when an owner stays unreachable during commit")
+    void checkoutItems_ShouldRollBack_WhenCommitKeepsFailing() {
+      // Given
+      stubCheckout(7L);
+      var participant = spy(ledgers.get("node-3"));
+      doThrow(new NodeUnavailableException("Cluster node node-3 is unavailable"))
+          .when(participant)
+          .commit(any(), any());
+      transport.register("node-3", participant, services.get("node-3"));
+      var items = List.of(firstItemId, secondItemId);
+      var request = new LoanRequest(items);
+
+      // When & Then
+      assertThatThrownBy(() -> services.get("node-1").checkoutItems(memberId, request))
+          .isInstanceOf(NodeUnavailableException.class);
+      verify(localServices.get("node-1")).returnItems(7L, items);
+      assertThat(libraryItemRepository.findAvailableItemById(firstItemId)).isPresent();
+      ledgers.get("node-2").prepare("next", List.of(firstItemId));
+      ledgers.get("node-3").prepare("next", List.of(secondItemId));
+    }
+  }
+
+  @Nested
+  @DisplayName("Return Items Tests")
+  class ReturnItemsTests {
+
+    @Test
+    @DisplayName("Should release returned items on their owners")
+    void returnItems_ShouldReleaseReturnedItems() {
+      // Given
+      var loan = stubCheckout(7L);
+      services.get("node-1").checkoutItems(memberId, new LoanRequest(List.of(firstItemId)));
+      loan.getItems().getFirst().markReturned();
+      when(localServices.get("node-1").returnItems(7L, List.of(firstItemId))).thenReturn(loan);
+
+      // When
+      services.get("node-1").returnItems(7L, List.of(firstItemId));
+
+      // Then
+      assertThat(libraryItemRepository.findAvailableItemById(firstItemId)).isPresent();
+      ledgers.get("node-2").prepare("next", List.of(firstItemId));
+    }
+
+    @Test
+    @DisplayName("Should allocate a returned item to its next holder through a clustered checkout")
+    void returnItems_ShouldAllocateToNextHolder_AfterRelease() {
+      // Given
+      var loan = stubCheckout(7L);
+      var service = services.get("node-1");
+      var localService = localServices.get("node-1");
+      service.checkoutItems(memberId, new LoanRequest(List.of(firstItemId)));
+      loan.getItems().getFirst().markReturned();
+      when(localService.returnItems(7L, List.of(firstItemId))).thenReturn(loan);
+      var holderLoan = new Loan(loan.getMember(), LocalDate.now(), LocalDate.now().plusDays(14));
+      holderLoan.setId(8L);
+      when(localService.checkoutItems(eq(memberId), any())).thenReturn(holderLoan);
+      // The local service checks the item out to the holder through the clustered service
+      when(localService.allocateToNextHolder(firstItemId))
+          .thenAnswer(
+              invocation ->
+                  Optional.of(
+                      service.checkoutItems(memberId, new LoanRequest(List.of(firstItemId)))));
+
+      // When
+      service.returnItems(7L, List.of(firstItemId));
+
+      // Then
+      verify(localService).allocateToNextHolder(firstItemId);
+      assertThat(libraryItemRepository.findAvailableItemById(firstItemId)).isEmpty();
+      ledgers.get("node-2").release("node-1/7", List.of(firstItemId));
+      assertThatThrownBy(() -> ledgers.get("node-2").prepare("other", List.of(firstItemId)))
+          .isInstanceOf(ItemNotAvailableException.class);
+      ledgers.get("node-2").release("node-1/8", List.of(firstItemId));
+      assertThat(libraryItemRepository.findAvailableItemById(firstItemId)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should retry releases that failed while the owner was unreachable")
+    void returnItems_ShouldRetryRelease_WhenOwnerUnavailable() {
+      // Given
+      var loan = stubCheckout(7L);
+      services.get("node-1").checkoutItems(memberId, new LoanRequest(List.of(firstItemId)));
+      loan.getItems().getFirst().markReturned();
+      when(localServices.get("node-1").returnItems(7L, List.of(firstItemId))).thenReturn(loan);
+      transport.unregister("node-2");
+      services.get("node-1").returnItems(7L, List.of(firstItemId));
+      assertThat(libraryItemRepository.findAvailableItemById(firstItemId)).isEmpty();
+
+      // When
+      transport.register("node-2", ledgers.get("node-2"), services.get("node-2"));
+      services.get("node-1").retryPendingReleases();
+
+      // Then
+      assertThat(libraryItemRepository.findAvailableItemById(firstItemId)).isPresent();
+      ledgers.get("node-2").prepare("next", List.of(firstItemId));
+    }
+  }
+
+  @Nested
+  @DisplayName("Get Member Loans Tests")
+  class GetMemberLoansTests {
+
+    @Test
+    @DisplayName("Should read member loans from the node owning the member")
+    void getMemberLoans_ShouldForwardToMemberOwner() {
+      // Given
+      when(localServices.get("node-1").getMemberLoans(memberId)).thenReturn(List.of());
+
+      // When
+      services.get("node-3").getMemberLoans(memberId);
+
+      // Then
+      verify(localServices.get("node-1")).getMemberLoans(memberId);
+      verify(localServices.get("node-3"), never()).getMemberLoans(anyLong());
+    }
+  }
+
+  private Loan stubCheckout(Long loanId) {
+    var member = createTestMember(memberId, "Jane", "Doe");
+    var loan = new Loan(member, LocalDate.now(), LocalDate.now().plusDays(14));
+    loan.setId(loanId);
+    var item = libraryItemRepository.findById(firstItemId).orElseThrow();
+    loan.addItem(createTestLoanItem(loan, item));
+    when(localServices.get("node-1").checkoutItems(eq(memberId), any())).thenReturn(loan);
+    return loan;
+  }
+
+  private Long firstKeyOwnedBy(String nodeId) {
+    return LongStream.rangeClosed(1, 50)
+        .filter(key -> ring.ownerOf(key).equals(nodeId))
+        .findFirst()
+        .orElseThrow();
+  }
+}
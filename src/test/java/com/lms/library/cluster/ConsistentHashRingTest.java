@@ -0,0 +1,72 @@
+package com.lms.library.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ConsistentHashRing class
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+class ConsistentHashRingTest {
+
+  private static final List<String> NODES = List.of("node-1", "node-2", "node-3");
+
+  @Test
+  @DisplayName("Rings built from the same nodes should agree on every owner")
+  void ownerOf_SameConfiguration_ShouldBeDeterministic() {
+    // Arrange
+    var ring = new ConsistentHashRing(NODES, 64);
+    var other = new ConsistentHashRing(NODES, 64);
+
+    // Act & Assert
+    for (long key = 1; key <= 1_000; key++) {
+      assertEquals(ring.ownerOf(key), other.ownerOf(key));
+    }
+  }
+
+  @Test
+  @DisplayName("Sequential keys should spread over all nodes")
+  void ownerOf_SequentialKeys_ShouldSpreadEvenly() {
+    // Arrange
+    var ring = new ConsistentHashRing(NODES, 128);
+    var counts = new HashMap<String, Integer>();
+
+    // Act
+    for (long key = 1; key <= 30_000; key++) {
+      counts.merge(ring.ownerOf(key), 1, Integer::sum);
+    }
+
+    // Assert
+    assertEquals(3, counts.size());
+    counts.values().forEach(count -> assertTrue(count > 7_000, "Unbalanced ring: " + counts));
+  }
+
+  @Test
+  @DisplayName("Adding a node should only move keys to the new node")
+  void ownerOf_NodeAdded_ShouldOnlyMoveKeysToNewNode() {
+    // Arrange
+    var ring = new ConsistentHashRing(NODES, 128);
+    var grown = new ConsistentHashRing(List.of("node-1", "node-2", "node-3", "node-4"), 128);
+
+    // Act & Assert
+    for (long key = 1; key <= 10_000; key++) {
+      var owner = grown.ownerOf(key);
+      assertTrue(owner.equals(ring.ownerOf(key)) || owner.equals("node-4"));
+    }
+  }
+
+  @Test
+  @DisplayName("Constructor should reject an empty node list")
+  void constructor_NoNodes_ShouldThrow() {
+    assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of(), 16));
+  }
+}
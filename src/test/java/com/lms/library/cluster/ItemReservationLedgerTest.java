@@ -0,0 +1,136 @@
+package com.lms.library.cluster;
+
+import static com.lms.library.util.TestUtil.createTestBook;
+import static com.lms.library.util.TestUtil.resetLibraryItemRepositoryState;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.lms.library.exception.ItemNotAvailableException;
+import com.lms.library.exception.ItemNotFoundException;
+import com.lms.library.repository.LibraryItemRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ItemReservationLedger class
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+class ItemReservationLedgerTest {
+
+  private LibraryItemRepository libraryItemRepository;
+  private ItemReservationLedger ledger;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    resetLibraryItemRepositoryState();
+    libraryItemRepository = new LibraryItemRepository();
+    libraryItemRepository.save(createTestBook(1L));
+    libraryItemRepository.save(createTestBook(2L));
+    ledger = new ItemReservationLedger(libraryItemRepository, 30_000);
+  }
+
+  @Test
+  @DisplayName("Prepare should reserve all items or none")
+  void prepare_OneItemTaken_ShouldReserveNone() {
+    // Arrange
+    ledger.prepare("tx-1", List.of(2L));
+
+    // Act & Assert
+    assertThrows(ItemNotAvailableException.class, () -> ledger.prepare("tx-2", List.of(1L, 2L)));
+    assertDoesNotThrow(() -> ledger.prepare("tx-3", List.of(1L)));
+  }
+
+  @Test
+  @DisplayName("Prepare should reject unknown items")
+  void prepare_UnknownItem_ShouldThrow() {
+    assertThrows(ItemNotFoundException.class, () -> ledger.prepare("tx-1", List.of(99L)));
+  }
+
+  @Test
+  @DisplayName("Expired prepared reservations should be claimable by another transaction")
+  void prepare_ExpiredReservation_ShouldBeClaimable() {
+    // Arrange
+    var expiringLedger = new ItemReservationLedger(libraryItemRepository, 0);
+    expiringLedger.prepare("tx-1", List.of(1L));
+
+    // Act & Assert
+    assertDoesNotThrow(() -> expiringLedger.prepare("tx-2", List.of(1L)));
+  }
+
+  @Test
+  @DisplayName("Commit should hold items until their loan releases them")
+  void commitAndRelease_ShouldHoldUntilReleasedByHolder() {
+    // Arrange
+    ledger.prepare("tx-1", List.of(1L));
+
+    // Act
+    ledger.commit("tx-1", "node-1/7");
+
+    // Assert
+    assertFalse(libraryItemRepository.findById(1L).orElseThrow().isAvailable());
+    ledger.release("node-1/8", List.of(1L));
+    assertThrows(ItemNotAvailableException.class, () -> ledger.prepare("tx-2", List.of(1L)));
+
+    ledger.release("node-1/7", List.of(1L));
+    assertTrue(libraryItemRepository.findById(1L).orElseThrow().isAvailable());
+    assertDoesNotThrow(() -> ledger.prepare("tx-3", List.of(1L)));
+  }
+
+  @Test
+  @DisplayName("Repeating a commit should have no effect")
+  void commit_Repeated_ShouldBeIgnored() {
+    // Arrange
+    ledger.prepare("tx-1", List.of(1L));
+    ledger.commit("tx-1", "node-1/7");
+
+    // Act & Assert
+    assertDoesNotThrow(() -> ledger.commit("tx-1", "node-1/7"));
+    assertThrows(ItemNotAvailableException.class, () -> ledger.prepare("tx-2", List.of(1L)));
+  }
+
+  @Test
+  @DisplayName("Commit should fail when the reservation was claimed after it expired")
+  void commit_ExpiredAndClaimed_ShouldThrow() {
+    // Arrange
+    var expiringLedger = new ItemReservationLedger(libraryItemRepository, 0);
+    expiringLedger.prepare("tx-1", List.of(1L));
+    expiringLedger.prepare("tx-2", List.of(1L));
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> expiringLedger.commit("tx-1", "node-1/7"));
+    assertThrows(IllegalStateException.class, () -> expiringLedger.commit("tx-3", "node-1/8"));
+  }
+
+  @Test
+  @DisplayName("Release should leave items not held by the releasing loan untouched")
+  void release_NotHeld_ShouldLeaveItemUntouched() {
+    // Arrange
+    libraryItemRepository.findById(1L).orElseThrow().setAvailable(false);
+
+    // Act
+    ledger.release("node-1/7", List.of(1L));
+
+    // Assert
+    assertFalse(libraryItemRepository.findById(1L).orElseThrow().isAvailable());
+  }
+
+  @Test
+  @DisplayName("Abort should free prepared items")
+  void abort_ShouldFreePreparedItems() {
+    // Arrange
+    ledger.prepare("tx-1", List.of(1L, 2L));
+
+    // Act
+    ledger.abort("tx-1");
+
+    // Assert
+    assertDoesNotThrow(() -> ledger.prepare("tx-2", List.of(1L, 2L)));
+  }
+}
@@ -0,0 +1,179 @@
+package com.lms.library.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for RequestCoalescer.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Request Coalescer Unit Tests")
+class RequestCoalescerTest {
+
+  private RequestCoalescer requestCoalescer;
+  private AtomicInteger computations;
+  private CountDownLatch computing;
+  private CountDownLatch release;
+
+  @BeforeEach
+  void setUp() {
+    requestCoalescer = new RequestCoalescer();
+    computations = new AtomicInteger();
+    computing = new CountDownLatch(1);
+    release = new CountDownLatch(1);
+  }
+
+  /** Starts a computation for a key that runs until released. */
+  private Thread startBlocked(String key, AtomicReference<Object> result) {
+    var thread =
+        new Thread(
+            () -> {
+              try {
+                result.set(
+                    requestCoalescer.coalesce(
+                        key,
+                        () -> {
+                          computations.incrementAndGet();
+                          computing.countDown();
+                          awaitRelease();
+                          return List.of(key, computations.get());
+                        }));
+              } catch (RuntimeException ex) {
+                result.set(ex);
+              }
+            });
+    thread.start();
+    return thread;
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static void awaitWaiting(Thread thread) {
+    while (thread.getState() != Thread.State.WAITING) {
+      Thread.onSpinWait();
+    }
+  }
+
+  @Test
+  @DisplayName("Should share one computation between concurrent callers of a key")
+  void coalesce_ShouldShareComputation_WhenConcurrent() throws Exception {
+    // Given
+    var results = new ArrayList<AtomicReference<Object>>();
+    var threads = new ArrayList<Thread>();
+    results.add(new AtomicReference<>());
+    threads.add(startBlocked("loan-1-3", results.getFirst()));
+    computing.await();
+
+    // When
+    for (var i = 0; i < 7; i++) {
+      var result = new AtomicReference<>();
+      results.add(result);
+      var thread = startBlocked("loan-1-3", result);
+      threads.add(thread);
+      awaitWaiting(thread);
+    }
+    release.countDown();
+    for (var thread : threads) {
+      thread.join();
+    }
+
+    // Then
+    assertAll(
+        () -> assertThat(computations).hasValue(1),
+        () ->
+            assertThat(results)
+                .allSatisfy(result -> assertThat(result.get()).isSameAs(results.getFirst().get())),
+        () -> assertThat(requestCoalescer.inFlightCount()).isZero());
+  }
+
+  @Test
+  @DisplayName("Should compute different keys independently")
+  void coalesce_ShouldNotShare_WhenKeysDiffer() {
+    // When
+    var first = requestCoalescer.coalesce("loan-1-3", () -> computations.incrementAndGet());
+    var second = requestCoalescer.coalesce("loan-1-4", () -> computations.incrementAndGet());
+
+    // Then
+    assertAll(
+        () -> assertThat(first).isEqualTo(1),
+        () -> assertThat(second).isEqualTo(2),
+        () -> assertThat(requestCoalescer.inFlightCount()).isZero());
+  }
+
+  @Test
+  @DisplayName("Should compute again once the previous computation finished")
+  void coalesce_ShouldComputeAgain_WhenSequential() {
+    // When
+    requestCoalescer.coalesce("loan-1-3", () -> computations.incrementAndGet());
+    var again = requestCoalescer.coalesce("loan-1-3", () -> computations.incrementAndGet());
+
+    // Then
+    assertThat(again).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should rethrow the failure of a shared computation to every caller")
+  void coalesce_ShouldPropagateFailure_WhenComputationFails() throws Exception {
+    // Given
+    var failure = new IllegalStateException("Loan store unavailable");
+    var joined = new AtomicReference<Object>();
+    var owner =
+        new Thread(
+            () -> {
+              try {
+                requestCoalescer.coalesce(
+                    "loan-1-3",
+                    () -> {
+                      computing.countDown();
+                      awaitRelease();
+                      throw failure;
+                    });
+              } catch (IllegalStateException ex) {
+                // Expected
+              }
+            });
+    owner.start();
+    computing.await();
+
+    // When
+    var joiner = startBlocked("loan-1-3", joined);
+    awaitWaiting(joiner);
+    release.countDown();
+    owner.join();
+    joiner.join();
+
+    // Then
+    assertAll(
+        () -> assertThat(joined.get()).isSameAs(failure),
+        () -> assertThat(computations).hasValue(0),
+        () ->
+            assertThatThrownBy(
+                    () ->
+                        requestCoalescer.coalesce(
+                            "loan-1-3",
+                            () -> {
+                              throw new IllegalArgumentException("Invalid loan");
+                            }))
+                .isInstanceOf(IllegalArgumentException.class));
+  }
+}
@@ -0,0 +1,75 @@
+package com.lms.library.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.lms.library.cluster.ConsistentHashRing;
+import com.lms.library.cluster.InProcessClusterTransport;
+import com.lms.library.cluster.ItemReservationLedger;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.service.LoanServiceImpl;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ClusterConfig class
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+class ClusterConfigTest {
+
+  private final ClusterConfig clusterConfig = new ClusterConfig();
+  private final ItemReservationLedger ledger =
+      new ItemReservationLedger(new LibraryItemRepository(), 1_000);
+
+  @Test
+  @DisplayName("Clustered mode should refuse nodes the in-process transport cannot reach")
+  void clusteredLoanService_OtherNodesConfigured_ShouldThrow() {
+    // Arrange
+    var ring = new ConsistentHashRing(List.of("node-1", "node-2"), 8);
+    var loanServiceImpl = mock(LoanServiceImpl.class);
+
+    // Act
+    var ex =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                clusterConfig.clusteredLoanService(
+                    "node-1",
+                    ring,
+                    new InProcessClusterTransport(),
+                    ledger,
+                    loanServiceImpl,
+                    1_000));
+
+    // Assert
+    assertEquals(
+        "library.cluster.nodes [node-1, node-2] lists other nodes, but the in-process transport"
+            + " only reaches node-1",
+        ex.getMessage());
+    verify(loanServiceImpl, never()).routeAllocationsThrough(any());
+  }
+
+  @Test
+  @DisplayName("Clustered mode should start when this node is the only configured node")
+  void clusteredLoanService_SingleNode_ShouldRouteAllocations() {
+    // Arrange
+    var ring = new ConsistentHashRing(List.of("node-1"), 8);
+    var loanServiceImpl = mock(LoanServiceImpl.class);
+
+    // Act
+    var service =
+        clusterConfig.clusteredLoanService(
+            "node-1", ring, new InProcessClusterTransport(), ledger, loanServiceImpl, 1_000);
+
+    // Assert
+    verify(loanServiceImpl).routeAllocationsThrough(service);
+  }
+}
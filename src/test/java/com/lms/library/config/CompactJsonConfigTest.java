@@ -0,0 +1,120 @@
+package com.lms.library.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.lms.library.dto.LoanItemResponse;
+import com.lms.library.dto.LoanResponse;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+/**
+ * Unit tests for CompactJsonConfig.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Compact JSON Config Unit Tests")
+class CompactJsonConfigTest {
+
+  private MappingJackson2HttpMessageConverter converter;
+  private LoanResponse loan;
+
+  @BeforeEach
+  void setUp() {
+    converter = new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+    CompactJsonConfig.registerCompactView(converter);
+
+    loan =
+        new LoanResponse(
+            1L,
+            2L,
+            LocalDate.of(2025, 10, 25),
+            LocalDate.of(2025, 11, 8),
+            List.of(
+                new LoanItemResponse(3L, "Clean Code", "BOOK", null),
+                new LoanItemResponse(4L, "Nature", "JOURNAL", LocalDate.of(2025, 10, 30))),
+            "OPEN");
+  }
+
+  private String write(MediaType mediaType) throws IOException {
+    var message = new MockHttpOutputMessage();
+    converter.write(loan, mediaType, message);
+    return message.getBodyAsString();
+  }
+
+  @Test
+  @DisplayName("Should write short names and no nulls for the compact media type")
+  void write_ShouldUseShortNames_WhenCompactRequested() throws IOException {
+    // When
+    var json = write(CompactJsonConfig.COMPACT_JSON);
+
+    // Then
+    assertThat(json)
+        .isEqualTo(
+            "{\"id\":1,\"m\":2,\"ld\":\"2025-10-25\",\"dd\":\"2025-11-08\",\"it\":["
+                + "{\"id\":3,\"t\":\"Clean Code\",\"ty\":\"BOOK\"},"
+                + "{\"id\":4,\"t\":\"Nature\",\"ty\":\"JOURNAL\",\"rd\":\"2025-10-30\"}],"
+                + "\"s\":\"OPEN\"}");
+  }
+
+  @Test
+  @DisplayName("Should keep the standard view for application/json")
+  void write_ShouldUseStandardNames_WhenJsonRequested() throws IOException {
+    // When
+    var json = write(MediaType.APPLICATION_JSON);
+
+    // Then
+    assertAll(
+        () -> assertThat(json).contains("\"expectedReturnDate\":\"2025-11-08\""),
+        () -> assertThat(json).contains("\"returnedDate\":null"),
+        () ->
+            assertThat(json.length())
+                .isGreaterThan(write(CompactJsonConfig.COMPACT_JSON).length()));
+  }
+
+  @Test
+  @DisplayName("Should offer application/json first so that it stays the default")
+  void getSupportedMediaTypes_ShouldListJsonFirst() {
+    // When
+    var mediaTypes = converter.getSupportedMediaTypes(LoanResponse.class);
+
+    // Then
+    assertAll(
+        () -> assertThat(mediaTypes.getFirst()).isEqualTo(MediaType.APPLICATION_JSON),
+        () -> assertThat(mediaTypes).contains(CompactJsonConfig.COMPACT_JSON),
+        () ->
+            assertThat(converter.canWrite(LoanResponse.class, MediaType.APPLICATION_JSON)).isTrue(),
+        () ->
+            assertThat(converter.canWrite(LoanResponse.class, MediaType.APPLICATION_PROBLEM_JSON))
+                .isTrue());
+  }
+
+  @Test
+  @DisplayName("Should select the compact view only when it is the preferred media type")
+  void isCompactRequested_ShouldFollowAcceptPreference() {
+    // Given
+    var compact = CompactJsonConfig.COMPACT_JSON.toString();
+
+    // When & Then
+    assertAll(
+        () -> assertThat(CompactJsonConfig.isCompactRequested(null)).isFalse(),
+        () -> assertThat(CompactJsonConfig.isCompactRequested("*/*")).isFalse(),
+        () -> assertThat(CompactJsonConfig.isCompactRequested(compact)).isTrue(),
+        () -> assertThat(CompactJsonConfig.isCompactRequested(compact + ", */*")).isTrue(),
+        () ->
+            assertThat(CompactJsonConfig.isCompactRequested("application/json, " + compact))
+                .isFalse(),
+        () -> assertThat(CompactJsonConfig.isCompactRequested(compact + ";q=0.5, */*")).isFalse(),
+        () -> assertThat(CompactJsonConfig.isCompactRequested(compact + ";q=x")).isFalse());
+  }
+}
@@ -0,0 +1,69 @@
+package com.lms.library.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.AnnotatedBeanDefinitionReader;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ConfigurationClassPostProcessor;
+
+/**
+ * Unit tests for LazyApiDocsConfig class
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+class LazyApiDocsConfigTest {
+
+  @Test
+  @DisplayName("Only bean definitions declared by springdoc should be marked lazy")
+  void markSpringDocBeansLazy_ShouldOnlyMarkSpringDocBeans() {
+    // Arrange
+    var beanFactory = new DefaultListableBeanFactory();
+    beanFactory.registerBeanDefinition(
+        "springDocConfigProperties",
+        new RootBeanDefinition("org.springdoc.core.properties.SpringDocConfigProperties"));
+    beanFactory.registerBeanDefinition(
+        "openApiConfig", new RootBeanDefinition(OpenApiConfig.class.getName()));
+
+    // Act
+    var marked = LazyApiDocsConfig.markSpringDocBeansLazy(beanFactory);
+
+    // Assert
+    assertEquals(1, marked);
+    assertTrue(beanFactory.getBeanDefinition("springDocConfigProperties").isLazyInit());
+    assertFalse(beanFactory.getBeanDefinition("openApiConfig").isLazyInit());
+  }
+
+  @Test
+  @DisplayName("Beans from @Bean methods should be attributed to their configuration class")
+  void markSpringDocBeansLazy_ShouldInspectFactoryMethods() {
+    // Arrange
+    var beanFactory = new DefaultListableBeanFactory();
+    new AnnotatedBeanDefinitionReader(beanFactory).register(LocalConfig.class);
+    new ConfigurationClassPostProcessor().postProcessBeanDefinitionRegistry(beanFactory);
+
+    // Act
+    var marked = LazyApiDocsConfig.markSpringDocBeansLazy(beanFactory);
+
+    // Assert
+    assertEquals(0, marked);
+    assertFalse(beanFactory.getBeanDefinition("localValue").isLazyInit());
+  }
+
+  @Configuration
+  static class LocalConfig {
+
+    @Bean
+    String localValue() {
+      return "local";
+    }
+  }
+}
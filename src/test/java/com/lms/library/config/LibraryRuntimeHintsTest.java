@@ -0,0 +1,54 @@
+package com.lms.library.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.lms.library.dto.MemberResponse;
+import com.lms.library.replication.ChangeEntry;
+import com.lms.library.replication.LoanChanged;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+/**
+ * Unit tests for LibraryRuntimeHints class
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+class LibraryRuntimeHintsTest {
+
+  private RuntimeHints hints;
+
+  @BeforeEach
+  void setUp() {
+    hints = new RuntimeHints();
+    new LibraryRuntimeHints().registerHints(hints, getClass().getClassLoader());
+  }
+
+  @Test
+  @DisplayName("Every bound type should be registered for reflection")
+  void registerHints_ShouldRegisterAllBoundTypes() {
+    for (var type : LibraryRuntimeHints.BOUND_TYPES) {
+      assertTrue(RuntimeHintsPredicates.reflection().onType(type).test(hints), type.getName());
+    }
+  }
+
+  @Test
+  @DisplayName("Record accessors and constructors should be invocable by Jackson")
+  void registerHints_ShouldAllowBindingRecords() throws Exception {
+    // Arrange
+    var accessor = MemberResponse.class.getMethod("email");
+    var constructor = LoanChanged.Item.class.getDeclaredConstructors()[0];
+
+    // Act & Assert
+    assertTrue(RuntimeHintsPredicates.reflection().onMethod(accessor).test(hints));
+    assertTrue(RuntimeHintsPredicates.reflection().onConstructor(constructor).test(hints));
+    assertTrue(
+        RuntimeHintsPredicates.reflection()
+            .onMethod(ChangeEntry.class.getMethod("change"))
+            .test(hints));
+  }
+}
@@ -1,29 +1,44 @@
 package com.lms.library.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.lms.library.coalescing.RequestCoalescer;
+import com.lms.library.config.CompactJsonConfig;
 import com.lms.library.dto.LoanRequest;
+import com.lms.library.dto.LoanResponse;
+import com.lms.library.exception.IdempotencyKeyReusedException;
 import com.lms.library.exception.ItemNotAvailableException;
 import com.lms.library.exception.ItemNotFoundException;
 import com.lms.library.exception.LoanNotFoundException;
 import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.idempotency.IdempotencyCache;
 import com.lms.library.model.Book;
 import com.lms.library.model.Loan;
 import com.lms.library.model.LoanItem;
 import com.lms.library.model.Member;
+import com.lms.library.policy.MemberStanding;
 import com.lms.library.service.LoanService;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
 /**
  * Unit tests for LoanController.
@@ -38,6 +53,10 @@ class LoanControllerTest {
 
   @Mock private LoanService loanService;
 
+  @Spy private IdempotencyCache idempotencyCache = new IdempotencyCache(100, 60_000);
+
+  @Spy private RequestCoalescer requestCoalescer = new RequestCoalescer();
+
   @InjectMocks private LoanController loanController;
 
   private Member testMember;
@@ -88,7 +107,7 @@ class LoanControllerTest {
       when(loanService.checkoutItems(anyLong(), any(LoanRequest.class))).thenReturn(testLoan);
 
       // When
-      var response = loanController.checkoutItems(1L, testLoanRequest);
+      var response = loanController.checkoutItems(1L, testLoanRequest, null);
 
       // Then
       assertAll(
@@ -114,7 +133,7 @@ class LoanControllerTest {
 
       // When & Then
       try {
-        loanController.checkoutItems(999L, testLoanRequest);
+        loanController.checkoutItems(999L, testLoanRequest, null);
       } catch (MemberNotFoundException e) {
         assertThat(e.getMessage()).isEqualTo("Member not found");
       }
@@ -131,7 +150,7 @@ class LoanControllerTest {
 
       // When & Then
       try {
-        loanController.checkoutItems(1L, testLoanRequest);
+        loanController.checkoutItems(1L, testLoanRequest, null);
       } catch (ItemNotFoundException e) {
         assertThat(e.getMessage()).isEqualTo("Item not found");
       }
@@ -148,7 +167,7 @@ class LoanControllerTest {
 
       // When & Then
       try {
-        loanController.checkoutItems(1L, testLoanRequest);
+        loanController.checkoutItems(1L, testLoanRequest, null);
       } catch (ItemNotAvailableException e) {
         assertThat(e.getMessage()).isEqualTo("Item not available");
       }
@@ -169,7 +188,7 @@ class LoanControllerTest {
       when(loanService.getMemberLoans(1L)).thenReturn(loans);
 
       // When
-      var response = loanController.getMemberLoans(1L);
+      var response = loanController.getMemberLoans(1L, null, null);
 
       // Then
       assertAll(
@@ -188,7 +207,7 @@ class LoanControllerTest {
       when(loanService.getMemberLoans(1L)).thenReturn(List.of());
 
       // When
-      var response = loanController.getMemberLoans(1L);
+      var response = loanController.getMemberLoans(1L, null, null);
 
       // Then
       assertAll(
@@ -208,13 +227,48 @@ class LoanControllerTest {
 
       // When & Then
       try {
-        loanController.getMemberLoans(999L);
+        loanController.getMemberLoans(999L, null, null);
       } catch (MemberNotFoundException e) {
         assertThat(e.getMessage()).isEqualTo("Member not found");
       }
 
       verify(loanService).getMemberLoans(999L);
     }
+
+    @Test
+    @DisplayName("Should return 304 without loading loans when ETag matches")
+    void getMemberLoans_ShouldReturnNotModified_WhenETagMatches() {
+      // Given
+      when(loanService.getMemberLoansVersion(1L)).thenReturn(3L);
+
+      // When
+      var response = loanController.getMemberLoans(1L, "\"member-1-loans-3\"", null);
+
+      // Then
+      assertAll(
+          () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+          () -> assertThat(response.getHeaders().getETag()).isEqualTo("\"member-1-loans-3\""),
+          () -> assertThat(response.getBody()).isNull());
+
+      verify(loanService, never()).getMemberLoans(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return loans with ETag when ETag is stale")
+    void getMemberLoans_ShouldReturnLoansWithETag_WhenETagIsStale() {
+      // Given
+      when(loanService.getMemberLoansVersion(1L)).thenReturn(4L);
+      when(loanService.getMemberLoans(1L)).thenReturn(List.of(testLoan));
+
+      // When
+      var response = loanController.getMemberLoans(1L, "\"member-1-loans-3\"", null);
+
+      // Then
+      assertAll(
+          () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+          () -> assertThat(response.getHeaders().getETag()).isEqualTo("\"member-1-loans-4\""),
+          () -> assertThat(response.getBody()).hasSize(1));
+    }
   }
 
   @Nested
@@ -228,7 +282,7 @@ class LoanControllerTest {
       when(loanService.getLoanById(1L)).thenReturn(testLoan);
 
       // When
-      var response = loanController.getLoan(1L);
+      var response = loanController.getLoan(1L, null, null);
 
       // Then
       assertAll(
@@ -252,13 +306,85 @@ class LoanControllerTest {
 
       // When & Then
       try {
-        loanController.getLoan(999L);
+        loanController.getLoan(999L, null, null);
       } catch (LoanNotFoundException e) {
         assertThat(e.getMessage()).isEqualTo("Loan not found");
       }
 
       verify(loanService).getLoanById(999L);
     }
+
+    @Test
+    @DisplayName("Should return 304 without loading the loan when ETag matches")
+    void getLoan_ShouldReturnNotModified_WhenETagMatches() {
+      // Given
+      when(loanService.getLoanVersion(1L)).thenReturn(2L);
+
+      // When
+      var response = loanController.getLoan(1L, "\"loan-1-1\", W/\"loan-1-2\"", null);
+
+      // Then
+      assertAll(
+          () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+          () -> assertThat(response.getHeaders().getETag()).isEqualTo("\"loan-1-2\""),
+          () -> assertThat(response.getBody()).isNull());
+
+      verify(loanService, never()).getLoanById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return loan with ETag when no If-None-Match header is sent")
+    void getLoan_ShouldReturnETag_WhenNoConditionalHeader() {
+      // Given
+      when(loanService.getLoanVersion(1L)).thenReturn(5L);
+      when(loanService.getLoanById(1L)).thenReturn(testLoan);
+
+      // When
+      var response = loanController.getLoan(1L, null, null);
+
+      // Then
+      assertAll(
+          () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+          () -> assertThat(response.getHeaders().getETag()).isEqualTo("\"loan-1-5\""),
+          () -> assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    @DisplayName("Should tag the compact view with its own ETag")
+    void getLoan_ShouldReturnCompactETag_WhenCompactViewRequested() {
+      // Given
+      when(loanService.getLoanVersion(1L)).thenReturn(5L);
+      when(loanService.getLoanById(1L)).thenReturn(testLoan);
+
+      // When
+      var response =
+          loanController.getLoan(1L, "\"loan-1-5\"", CompactJsonConfig.COMPACT_JSON.toString());
+
+      // Then
+      assertAll(
+          () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+          () -> assertThat(response.getHeaders().getETag()).isEqualTo("\"loan-1-5-c\""),
+          () -> assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    @DisplayName("Should return 304 when the compact ETag matches")
+    void getLoan_ShouldReturnNotModified_WhenCompactETagMatches() {
+      // Given
+      when(loanService.getLoanVersion(1L)).thenReturn(5L);
+
+      // When
+      var response =
+          loanController.getLoan(1L, "\"loan-1-5-c\"", CompactJsonConfig.COMPACT_JSON.toString());
+
+      // Then
+      assertAll(
+          () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED),
+          () -> assertThat(response.getHeaders().getETag()).isEqualTo("\"loan-1-5-c\""),
+          () -> assertThat(response.getHeaders().getVary()).containsExactly(HttpHeaders.ACCEPT));
+
+      verify(loanService, never()).getLoanById(anyLong());
+    }
   }
 
   @Nested
@@ -275,7 +401,7 @@ class LoanControllerTest {
       when(loanService.returnItems(1L, List.of(1L))).thenReturn(returnedLoan);
 
       // When
-      var response = loanController.returnItems(1L, returnRequest);
+      var response = loanController.returnItems(1L, returnRequest, null);
 
       // Then
       assertAll(
@@ -301,7 +427,7 @@ class LoanControllerTest {
       var returnRequest = new LoanRequest(List.of(1L, 2L));
 
       // When
-      var response = loanController.returnItems(1L, returnRequest);
+      var response = loanController.returnItems(1L, returnRequest, null);
 
       // Then
       assertAll(
@@ -321,7 +447,7 @@ class LoanControllerTest {
 
       // When & Then
       try {
-        loanController.returnItems(999L, returnRequest);
+        loanController.returnItems(999L, returnRequest, null);
       } catch (LoanNotFoundException e) {
         assertThat(e.getMessage()).isEqualTo("Loan not found");
       }
@@ -339,7 +465,7 @@ class LoanControllerTest {
 
       // When & Then
       try {
-        loanController.returnItems(1L, returnRequest);
+        loanController.returnItems(1L, returnRequest, null);
       } catch (ItemNotFoundException e) {
         assertThat(e.getMessage()).isEqualTo("Item not found in loan");
       }
@@ -373,6 +499,164 @@ class LoanControllerTest {
     }
   }
 
+  @Nested
+  @DisplayName("Idempotency Tests")
+  class IdempotencyTests {
+
+    @Test
+    @DisplayName("Should answer a retried checkout without checking out again")
+    void checkoutItems_ShouldReplayResponse_WhenKeyRepeated() {
+      // Given
+      when(loanService.checkoutItems(1L, testLoanRequest)).thenReturn(testLoan);
+      var first = loanController.checkoutItems(1L, testLoanRequest, "kiosk-7-42");
+
+      // When
+      var retry = loanController.checkoutItems(1L, new LoanRequest(List.of(1L, 2L)), "kiosk-7-42");
+
+      // Then
+      assertThat(retry.getBody()).isSameAs(first.getBody());
+      verify(loanService, times(1)).checkoutItems(anyLong(), any(LoanRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should answer a retried return without returning again")
+    void returnItems_ShouldReplayResponse_WhenKeyRepeated() {
+      // Given
+      var returnRequest = new LoanRequest(List.of(1L));
+      when(loanService.returnItems(1L, List.of(1L))).thenReturn(testLoan);
+      var first = loanController.returnItems(1L, returnRequest, "kiosk-7-43");
+
+      // When
+      var retry = loanController.returnItems(1L, returnRequest, "kiosk-7-43");
+
+      // Then
+      assertThat(retry.getBody()).isSameAs(first.getBody());
+      verify(loanService, times(1)).returnItems(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for another request")
+    void checkoutItems_ShouldThrow_WhenKeyReusedForAnotherRequest() {
+      // Given
+      when(loanService.checkoutItems(1L, testLoanRequest)).thenReturn(testLoan);
+      loanController.checkoutItems(1L, testLoanRequest, "kiosk-7-44");
+
+      // When & Then
+      assertThatThrownBy(() -> loanController.checkoutItems(2L, testLoanRequest, "kiosk-7-44"))
+          .isInstanceOf(IdempotencyKeyReusedException.class);
+      verify(loanService, never()).checkoutItems(eq(2L), any(LoanRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should check out again when the first attempt failed")
+    void checkoutItems_ShouldExecuteAgain_WhenFirstAttemptFailed() {
+      // Given
+      when(loanService.checkoutItems(1L, testLoanRequest))
+          .thenThrow(new ItemNotAvailableException("Item not available"))
+          .thenReturn(testLoan);
+      assertThatThrownBy(() -> loanController.checkoutItems(1L, testLoanRequest, "kiosk-7-45"))
+          .isInstanceOf(ItemNotAvailableException.class);
+
+      // When
+      var retry = loanController.checkoutItems(1L, testLoanRequest, "kiosk-7-45");
+
+      // Then
+      assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.OK);
+      verify(loanService, times(2)).checkoutItems(1L, testLoanRequest);
+    }
+  }
+
+  @Nested
+  @DisplayName("Request Coalescing Tests")
+  class RequestCoalescingTests {
+
+    @Test
+    @DisplayName("Should load a loan once for concurrent requests of the same version")
+    void getLoan_ShouldShareLoad_WhenRequestsConcurrent() throws Exception {
+      // Given
+      var loading = new CountDownLatch(1);
+      var release = new CountDownLatch(1);
+      when(loanService.getLoanById(1L))
+          .thenAnswer(
+              invocation -> {
+                loading.countDown();
+                release.await();
+                return testLoan;
+              });
+
+      // When
+      try (var executor = Executors.newFixedThreadPool(2)) {
+        var first = executor.submit(() -> loanController.getLoan(1L, null, null));
+        loading.await();
+        var joined = new AtomicReference<ResponseEntity<LoanResponse>>();
+        var joiner = new Thread(() -> joined.set(loanController.getLoan(1L, null, null)));
+        joiner.start();
+        while (joiner.getState() != Thread.State.WAITING) {
+          Thread.onSpinWait();
+        }
+        release.countDown();
+        joiner.join();
+
+        // Then
+        assertThat(joined.get().getBody()).isSameAs(first.get().getBody());
+      }
+      verify(loanService, times(1)).getLoanById(1L);
+    }
+
+    @Test
+    @DisplayName("Should load a loan again once the previous load finished")
+    void getLoan_ShouldLoadAgain_WhenRequestsSequential() {
+      // Given
+      when(loanService.getLoanById(1L)).thenReturn(testLoan);
+
+      // When
+      loanController.getLoan(1L, null, null);
+      loanController.getLoan(1L, null, null);
+
+      // Then
+      verify(loanService, times(2)).getLoanById(1L);
+      assertThat(requestCoalescer.inFlightCount()).isZero();
+    }
+  }
+
+  @Nested
+  @DisplayName("Get Member Standing Tests")
+  class GetMemberStandingTests {
+
+    @Test
+    @DisplayName("Should return member standing when member exists")
+    void getMemberStanding_ShouldReturnStanding_WhenMemberExists() {
+      // Given
+      when(loanService.getMemberStanding(1L)).thenReturn(new MemberStanding(1L, 2, 10, 1, 75));
+
+      // When
+      var response = loanController.getMemberStanding(1L);
+
+      // Then
+      var body = response.getBody();
+      assertAll(
+          () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+          () -> assertThat(body).isNotNull(),
+          () -> assertThat(body.openItems()).isEqualTo(2),
+          () -> assertThat(body.overdueItems()).isEqualTo(1),
+          () -> assertThat(body.accruedFineCents()).isEqualTo(75),
+          () -> assertThat(body.canBorrow()).isFalse());
+    }
+
+    @Test
+    @DisplayName("Should propagate MemberNotFoundException when member not found")
+    void getMemberStanding_ShouldThrowMemberNotFoundException_WhenMemberNotFound() {
+      // Given
+      when(loanService.getMemberStanding(999L))
+          .thenThrow(new MemberNotFoundException("Member not found"));
+
+      // When & Then
+      assertThatThrownBy(() -> loanController.getMemberStanding(999L))
+          .isInstanceOf(MemberNotFoundException.class)
+          .hasMessage("Member not found");
+    }
+  }
+
   @Nested
   @DisplayName("Edge Cases Tests")
   class EdgeCasesTests {
@@ -385,7 +669,7 @@ class LoanControllerTest {
       when(loanService.checkoutItems(anyLong(), any(LoanRequest.class))).thenReturn(testLoan);
 
       // When
-      var response = loanController.checkoutItems(1L, singleItemRequest);
+      var response = loanController.checkoutItems(1L, singleItemRequest, null);
 
       // Then
       assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -400,7 +684,7 @@ class LoanControllerTest {
       when(loanService.checkoutItems(anyLong(), any(LoanRequest.class))).thenReturn(testLoan);
 
       // When
-      var response = loanController.checkoutItems(1L, multipleItemsRequest);
+      var response = loanController.checkoutItems(1L, multipleItemsRequest, null);
 
       // Then
       assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -0,0 +1,82 @@
+package com.lms.library.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lms.library.dto.MemberResponse;
+import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.model.Member;
+import com.lms.library.service.MemberService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Unit tests for MemberController.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Member Controller Unit Tests")
+class MemberControllerTest {
+
+  @Mock private MemberService memberService;
+
+  @InjectMocks private MemberController memberController;
+
+  private Member testMember;
+
+  @BeforeEach
+  void setUp() {
+    testMember = new Member("John", "Doe", "john.doe@example.com");
+    testMember.setId(1L);
+  }
+
+  @Nested
+  @DisplayName("Get Member By Email Tests")
+  class GetMemberByEmailTests {
+
+    @Test
+    @DisplayName("Should return member details when email exists")
+    void getMemberByEmail_ShouldReturnMember_WhenEmailExists() {
+      // Given
+      when(memberService.getMemberByEmail("john.doe@example.com")).thenReturn(testMember);
+
+      // When
+      var response = memberController.getMemberByEmail("john.doe@example.com");
+
+      // Then
+      assertAll(
+          () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+          () ->
+              assertThat(response.getBody())
+                  .isEqualTo(new MemberResponse(1L, "John", "Doe", "john.doe@example.com")));
+
+      verify(memberService).getMemberByEmail("john.doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Should propagate MemberNotFoundException when email is unknown")
+    void getMemberByEmail_ShouldThrowMemberNotFoundException_WhenEmailNotFound() {
+      // Given
+      when(memberService.getMemberByEmail("nobody@example.com"))
+          .thenThrow(new MemberNotFoundException("Member not found"));
+
+      // When & Then
+      assertThatThrownBy(() -> memberController.getMemberByEmail("nobody@example.com"))
+          .isInstanceOf(MemberNotFoundException.class)
+          .hasMessage("Member not found");
+    }
+  }
+}
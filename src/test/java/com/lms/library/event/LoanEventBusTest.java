@@ -0,0 +1,146 @@
+package com.lms.library.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for LoanEventBus.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Loan Event Bus Unit Tests")
+class LoanEventBusTest {
+
+  @Test
+  @DisplayName("Should deliver published events to every subscriber in order")
+  void subscribe_ShouldDeliverEventsInOrder_ToAllSubscribers() throws InterruptedException {
+    // Given
+    var bus = new LoanEventBus(16, 4);
+    var first = new CopyOnWriteArrayList<LoanEvent>();
+    var second = new CopyOnWriteArrayList<LoanEvent>();
+    var latch = new CountDownLatch(20);
+
+    try (var s1 = bus.subscribe(collect(first, latch));
+        var s2 = bus.subscribe(collect(second, latch))) {
+
+      // When
+      for (long i = 1; i <= 10; i++) {
+        bus.publish(new ItemReturned(1L, i, Instant.now()));
+      }
+
+      // Then
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+      assertAll(
+          () ->
+              assertThat(first)
+                  .extracting(event -> ((ItemReturned) event).itemId())
+                  .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L),
+          () -> assertThat(second).isEqualTo(first));
+    }
+
+    assertThat(bus.getSubscriberCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should park idle subscribers until an event is published")
+  void subscribe_ShouldParkIdleSubscriber_UntilPublish() throws InterruptedException {
+    // Given
+    var bus = new LoanEventBus(16, 4);
+    var received = new CopyOnWriteArrayList<LoanEvent>();
+    var latch = new CountDownLatch(1);
+    var consumerThread = new AtomicReference<Thread>();
+
+    try (var subscription =
+        bus.subscribe(
+            batch -> {
+              consumerThread.set(Thread.currentThread());
+              collect(received, latch).accept(batch);
+            })) {
+      Thread.sleep(50);
+
+      // When
+      bus.publish(new ItemReturned(1L, 1L, Instant.now()));
+
+      // Then
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+      var parked = Thread.State.WAITING;
+      for (var i = 0; i < 500 && consumerThread.get().getState() != parked; i++) {
+        Thread.sleep(10);
+      }
+      // A polling subscriber would show up running between its timed waits
+      var states = new ArrayList<Thread.State>();
+      for (var i = 0; i < 100; i++) {
+        states.add(consumerThread.get().getState());
+        Thread.sleep(1);
+      }
+      assertAll(
+          () -> assertThat(received).hasSize(1), () -> assertThat(states).containsOnly(parked));
+    }
+  }
+
+  @Test
+  @DisplayName("Should hand out events in batches bounded by the max batch size")
+  void poll_ShouldRespectMaxBatchSize() {
+    // Given
+    var bus = new LoanEventBus(16, 3);
+    var subscription = bus.newSubscription(batch -> {});
+    for (long i = 1; i <= 5; i++) {
+      bus.publish(new LoanClosed(i, 1L, Instant.now()));
+    }
+
+    // When & Then
+    assertAll(
+        () -> assertThat(subscription.poll()).hasSize(3),
+        () -> assertThat(subscription.poll()).hasSize(2),
+        () -> assertThat(subscription.poll()).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Should skip ahead and count dropped events when a subscriber is lapped")
+  void poll_ShouldDropOldestEvents_WhenSubscriberFallsBehind() {
+    // Given
+    var bus = new LoanEventBus(4, 16);
+    var subscription = bus.newSubscription(batch -> {});
+    for (long i = 1; i <= 10; i++) {
+      bus.publish(new LoanClosed(i, 1L, Instant.now()));
+    }
+
+    // When
+    var batch = subscription.poll();
+
+    // Then
+    assertAll(
+        () -> assertThat(batch).extracting(LoanEvent::loanId).containsExactly(7L, 8L, 9L, 10L),
+        () -> assertThat(subscription.getDropped()).isEqualTo(6));
+  }
+
+  @Test
+  @DisplayName("Should reject a ring capacity that is not a power of two")
+  void constructor_ShouldRejectInvalidCapacity() {
+    assertThatThrownBy(() -> new LoanEventBus(10, 4))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Ring capacity must be a positive power of two");
+  }
+
+  private static Consumer<List<LoanEvent>> collect(
+      List<LoanEvent> sink, CountDownLatch latch) {
+    return batch -> {
+      sink.addAll(batch);
+      batch.forEach(event -> latch.countDown());
+    };
+  }
+}
@@ -129,6 +129,52 @@ class GlobalExceptionHandlerTest {
     assertEquals("/api/test-endpoint", apiError.path());
   }
 
+  @Test
+  @DisplayName("Handle BorrowingBlockedException should return 409 CONFLICT")
+  void handleBorrowingBlocked_ShouldReturn409() {
+    // When
+    when(request.getRequestURI()).thenReturn("/api/test-endpoint");
+
+    // Arrange
+    var ex = new BorrowingBlockedException("Member 1 has 2 overdue items");
+
+    // Act
+    var response = exceptionHandler.handleBorrowingBlocked(ex, request);
+
+    // Assert
+    assertNotNull(response);
+    assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+
+    var apiError = response.getBody();
+    assertNotNull(apiError);
+    assertEquals(HttpStatus.CONFLICT.value(), apiError.status());
+    assertEquals("Member 1 has 2 overdue items", apiError.message());
+    assertEquals("/api/test-endpoint", apiError.path());
+  }
+
+  @Test
+  @DisplayName("Handle IdempotencyKeyReusedException should return 422 UNPROCESSABLE_ENTITY")
+  void handleIdempotencyKeyReused_ShouldReturn422() {
+    // When
+    when(request.getRequestURI()).thenReturn("/api/test-endpoint");
+
+    // Arrange
+    var ex = new IdempotencyKeyReusedException("Idempotency key 'k' was already used");
+
+    // Act
+    var response = exceptionHandler.handleIdempotencyKeyReused(ex, request);
+
+    // Assert
+    assertNotNull(response);
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+
+    var apiError = response.getBody();
+    assertNotNull(apiError);
+    assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), apiError.status());
+    assertEquals("Idempotency key 'k' was already used", apiError.message());
+    assertEquals("/api/test-endpoint", apiError.path());
+  }
+
   @Test
   @DisplayName("Handle IllegalArgumentException should return 400 BAD_REQUEST")
   void handleIllegalArgument_ShouldReturn400() {
@@ -177,6 +223,29 @@ class GlobalExceptionHandlerTest {
     assertEquals("/api/test-endpoint", apiError.path());
   }
 
+  @Test
+  @DisplayName("Handle NodeUnavailableException should return 503 SERVICE_UNAVAILABLE")
+  void handleNodeUnavailable_ShouldReturn503() {
+    // When
+    when(request.getRequestURI()).thenReturn("/api/test-endpoint");
+
+    // Arrange
+    var ex = new NodeUnavailableException("Cluster node node-2 is unavailable");
+
+    // Act
+    var response = exceptionHandler.handleNodeUnavailable(ex, request);
+
+    // Assert
+    assertNotNull(response);
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+
+    var apiError = response.getBody();
+    assertNotNull(apiError);
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), apiError.status());
+    assertEquals("Cluster node node-2 is unavailable", apiError.message());
+    assertEquals("/api/test-endpoint", apiError.path());
+  }
+
   @Test
   @DisplayName("Handle generic Exception should return 500 INTERNAL_SERVER_ERROR")
   void handleGenericException_ShouldReturn500() {
@@ -0,0 +1,230 @@
+package com.lms.library.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.lms.library.exception.IdempotencyKeyReusedException;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for IdempotencyCache.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Idempotency Cache Unit Tests")
+class IdempotencyCacheTest {
+
+  private IdempotencyCache cache;
+  private AtomicInteger executions;
+
+  @BeforeEach
+  void setUp() {
+    cache = new IdempotencyCache(3, 60_000);
+    executions = new AtomicInteger();
+  }
+
+  private String execute(IdempotencyCache target, String key, String fingerprint) {
+    return target.execute(key, fingerprint, () -> fingerprint + "#" + executions.incrementAndGet());
+  }
+
+  @Nested
+  @DisplayName("Replay Tests")
+  class ReplayTests {
+
+    @Test
+    @DisplayName("Should execute once per key and replay the result")
+    void execute_ShouldReplayResult_WhenKeyRepeated() {
+      // When
+      var first = execute(cache, "key-1", "checkout 1 [1]");
+      var retry = execute(cache, "key-1", "checkout 1 [1]");
+
+      // Then
+      assertAll(
+          () -> assertThat(first).isEqualTo("checkout 1 [1]#1"),
+          () -> assertThat(retry).isSameAs(first),
+          () -> assertThat(executions).hasValue(1));
+    }
+
+    @Test
+    @DisplayName("Should execute every request sent without a key")
+    void execute_ShouldNotCache_WhenKeyMissing() {
+      // When
+      execute(cache, null, "checkout 1 [1]");
+      execute(cache, null, "checkout 1 [1]");
+
+      // Then
+      assertAll(
+          () -> assertThat(executions).hasValue(2), () -> assertThat(cache.size()).isZero());
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused with another fingerprint")
+    void execute_ShouldThrow_WhenFingerprintDiffers() {
+      // Given
+      execute(cache, "key-1", "checkout 1 [1]");
+
+      // When & Then
+      assertThatThrownBy(() -> execute(cache, "key-1", "checkout 1 [2]"))
+          .isInstanceOf(IdempotencyKeyReusedException.class)
+          .hasMessage("Idempotency key 'key-1' was already used for another request");
+      assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should forget failed requests so that their retry executes")
+    void execute_ShouldExecuteAgain_WhenFirstAttemptFailed() {
+      // Given
+      assertThatThrownBy(
+              () ->
+                  cache.execute(
+                      "key-1",
+                      "checkout 1 [1]",
+                      () -> {
+                        throw new IllegalStateException("Loan store busy");
+                      }))
+          .isInstanceOf(IllegalStateException.class);
+
+      // When
+      var retry = execute(cache, "key-1", "checkout 1 [1]");
+
+      // Then
+      assertThat(retry).isEqualTo("checkout 1 [1]#1");
+    }
+
+    @Test
+    @DisplayName("Should reject blank and overlong keys")
+    void execute_ShouldThrow_WhenKeyInvalid() {
+      assertAll(
+          () ->
+              assertThatThrownBy(() -> execute(cache, " ", "checkout 1 [1]"))
+                  .isInstanceOf(IllegalArgumentException.class),
+          () ->
+              assertThatThrownBy(() -> execute(cache, "k".repeat(256), "checkout 1 [1]"))
+                  .isInstanceOf(IllegalArgumentException.class));
+    }
+
+    @Test
+    @DisplayName("Should execute once when retries arrive while the first request is running")
+    void execute_ShouldShareInFlightResult_WhenConcurrent() throws Exception {
+      // Given
+      var started = new CountDownLatch(1);
+      var release = new CountDownLatch(1);
+      var results = new ArrayList<Future<String>>();
+
+      // When
+      try (var executor = Executors.newFixedThreadPool(8)) {
+        results.add(
+            executor.submit(
+                () ->
+                    cache.execute(
+                        "key-1",
+                        "checkout 1 [1]",
+                        () -> {
+                          started.countDown();
+                          release.await();
+                          return "loan-" + executions.incrementAndGet();
+                        })));
+        started.await();
+        for (var i = 0; i < 7; i++) {
+          results.add(executor.submit(() -> execute(cache, "key-1", "checkout 1 [1]")));
+        }
+        release.countDown();
+      }
+
+      // Then
+      for (var result : results) {
+        assertThat(result.get()).isEqualTo("loan-1");
+      }
+      assertThat(executions).hasValue(1);
+    }
+  }
+
+  @Nested
+  @DisplayName("Eviction Tests")
+  class EvictionTests {
+
+    @Test
+    @DisplayName("Should evict the oldest keys beyond the capacity")
+    void execute_ShouldEvictOldest_WhenFull() {
+      // Given
+      for (var i = 1; i <= 4; i++) {
+        execute(cache, "key-" + i, "checkout " + i);
+      }
+
+      // When
+      execute(cache, "key-1", "checkout 1");
+      execute(cache, "key-4", "checkout 4");
+
+      // Then
+      assertAll(
+          () -> assertThat(executions).hasValue(5), () -> assertThat(cache.size()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("Should not evict live keys for failed requests")
+    void execute_ShouldKeepLiveKeys_WhenFailuresExceedCapacity() {
+      // Given
+      execute(cache, "key-1", "checkout 1");
+      for (var i = 2; i <= 6; i++) {
+        var key = "key-" + i;
+        assertThatThrownBy(
+                () ->
+                    cache.execute(
+                        key,
+                        "checkout " + key,
+                        () -> {
+                          throw new IllegalStateException("Item is on hold for another member");
+                        }))
+            .isInstanceOf(IllegalStateException.class);
+      }
+
+      // When
+      var replay = execute(cache, "key-1", "checkout 1");
+
+      // Then
+      assertAll(
+          () -> assertThat(replay).isEqualTo("checkout 1#1"),
+          () -> assertThat(executions).hasValue(1),
+          () -> assertThat(cache.size()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("Should execute again once the key has expired")
+    void execute_ShouldExecuteAgain_WhenKeyExpired() {
+      // Given
+      var expiringCache = new IdempotencyCache(3, 0);
+      execute(expiringCache, "key-1", "checkout 1 [1]");
+
+      // When
+      execute(expiringCache, "key-1", "checkout 1 [1]");
+
+      // Then
+      assertAll(
+          () -> assertThat(executions).hasValue(2),
+          () -> assertThat(expiringCache.size()).isZero());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void constructor_ShouldThrow_WhenConfigurationInvalid() {
+      assertAll(
+          () ->
+              assertThatThrownBy(() -> new IdempotencyCache(0, 1_000))
+                  .isInstanceOf(IllegalArgumentException.class),
+          () ->
+              assertThatThrownBy(() -> new IdempotencyCache(10, -1))
+                  .isInstanceOf(IllegalArgumentException.class));
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.lms.library.model;
+
+import static com.lms.library.util.TestUtil.createMember;
+import static com.lms.library.util.TestUtil.createTestBook;
+import static com.lms.library.util.TestUtil.createTestJournal;
+import static com.lms.library.util.TestUtil.createTestLoanItem;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the outstanding-item tracking of Loan.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Loan Unit Tests")
+class LoanTest {
+
+  private Loan loan;
+
+  @BeforeEach
+  void setUp() {
+    loan = new Loan(createMember(), LocalDate.now(), LocalDate.now().plusDays(14));
+    loan.setId(1L);
+  }
+
+  @Test
+  @DisplayName("Should count only unreturned items as outstanding")
+  void addItem_ShouldCountOnlyUnreturnedItems() {
+    // Given
+    var returnedItem = createTestLoanItem(loan, createTestBook(1L), true);
+    var openItem = createTestLoanItem(loan, createTestJournal(2L), false);
+
+    // When
+    loan.addItem(returnedItem);
+    loan.addItem(openItem);
+
+    // Then
+    assertThat(loan.getOutstandingItemCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should close the loan only when the last item is returned")
+  void updateStatus_ShouldCloseLoan_WhenLastItemReturned() {
+    // Given
+    var first = createTestLoanItem(loan, createTestBook(1L), false);
+    var second = createTestLoanItem(loan, createTestJournal(2L), false);
+    loan.addItem(first);
+    loan.addItem(second);
+
+    // When
+    first.markReturned();
+    loan.updateStatus();
+    var statusAfterFirstReturn = loan.getStatus();
+
+    second.markReturned();
+    loan.updateStatus();
+
+    // Then
+    assertAll(
+        () -> assertThat(statusAfterFirstReturn).isEqualTo(LoanStatus.OPEN),
+        () -> assertThat(loan.getStatus()).isEqualTo(LoanStatus.CLOSED),
+        () -> assertThat(loan.getOutstandingItemCount()).isZero());
+  }
+
+  @Test
+  @DisplayName("Should not decrement the outstanding count twice for the same item")
+  void markReturned_ShouldBeCountedOnce_WhenCalledRepeatedly() {
+    // Given
+    var first = createTestLoanItem(loan, createTestBook(1L), false);
+    var second = createTestLoanItem(loan, createTestJournal(2L), false);
+    loan.addItem(first);
+    loan.addItem(second);
+
+    // When
+    first.markReturned();
+    first.markReturned();
+    loan.updateStatus();
+
+    // Then
+    assertAll(
+        () -> assertThat(loan.getOutstandingItemCount()).isEqualTo(1),
+        () -> assertThat(loan.getStatus()).isEqualTo(LoanStatus.OPEN));
+  }
+
+  @Test
+  @DisplayName("Should expose items as an unmodifiable live view")
+  void getItems_ShouldReturnUnmodifiableView() {
+    // Given
+    var items = loan.getItems();
+
+    // When
+    loan.addItem(createTestLoanItem(loan, createTestBook(1L), false));
+
+    // Then
+    assertThat(items).hasSize(1);
+    assertThatThrownBy(() -> items.add(createTestLoanItem(loan, createTestBook(2L), false)))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+}
@@ -0,0 +1,285 @@
+package com.lms.library.policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.lms.library.exception.BorrowingBlockedException;
+import com.lms.library.model.Book;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import com.lms.library.model.Member;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MemberLedger.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Member Ledger Unit Tests")
+class MemberLedgerTest {
+
+  private static final LocalDate TODAY = LocalDate.now();
+
+  private MemberLedger memberLedger;
+  private Member member;
+  private long nextLoanId;
+
+  @BeforeEach
+  void setUp() {
+    memberLedger = new MemberLedger(3, 25);
+    member = new Member("John", "Doe", "john.doe@example.com");
+    member.setId(1L);
+    nextLoanId = 1;
+  }
+
+  private Loan checkout(LocalDate dueDate, int items) {
+    memberLedger.reserve(member.getId(), items);
+    var loan = newLoan(dueDate, items);
+    memberLedger.loanOpened(loan);
+    return loan;
+  }
+
+  private Loan newLoan(LocalDate dueDate, int items) {
+    var loan = new Loan(member, TODAY, dueDate);
+    loan.setId(nextLoanId++);
+    for (var i = 0; i < items; i++) {
+      var book =
+          new Book("Book " + i, "Author", LocalDate.of(2000, 1, 1), "978-" + i, "Fiction", 100);
+      book.setId((long) i);
+      loan.addItem(new LoanItem(loan, book));
+    }
+    return loan;
+  }
+
+  @Nested
+  @DisplayName("Loan Limit Tests")
+  class LoanLimitTests {
+
+    @Test
+    @DisplayName("Should count items on loan and release them on return")
+    void reserve_ShouldCountOpenItems() {
+      // Given
+      var loan = checkout(TODAY.plusDays(14), 2);
+
+      // When
+      memberLedger.itemReturned(loan);
+
+      // Then
+      var standing = memberLedger.standingOf(1L);
+      assertAll(
+          () -> assertThat(standing.openItems()).isEqualTo(1),
+          () -> assertThat(standing.canBorrow()).isTrue());
+    }
+
+    @Test
+    @DisplayName("Should block checkouts exceeding the limit without counting them")
+    void reserve_ShouldThrow_WhenLimitExceeded() {
+      // Given
+      checkout(TODAY.plusDays(14), 2);
+
+      // When & Then
+      assertThatThrownBy(() -> memberLedger.reserve(1L, 2))
+          .isInstanceOf(BorrowingBlockedException.class)
+          .hasMessage("Member 1 has 2 items on loan and may not exceed 3");
+      assertThat(memberLedger.standingOf(1L).openItems()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should give back reserved items when the checkout fails")
+    void release_ShouldUndoReservation() {
+      // Given
+      memberLedger.reserve(1L, 3);
+
+      // When
+      memberLedger.release(1L, 3);
+
+      // Then
+      assertThat(memberLedger.standingOf(1L).openItems()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never exceed the limit under concurrent checkouts")
+    void reserve_ShouldHoldLimit_WhenConcurrent() {
+      // Given
+      var accepted = new AtomicInteger();
+
+      // When
+      try (var executor = Executors.newFixedThreadPool(8)) {
+        IntStream.range(0, 100)
+            .forEach(
+                i ->
+                    executor.submit(
+                        () -> {
+                          try {
+                            memberLedger.reserve(1L, 1);
+                            accepted.incrementAndGet();
+                          } catch (BorrowingBlockedException ex) {
+                            // Expected once the limit is reached
+                          }
+                        }));
+      }
+
+      // Then
+      assertAll(
+          () -> assertThat(accepted).hasValue(3),
+          () -> assertThat(memberLedger.standingOf(1L).openItems()).isEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("Should settle a return made before the saved loan is recorded")
+    void itemReturned_ShouldBeSettled_WhenLoanNotYetOpened() {
+      // Given
+      memberLedger.reserve(1L, 2);
+      var loan = newLoan(TODAY.plusDays(14), 2);
+      memberLedger.itemReturned(loan);
+
+      // When
+      memberLedger.loanOpened(loan);
+      memberLedger.itemReturned(loan);
+
+      // Then
+      var standing = memberLedger.standingOf(1L);
+      assertAll(
+          () -> assertThat(standing.openItems()).isZero(),
+          () -> assertThat(standing.canBorrow()).isTrue());
+    }
+
+    @Test
+    @DisplayName("Should ignore returns of loans not recorded when no checkout is in flight")
+    void itemReturned_ShouldBeIgnored_WhenLoanUnknown() {
+      // Given
+      checkout(TODAY.plusDays(14), 1);
+      var unknownLoan = newLoan(TODAY.plusDays(14), 1);
+
+      // When
+      memberLedger.itemReturned(unknownLoan);
+
+      // Then
+      assertThat(memberLedger.standingOf(1L).openItems()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report an empty standing for members who never borrowed")
+    void standingOf_ShouldBeEmpty_WhenMemberNeverBorrowed() {
+      // When
+      var standing = memberLedger.standingOf(42L);
+
+      // Then
+      assertThat(standing).isEqualTo(new MemberStanding(42L, 0, 3, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void constructor_ShouldThrow_WhenConfigurationInvalid() {
+      assertAll(
+          () ->
+              assertThatThrownBy(() -> new MemberLedger(0, 25))
+                  .isInstanceOf(IllegalArgumentException.class),
+          () ->
+              assertThatThrownBy(() -> new MemberLedger(3, -1))
+                  .isInstanceOf(IllegalArgumentException.class));
+    }
+  }
+
+  @Nested
+  @DisplayName("Overdue Tests")
+  class OverdueTests {
+
+    @Test
+    @DisplayName("Should mark items overdue the day after their due date and block borrowing")
+    void tick_ShouldMarkOverdue_AfterDueDate() {
+      // Given
+      checkout(TODAY.plusDays(1), 2);
+
+      // When
+      memberLedger.tick(TODAY.plusDays(1));
+      var dueDay = memberLedger.standingOf(1L);
+      memberLedger.tick(TODAY.plusDays(2));
+      var dayAfter = memberLedger.standingOf(1L);
+
+      // Then
+      assertAll(
+          () -> assertThat(dueDay.overdueItems()).isZero(),
+          () -> assertThat(dayAfter.overdueItems()).isEqualTo(2),
+          () -> assertThat(dayAfter.canBorrow()).isFalse(),
+          () ->
+              assertThatThrownBy(() -> memberLedger.reserve(1L, 1))
+                  .isInstanceOf(BorrowingBlockedException.class)
+                  .hasMessage("Member 1 has 2 overdue items"));
+    }
+
+    @Test
+    @DisplayName("Should charge the daily fine per overdue item and day, including skipped days")
+    void tick_ShouldAccrueFines() {
+      // Given
+      checkout(TODAY.plusDays(1), 2);
+
+      // When
+      memberLedger.tick(TODAY.plusDays(4));
+
+      // Then
+      assertThat(memberLedger.standingOf(1L).accruedFineCents()).isEqualTo(3 * 2 * 25);
+    }
+
+    @Test
+    @DisplayName("Should not charge twice when ticking twice on the same day")
+    void tick_ShouldBeIdempotent_OnSameDay() {
+      // Given
+      checkout(TODAY.plusDays(1), 1);
+      memberLedger.tick(TODAY.plusDays(2));
+
+      // When
+      memberLedger.tick(TODAY.plusDays(2));
+
+      // Then
+      assertThat(memberLedger.standingOf(1L).accruedFineCents()).isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("Should unblock the member and stop fines once overdue items are returned")
+    void itemReturned_ShouldClearOverdue() {
+      // Given
+      var loan = checkout(TODAY.plusDays(1), 1);
+      memberLedger.tick(TODAY.plusDays(2));
+
+      // When
+      memberLedger.itemReturned(loan);
+      memberLedger.tick(TODAY.plusDays(5));
+
+      // Then
+      var standing = memberLedger.standingOf(1L);
+      assertAll(
+          () -> assertThat(standing.overdueItems()).isZero(),
+          () -> assertThat(standing.openItems()).isZero(),
+          () -> assertThat(standing.accruedFineCents()).isEqualTo(25),
+          () -> assertThat(standing.canBorrow()).isTrue());
+    }
+
+    @Test
+    @DisplayName("Should leave loans that are not yet due alone")
+    void tick_ShouldIgnoreLoansNotDue() {
+      // Given
+      checkout(TODAY.plusDays(1), 1);
+      checkout(TODAY.plusDays(10), 1);
+
+      // When
+      memberLedger.tick(TODAY.plusDays(2));
+
+      // Then
+      var standing = memberLedger.standingOf(1L);
+      assertAll(
+          () -> assertThat(standing.openItems()).isEqualTo(2),
+          () -> assertThat(standing.overdueItems()).isEqualTo(1));
+    }
+  }
+}
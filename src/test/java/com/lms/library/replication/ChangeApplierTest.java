@@ -0,0 +1,225 @@
+package com.lms.library.replication;
+
+import static com.lms.library.util.TestUtil.createTestBook;
+import static com.lms.library.util.TestUtil.createTestMember;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lms.library.analytics.DistinctBorrowers;
+import com.lms.library.exception.EmailAlreadyInUseException;
+import com.lms.library.model.Book;
+import com.lms.library.model.LibraryItem;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import com.lms.library.model.LoanStatus;
+import com.lms.library.model.Member;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.repository.LoanItemRepository;
+import com.lms.library.repository.LoanRepository;
+import com.lms.library.repository.MemberRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for ChangeApplier.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Change Applier Unit Tests")
+class ChangeApplierTest {
+
+  private static final LocalDate LOAN_DATE = LocalDate.of(2025, 3, 1);
+
+  @Mock private MemberRepository memberRepository;
+
+  @Mock private LibraryItemRepository libraryItemRepository;
+
+  @Mock private LoanRepository loanRepository;
+
+  @Mock private LoanItemRepository loanItemRepository;
+
+  @Mock private DistinctBorrowers distinctBorrowers;
+
+  @InjectMocks private ChangeApplier changeApplier;
+
+  @Captor private ArgumentCaptor<Member> memberCaptor;
+
+  @Captor private ArgumentCaptor<LibraryItem> itemCaptor;
+
+  @Captor private ArgumentCaptor<Loan> loanCaptor;
+
+  @Captor private ArgumentCaptor<LoanItem> loanItemCaptor;
+
+  @Nested
+  @DisplayName("Member Change Tests")
+  class MemberChangeTests {
+
+    @Test
+    @DisplayName("Should save the member with its primary ID")
+    void apply_ShouldSaveMember() {
+      // Given
+      var change = new MemberChanged(4L, "Jane", "Doe", "jane@example.com");
+
+      // When
+      changeApplier.apply(change);
+
+      // Then
+      verify(memberRepository).save(memberCaptor.capture());
+      assertThat(memberCaptor.getValue().getId()).isEqualTo(4L);
+      assertThat(memberCaptor.getValue().getEmail()).isEqualTo("jane@example.com");
+    }
+
+    @Test
+    @DisplayName("Should skip the member when its email is still held locally")
+    void apply_ShouldSkipMember_WhenEmailInUse() {
+      // Given
+      when(memberRepository.save(any())).thenThrow(new EmailAlreadyInUseException("in use"));
+
+      // When & Then
+      assertThatCode(
+              () -> changeApplier.apply(new MemberChanged(4L, "Jane", "Doe", "jane@example.com")))
+          .doesNotThrowAnyException();
+    }
+  }
+
+  @Nested
+  @DisplayName("Item Change Tests")
+  class ItemChangeTests {
+
+    @Test
+    @DisplayName("Should update the availability of an existing item in place")
+    void apply_ShouldUpdateExistingItem() {
+      // Given
+      var existing = createTestBook(2L);
+      when(libraryItemRepository.findById(2L)).thenReturn(Optional.of(existing));
+      var unavailable = createTestBook(2L);
+      unavailable.setAvailable(false);
+
+      // When
+      changeApplier.apply(ItemChanged.of(unavailable));
+
+      // Then
+      assertThat(existing.isAvailable()).isFalse();
+      verify(libraryItemRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should save a new item with its primary ID")
+    void apply_ShouldSaveNewItem() {
+      // Given
+      when(libraryItemRepository.findById(2L)).thenReturn(Optional.empty());
+
+      // When
+      changeApplier.apply(ItemChanged.of(createTestBook(2L)));
+
+      // Then
+      verify(libraryItemRepository).save(itemCaptor.capture());
+      assertThat(itemCaptor.getValue()).isInstanceOf(Book.class);
+      assertThat(itemCaptor.getValue().getId()).isEqualTo(2L);
+    }
+  }
+
+  @Nested
+  @DisplayName("Loan Change Tests")
+  class LoanChangeTests {
+
+    @Test
+    @DisplayName("Should rebuild the loan with its items, version and status")
+    void apply_ShouldReplicateLoanAndItems() {
+      // Given
+      var book = createTestBook(2L);
+      when(memberRepository.findById(1L))
+          .thenReturn(Optional.of(createTestMember(1L, "Jane", "Doe")));
+      when(libraryItemRepository.findById(2L)).thenReturn(Optional.of(book));
+      when(loanRepository.replicate(any())).thenReturn(true);
+      var change =
+          new LoanChanged(
+              9L,
+              1L,
+              LOAN_DATE,
+              LOAN_DATE.plusDays(14),
+              4L,
+              List.of(new LoanChanged.Item(11L, 2L, LOAN_DATE.plusDays(3), 2L)));
+
+      // When
+      changeApplier.apply(change);
+
+      // Then
+      verify(loanRepository).replicate(loanCaptor.capture());
+      var loan = loanCaptor.getValue();
+      assertThat(loan.getId()).isEqualTo(9L);
+      assertThat(loan.getVersion()).isEqualTo(4L);
+      assertThat(loan.getStatus()).isEqualTo(LoanStatus.CLOSED);
+      verify(loanItemRepository).replicate(loanItemCaptor.capture());
+      assertThat(loanItemCaptor.getValue().getId()).isEqualTo(11L);
+      assertThat(loanItemCaptor.getValue().getItem()).isSameAs(book);
+      verify(distinctBorrowers).recordLoan(loan);
+    }
+
+    @Test
+    @DisplayName("Should skip a loan whose member is unknown")
+    void apply_ShouldSkipLoan_WhenMemberUnknown() {
+      // Given
+      when(memberRepository.findById(1L)).thenReturn(Optional.empty());
+
+      // When
+      changeApplier.apply(
+          new LoanChanged(9L, 1L, LOAN_DATE, LOAN_DATE.plusDays(14), 1L, List.of()));
+
+      // Then
+      verify(loanRepository, never()).replicate(any());
+    }
+  }
+
+  @Nested
+  @DisplayName("Borrowers Change Tests")
+  class BorrowersChangeTests {
+
+    @Test
+    @DisplayName("Should merge item and genre sketches into the local ones")
+    void apply_ShouldMergeSketches() {
+      // Given
+      var sketch = new byte[] {10, 0};
+
+      // When
+      changeApplier.apply(BorrowersChanged.ofItem(2L, sketch));
+      changeApplier.apply(BorrowersChanged.ofGenre("Programming", sketch));
+
+      // Then
+      verify(distinctBorrowers).mergeItem(2L, sketch);
+      verify(distinctBorrowers).mergeGenre("Programming", sketch);
+    }
+
+    @Test
+    @DisplayName("Should skip a sketch that cannot be merged")
+    void apply_ShouldSkipSketch_WhenInvalid() {
+      // Given
+      doThrow(new IllegalArgumentException("invalid"))
+          .when(distinctBorrowers)
+          .mergeItem(eq(2L), any());
+
+      // When & Then
+      assertThatCode(() -> changeApplier.apply(BorrowersChanged.ofItem(2L, new byte[0])))
+          .doesNotThrowAnyException();
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.lms.library.replication;
+
+import static com.lms.library.util.TestUtil.createTestBook;
+import static com.lms.library.util.TestUtil.createTestLoan;
+import static com.lms.library.util.TestUtil.createTestMember;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.library.exception.ChangeLogTruncatedException;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ChangeLog class
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+class ChangeLogTest {
+
+  private ChangeLog changeLog;
+
+  @BeforeEach
+  void setUp() {
+    changeLog = new ChangeLog(3);
+  }
+
+  @Test
+  @DisplayName("Captured saves should be numbered in order")
+  void capture_ShouldAssignSequentialNumbers() {
+    // Arrange & Act
+    changeLog.memberSaved(createTestMember(1L, "Jane", "Doe"));
+    changeLog.itemSaved(createTestBook(2L));
+
+    // Assert
+    var changes = changeLog.readAfter(0, 10);
+    assertEquals(2, changes.size());
+    assertEquals(1L, changes.get(0).sequence());
+    assertInstanceOf(MemberChanged.class, changes.get(0).change());
+    assertEquals(2L, changes.get(1).sequence());
+    assertInstanceOf(ItemChanged.class, changes.get(1).change());
+    assertEquals(2L, changeLog.getLastSequence());
+  }
+
+  @Test
+  @DisplayName("Read after should honour the sequence number and the limit")
+  void readAfter_ShouldReturnFollowingChangesUpToLimit() {
+    // Arrange
+    changeLog.itemSaved(createTestBook(1L));
+    changeLog.itemSaved(createTestBook(2L));
+    changeLog.itemSaved(createTestBook(3L));
+
+    // Act
+    var changes = changeLog.readAfter(1, 1);
+
+    // Assert
+    assertEquals(1, changes.size());
+    assertEquals(2L, changes.getFirst().change().id());
+    assertTrue(changeLog.readAfter(3, 10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Read after should fail once the following changes were dropped")
+  void readAfter_DroppedChanges_ShouldThrow() {
+    // Arrange
+    for (long id = 1; id <= 5; id++) {
+      changeLog.itemSaved(createTestBook(id));
+    }
+
+    // Act & Assert
+    assertThrows(ChangeLogTruncatedException.class, () -> changeLog.readAfter(1, 10));
+    assertEquals(3, changeLog.readAfter(2, 10).size());
+  }
+
+  @Test
+  @DisplayName("Loan item saves should capture only the item availability")
+  void loanItemSaved_ShouldCaptureItemOnly() {
+    // Arrange
+    var loan = createTestLoan(7L);
+    var loanItem = loan.getItems().getFirst();
+    loanItem.getItem().setAvailable(false);
+
+    // Act
+    changeLog.loanItemSaved(loanItem);
+
+    // Assert
+    var changes = changeLog.readAfter(0, 10);
+    assertEquals(1, changes.size());
+    var itemChange = assertInstanceOf(ItemChanged.class, changes.getFirst().change());
+    assertFalse(itemChange.available());
+  }
+
+  @Test
+  @DisplayName("Concurrent saves should be numbered without gaps")
+  void append_Concurrent_ShouldAssignEverySequenceNumberOnce() {
+    // Arrange
+    var log = new ChangeLog(10_000);
+
+    // Act
+    try (var executor = Executors.newFixedThreadPool(8)) {
+      LongStream.rangeClosed(1, 4_000)
+          .forEach(id -> executor.submit(() -> log.itemSaved(createTestBook(id))));
+    }
+
+    // Assert
+    var changes = log.readAfter(0, 10_000);
+    assertEquals(4_000, changes.size());
+    for (var i = 0; i < changes.size(); i++) {
+      assertEquals(i + 1L, changes.get(i).sequence());
+    }
+    assertEquals(4_000L, log.getLastSequence());
+  }
+
+  @Test
+  @DisplayName("Change entries should survive a JSON round trip")
+  void changeEntry_ShouldRoundTripThroughJson() throws Exception {
+    // Arrange
+    var objectMapper = new ObjectMapper().findAndRegisterModules();
+    var entry = changeLog.append(LoanChanged.of(createTestLoan(7L)));
+
+    // Act
+    var json = objectMapper.writeValueAsString(entry);
+    var read = objectMapper.readValue(json, ChangeEntry.class);
+
+    // Assert
+    assertTrue(json.contains("\"type\":\"LoanChanged\""));
+    assertEquals(entry, read);
+  }
+}
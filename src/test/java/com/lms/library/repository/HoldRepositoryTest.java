@@ -0,0 +1,166 @@
+package com.lms.library.repository;
+
+import static com.lms.library.util.TestUtil.resetHoldRepositoryState;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.lms.library.model.Hold;
+import com.lms.library.model.HoldStatus;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for HoldRepository class
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+class HoldRepositoryTest {
+
+  private HoldRepository repository;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    repository = new HoldRepository();
+    // Reset the static storage, queues and ID sequence before each test
+    resetHoldRepositoryState();
+  }
+
+  @Test
+  @DisplayName("Holds on an item should be served in the order they were saved")
+  void findNextWaiting_ShouldFollowSaveOrder() {
+    // Arrange
+    var first = repository.save(new Hold(1L, 10L, Instant.now()));
+    var second = repository.save(new Hold(2L, 10L, Instant.now()));
+    repository.save(new Hold(3L, 20L, Instant.now()));
+
+    // Act & Assert
+    assertEquals(first, repository.findNextWaiting(10L).orElseThrow());
+    first.fulfil(100L);
+    assertEquals(second, repository.findNextWaiting(10L).orElseThrow());
+    second.cancel();
+    assertTrue(repository.findNextWaiting(10L).isEmpty());
+    assertTrue(repository.findNextWaiting(99L).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Queue position should count only waiting holds ahead")
+  void getQueuePosition_ShouldSkipHoldsNoLongerWaiting() {
+    // Arrange
+    var first = repository.save(new Hold(1L, 10L, Instant.now()));
+    var second = repository.save(new Hold(2L, 10L, Instant.now()));
+    var third = repository.save(new Hold(3L, 10L, Instant.now()));
+
+    // Act
+    second.cancel();
+
+    // Assert
+    assertEquals(1, repository.getQueuePosition(first));
+    assertEquals(0, repository.getQueuePosition(second));
+    assertEquals(2, repository.getQueuePosition(third));
+  }
+
+  @Test
+  @DisplayName("Find waiting should only return holds the member is still waiting on")
+  void findWaiting_ShouldIgnoreFinishedHolds() {
+    // Arrange
+    var hold = repository.save(new Hold(1L, 10L, Instant.now()));
+
+    // Act & Assert
+    assertEquals(hold, repository.findWaiting(1L, 10L).orElseThrow());
+    assertTrue(repository.findWaiting(2L, 10L).isEmpty());
+    hold.fulfil(5L);
+    assertTrue(repository.findWaiting(1L, 10L).isEmpty());
+    assertEquals(List.of(hold), repository.findByMemberId(1L));
+  }
+
+  @Test
+  @DisplayName("Concurrent holds of a member on the same item should queue only one")
+  void saveIfNotWaiting_Concurrent_ShouldQueueOneHold() throws Exception {
+    // Arrange
+    var start = new CountDownLatch(1);
+    var placed = Collections.synchronizedList(new ArrayList<Hold>());
+
+    // Act
+    try (var executor = Executors.newFixedThreadPool(8)) {
+      for (var i = 0; i < 50; i++) {
+        executor.submit(
+            () -> {
+              start.await();
+              repository.saveIfNotWaiting(new Hold(1L, 10L, Instant.now())).ifPresent(placed::add);
+              return null;
+            });
+      }
+      start.countDown();
+    }
+
+    // Assert
+    assertEquals(1, placed.size());
+    assertEquals(placed, repository.findByMemberId(1L));
+    assertEquals(1, repository.getQueuePosition(placed.getFirst()));
+  }
+
+  @Test
+  @DisplayName("A member should be able to queue again once the previous hold is finished")
+  void saveIfNotWaiting_ShouldQueueAgain_WhenPreviousHoldFinished() {
+    // Arrange
+    var first = repository.saveIfNotWaiting(new Hold(1L, 10L, Instant.now())).orElseThrow();
+
+    // Act & Assert
+    assertTrue(repository.saveIfNotWaiting(new Hold(1L, 10L, Instant.now())).isEmpty());
+    assertTrue(repository.saveIfNotWaiting(new Hold(2L, 10L, Instant.now())).isPresent());
+    first.cancel();
+    var second = repository.saveIfNotWaiting(new Hold(1L, 10L, Instant.now())).orElseThrow();
+    assertEquals(second, repository.findWaiting(1L, 10L).orElseThrow());
+  }
+
+  @Test
+  @DisplayName("Hold should end in exactly one state when fulfilled and cancelled concurrently")
+  void hold_ConcurrentFulfilAndCancel_ShouldSettleOnce() throws Exception {
+    // Arrange
+    var holds =
+        IntStream.range(0, 200)
+            .mapToObj(i -> repository.save(new Hold((long) i, 10L, Instant.now())))
+            .toList();
+    var outcomes = Collections.synchronizedList(new ArrayList<Boolean>());
+    var start = new CountDownLatch(1);
+
+    // Act
+    try (var executor = Executors.newFixedThreadPool(4)) {
+      for (var hold : holds) {
+        executor.submit(
+            () -> {
+              start.await();
+              return outcomes.add(hold.fulfil(1L));
+            });
+        executor.submit(
+            () -> {
+              start.await();
+              return outcomes.add(hold.cancel());
+            });
+      }
+      start.countDown();
+    }
+
+    // Assert
+    assertEquals(holds.size(), outcomes.stream().filter(won -> won).count());
+    assertTrue(holds.stream().noneMatch(Hold::isWaiting));
+    assertFalse(
+        holds.stream()
+            .anyMatch(h -> h.getStatus() == HoldStatus.FULFILLED && h.getLoanId() == null));
+    assertFalse(
+        holds.stream()
+            .anyMatch(h -> h.getStatus() == HoldStatus.CANCELLED && h.getLoanId() != null));
+    assertTrue(repository.findNextWaiting(10L).isEmpty());
+  }
+}
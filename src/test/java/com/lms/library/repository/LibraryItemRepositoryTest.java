@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.lms.library.model.Book;
 import com.lms.library.model.Journal;
 import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -68,6 +69,28 @@ class LibraryItemRepositoryTest {
     assertEquals(3L, savedJournal.getId());
   }
 
+  @Test
+  @DisplayName("Save all should reserve sequential IDs and keep existing ones")
+  void saveAll_MixedItems_ShouldAssignSequentialIds() {
+    // Arrange
+    repository.save(new Book("Existing", "Author", LocalDate.now(), "000", "Cat", 50));
+    var book = new Book("Book 1", "Author 1", LocalDate.now(), "111", "Cat1", 100);
+    var journal =
+        new Journal("Journal 1", "Publisher", LocalDate.now(), "333", "Publisher Co", 1, 1);
+    var existing = new Book("Existing v2", "Author", LocalDate.now(), "000", "Cat", 60);
+    existing.setId(1L);
+
+    // Act
+    var saved = repository.saveAll(List.of(book, journal, existing));
+
+    // Assert
+    assertEquals(3, saved.size());
+    assertEquals(2L, book.getId());
+    assertEquals(3L, journal.getId());
+    assertEquals("Existing v2", repository.findById(1L).orElseThrow().getTitle());
+    assertEquals(4L, repository.save(new Book("Next", "A", LocalDate.now(), "9", "C", 1)).getId());
+  }
+
   @Test
   @DisplayName("Find by existing ID should return the item")
   void findById_ExistingId_ShouldReturnItem() {
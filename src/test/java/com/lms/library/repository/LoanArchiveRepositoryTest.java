@@ -0,0 +1,160 @@
+package com.lms.library.repository;
+
+import static com.lms.library.util.TestUtil.resetLibraryItemRepositoryState;
+import static com.lms.library.util.TestUtil.resetMemberRepositoryState;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.lms.library.model.Book;
+import com.lms.library.model.LibraryItem;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import com.lms.library.model.LoanStatus;
+import com.lms.library.model.Member;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for LoanArchiveRepository class
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+class LoanArchiveRepositoryTest {
+
+  @TempDir private Path archiveDirectory;
+
+  private LoanArchiveRepository repository;
+  private Member member;
+  private LibraryItem book;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    resetMemberRepositoryState();
+    resetLibraryItemRepositoryState();
+    var memberRepository = new MemberRepository();
+    var libraryItemRepository = new LibraryItemRepository();
+    member = memberRepository.save(new Member("John", "Doe", "john@example.com"));
+    book =
+        libraryItemRepository.save(
+            new Book("Clean Code", "Robert Martin", LocalDate.now(), "111", "Programming", 464));
+
+    repository =
+        new LoanArchiveRepository(
+            memberRepository, libraryItemRepository, archiveDirectory.toString(), 1024);
+    repository.open();
+  }
+
+  @AfterEach
+  void tearDown() {
+    repository.close();
+  }
+
+  @Test
+  @DisplayName("Find by ID should rebuild an archived loan with its items")
+  void findById_ArchivedLoan_ShouldRebuildLoan() {
+    // Arrange
+    var loan = closedLoan(1L, LocalDate.of(2024, 3, 1));
+
+    // Act
+    repository.appendAll(List.of(loan));
+    var found = repository.findById(1L);
+
+    // Assert
+    assertTrue(found.isPresent());
+    var archived = found.get();
+    assertEquals(LoanStatus.CLOSED, archived.getStatus());
+    assertEquals(member, archived.getMember());
+    assertEquals(LocalDate.of(2024, 3, 1), archived.getLoanDate());
+    assertEquals(loan.getVersion(), archived.getVersion());
+    assertEquals(loan.getVersion(), repository.getLoanVersion(1L));
+    assertEquals(1, archived.getItems().size());
+    assertEquals(book, archived.getItems().get(0).getItem());
+    assertEquals(LocalDate.of(2024, 3, 5), archived.getItems().get(0).getReturnedDate());
+  }
+
+  @Test
+  @DisplayName("Find by ID should return empty for a loan that is not archived")
+  void findById_UnknownLoan_ShouldReturnEmpty() {
+    // Act & Assert
+    assertFalse(repository.findById(42L).isPresent());
+    assertFalse(repository.findById(null).isPresent());
+    assertFalse(repository.existsById(42L));
+    assertEquals(0L, repository.getLoanVersion(42L));
+  }
+
+  @Test
+  @DisplayName("Find by member should read loans across blocks and segments, newest first")
+  void findByMemberId_ManyBlocks_ShouldReturnAllLoansNewestFirst() throws IOException {
+    // Arrange - the small segment size forces several segment files
+    IntStream.rangeClosed(1, 30)
+        .forEach(
+            i -> repository.appendAll(List.of(closedLoan((long) i, LocalDate.of(2024, 1, i)))));
+
+    // Act
+    var loans = repository.findByMemberIdOrderByLoanDateDesc(member.getId());
+
+    // Assert
+    assertEquals(30, loans.size());
+    assertEquals(30L, loans.getFirst().getId());
+    assertEquals(1L, loans.getLast().getId());
+    assertEquals(30L, repository.count());
+    try (var segments = Files.list(archiveDirectory)) {
+      assertTrue(segments.count() > 1);
+    }
+  }
+
+  @Test
+  @DisplayName("Appending a loan again should replace the indexed copy")
+  void appendAll_SameLoanTwice_ShouldIndexLatestCopy() {
+    // Arrange
+    var loan = closedLoan(1L, LocalDate.of(2024, 3, 1));
+    repository.appendAll(List.of(loan));
+
+    // Act
+    loan.setVersion(loan.getVersion() + 1);
+    repository.appendAll(List.of(loan));
+
+    // Assert
+    assertEquals(1L, repository.count());
+    assertEquals(loan.getVersion(), repository.findById(1L).orElseThrow().getVersion());
+  }
+
+  @Test
+  @DisplayName("An archive without a directory should stay empty and refuse appends")
+  void appendAll_NoDirectory_ShouldThrow() {
+    // Arrange
+    var unconfigured =
+        new LoanArchiveRepository(new MemberRepository(), new LibraryItemRepository(), "", 1024);
+    unconfigured.open();
+    var loans = List.of(closedLoan(1L, LocalDate.of(2024, 3, 1)));
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> unconfigured.appendAll(loans));
+    assertTrue(unconfigured.findById(1L).isEmpty());
+    assertEquals(0L, unconfigured.count());
+  }
+
+  private Loan closedLoan(Long id, LocalDate loanDate) {
+    var loan = new Loan(member, loanDate, loanDate.plusDays(14));
+    loan.setId(id);
+    loan.setVersion(3L);
+    var loanItem = new LoanItem(loan, book, loanDate.plusDays(4));
+    loanItem.setId(id);
+    loan.addItem(loanItem);
+    loan.updateStatus();
+    return loan;
+  }
+}
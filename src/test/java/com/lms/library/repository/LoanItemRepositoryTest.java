@@ -9,14 +9,17 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import com.lms.library.exception.OptimisticLockException;
 import com.lms.library.model.LibraryItem;
 import com.lms.library.model.Loan;
 import com.lms.library.model.LoanItem;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -394,4 +397,39 @@ class LoanItemRepositoryTest {
     var loan1ActiveItems = repository.findActiveItemsByLoanId(1L);
     assertEquals(1, loan1ActiveItems.size()); // Only journal1 remains active
   }
+
+  @Test
+  @DisplayName("Compare-and-set save should let exactly one of two stale writers win")
+  void saveWithExpectedVersion_StaleVersion_ShouldThrowOptimisticLockException() {
+    // Arrange
+    var savedItem = repository.save(createTestLoanItem(testLoan, testBook, false));
+    var observedVersion = savedItem.getVersion();
+
+    // Act
+    savedItem.markReturned();
+    repository.save(savedItem, observedVersion);
+
+    // Assert
+    assertEquals(observedVersion + 1, savedItem.getVersion());
+    assertThrows(
+        OptimisticLockException.class, () -> repository.save(savedItem, observedVersion));
+  }
+
+  @Test
+  @DisplayName("Delete by loan IDs should remove only the items of those loans")
+  void deleteByLoanIds_ShouldRemoveItemsOfGivenLoans() {
+    // Arrange
+    var otherLoan = createTestLoan(2L);
+    repository.save(createTestLoanItem(testLoan, testBook, true));
+    repository.save(createTestLoanItem(testLoan, testJournal, true));
+    repository.save(createTestLoanItem(otherLoan, testBook, false));
+
+    // Act
+    var removed = repository.deleteByLoanIds(Set.of(testLoan.getId()));
+
+    // Assert
+    assertEquals(2, removed);
+    assertTrue(repository.findByLoanId(testLoan.getId()).isEmpty());
+    assertEquals(1, repository.findByLoanId(2L).size());
+  }
 }
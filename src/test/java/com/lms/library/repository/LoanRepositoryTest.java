@@ -7,14 +7,19 @@ import static com.lms.library.util.TestUtil.resetLoanRepositoryState;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import com.lms.library.exception.OptimisticLockException;
 import com.lms.library.model.LibraryItem;
 import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
 import com.lms.library.model.LoanStatus;
 import com.lms.library.model.Member;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -422,4 +427,155 @@ class LoanRepositoryTest {
     assertTrue(foundLoan.isPresent());
     assertEquals(100L, foundLoan.get().getId());
   }
+
+  @Test
+  @DisplayName("Save should bump loan and member versions")
+  void save_ShouldBumpLoanAndMemberVersions() {
+    // Arrange
+    var loan =
+        createTestLoan(null, testMember1, LocalDate.now(), LocalDate.now().plusWeeks(2), testBook);
+
+    // Act
+    var savedLoan = repository.save(loan);
+    repository.save(savedLoan);
+
+    // Assert
+    assertEquals(2L, repository.getLoanVersion(savedLoan.getId()));
+    assertEquals(2L, repository.getMemberLoansVersion(testMember1.getId()));
+    assertEquals(0L, repository.getMemberLoansVersion(testMember2.getId()));
+  }
+
+  @Test
+  @DisplayName("Versions of unknown or null IDs should be zero")
+  void getVersion_UnknownOrNullId_ShouldReturnZero() {
+    assertEquals(0L, repository.getLoanVersion(999L));
+    assertEquals(0L, repository.getLoanVersion(null));
+    assertEquals(0L, repository.getMemberLoansVersion(null));
+  }
+
+  @Test
+  @DisplayName("Compare-and-set save should succeed when the expected version matches")
+  void saveWithExpectedVersion_MatchingVersion_ShouldIncrementVersion() {
+    // Arrange
+    var savedLoan =
+        repository.save(
+            createTestLoan(
+                null, testMember1, LocalDate.now(), LocalDate.now().plusWeeks(2), testBook));
+    var expectedVersion = savedLoan.getVersion();
+
+    // Act
+    var updatedLoan = repository.save(savedLoan, expectedVersion);
+
+    // Assert
+    assertEquals(expectedVersion + 1, updatedLoan.getVersion());
+    assertEquals(expectedVersion + 1, repository.getLoanVersion(savedLoan.getId()));
+  }
+
+  @Test
+  @DisplayName("Compare-and-set save should fail when the loan was modified concurrently")
+  void saveWithExpectedVersion_StaleVersion_ShouldThrowOptimisticLockException() {
+    // Arrange
+    var savedLoan =
+        repository.save(
+            createTestLoan(
+                null, testMember1, LocalDate.now(), LocalDate.now().plusWeeks(2), testBook));
+    var staleVersion = savedLoan.getVersion();
+    repository.save(savedLoan, staleVersion);
+
+    // Act & Assert
+    assertThrows(OptimisticLockException.class, () -> repository.save(savedLoan, staleVersion));
+    assertEquals(staleVersion + 1, repository.getLoanVersion(savedLoan.getId()));
+  }
+
+  @Test
+  @DisplayName("Compare-and-set save should reject a loan without ID")
+  void saveWithExpectedVersion_NullId_ShouldThrowIllegalArgumentException() {
+    var loan =
+        createTestLoan(null, testMember1, LocalDate.now(), LocalDate.now().plusWeeks(2), testBook);
+
+    assertThrows(IllegalArgumentException.class, () -> repository.save(loan, 0L));
+  }
+
+  @Test
+  @DisplayName("Find closed before should only return loans closed before the cutoff")
+  void findClosedBefore_ShouldReturnOnlyOldClosedLoans() {
+    // Arrange
+    var oldLoan = new Loan(testMember1, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 15));
+    oldLoan.addItem(new LoanItem(oldLoan, testBook, LocalDate.of(2024, 1, 10)));
+    oldLoan.updateStatus();
+    var recentLoan = new Loan(testMember1, LocalDate.now(), LocalDate.now().plusWeeks(2));
+    recentLoan.addItem(new LoanItem(recentLoan, testBook, LocalDate.now()));
+    recentLoan.updateStatus();
+    var openLoan =
+        createTestLoan(null, testMember2, LocalDate.of(2024, 1, 1), LocalDate.now(), testBook);
+    repository.save(oldLoan);
+    repository.save(recentLoan);
+    repository.save(openLoan);
+
+    // Act
+    var result = repository.findClosedBefore(LocalDate.of(2025, 1, 1));
+
+    // Assert
+    assertEquals(List.of(oldLoan), result);
+  }
+
+  @Test
+  @DisplayName("Remove should only evict a loan that has not been modified")
+  void remove_ShouldCompareVersionBeforeEvicting() {
+    // Arrange
+    var loan =
+        repository.save(
+            createTestLoan(null, testMember1, LocalDate.now(), LocalDate.now(), testBook));
+    var observedVersion = loan.getVersion();
+    repository.save(loan);
+
+    // Act & Assert
+    assertFalse(repository.remove(loan, observedVersion));
+    assertTrue(repository.findById(loan.getId()).isPresent());
+    assertTrue(repository.remove(loan, loan.getVersion()));
+    assertFalse(repository.findById(loan.getId()).isPresent());
+  }
+
+  @Test
+  @DisplayName("Replicate should keep the loan version and ignore older versions")
+  void replicate_ShouldKeepVersionAndIgnoreOlderVersions() {
+    // Arrange
+    var newer = createTestLoan(5L, testMember1, LocalDate.now(), LocalDate.now(), testBook);
+    newer.setVersion(3);
+    var older = createTestLoan(5L, testMember1, LocalDate.now(), LocalDate.now(), testBook);
+    older.setVersion(2);
+
+    // Act & Assert
+    assertTrue(repository.replicate(newer));
+    assertFalse(repository.replicate(older));
+    assertEquals(3L, repository.getLoanVersion(5L));
+    assertEquals(List.of(newer), repository.findByMemberIdOrderByLoanDateDesc(1L));
+    var created =
+        repository.save(
+            createTestLoan(null, testMember2, LocalDate.now(), LocalDate.now(), testBook));
+    assertEquals(6L, created.getId());
+  }
+
+  @Test
+  @DisplayName("Save should report the saved loan to the change capture")
+  void save_ShouldReportToChangeCapture() {
+    // Arrange
+    var captured = new ArrayList<Loan>();
+    var capturingRepository =
+        new LoanRepository(
+            new ChangeCapture() {
+              @Override
+              public void loanSaved(Loan loan) {
+                captured.add(loan);
+              }
+            });
+    var loan = createTestLoan(null, testMember1, LocalDate.now(), LocalDate.now(), testBook);
+
+    // Act
+    capturingRepository.save(loan);
+    capturingRepository.save(loan, loan.getVersion());
+
+    // Assert
+    assertEquals(List.of(loan, loan), captured);
+  }
 }
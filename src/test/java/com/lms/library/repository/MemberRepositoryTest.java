@@ -2,13 +2,18 @@ package com.lms.library.repository;
 
 import static com.lms.library.util.TestUtil.createTestMember;
 import static com.lms.library.util.TestUtil.resetMemberRepositoryState;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import com.lms.library.exception.EmailAlreadyInUseException;
 import com.lms.library.model.Member;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -393,53 +398,118 @@ class MemberRepositoryTest {
   }
 
   @Test
-  @DisplayName("Save member with duplicate email should overwrite existing member")
-  void save_MemberWithDuplicateEmail_ShouldOverwrite() {
+  @DisplayName("Save member with duplicate email should be rejected")
+  void save_MemberWithDuplicateEmail_ShouldThrowEmailAlreadyInUseException() {
     // Arrange
     var member1 = createTestMember("John", "Doe", "same.email@example.com");
     var savedMember1 = repository.save(member1);
     var member1Id = savedMember1.getId();
 
-    // Create a new member with the same email but different ID
-    var member2 = createTestMember("Jane", "Smith", "same.email@example.com");
-    member2.setId(999L); // Different ID
+    // Create a new member with the same email (different case) but different ID
+    var member2 = createTestMember("Jane", "Smith", "Same.Email@Example.com");
+    member2.setId(999L);
+
+    // Act & Assert
+    assertThrows(EmailAlreadyInUseException.class, () -> repository.save(member2));
+    assertFalse(repository.existsById(999L));
+
+    var foundByEmail = repository.findByEmail("same.email@example.com");
+    assertTrue(foundByEmail.isPresent());
+    assertEquals(member1Id, foundByEmail.get().getId());
+  }
+
+  @Test
+  @DisplayName("Rejected new member should not keep a generated ID")
+  void save_NewMemberWithDuplicateEmail_ShouldNotAssignId() {
+    // Arrange
+    repository.save(createTestMember("First", "User", "duplicate@example.com"));
+    var duplicate = createTestMember("Second", "User", "duplicate@example.com");
+
+    // Act & Assert
+    assertThrows(EmailAlreadyInUseException.class, () -> repository.save(duplicate));
+    assertNull(duplicate.getId());
+  }
+
+  @Test
+  @DisplayName("Changing a member's email should release the previous email")
+  void save_ChangedEmail_ShouldReleasePreviousEmail() {
+    // Arrange
+    var savedMember = repository.save(createTestMember("John", "Doe", "old@example.com"));
+    var updatedMember = createTestMember("John", "Doe", "new@example.com");
+    updatedMember.setId(savedMember.getId());
 
     // Act
-    var savedMember2 = repository.save(member2);
+    repository.save(updatedMember);
 
     // Assert
-    // The repository allows duplicate emails in storage, but findByEmail will return the first
-    // match
-    // This test verifies that we can have multiple members with same email (if business logic
-    // allows)
-    assertEquals(999L, savedMember2.getId());
+    assertFalse(repository.findByEmail("old@example.com").isPresent());
+    assertTrue(repository.findByEmail("NEW@example.com").isPresent());
+    assertDoesNotThrow(
+        () -> repository.save(createTestMember("Jane", "Doe", "old@example.com")));
+  }
 
-    // Both members should exist in the store
-    assertTrue(repository.existsById(member1Id));
-    assertTrue(repository.existsById(999L));
+  @Test
+  @DisplayName("Initialize repository twice should not duplicate sample members")
+  void init_CalledTwice_ShouldNotDuplicateSampleMembers() {
+    // Act
+    repository.init();
+    repository.init();
 
-    // findByEmail will return the first one it finds (order not guaranteed in concurrent map)
-    var foundByEmail = repository.findByEmail("same.email@example.com");
-    assertTrue(foundByEmail.isPresent());
+    // Assert
+    assertTrue(repository.existsById(3L));
+    assertFalse(repository.existsById(4L));
   }
 
   @Test
-  @DisplayName("Find by email should return first match when duplicates exist")
-  void findByEmail_WithDuplicateEmails_ShouldReturnFirstMatch() {
+  @DisplayName("Save all should assign sequential IDs and index every email")
+  void saveAll_NewMembers_ShouldAssignIdsAndIndexEmails() {
     // Arrange
-    var member1 = createTestMember("First", "User", "duplicate@example.com");
-    var member2 = createTestMember("Second", "User", "duplicate@example.com");
+    var members =
+        List.of(
+            createTestMember("John", "Doe", "john@example.com"),
+            createTestMember("Jane", "Smith", "jane@example.com"));
+
+    // Act
+    var saved = repository.saveAll(members);
 
-    repository.save(member1);
-    repository.save(member2);
+    // Assert
+    assertEquals(2, saved.size());
+    assertEquals(1L, saved.get(0).getId());
+    assertEquals(2L, saved.get(1).getId());
+    assertEquals(2L, repository.findByEmail("JANE@example.com").orElseThrow().getId());
+  }
+
+  @Test
+  @DisplayName("Save all should skip members whose email is already taken")
+  void saveAll_DuplicateEmails_ShouldSkipDuplicates() {
+    // Arrange
+    var existing = repository.save(createTestMember("John", "Doe", "john@example.com"));
+    var duplicateOfExisting = createTestMember("Johnny", "Doe", "JOHN@example.com");
+    var fresh = createTestMember("Jane", "Smith", "jane@example.com");
+    var duplicateInBatch = createTestMember("Janet", "Smith", "jane@example.com");
 
     // Act
-    var foundMember = repository.findByEmail("duplicate@example.com");
+    var saved = repository.saveAll(List.of(duplicateOfExisting, fresh, duplicateInBatch));
 
     // Assert
-    // Since we're using a ConcurrentHashMap and stream().findFirst(),
-    // the behavior might not be predictable, but it should return one of them
-    assertTrue(foundMember.isPresent());
-    assertEquals("duplicate@example.com", foundMember.get().getEmail());
+    assertEquals(List.of(fresh), saved);
+    assertNull(duplicateOfExisting.getId());
+    assertNull(duplicateInBatch.getId());
+    assertEquals(existing, repository.findByEmail("john@example.com").orElseThrow());
+    assertEquals(fresh, repository.findByEmail("jane@example.com").orElseThrow());
+  }
+
+  @Test
+  @DisplayName("Stream all should return every saved member")
+  void streamAll_ShouldReturnAllMembers() {
+    // Arrange
+    repository.save(createTestMember("John", "Doe", "john@example.com"));
+    repository.save(createTestMember("Jane", "Smith", "jane@example.com"));
+
+    // Act
+    try (var members = repository.streamAll()) {
+      // Assert
+      assertEquals(2, members.count());
+    }
   }
 }
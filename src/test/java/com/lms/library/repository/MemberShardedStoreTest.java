@@ -0,0 +1,198 @@
+package com.lms.library.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for MemberShardedStore class
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+class MemberShardedStoreTest {
+
+  private MemberShardedStore<Entity> store;
+
+  @BeforeEach
+  void setUp() {
+    store = new MemberShardedStore<>(4, Entity::memberId, Entity::groupId);
+  }
+
+  @Test
+  @DisplayName("Entities of the same member should be stored in a single shard")
+  void put_SameMember_ShouldUseSingleShard() {
+    // Arrange & Act
+    store.put(1L, new Entity(1L, 6L, 10L));
+    store.put(2L, new Entity(2L, 6L, 11L));
+    store.put(3L, new Entity(3L, 7L, 12L));
+
+    // Assert
+    assertEquals(List.of(0, 0, 2, 1), store.shardSizes());
+    assertEquals(3, store.size());
+    assertEquals(6L, store.get(2L).memberId());
+  }
+
+  @Test
+  @DisplayName("Find by group should return only the entities of that group")
+  void findByGroup_ShouldReturnGroupEntities() {
+    // Arrange
+    store.put(1L, new Entity(1L, 1L, 10L));
+    store.put(2L, new Entity(2L, 1L, 10L));
+    store.put(3L, new Entity(3L, 2L, 20L));
+
+    // Act
+    var group = store.findByGroup(10L);
+
+    // Assert
+    assertEquals(2, group.size());
+    assertTrue(group.stream().allMatch(e -> e.groupId() == 10L));
+    assertTrue(store.findByGroup(99L).isEmpty());
+    assertTrue(store.findByGroup(null).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Find by group with the member should read only the member's shard")
+  void findByGroup_WithMember_ShouldReadMemberShard() {
+    // Arrange
+    store.put(1L, new Entity(1L, 1L, 10L));
+    store.put(2L, new Entity(2L, 1L, 10L));
+
+    // Act & Assert
+    assertEquals(2, store.findByGroup(1L, 10L).size());
+    assertEquals(2, store.findByGroup(5L, 10L).size());
+    assertTrue(store.findByGroup(2L, 10L).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Put should return the previously stored entity")
+  void put_ShouldReturnPreviousEntity() {
+    // Arrange
+    var original = new Entity(1L, 1L, 10L);
+    var replacement = new Entity(1L, 1L, 10L);
+
+    // Act & Assert
+    assertNull(store.put(1L, original));
+    assertEquals(original, store.put(1L, replacement));
+    assertEquals(replacement, store.get(1L));
+  }
+
+  @Test
+  @DisplayName("Remove if should only remove entities matching the condition")
+  void removeIf_ShouldHonourCondition() {
+    // Arrange
+    var entity = new Entity(1L, 1L, 10L);
+    store.put(1L, entity);
+
+    // Act & Assert
+    assertFalse(store.removeIf(1L, entity, e -> false));
+    assertTrue(store.removeIf(1L, entity, e -> true));
+    assertFalse(store.removeIf(1L, entity, e -> true));
+    assertNull(store.get(1L));
+    assertTrue(store.findByGroup(10L).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Compute should leave the store unchanged when the remapping throws")
+  void compute_RemappingThrows_ShouldLeaveStoreUnchanged() {
+    // Arrange
+    var original = new Entity(1L, 1L, 10L);
+    store.put(1L, original);
+
+    // Act & Assert
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            store.compute(
+                1L,
+                new Entity(1L, 1L, 10L),
+                (id, current) -> {
+                  throw new IllegalStateException("conflict");
+                }));
+    assertEquals(original, store.get(1L));
+  }
+
+  @Test
+  @DisplayName("Compute should not store a new entity when the remapping throws")
+  void compute_RemappingThrowsForNewId_ShouldStoreNothing() {
+    // Act & Assert
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            store.compute(
+                1L,
+                new Entity(1L, 1L, 10L),
+                (id, current) -> {
+                  throw new IllegalStateException("conflict");
+                }));
+    assertFalse(store.containsKey(1L));
+    assertTrue(store.findByGroup(10L).isEmpty());
+    assertEquals(0, store.size());
+  }
+
+  @Test
+  @DisplayName("Clear should empty every shard and group index")
+  void clear_ShouldEmptyAllShards() {
+    // Arrange
+    store.put(1L, new Entity(1L, 1L, 10L));
+    store.put(2L, new Entity(2L, 2L, 20L));
+
+    // Act
+    store.clear();
+
+    // Assert
+    assertEquals(0, store.size());
+    assertFalse(store.containsKey(1L));
+    assertTrue(store.findByGroup(20L).isEmpty());
+  }
+
+  @Test
+  @DisplayName("Spliterator should split across and within shards without losing entities")
+  void spliterator_ShouldSplitAcrossAndWithinShards() {
+    // Arrange
+    LongStream.rangeClosed(1, 1000).forEach(id -> store.put(id, new Entity(id, id % 2, id)));
+    var pending = new ArrayList<Spliterator<Entity>>(List.of(store.spliterator()));
+    var chunks = new ArrayList<Spliterator<Entity>>();
+
+    // Act
+    while (!pending.isEmpty()) {
+      var chunk = pending.removeLast();
+      var prefix = chunk.estimateSize() > 100 ? chunk.trySplit() : null;
+      if (prefix == null) {
+        chunks.add(chunk);
+      } else {
+        pending.add(prefix);
+        pending.add(chunk);
+      }
+    }
+    var ids = new ArrayList<Long>();
+    chunks.forEach(chunk -> chunk.forEachRemaining(e -> ids.add(e.id())));
+
+    // Assert
+    assertTrue(chunks.size() > 4);
+    assertEquals(1000, ids.size());
+    assertEquals(LongStream.rangeClosed(1, 1000).sum(), ids.stream().mapToLong(id -> id).sum());
+    assertEquals(1000, store.stream().count());
+  }
+
+  @Test
+  @DisplayName("Constructor should reject a non-positive shard count")
+  void constructor_NonPositiveShardCount_ShouldThrow() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new MemberShardedStore<Entity>(0, Entity::memberId, Entity::groupId));
+  }
+
+  private record Entity(Long id, Long memberId, Long groupId) {}
+}
@@ -0,0 +1,108 @@
+package com.lms.library.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for ScanEngine.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Scan Engine Unit Tests")
+class ScanEngineTest {
+
+  private ScanEngine scanEngine;
+
+  @BeforeEach
+  void setUp() {
+    scanEngine = new ScanEngine(4, 100);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scanEngine.close();
+  }
+
+  @Test
+  @DisplayName("Should reduce every element on the scan workers")
+  void scan_ShouldReduceOnScanWorkers() {
+    // Given
+    var values = LongStream.rangeClosed(1, 100_000).boxed().toList();
+    var threads = ConcurrentHashMap.<String>newKeySet();
+
+    // When
+    var sum =
+        scanEngine.scan(
+            values.spliterator(),
+            Collectors.summingLong(
+                value -> {
+                  threads.add(Thread.currentThread().getName());
+                  return value;
+                }));
+
+    // Then
+    assertThat(sum).isEqualTo(5_000_050_000L);
+    assertThat(threads).isNotEmpty().allMatch(name -> name.startsWith("scan-worker-"));
+  }
+
+  @Test
+  @DisplayName("Should combine chunks in encounter order")
+  void scan_ShouldKeepEncounterOrder() {
+    // Given
+    var values = LongStream.range(0, 10_000).boxed().toList();
+
+    // When
+    var result = scanEngine.scan(values.spliterator(), Collectors.toList());
+
+    // Then
+    assertThat(result).isEqualTo(values);
+  }
+
+  @Test
+  @DisplayName("Should reduce an empty source to the empty result")
+  void scan_ShouldHandleEmptySource() {
+    assertThat(scanEngine.scan(List.<String>of().spliterator(), Collectors.toSet()))
+        .isEqualTo(Set.of());
+  }
+
+  @Test
+  @DisplayName("Should rethrow a failure of the reduction")
+  void scan_ShouldRethrowFailure() {
+    // Given
+    var values = LongStream.range(0, 1_000).boxed().toList();
+
+    // When & Then
+    assertThatThrownBy(
+            () ->
+                scanEngine.scan(
+                    values.spliterator(),
+                    Collectors.summingLong(
+                        value -> {
+                          if (value == 500) {
+                            throw new IllegalStateException("bad value");
+                          }
+                          return value;
+                        })))
+        .isInstanceOf(IllegalStateException.class)
+        .hasStackTraceContaining("bad value");
+  }
+
+  @Test
+  @DisplayName("Should reject a negative parallelism or a non-positive chunk size")
+  void constructor_ShouldValidateArguments() {
+    assertThatThrownBy(() -> new ScanEngine(-1, 100)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new ScanEngine(1, 0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,195 @@
+package com.lms.library.service;
+
+import static com.lms.library.util.TestUtil.resetLibraryItemRepositoryState;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.library.model.Book;
+import com.lms.library.model.Journal;
+import com.lms.library.repository.LibraryItemRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for CatalogueImportServiceImpl. Uses a small chunk size so that lines are split across
+ * chunk boundaries.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Catalogue Import Service Implementation Unit Tests")
+class CatalogueImportServiceImplTest {
+
+  private static final String CSV_HEADER =
+      "type,title,author,publicationDate,isbn,genre,pageCount,issn,publisher,volume,issue";
+
+  @TempDir private Path tempDir;
+
+  private LibraryItemRepository libraryItemRepository;
+  private CatalogueImportServiceImpl catalogueImportService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    resetLibraryItemRepositoryState();
+    libraryItemRepository = new LibraryItemRepository();
+    catalogueImportService =
+        new CatalogueImportServiceImpl(
+            libraryItemRepository, new ObjectMapper().findAndRegisterModules(), 64, 2);
+  }
+
+  @Nested
+  @DisplayName("CSV Import Tests")
+  class CsvImportTests {
+
+    @Test
+    @DisplayName("Should import books and journals including quoted fields")
+    void importCatalogue_ShouldImportCsvRows() throws IOException {
+      // Given
+      var file =
+          write(
+              "catalogue.csv",
+              CSV_HEADER,
+              "BOOK,\"Refactoring, 2nd Edition\",Martin Fowler,2018-11-20,9780134757599,"
+                  + "Programming,448,,,,",
+              "JOURNAL,Communications of the ACM,Various,2024-01-01,,,,0001-0782,ACM,67,1");
+
+      // When
+      var report = catalogueImportService.importCatalogue(file, CatalogueFormat.CSV);
+
+      // Then
+      var book = libraryItemRepository.findById(1L).orElseThrow();
+      var journal = libraryItemRepository.findById(2L).orElseThrow();
+      assertAll(
+          () -> assertThat(report.imported()).isEqualTo(2),
+          () -> assertThat(report.rejected()).isZero(),
+          () -> assertThat(book).isInstanceOf(Book.class),
+          () -> assertThat(book.getTitle()).isEqualTo("Refactoring, 2nd Edition"),
+          () -> assertThat(journal).isInstanceOf(Journal.class),
+          () -> assertThat(((Journal) journal).getIssue()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid rows with their line numbers and keep the valid ones")
+    void importCatalogue_ShouldReportInvalidRows() throws IOException {
+      // Given
+      var file =
+          write(
+              "catalogue.csv",
+              CSV_HEADER,
+              "BOOK,Valid,Author,2020-01-01,111,Genre,100,,,,",
+              "BOOK,No Pages,Author,2020-01-01,222,Genre,0,,,,",
+              "",
+              "MAGAZINE,Unknown,Author,2020-01-01,,,,,,,",
+              "BOOK,Bad Date,Author,yesterday,333,Genre,100,,,,");
+
+      // When
+      var report = catalogueImportService.importCatalogue(file, CatalogueFormat.CSV);
+
+      // Then
+      assertAll(
+          () -> assertThat(report.imported()).isEqualTo(1),
+          () -> assertThat(report.rejected()).isEqualTo(3),
+          () ->
+              assertThat(report.errors())
+                  .containsExactly(
+                      "line 3: Page count must be positive",
+                      "line 5: Unknown item type: MAGAZINE",
+                      "line 6: Invalid date for publicationdate: yesterday"));
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV file without a usable header")
+    void importCatalogue_ShouldRejectMissingHeader() throws IOException {
+      // Given
+      var file = write("catalogue.csv", "BOOK,Valid,Author,2020-01-01,111,Genre,100,,,,");
+
+      // When & Then
+      assertThatThrownBy(() -> catalogueImportService.importCatalogue(file, CatalogueFormat.CSV))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("header");
+    }
+  }
+
+  @Nested
+  @DisplayName("JSON Lines Import Tests")
+  class JsonLinesImportTests {
+
+    @Test
+    @DisplayName("Should import every line in file order across many chunks")
+    void importCatalogue_ShouldImportAllLinesInOrder() throws IOException {
+      // Given
+      var lines =
+          IntStream.rangeClosed(1, 500)
+              .mapToObj(
+                  i ->
+                      ("{\"type\":\"BOOK\",\"title\":\"Book %d\",\"author\":\"Author\","
+                              + "\"publicationDate\":\"2020-01-01\",\"isbn\":\"%d\","
+                              + "\"pageCount\":100}")
+                          .formatted(i, i))
+              .collect(Collectors.joining("\n"));
+      var file = Files.writeString(tempDir.resolve("catalogue.jsonl"), lines);
+
+      // When
+      var report = catalogueImportService.importCatalogue(file, CatalogueFormat.JSON_LINES);
+
+      // Then
+      assertAll(
+          () -> assertThat(report.imported()).isEqualTo(500),
+          () -> assertThat(report.rejected()).isZero(),
+          () -> assertThat(report.itemsPerSecond()).isPositive(),
+          () ->
+              assertThat(libraryItemRepository.findById(1L).orElseThrow().getTitle())
+                  .isEqualTo("Book 1"),
+          () ->
+              assertThat(libraryItemRepository.findById(500L).orElseThrow().getTitle())
+                  .isEqualTo("Book 500"));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed JSON lines")
+    void importCatalogue_ShouldRejectMalformedJson() throws IOException {
+      // Given
+      var file =
+          write(
+              "catalogue.jsonl",
+              "{\"type\":\"JOURNAL\",\"title\":\"J\",\"author\":\"A\","
+                  + "\"publicationDate\":\"2020-01-01\",\"issn\":\"1\",\"volume\":1,\"issue\":2}",
+              "{not json");
+
+      // When
+      var report = catalogueImportService.importCatalogue(file, CatalogueFormat.JSON_LINES);
+
+      // Then
+      assertAll(
+          () -> assertThat(report.imported()).isEqualTo(1),
+          () -> assertThat(report.errors()).singleElement().asString().startsWith("line 2:"));
+    }
+  }
+
+  @Test
+  @DisplayName("Should reject a file that does not exist")
+  void importCatalogue_ShouldRejectMissingFile() {
+    // Given
+    var missing = tempDir.resolve("missing.csv");
+
+    // When & Then
+    assertThatThrownBy(() -> catalogueImportService.importCatalogue(missing, CatalogueFormat.CSV))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("not readable");
+  }
+
+  private Path write(String fileName, String... lines) throws IOException {
+    return Files.writeString(tempDir.resolve(fileName), String.join("\r\n", lines) + "\r\n");
+  }
+}
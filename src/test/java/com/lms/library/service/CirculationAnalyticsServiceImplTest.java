@@ -0,0 +1,296 @@
+package com.lms.library.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.lms.library.analytics.CirculationStats;
+import com.lms.library.analytics.CirculationStats.DailyCirculation;
+import com.lms.library.analytics.CirculationStats.GenreCirculation;
+import com.lms.library.analytics.CirculationStats.ItemBorrows;
+import com.lms.library.analytics.DistinctBorrowers;
+import com.lms.library.analytics.DistinctBorrowers.GenreBorrowers;
+import com.lms.library.analytics.TrendingItems;
+import com.lms.library.analytics.TrendingItems.TrendingItem;
+import com.lms.library.analytics.TrendingWindow;
+import com.lms.library.dto.DailyCirculationResponse;
+import com.lms.library.dto.GenreBorrowersResponse;
+import com.lms.library.dto.ItemBorrowersResponse;
+import com.lms.library.dto.ItemCirculationResponse;
+import com.lms.library.dto.TrendingItemResponse;
+import com.lms.library.exception.ItemNotFoundException;
+import com.lms.library.model.Book;
+import com.lms.library.model.Journal;
+import com.lms.library.repository.LibraryItemRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for CirculationAnalyticsServiceImpl.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Circulation Analytics Service Implementation Unit Tests")
+class CirculationAnalyticsServiceImplTest {
+
+  private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+  @Mock private CirculationStats circulationStats;
+
+  @Mock private TrendingItems trendingItems;
+
+  @Mock private DistinctBorrowers distinctBorrowers;
+
+  @Mock private LibraryItemRepository libraryItemRepository;
+
+  @InjectMocks private CirculationAnalyticsServiceImpl circulationAnalyticsService;
+
+  @Nested
+  @DisplayName("Most Borrowed Items Tests")
+  class MostBorrowedItemsTests {
+
+    @Test
+    @DisplayName("Should return the ranked items with their titles")
+    void getMostBorrowedItems_ShouldReturnRankedItems() {
+      // Given
+      var book =
+          new Book(
+              "Clean Code",
+              "Robert Martin",
+              LocalDate.of(2008, 1, 1),
+              "978-0132350884",
+              "Programming",
+              464);
+      book.setId(1L);
+      when(circulationStats.mostBorrowed(5))
+          .thenReturn(List.of(new ItemBorrows(1L, 7), new ItemBorrows(2L, 3)));
+      when(libraryItemRepository.findById(1L)).thenReturn(Optional.of(book));
+      when(libraryItemRepository.findById(2L)).thenReturn(Optional.empty());
+
+      // When
+      var result = circulationAnalyticsService.getMostBorrowedItems(5);
+
+      // Then
+      assertThat(result)
+          .containsExactly(new ItemCirculationResponse(1L, "Clean Code", "Programming", 7));
+    }
+
+    @Test
+    @DisplayName("Should reject a limit out of range")
+    void getMostBorrowedItems_ShouldThrowException_WhenLimitOutOfRange() {
+      // When & Then
+      assertThatThrownBy(() -> circulationAnalyticsService.getMostBorrowedItems(0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Limit must be between 1 and 100");
+      assertThatThrownBy(
+              () ->
+                  circulationAnalyticsService.getMostBorrowedItems(
+                      CirculationAnalyticsServiceImpl.MAX_LIMIT + 1))
+          .isInstanceOf(IllegalArgumentException.class);
+
+      verifyNoInteractions(circulationStats);
+    }
+  }
+
+  @Nested
+  @DisplayName("Trending Items Tests")
+  class TrendingItemsTests {
+
+    @Test
+    @DisplayName("Should return the trending items of the window with their titles")
+    void getTrendingItems_ShouldReturnWindowTopItems() {
+      // Given
+      var journal =
+          new Journal(
+              "Nature",
+              "Various",
+              LocalDate.of(2024, 1, 1),
+              "1234-5678",
+              "Nature Publishing",
+              1,
+              1);
+      journal.setId(3L);
+      when(trendingItems.top(eq(TrendingWindow.WEEK), eq(3), any(Instant.class)))
+          .thenReturn(List.of(new TrendingItem(3L, 9, 8)));
+      when(libraryItemRepository.findById(3L)).thenReturn(Optional.of(journal));
+
+      // When
+      var result = circulationAnalyticsService.getTrendingItems(TrendingWindow.WEEK, 3);
+
+      // Then
+      assertThat(result).containsExactly(new TrendingItemResponse(3L, "Nature", "Journal", 9, 8));
+    }
+
+    @Test
+    @DisplayName("Should reject a limit out of range")
+    void getTrendingItems_ShouldThrowException_WhenLimitOutOfRange() {
+      // When & Then
+      assertThatThrownBy(() -> circulationAnalyticsService.getTrendingItems(TrendingWindow.DAY, 0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Limit must be between 1 and 100");
+
+      verifyNoInteractions(trendingItems);
+    }
+  }
+
+  @Nested
+  @DisplayName("Daily Circulation Tests")
+  class DailyCirculationTests {
+
+    @Test
+    @DisplayName("Should return the circulation of every day of the range")
+    void getDailyCirculation_ShouldReturnDays() {
+      // Given
+      when(circulationStats.daily(DAY, DAY.plusDays(1)))
+          .thenReturn(
+              List.of(
+                  new DailyCirculation(DAY, 2, 3, 0),
+                  new DailyCirculation(DAY.plusDays(1), 0, 0, 1)));
+
+      // When
+      var result = circulationAnalyticsService.getDailyCirculation(DAY, DAY.plusDays(1));
+
+      // Then
+      assertThat(result)
+          .containsExactly(
+              new DailyCirculationResponse(DAY, 2, 3, 0),
+              new DailyCirculationResponse(DAY.plusDays(1), 0, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Should reject a reversed range")
+    void getDailyCirculation_ShouldThrowException_WhenRangeReversed() {
+      // When & Then
+      assertThatThrownBy(
+              () -> circulationAnalyticsService.getDailyCirculation(DAY, DAY.minusDays(1)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("End date must not be before start date");
+
+      verifyNoInteractions(circulationStats);
+    }
+
+    @Test
+    @DisplayName("Should reject a range longer than the maximum")
+    void getDailyCirculation_ShouldThrowException_WhenRangeTooLong() {
+      // Given
+      var to = DAY.plusDays(CirculationAnalyticsServiceImpl.MAX_DAYS);
+
+      // When & Then
+      assertThatThrownBy(() -> circulationAnalyticsService.getDailyCirculation(DAY, to))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Date range must not exceed 366 days");
+    }
+  }
+
+  @Nested
+  @DisplayName("Genre Circulation Tests")
+  class GenreCirculationTests {
+
+    @Test
+    @DisplayName("Should label the loan duration buckets")
+    void getGenreCirculation_ShouldLabelDurationBuckets() {
+      // Given
+      when(circulationStats.byGenre())
+          .thenReturn(
+              List.of(
+                  new GenreCirculation(
+                      "Programming", 4, 3, 30, List.of(1L, 1L, 0L, 0L, 0L, 0L, 1L))));
+
+      // When
+      var result = circulationAnalyticsService.getGenreCirculation();
+
+      // Then
+      var genre = result.getFirst();
+      assertThat(genre.averageLoanDays()).isEqualTo(10.0);
+      assertThat(genre.loanDurations())
+          .containsExactly(
+              entry("0-7", 1L),
+              entry("8-14", 1L),
+              entry("15-21", 0L),
+              entry("22-28", 0L),
+              entry("29-42", 0L),
+              entry("43-56", 0L),
+              entry("57+", 1L));
+      verify(circulationStats).byGenre();
+    }
+  }
+
+  @Nested
+  @DisplayName("Distinct Borrowers Tests")
+  class DistinctBorrowersTests {
+
+    @Test
+    @DisplayName("Should return the estimated borrowers of an item with its error")
+    void getItemBorrowers_ShouldReturnEstimate() {
+      // Given
+      var book =
+          new Book(
+              "Clean Code",
+              "Robert Martin",
+              LocalDate.of(2008, 1, 1),
+              "978-0132350884",
+              "Programming",
+              464);
+      book.setId(1L);
+      when(libraryItemRepository.findById(1L)).thenReturn(Optional.of(book));
+      when(distinctBorrowers.ofItem(1L)).thenReturn(42L);
+      when(distinctBorrowers.getItemError()).thenReturn(0.0325);
+
+      // When
+      var result = circulationAnalyticsService.getItemBorrowers(1L);
+
+      // Then
+      assertThat(result).isEqualTo(new ItemBorrowersResponse(1L, "Clean Code", 42, 0.0325));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the item does not exist")
+    void getItemBorrowers_ShouldThrowException_WhenItemNotFound() {
+      // Given
+      when(libraryItemRepository.findById(99L)).thenReturn(Optional.empty());
+
+      // When & Then
+      assertThatThrownBy(() -> circulationAnalyticsService.getItemBorrowers(99L))
+          .isInstanceOf(ItemNotFoundException.class)
+          .hasMessage("Item not found with ID: 99");
+
+      verifyNoInteractions(distinctBorrowers);
+    }
+
+    @Test
+    @DisplayName("Should return the estimated borrowers of every genre with their error")
+    void getGenreBorrowers_ShouldReturnEstimates() {
+      // Given
+      when(distinctBorrowers.ofGenres())
+          .thenReturn(
+              List.of(new GenreBorrowers("Programming", 12), new GenreBorrowers("Journal", 3)));
+      when(distinctBorrowers.getGenreError()).thenReturn(0.0081);
+
+      // When
+      var result = circulationAnalyticsService.getGenreBorrowers();
+
+      // Then
+      assertThat(result)
+          .containsExactly(
+              new GenreBorrowersResponse("Programming", 12, 0.0081),
+              new GenreBorrowersResponse("Journal", 3, 0.0081));
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package com.lms.library.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lms.library.exception.HoldNotFoundException;
+import com.lms.library.exception.ItemNotFoundException;
+import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.model.Book;
+import com.lms.library.model.Hold;
+import com.lms.library.model.HoldStatus;
+import com.lms.library.repository.HoldRepository;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.repository.MemberRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for HoldServiceImpl.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Hold Service Implementation Unit Tests")
+class HoldServiceImplTest {
+
+  @Mock private MemberRepository memberRepository;
+
+  @Mock private LibraryItemRepository libraryItemRepository;
+
+  @Mock private HoldRepository holdRepository;
+
+  @Mock private LoanService loanService;
+
+  @InjectMocks private HoldServiceImpl holdService;
+
+  private Book book;
+
+  @BeforeEach
+  void setUp() {
+    book =
+        new Book(
+            "Clean Code",
+            "Robert Martin",
+            LocalDate.of(2008, 1, 1),
+            "978-0132350884",
+            "Programming",
+            464);
+    book.setId(1L);
+  }
+
+  @Nested
+  @DisplayName("Place Hold Tests")
+  class PlaceHoldTests {
+
+    @Test
+    @DisplayName("Should queue the hold without allocating when the item is on loan")
+    void placeHold_ShouldQueueHold_WhenItemOnLoan() {
+      // Given
+      book.setAvailable(false);
+      when(memberRepository.existsById(1L)).thenReturn(true);
+      when(libraryItemRepository.findById(1L)).thenReturn(Optional.of(book));
+      when(holdRepository.saveIfNotWaiting(any(Hold.class)))
+          .thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+
+      // When
+      var hold = holdService.placeHold(1L, 1L);
+
+      // Then
+      assertThat(hold.getStatus()).isEqualTo(HoldStatus.WAITING);
+      assertThat(hold.getMemberId()).isEqualTo(1L);
+      verify(loanService, never()).allocateToNextHolder(any());
+    }
+
+    @Test
+    @DisplayName("Should allocate straight away when the item is on the shelf")
+    void placeHold_ShouldAllocate_WhenItemAvailable() {
+      // Given
+      when(memberRepository.existsById(1L)).thenReturn(true);
+      when(libraryItemRepository.findById(1L)).thenReturn(Optional.of(book));
+      when(holdRepository.saveIfNotWaiting(any(Hold.class)))
+          .thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+
+      // When
+      holdService.placeHold(1L, 1L);
+
+      // Then
+      verify(loanService).allocateToNextHolder(1L);
+    }
+
+    @Test
+    @DisplayName("Should refuse a second hold of the same member on the same item")
+    void placeHold_ShouldThrowException_WhenAlreadyWaiting() {
+      // Given
+      when(memberRepository.existsById(1L)).thenReturn(true);
+      when(libraryItemRepository.findById(1L)).thenReturn(Optional.of(book));
+      when(holdRepository.saveIfNotWaiting(any(Hold.class))).thenReturn(Optional.empty());
+
+      // When & Then
+      assertThatThrownBy(() -> holdService.placeHold(1L, 1L))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("Member 1 is already waiting for item 1");
+      verify(loanService, never()).allocateToNextHolder(any());
+    }
+
+    @Test
+    @DisplayName("Should throw when the member or item does not exist")
+    void placeHold_ShouldThrowException_WhenMemberOrItemNotFound() {
+      // Given
+      when(memberRepository.existsById(1L)).thenReturn(true);
+      when(memberRepository.existsById(999L)).thenReturn(false);
+      when(libraryItemRepository.findById(999L)).thenReturn(Optional.empty());
+
+      // When & Then
+      assertThatThrownBy(() -> holdService.placeHold(999L, 1L))
+          .isInstanceOf(MemberNotFoundException.class);
+      assertThatThrownBy(() -> holdService.placeHold(1L, 999L))
+          .isInstanceOf(ItemNotFoundException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("Cancel Hold Tests")
+  class CancelHoldTests {
+
+    @Test
+    @DisplayName("Should cancel a waiting hold")
+    void cancelHold_ShouldCancel_WhenWaiting() {
+      // Given
+      book.setAvailable(false);
+      var hold = new Hold(1L, 1L, Instant.now());
+      when(holdRepository.findById(7L)).thenReturn(Optional.of(hold));
+      when(libraryItemRepository.findById(1L)).thenReturn(Optional.of(book));
+
+      // When
+      var result = holdService.cancelHold(7L);
+
+      // Then
+      assertThat(result.getStatus()).isEqualTo(HoldStatus.CANCELLED);
+      verify(loanService, never()).allocateToNextHolder(any());
+    }
+
+    @Test
+    @DisplayName("Should refuse to cancel a fulfilled hold")
+    void cancelHold_ShouldThrowException_WhenFulfilled() {
+      // Given
+      var hold = new Hold(1L, 1L, Instant.now());
+      hold.fulfil(3L);
+      when(holdRepository.findById(7L)).thenReturn(Optional.of(hold));
+
+      // When & Then
+      assertThatThrownBy(() -> holdService.cancelHold(7L))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("Hold is already fulfilled");
+    }
+
+    @Test
+    @DisplayName("Should throw HoldNotFoundException when the hold does not exist")
+    void cancelHold_ShouldThrowException_WhenNotFound() {
+      // Given
+      when(holdRepository.findById(7L)).thenReturn(Optional.empty());
+
+      // When & Then
+      assertThatThrownBy(() -> holdService.cancelHold(7L))
+          .isInstanceOf(HoldNotFoundException.class)
+          .hasMessage("Hold not found with ID: 7");
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package com.lms.library.service;
+
+import static com.lms.library.util.TestUtil.createTestLoan;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.lms.library.repository.LoanArchiveRepository;
+import com.lms.library.repository.LoanItemRepository;
+import com.lms.library.repository.LoanRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for LoanArchivalServiceImpl.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Loan Archival Service Implementation Unit Tests")
+class LoanArchivalServiceImplTest {
+
+  private static final LocalDate CUTOFF = LocalDate.of(2025, 1, 1);
+
+  @Mock private LoanRepository loanRepository;
+
+  @Mock private LoanItemRepository loanItemRepository;
+
+  @Mock private LoanArchiveRepository loanArchiveRepository;
+
+  private LoanArchivalServiceImpl loanArchivalService;
+
+  @BeforeEach
+  void setUp() {
+    loanArchivalService =
+        new LoanArchivalServiceImpl(loanRepository, loanItemRepository, loanArchiveRepository, 2);
+  }
+
+  @Test
+  @DisplayName("Should append loans in blocks before evicting them from memory")
+  void archiveClosedLoans_ShouldArchiveInBlocksThenEvict() {
+    // Given
+    var first = createTestLoan(1L);
+    var second = createTestLoan(2L);
+    var third = createTestLoan(3L);
+    when(loanRepository.findClosedBefore(CUTOFF)).thenReturn(List.of(first, second, third));
+    when(loanRepository.remove(any(), anyLong())).thenReturn(true);
+
+    // When
+    var archived = loanArchivalService.archiveClosedLoans(CUTOFF);
+
+    // Then
+    assertThat(archived).isEqualTo(3);
+    var inOrder = inOrder(loanArchiveRepository, loanRepository);
+    inOrder.verify(loanArchiveRepository).appendAll(List.of(first, second));
+    inOrder.verify(loanRepository).remove(first, first.getVersion());
+    inOrder.verify(loanArchiveRepository).appendAll(List.of(third));
+    verify(loanItemRepository).deleteByLoanIds(Set.of(1L, 2L));
+    verify(loanItemRepository).deleteByLoanIds(Set.of(3L));
+  }
+
+  @Test
+  @DisplayName("Should keep loans in memory when they were modified while being archived")
+  void archiveClosedLoans_ShouldKeepConcurrentlyModifiedLoans() {
+    // Given
+    var loan = createTestLoan(1L);
+    when(loanRepository.findClosedBefore(CUTOFF)).thenReturn(List.of(loan));
+    when(loanRepository.remove(loan, loan.getVersion())).thenReturn(false);
+
+    // When
+    var archived = loanArchivalService.archiveClosedLoans(CUTOFF);
+
+    // Then
+    assertThat(archived).isZero();
+    verify(loanItemRepository, times(1)).deleteByLoanIds(Set.of());
+  }
+}
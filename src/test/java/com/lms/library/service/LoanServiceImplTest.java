@@ -4,27 +4,48 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.lms.library.analytics.CirculationStats;
+import com.lms.library.analytics.DistinctBorrowers;
 import com.lms.library.dto.LoanRequest;
+import com.lms.library.event.ItemReturned;
+import com.lms.library.event.LoanClosed;
+import com.lms.library.event.LoanCreated;
+import com.lms.library.event.LoanEventBus;
+import com.lms.library.exception.BorrowingBlockedException;
 import com.lms.library.exception.ItemNotAvailableException;
 import com.lms.library.exception.ItemNotFoundException;
 import com.lms.library.exception.LoanNotFoundException;
 import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.exception.OptimisticLockException;
 import com.lms.library.model.Book;
+import com.lms.library.model.Hold;
+import com.lms.library.model.HoldStatus;
 import com.lms.library.model.Journal;
 import com.lms.library.model.Loan;
 import com.lms.library.model.LoanItem;
 import com.lms.library.model.LoanStatus;
 import com.lms.library.model.Member;
+import com.lms.library.policy.MemberLedger;
+import com.lms.library.policy.MemberStanding;
+import com.lms.library.repository.HoldRepository;
 import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.repository.LoanArchiveRepository;
 import com.lms.library.repository.LoanItemRepository;
 import com.lms.library.repository.LoanRepository;
 import com.lms.library.repository.MemberRepository;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -58,6 +79,18 @@ class LoanServiceImplTest {
 
   @Mock private LoanItemRepository loanItemRepository;
 
+  @Mock private LoanArchiveRepository loanArchiveRepository;
+
+  @Mock private LoanEventBus loanEventBus;
+
+  @Mock private HoldRepository holdRepository;
+
+  @Mock private CirculationStats circulationStats;
+
+  @Mock private DistinctBorrowers distinctBorrowers;
+
+  @Mock private MemberLedger memberLedger;
+
   @InjectMocks private LoanServiceImpl loanService;
 
   @Captor private ArgumentCaptor<Loan> loanCaptor;
@@ -140,6 +173,30 @@ class LoanServiceImplTest {
       // Verify items were marked as unavailable
       assertThat(availableBook.isAvailable()).isFalse();
       assertThat(availableJournal.isAvailable()).isFalse();
+
+      verify(circulationStats).recordCheckout(existingLoan);
+      verify(distinctBorrowers).recordLoan(existingLoan);
+      verify(memberLedger).reserve(1L, 2);
+      verify(memberLedger).loanOpened(existingLoan);
+      verify(loanEventBus).publish(any(LoanCreated.class));
+    }
+
+    @Test
+    @DisplayName("Should refuse checkout before taking any item when the member is blocked")
+    void checkoutItems_ShouldThrowException_WhenMemberBlocked() {
+      // Given
+      when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+      doThrow(new BorrowingBlockedException("Member 1 has 1 overdue items"))
+          .when(memberLedger)
+          .reserve(1L, 2);
+
+      // When & Then
+      assertThatThrownBy(() -> loanService.checkoutItems(1L, validLoanRequest))
+          .isInstanceOf(BorrowingBlockedException.class)
+          .hasMessage("Member 1 has 1 overdue items");
+
+      verifyNoInteractions(libraryItemRepository, loanRepository, loanItemRepository, loanEventBus);
+      verify(memberLedger, never()).release(any(), anyInt());
     }
 
     @Test
@@ -154,7 +211,7 @@ class LoanServiceImplTest {
           .hasMessage("Member not found with ID: 999");
 
       verify(memberRepository).findById(999L);
-      verifyNoInteractions(libraryItemRepository, loanRepository, loanItemRepository);
+      verifyNoInteractions(libraryItemRepository, loanRepository, loanItemRepository, loanEventBus);
     }
 
     @Test
@@ -195,6 +252,8 @@ class LoanServiceImplTest {
       verify(memberRepository).findById(1L);
       verify(libraryItemRepository).findAvailableItemById(3L);
       verify(libraryItemRepository).findById(3L);
+      verify(memberLedger).release(1L, 1);
+      verify(memberLedger, never()).loanOpened(any());
     }
 
     @Test
@@ -303,6 +362,27 @@ class LoanServiceImplTest {
       verify(loanRepository).findByMemberIdOrderByLoanDateDesc(1L);
     }
 
+    @Test
+    @DisplayName("Should merge archived loans into the member history, newest first")
+    void getMemberLoans_ShouldIncludeArchivedLoans() {
+      // Given
+      var archivedLoan =
+          new Loan(testMember, LocalDate.now().minusYears(1), LocalDate.now().minusYears(1));
+      archivedLoan.setId(2L);
+      var staleCopy = new Loan(testMember, LocalDate.now(), LocalDate.now().plusDays(14));
+      staleCopy.setId(existingLoan.getId());
+      when(memberRepository.existsById(1L)).thenReturn(true);
+      when(loanRepository.findByMemberIdOrderByLoanDateDesc(1L)).thenReturn(List.of(existingLoan));
+      when(loanArchiveRepository.findByMemberIdOrderByLoanDateDesc(1L))
+          .thenReturn(List.of(staleCopy, archivedLoan));
+
+      // When
+      var result = loanService.getMemberLoans(1L);
+
+      // Then
+      assertThat(result).containsExactly(existingLoan, archivedLoan);
+    }
+
     @Test
     @DisplayName("Should throw MemberNotFoundException when member not found")
     void getMemberLoans_ShouldThrowException_WhenMemberNotFound() {
@@ -317,6 +397,65 @@ class LoanServiceImplTest {
       verify(memberRepository).existsById(999L);
       verifyNoInteractions(loanRepository);
     }
+
+    @Test
+    @DisplayName("Should return member loans version when member exists")
+    void getMemberLoansVersion_ShouldReturnVersion_WhenMemberExists() {
+      // Given
+      when(memberRepository.existsById(1L)).thenReturn(true);
+      when(loanRepository.getMemberLoansVersion(1L)).thenReturn(0L);
+
+      // When & Then
+      assertThat(loanService.getMemberLoansVersion(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should throw MemberNotFoundException when versioning unknown member")
+    void getMemberLoansVersion_ShouldThrowException_WhenMemberNotFound() {
+      // Given
+      when(memberRepository.existsById(999L)).thenReturn(false);
+
+      // When & Then
+      assertThatThrownBy(() -> loanService.getMemberLoansVersion(999L))
+          .isInstanceOf(MemberNotFoundException.class)
+          .hasMessage("Member not found with ID: 999");
+
+      verifyNoInteractions(loanRepository);
+    }
+  }
+
+  @Nested
+  @DisplayName("Member Standing Tests")
+  class MemberStandingTests {
+
+    @Test
+    @DisplayName("Should return the member's counters from the ledger")
+    void getMemberStanding_ShouldReturnLedgerCounters() {
+      // Given
+      var standing = new MemberStanding(1L, 3, 10, 1, 50);
+      when(memberRepository.existsById(1L)).thenReturn(true);
+      when(memberLedger.standingOf(1L)).thenReturn(standing);
+
+      // When
+      var result = loanService.getMemberStanding(1L);
+
+      // Then
+      assertThat(result).isEqualTo(standing);
+      assertThat(result.canBorrow()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should throw MemberNotFoundException when member not found")
+    void getMemberStanding_ShouldThrowException_WhenMemberNotFound() {
+      // Given
+      when(memberRepository.existsById(999L)).thenReturn(false);
+
+      // When & Then
+      assertThatThrownBy(() -> loanService.getMemberStanding(999L))
+          .isInstanceOf(MemberNotFoundException.class)
+          .hasMessage("Member not found with ID: 999");
+      verifyNoInteractions(memberLedger);
+    }
   }
 
   @Nested
@@ -351,6 +490,53 @@ class LoanServiceImplTest {
 
       verify(loanRepository).findByIdWithMemberAndItems(999L);
     }
+
+    @Test
+    @DisplayName("Should read the loan from the archive when it is no longer in memory")
+    void getLoanById_ShouldReturnArchivedLoan_WhenLoanArchived() {
+      // Given
+      when(loanRepository.findByIdWithMemberAndItems(1L)).thenReturn(Optional.empty());
+      when(loanArchiveRepository.findById(1L)).thenReturn(Optional.of(existingLoan));
+
+      // When
+      var result = loanService.getLoanById(1L);
+
+      // Then
+      assertThat(result).isEqualTo(existingLoan);
+    }
+
+    @Test
+    @DisplayName("Should return the archived version when the loan is archived")
+    void getLoanVersion_ShouldReturnArchivedVersion_WhenLoanArchived() {
+      // Given
+      when(loanRepository.getLoanVersion(1L)).thenReturn(0L);
+      when(loanArchiveRepository.getLoanVersion(1L)).thenReturn(5L);
+
+      // When & Then
+      assertThat(loanService.getLoanVersion(1L)).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("Should return loan version when loan exists")
+    void getLoanVersion_ShouldReturnVersion_WhenLoanExists() {
+      // Given
+      when(loanRepository.getLoanVersion(1L)).thenReturn(3L);
+
+      // When & Then
+      assertThat(loanService.getLoanVersion(1L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should throw LoanNotFoundException when loan has no version")
+    void getLoanVersion_ShouldThrowException_WhenLoanNotFound() {
+      // Given
+      when(loanRepository.getLoanVersion(999L)).thenReturn(0L);
+
+      // When & Then
+      assertThatThrownBy(() -> loanService.getLoanVersion(999L))
+          .isInstanceOf(LoanNotFoundException.class)
+          .hasMessage("Loan not found with ID: 999");
+    }
   }
 
   @Nested
@@ -380,7 +566,7 @@ class LoanServiceImplTest {
       when(loanRepository.findByIdWithItems(1L)).thenReturn(Optional.of(existingLoan));
       when(loanItemRepository.findByLoanIdAndItemId(1L, 2L))
           .thenReturn(Optional.of(notReturnedLoanItem));
-      when(loanRepository.save(any(Loan.class))).thenReturn(existingLoan);
+      when(loanRepository.save(any(Loan.class), anyLong())).thenReturn(existingLoan);
 
       // When
       var result = loanService.returnItems(1L, List.of(2L));
@@ -394,8 +580,11 @@ class LoanServiceImplTest {
 
       verify(loanRepository).findByIdWithItems(1L);
       verify(loanItemRepository).findByLoanIdAndItemId(1L, 2L);
-      verify(loanItemRepository).save(notReturnedLoanItem);
-      verify(loanRepository).save(existingLoan);
+      verify(loanItemRepository).save(notReturnedLoanItem, 0L);
+      verify(loanRepository).save(existingLoan, 0L);
+      verify(circulationStats).recordReturn(notReturnedLoanItem);
+      verify(memberLedger).itemReturned(existingLoan);
+      verify(loanEventBus).publish(any(ItemReturned.class));
     }
 
     @Test
@@ -413,6 +602,21 @@ class LoanServiceImplTest {
       verifyNoInteractions(loanItemRepository);
     }
 
+    @Test
+    @DisplayName("Should throw IllegalStateException when the loan is archived")
+    void returnItems_ShouldThrowException_WhenLoanArchived() {
+      // Given
+      when(loanRepository.findByIdWithItems(1L)).thenReturn(Optional.empty());
+      when(loanArchiveRepository.existsById(1L)).thenReturn(true);
+
+      // When & Then
+      assertThatThrownBy(() -> loanService.returnItems(1L, List.of(1L)))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("Loan is already closed");
+
+      verifyNoInteractions(loanItemRepository);
+    }
+
     @Test
     @DisplayName("Should throw IllegalStateException when loan is already closed")
     void returnItems_ShouldThrowException_WhenLoanAlreadyClosed() {
@@ -455,7 +659,7 @@ class LoanServiceImplTest {
       when(loanRepository.findByIdWithItems(1L)).thenReturn(Optional.of(existingLoan));
       when(loanItemRepository.findByLoanIdAndItemId(1L, 1L))
           .thenReturn(Optional.of(returnedLoanItem));
-      when(loanRepository.save(any(Loan.class))).thenReturn(existingLoan);
+      when(loanRepository.save(any(Loan.class), anyLong())).thenReturn(existingLoan);
 
       // When
       var result = loanService.returnItems(1L, List.of(1L));
@@ -464,8 +668,9 @@ class LoanServiceImplTest {
       assertThat(result).isNotNull();
 
       // Verify the already returned item was not saved again
-      verify(loanItemRepository, never()).save(returnedLoanItem);
-      verify(loanRepository).save(existingLoan);
+      verify(loanItemRepository, never()).save(eq(returnedLoanItem), anyLong());
+      verify(circulationStats, never()).recordReturn(returnedLoanItem);
+      verify(loanRepository).save(existingLoan, 0L);
     }
 
     @Test
@@ -488,7 +693,8 @@ class LoanServiceImplTest {
           .thenReturn(Optional.of(loanWithAllItemsReturnable));
       when(loanItemRepository.findByLoanIdAndItemId(2L, 1L)).thenReturn(Optional.of(item1));
       when(loanItemRepository.findByLoanIdAndItemId(2L, 2L)).thenReturn(Optional.of(item2));
-      when(loanRepository.save(any(Loan.class))).thenReturn(loanWithAllItemsReturnable);
+      when(loanRepository.save(any(Loan.class), anyLong()))
+          .thenReturn(loanWithAllItemsReturnable);
 
       // When
       var result = loanService.returnItems(2L, List.of(1L, 2L));
@@ -496,8 +702,261 @@ class LoanServiceImplTest {
       // Then
       assertThat(result.getStatus()).isEqualTo(LoanStatus.CLOSED);
 
-      verify(loanRepository).save(loanWithAllItemsReturnable);
+      verify(loanRepository).save(loanWithAllItemsReturnable, 0L);
       assertThat(loanWithAllItemsReturnable.getStatus()).isEqualTo(LoanStatus.CLOSED);
+      verify(loanEventBus, times(2)).publish(any(ItemReturned.class));
+      verify(loanEventBus).publish(any(LoanClosed.class));
+    }
+
+    @Test
+    @DisplayName("Should retry the return when the loan is modified concurrently")
+    void returnItems_ShouldRetry_WhenConcurrentModificationDetected() {
+      // Given
+      when(loanRepository.findByIdWithItems(1L)).thenReturn(Optional.of(existingLoan));
+      when(loanItemRepository.findByLoanIdAndItemId(1L, 2L))
+          .thenReturn(Optional.of(notReturnedLoanItem));
+      when(loanRepository.save(any(Loan.class), anyLong()))
+          .thenThrow(new OptimisticLockException("Loan 1 was modified concurrently"));
+
+      // When
+      var result = loanService.returnItems(1L, List.of(2L));
+
+      // Then
+      assertThat(result).isEqualTo(existingLoan);
+      verify(loanRepository, times(2)).findByIdWithItems(1L);
+
+      // The item was returned on the first attempt; the retry finds the loan closed, confirms the
+      // item is part of it and saves nothing
+      verify(loanRepository, times(1)).save(any(Loan.class), anyLong());
+      verify(loanItemRepository, times(2)).findByLoanIdAndItemId(1L, 2L);
+      verify(loanItemRepository, times(1)).save(eq(notReturnedLoanItem), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should leave LoanClosed to the writer that closed the loan concurrently")
+    void returnItems_ShouldNotPublishLoanClosed_WhenClosedByConcurrentReturn() {
+      // Given
+      var concurrentlyReturnedItem = new LoanItem(existingLoan, unavailableBook);
+      existingLoan.addItem(concurrentlyReturnedItem);
+      when(loanRepository.findByIdWithItems(1L)).thenReturn(Optional.of(existingLoan));
+      when(loanItemRepository.findByLoanIdAndItemId(1L, 2L))
+          .thenReturn(Optional.of(notReturnedLoanItem));
+      when(loanRepository.save(any(Loan.class), anyLong()))
+          .thenAnswer(
+              invocation -> {
+                // Another return takes the last item and closes the loan first
+                concurrentlyReturnedItem.markReturned();
+                existingLoan.updateStatus();
+                throw new OptimisticLockException("Loan 1 was modified concurrently");
+              });
+
+      // When
+      var result = loanService.returnItems(1L, List.of(2L));
+
+      // Then
+      assertThat(result.getStatus()).isEqualTo(LoanStatus.CLOSED);
+      verify(loanEventBus).publish(any(ItemReturned.class));
+      verify(loanEventBus, never()).publish(any(LoanClosed.class));
+    }
+
+    @Test
+    @DisplayName("Should give up with OptimisticLockException after bounded retries")
+    void returnItems_ShouldThrowException_WhenRetriesExhausted() {
+      // Given
+      when(loanRepository.findByIdWithItems(1L)).thenReturn(Optional.of(existingLoan));
+      when(loanItemRepository.findByLoanIdAndItemId(1L, 2L))
+          .thenReturn(Optional.of(notReturnedLoanItem));
+      when(loanRepository.save(any(Loan.class), anyLong()))
+          .thenThrow(new OptimisticLockException("Loan 1 was modified concurrently"));
+
+      // When & Then
+      assertThatThrownBy(() -> loanService.returnItems(1L, List.of(2L)))
+          .isInstanceOf(OptimisticLockException.class)
+          .hasMessage("Loan 1 was modified concurrently");
+
+      verify(loanRepository, times(LoanServiceImpl.MAX_RETURN_ATTEMPTS))
+          .save(any(Loan.class), anyLong());
+    }
+  }
+
+  @Nested
+  @DisplayName("Hold Queue Tests")
+  class HoldQueueTests {
+
+    @Test
+    @DisplayName("Should refuse checkout when another member is first in the hold queue")
+    void checkoutItems_ShouldThrowException_WhenItemHeldForAnotherMember() {
+      // Given
+      var hold = new Hold(2L, 1L, Instant.now());
+      when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+      when(libraryItemRepository.findAvailableItemById(1L)).thenReturn(Optional.of(availableBook));
+      when(holdRepository.findNextWaiting(1L)).thenReturn(Optional.of(hold));
+
+      // When & Then
+      assertThatThrownBy(() -> loanService.checkoutItems(1L, new LoanRequest(List.of(1L))))
+          .isInstanceOf(ItemNotAvailableException.class)
+          .hasMessage("Item 'Clean Code' is on hold for another member");
+
+      assertThat(hold.getStatus()).isEqualTo(HoldStatus.WAITING);
+      verify(loanRepository, never()).save(any(Loan.class));
+    }
+
+    @Test
+    @DisplayName("Should fulfil the hold when the first holder checks out the item")
+    void checkoutItems_ShouldFulfilHold_WhenMemberIsFirstInQueue() {
+      // Given
+      var hold = new Hold(1L, 1L, Instant.now());
+      when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+      when(libraryItemRepository.findAvailableItemById(1L)).thenReturn(Optional.of(availableBook));
+      when(holdRepository.findNextWaiting(1L)).thenReturn(Optional.of(hold));
+      when(loanRepository.save(any(Loan.class))).thenReturn(existingLoan);
+
+      // When
+      loanService.checkoutItems(1L, new LoanRequest(List.of(1L)));
+
+      // Then
+      assertAll(
+          () -> assertThat(hold.getStatus()).isEqualTo(HoldStatus.FULFILLED),
+          () -> assertThat(hold.getLoanId()).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("Should check out a returned item to the member first in its hold queue")
+    void returnItems_ShouldAllocateItemToNextHolder() {
+      // Given
+      var holder = new Member("Jane", "Roe", "jane.roe@example.com");
+      holder.setId(2L);
+      var holderLoan = new Loan(holder, LocalDate.now(), LocalDate.now().plusDays(14));
+      holderLoan.setId(5L);
+      var hold = new Hold(2L, 2L, Instant.now());
+      var loanItem = new LoanItem(existingLoan, availableJournal);
+      existingLoan.addItem(loanItem);
+      availableJournal.setAvailable(false);
+
+      when(loanRepository.findByIdWithItems(1L)).thenReturn(Optional.of(existingLoan));
+      when(loanItemRepository.findByLoanIdAndItemId(1L, 2L)).thenReturn(Optional.of(loanItem));
+      when(loanRepository.save(any(Loan.class), anyLong())).thenReturn(existingLoan);
+      when(holdRepository.findNextWaiting(2L)).thenReturn(Optional.of(hold));
+      when(memberRepository.findById(2L)).thenReturn(Optional.of(holder));
+      when(libraryItemRepository.findAvailableItemById(2L))
+          .thenReturn(Optional.of(availableJournal));
+      when(loanRepository.save(any(Loan.class))).thenReturn(holderLoan);
+
+      // When
+      loanService.returnItems(1L, List.of(2L));
+
+      // Then
+      assertAll(
+          () -> assertThat(loanItem.isReturned()).isTrue(),
+          () -> assertThat(availableJournal.isAvailable()).isFalse(),
+          () -> assertThat(hold.getStatus()).isEqualTo(HoldStatus.FULFILLED),
+          () -> assertThat(hold.getLoanId()).isEqualTo(5L));
+      verify(loanRepository).save(loanCaptor.capture());
+      assertThat(loanCaptor.getValue().getMember()).isEqualTo(holder);
+    }
+
+    @Test
+    @DisplayName("Should leave allocation of returned items to the allocation coordinator")
+    void returnItems_ShouldNotAllocate_WhenRoutedThroughCoordinator() {
+      // Given
+      var coordinator = mock(LoanService.class);
+      loanService.routeAllocationsThrough(coordinator);
+      var loanItem = new LoanItem(existingLoan, availableJournal);
+      existingLoan.addItem(loanItem);
+      when(loanRepository.findByIdWithItems(1L)).thenReturn(Optional.of(existingLoan));
+      when(loanItemRepository.findByLoanIdAndItemId(1L, 2L)).thenReturn(Optional.of(loanItem));
+      when(loanRepository.save(any(Loan.class), anyLong())).thenReturn(existingLoan);
+
+      // When
+      loanService.returnItems(1L, List.of(2L));
+
+      // Then
+      verify(holdRepository, never()).findNextWaiting(anyLong());
+      verifyNoInteractions(coordinator);
+    }
+
+    @Test
+    @DisplayName("Should check out allocated items through the allocation coordinator")
+    void allocateToNextHolder_ShouldCheckOutThroughCoordinator() {
+      // Given
+      var coordinator = mock(LoanService.class);
+      loanService.routeAllocationsThrough(coordinator);
+      var hold = new Hold(2L, 1L, Instant.now());
+      var holderLoan = new Loan(testMember, LocalDate.now(), LocalDate.now().plusDays(14));
+      holderLoan.setId(5L);
+      when(holdRepository.findNextWaiting(1L)).thenReturn(Optional.of(hold));
+      when(coordinator.checkoutItems(2L, new LoanRequest(List.of(1L)))).thenReturn(holderLoan);
+
+      // When
+      var result = loanService.allocateToNextHolder(1L);
+
+      // Then
+      assertAll(
+          () -> assertThat(result).contains(holderLoan),
+          () -> assertThat(hold.getStatus()).isEqualTo(HoldStatus.FULFILLED),
+          () -> assertThat(hold.getLoanId()).isEqualTo(5L));
+      verify(loanRepository, never()).save(any(Loan.class));
+    }
+
+    @Test
+    @DisplayName("Should cancel holds of unknown members and allocate to the next holder")
+    void allocateToNextHolder_ShouldSkipHoldsOfUnknownMembers() {
+      // Given
+      var orphanHold = new Hold(99L, 1L, Instant.now());
+      var hold = new Hold(1L, 1L, Instant.now());
+      when(holdRepository.findNextWaiting(1L))
+          .thenReturn(Optional.of(orphanHold), Optional.of(hold));
+      when(memberRepository.findById(99L)).thenReturn(Optional.empty());
+      when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+      when(libraryItemRepository.findAvailableItemById(1L)).thenReturn(Optional.of(availableBook));
+      when(loanRepository.save(any(Loan.class))).thenReturn(existingLoan);
+
+      // When
+      var result = loanService.allocateToNextHolder(1L);
+
+      // Then
+      assertAll(
+          () -> assertThat(result).contains(existingLoan),
+          () -> assertThat(orphanHold.getStatus()).isEqualTo(HoldStatus.CANCELLED),
+          () -> assertThat(hold.getStatus()).isEqualTo(HoldStatus.FULFILLED));
+    }
+
+    @Test
+    @DisplayName("Should leave the hold waiting when the item is still on loan")
+    void allocateToNextHolder_ShouldKeepHold_WhenItemNotAvailable() {
+      // Given
+      var hold = new Hold(1L, 3L, Instant.now());
+      when(holdRepository.findNextWaiting(3L)).thenReturn(Optional.of(hold));
+      when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+      when(libraryItemRepository.findAvailableItemById(3L)).thenReturn(Optional.empty());
+      when(libraryItemRepository.findById(3L)).thenReturn(Optional.of(unavailableBook));
+
+      // When
+      var result = loanService.allocateToNextHolder(3L);
+
+      // Then
+      assertThat(result).isEmpty();
+      assertThat(hold.getStatus()).isEqualTo(HoldStatus.WAITING);
+    }
+
+    @Test
+    @DisplayName("Should leave the hold waiting when the holder may not borrow")
+    void allocateToNextHolder_ShouldKeepHold_WhenHolderBlocked() {
+      // Given
+      var hold = new Hold(1L, 1L, Instant.now());
+      when(holdRepository.findNextWaiting(1L)).thenReturn(Optional.of(hold));
+      when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember));
+      doThrow(new BorrowingBlockedException("Member 1 has 2 overdue items"))
+          .when(memberLedger)
+          .reserve(1L, 1);
+
+      // When
+      var result = loanService.allocateToNextHolder(1L);
+
+      // Then
+      assertThat(result).isEmpty();
+      assertThat(hold.getStatus()).isEqualTo(HoldStatus.WAITING);
+      assertThat(availableBook.isAvailable()).isTrue();
     }
   }
 
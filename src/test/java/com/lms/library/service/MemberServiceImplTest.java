@@ -0,0 +1,173 @@
+package com.lms.library.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lms.library.exception.MemberNotFoundException;
+import com.lms.library.model.Member;
+import com.lms.library.repository.MemberRepository;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for MemberServiceImpl.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Member Service Implementation Unit Tests")
+class MemberServiceImplTest {
+
+  @Mock private MemberRepository memberRepository;
+
+  private MemberServiceImpl memberService;
+
+  private Member testMember;
+
+  @BeforeEach
+  void setUp() {
+    memberService = new MemberServiceImpl(memberRepository, new ObjectMapper(), 2);
+    testMember = new Member("John", "Doe", "john.doe@example.com");
+    testMember.setId(1L);
+  }
+
+  @Nested
+  @DisplayName("Get Member By Email Tests")
+  class GetMemberByEmailTests {
+
+    @Test
+    @DisplayName("Should return member when email is indexed")
+    void getMemberByEmail_ShouldReturnMember_WhenEmailExists() {
+      // Given
+      when(memberRepository.findByEmail("John.Doe@example.com"))
+          .thenReturn(Optional.of(testMember));
+
+      // When
+      var result = memberService.getMemberByEmail("John.Doe@example.com");
+
+      // Then
+      assertThat(result).isEqualTo(testMember);
+      verify(memberRepository).findByEmail("John.Doe@example.com");
+    }
+
+    @Test
+    @DisplayName("Should throw MemberNotFoundException when email is unknown")
+    void getMemberByEmail_ShouldThrowException_WhenEmailNotFound() {
+      // Given
+      when(memberRepository.findByEmail("nobody@example.com")).thenReturn(Optional.empty());
+
+      // When & Then
+      assertThatThrownBy(() -> memberService.getMemberByEmail("nobody@example.com"))
+          .isInstanceOf(MemberNotFoundException.class)
+          .hasMessage("Member not found with email: nobody@example.com");
+    }
+  }
+
+  @Nested
+  @DisplayName("Import Members Tests")
+  class ImportMembersTests {
+
+    @Test
+    @DisplayName("Should save members in batches and report skipped and rejected lines")
+    void importMembers_ShouldSaveInBatches() {
+      // Given
+      var ndjson =
+          String.join(
+              "\n",
+              "{\"firstName\":\"Ann\",\"lastName\":\"Lee\",\"email\":\"ann@example.com\"}",
+              "{\"firstName\":\"Ben\",\"lastName\":\"Lee\",\"email\":\"ben@example.com\"}",
+              "",
+              "{\"firstName\":\"Cy\",\"lastName\":\"Lee\"}",
+              "{not json",
+              "{\"firstName\":\"Ann\",\"lastName\":\"Lee\",\"email\":\"ann@example.com\"}");
+      when(memberRepository.saveAll(anyList()))
+          .thenReturn(List.of(testMember, testMember))
+          .thenReturn(List.of());
+
+      // When
+      var report =
+          memberService.importMembers(
+              new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+      // Then
+      assertAll(
+          () -> assertThat(report.imported()).isEqualTo(2),
+          () -> assertThat(report.skipped()).isEqualTo(1),
+          () -> assertThat(report.rejected()).isEqualTo(2),
+          () -> assertThat(report.errors().getFirst()).isEqualTo("line 4: Email is required"),
+          () -> assertThat(report.errors().get(1)).startsWith("line 5: Malformed JSON"));
+      verify(memberRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject a null line without failing the import")
+    void importMembers_ShouldRejectNullLine() {
+      // Given
+      var ndjson =
+          String.join(
+              "\n",
+              "null",
+              "{\"firstName\":\"Ann\",\"lastName\":\"Lee\",\"email\":\"ann@example.com\"}");
+      when(memberRepository.saveAll(anyList())).thenReturn(List.of(testMember));
+
+      // When
+      var report =
+          memberService.importMembers(
+              new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+      // Then
+      assertAll(
+          () -> assertThat(report.imported()).isEqualTo(1),
+          () -> assertThat(report.rejected()).isEqualTo(1),
+          () ->
+              assertThat(report.errors())
+                  .containsExactly("line 1: Malformed JSON: expected a member object, found null"));
+    }
+  }
+
+  @Nested
+  @DisplayName("Export Members Tests")
+  class ExportMembersTests {
+
+    @Test
+    @DisplayName("Should write one JSON line per member")
+    void exportMembers_ShouldWriteOneLinePerMember() {
+      // Given
+      var jane = new Member("Jane", "Roe", "jane@example.com");
+      jane.setId(2L);
+      when(memberRepository.streamAll()).thenReturn(Stream.of(testMember, jane));
+      var out = new ByteArrayOutputStream();
+
+      // When
+      var exported = memberService.exportMembers(out);
+
+      // Then
+      assertThat(exported).isEqualTo(2);
+      assertThat(out.toString(StandardCharsets.UTF_8))
+          .isEqualTo(
+              """
+              {"id":1,"firstName":"John","lastName":"Doe","email":"john.doe@example.com"}
+              {"id":2,"firstName":"Jane","lastName":"Roe","email":"jane@example.com"}
+              """);
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.lms.library.service;
+
+import static com.lms.library.util.TestUtil.createTestBook;
+import static com.lms.library.util.TestUtil.createTestJournal;
+import static com.lms.library.util.TestUtil.createTestMember;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.lms.library.dto.AvailabilityCensusResponse;
+import com.lms.library.dto.LoanCensusResponse;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanItem;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.repository.LoanRepository;
+import com.lms.library.scan.ScanEngine;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for ReportServiceImpl.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Report Service Implementation Unit Tests")
+class ReportServiceImplTest {
+
+  private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+  @Mock private LibraryItemRepository libraryItemRepository;
+
+  @Mock private LoanRepository loanRepository;
+
+  private ScanEngine scanEngine;
+  private ReportServiceImpl reportService;
+
+  @BeforeEach
+  void setUp() {
+    // A chunk size of 2 makes even these small stores split over several workers
+    scanEngine = new ScanEngine(2, 2);
+    reportService = new ReportServiceImpl(scanEngine, libraryItemRepository, loanRepository);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scanEngine.close();
+  }
+
+  @Test
+  @DisplayName("Should count available and loaned items per genre in alphabetical order")
+  void getAvailabilityCensus_ShouldCountPerGenre() {
+    // Given
+    var journal = createTestJournal(6L);
+    journal.setAvailable(false);
+    var books =
+        IntStream.rangeClosed(1, 5)
+            .mapToObj(
+                id -> {
+                  var book = createTestBook((long) id);
+                  book.setAvailable(id % 2 == 1);
+                  return book;
+                });
+    when(libraryItemRepository.streamAll())
+        .thenReturn(Stream.concat(books, Stream.of(journal)).toList().stream());
+
+    // When
+    var census = reportService.getAvailabilityCensus();
+
+    // Then
+    assertThat(census)
+        .containsExactly(
+            new AvailabilityCensusResponse("Journal", 1, 0, 1),
+            new AvailabilityCensusResponse("Test Category", 5, 3, 2));
+  }
+
+  @Test
+  @DisplayName("Should count open, closed and overdue loans and their outstanding items")
+  void getLoanCensus_ShouldCountLoans() {
+    // Given
+    var member = createTestMember(1L, "Jane", "Doe");
+    var overdue = loanOf(new Loan(member, TODAY.minusDays(20), TODAY.minusDays(6)), 2, 1);
+    var current = loanOf(new Loan(member, TODAY.minusDays(3), TODAY.plusDays(11)), 3, 0);
+    var dueToday = loanOf(new Loan(member, TODAY.minusDays(14), TODAY), 1, 0);
+    var closed = loanOf(new Loan(member, TODAY.minusDays(30), TODAY.minusDays(16)), 0, 2);
+    when(loanRepository.streamAll())
+        .thenReturn(Stream.of(overdue, current, dueToday, closed).toList().stream());
+
+    // When
+    var census = reportService.getLoanCensus(TODAY);
+
+    // Then
+    assertThat(census).isEqualTo(new LoanCensusResponse(TODAY, 3, 1, 6, 1, 2));
+  }
+
+  private static Loan loanOf(Loan loan, int outstanding, int returned) {
+    for (var i = 0; i < outstanding; i++) {
+      loan.addItem(new LoanItem(loan, createTestBook((long) i)));
+    }
+    for (var i = 0; i < returned; i++) {
+      loan.addItem(new LoanItem(loan, createTestBook((long) i), loan.getLoanDate()));
+    }
+    loan.updateStatus();
+    return loan;
+  }
+}
@@ -0,0 +1,262 @@
+package com.lms.library.service;
+
+import static com.lms.library.util.TestUtil.resetLibraryItemRepositoryState;
+import static com.lms.library.util.TestUtil.resetLoanItemRepositoryState;
+import static com.lms.library.util.TestUtil.resetLoanRepositoryState;
+import static com.lms.library.util.TestUtil.resetMemberRepositoryState;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.lms.library.model.Book;
+import com.lms.library.model.Journal;
+import com.lms.library.model.LibraryItem;
+import com.lms.library.model.Loan;
+import com.lms.library.model.LoanStatus;
+import com.lms.library.model.Member;
+import com.lms.library.repository.LibraryItemRepository;
+import com.lms.library.repository.LoanItemRepository;
+import com.lms.library.repository.LoanRepository;
+import com.lms.library.repository.MemberRepository;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SyntheticDataServiceImpl. Datasets span a few chunks so that chunks are generated
+ * concurrently.
+ *
+ * @author Joel Silva
+ * @version 1.0
+ * @since 2025
+ */
+@DisplayName("Synthetic Data Service Implementation Unit Tests")
+class SyntheticDataServiceImplTest {
+
+  private static final LocalDate END_DATE = LocalDate.of(2025, 6, 30);
+
+  private MemberRepository memberRepository;
+  private LibraryItemRepository libraryItemRepository;
+  private LoanRepository loanRepository;
+  private LoanItemRepository loanItemRepository;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    resetMemberRepositoryState();
+    resetLibraryItemRepositoryState();
+    resetLoanRepositoryState();
+    resetLoanItemRepositoryState();
+    memberRepository = new MemberRepository();
+    libraryItemRepository = new LibraryItemRepository();
+    loanRepository = new LoanRepository();
+    loanItemRepository = new LoanItemRepository();
+  }
+
+  @Nested
+  @DisplayName("Dataset Shape Tests")
+  class DatasetShapeTests {
+
+    @Test
+    @DisplayName("Should save the requested numbers of members, books, journals and loans")
+    void generate_ShouldSaveRequestedCounts() {
+      // Given
+      var spec = spec(42, 1.0, 5_000);
+
+      // When
+      var report = service(4).generate(spec);
+
+      // Then
+      var items = libraryItemRepository.streamAll().toList();
+      var loanItems = loanRepository.streamAll().mapToLong(loan -> loan.getItems().size()).sum();
+      assertAll(
+          () -> assertThat(report.members()).isEqualTo(2_000),
+          () -> assertThat(report.items()).isEqualTo(20_000),
+          () -> assertThat(report.loans()).isEqualTo(5_000),
+          () -> assertThat(report.loanItems()).isEqualTo(loanItems),
+          () -> assertThat(report.records()).isEqualTo(27_000 + loanItems),
+          () -> assertThat(memberRepository.streamAll()).hasSize(2_000),
+          () -> assertThat(items).filteredOn(Book.class::isInstance).hasSize(18_000),
+          () -> assertThat(items).filteredOn(Journal.class::isInstance).hasSize(2_000),
+          () -> assertThat(loanRepository.streamAll()).hasSize(5_000));
+    }
+
+    @Test
+    @DisplayName("Should close every loan within the history and leave every item available")
+    void generate_ShouldReturnEveryLoanBeforeTheEndDate() {
+      // When
+      service(4).generate(spec(42, 1.0, 5_000));
+
+      // Then
+      var loans = loanRepository.streamAll().toList();
+      assertAll(
+          () -> assertThat(loans).allMatch(loan -> loan.getStatus() == LoanStatus.CLOSED),
+          () -> assertThat(loans).allMatch(loan -> loan.getClosedDate().isBefore(END_DATE)),
+          () ->
+              assertThat(loans)
+                  .allMatch(loan -> !loan.getLoanDate().isBefore(END_DATE.minusDays(365))),
+          () -> assertThat(loans).allMatch(loan -> loan.getItems().size() <= 3),
+          () ->
+              assertThat(loans)
+                  .allMatch(loan -> loanItemRepository.findByLoanId(loan.getId()).size() > 0),
+          () -> assertThat(libraryItemRepository.streamAll()).allMatch(LibraryItem::isAvailable));
+    }
+
+    @Test
+    @DisplayName("Should concentrate loans on a few items when popularity is skewed")
+    void generate_ShouldSkewItemPopularity() {
+      // When
+      service(4).generate(spec(42, 1.0, 20_000));
+
+      // Then
+      var borrowCounts = borrowCountsByItem();
+      var top = borrowCounts.values().stream().max(Comparator.naturalOrder()).orElseThrow();
+      // With an exponent of 1 the most popular of 20,000 items takes about 9% of the borrows
+      assertAll(
+          () -> assertThat(top).isGreaterThan(2_000L),
+          () -> assertThat(borrowCounts).hasSizeLessThan(20_000));
+    }
+
+    @Test
+    @DisplayName("Should spread loans evenly when the Zipf exponent is zero")
+    void generate_ShouldSpreadPopularityEvenlyWithoutSkew() {
+      // When
+      service(4).generate(spec(42, 0.0, 20_000));
+
+      // Then
+      var top =
+          borrowCountsByItem().values().stream().max(Comparator.naturalOrder()).orElseThrow();
+      assertThat(top).isLessThan(20L);
+    }
+  }
+
+  @Nested
+  @DisplayName("Determinism Tests")
+  class DeterminismTests {
+
+    @Test
+    @DisplayName("Should generate the same dataset from the same seed with any parallelism")
+    void generate_ShouldBeDeterministic() throws Exception {
+      // Given
+      service(1).generate(spec(7, 1.0, 5_000));
+      var first = snapshot();
+      setUp();
+
+      // When
+      service(8).generate(spec(7, 1.0, 5_000));
+
+      // Then
+      assertThat(snapshot()).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should generate a different dataset from a different seed")
+    void generate_ShouldDependOnSeed() throws Exception {
+      // Given
+      service(4).generate(spec(7, 1.0, 5_000));
+      var first = snapshot();
+      setUp();
+
+      // When
+      service(4).generate(spec(8, 1.0, 5_000));
+
+      // Then
+      assertThat(snapshot()).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should refuse to generate the same members twice")
+    void generate_ShouldRejectExistingMembers() {
+      // Given
+      var service = service(4);
+      service.generate(spec(7, 1.0, 0));
+
+      // When & Then
+      assertThatThrownBy(() -> service.generate(spec(7, 1.0, 0)))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessageContaining("already generated");
+    }
+  }
+
+  @Nested
+  @DisplayName("Specification Validation Tests")
+  class SpecificationValidationTests {
+
+    @Test
+    @DisplayName("Should reject loans without members or items")
+    void spec_ShouldRejectLoansWithoutMembers() {
+      assertThatThrownBy(() -> new SyntheticDataSpec(1, 0, 10, 0, 10, 1.0, 365, END_DATE))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("at least one member");
+    }
+
+    @Test
+    @DisplayName("Should reject a history shorter than the longest loan")
+    void spec_ShouldRejectShortHistory() {
+      assertThatThrownBy(() -> new SyntheticDataSpec(1, 10, 10, 0, 10, 1.0, 30, END_DATE))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("History");
+    }
+  }
+
+  private SyntheticDataServiceImpl service(int parallelism) {
+    return new SyntheticDataServiceImpl(
+        memberRepository, libraryItemRepository, loanRepository, loanItemRepository, parallelism);
+  }
+
+  private static SyntheticDataSpec spec(long seed, double zipfExponent, int loans) {
+    return new SyntheticDataSpec(seed, 2_000, 18_000, 2_000, loans, zipfExponent, 365, END_DATE);
+  }
+
+  private Map<Long, Long> borrowCountsByItem() {
+    return loanRepository
+        .streamAll()
+        .flatMap(loan -> loan.getItems().stream())
+        .collect(Collectors.groupingBy(item -> item.getItem().getId(), Collectors.counting()));
+  }
+
+  /** Renders the saved records by ID, so that datasets can be compared. */
+  private List<String> snapshot() {
+    var members =
+        memberRepository
+            .streamAll()
+            .sorted(Comparator.comparing(Member::getId))
+            .map(member -> member.getId() + " " + member.getEmail());
+    var items =
+        libraryItemRepository
+            .streamAll()
+            .sorted(Comparator.comparing(LibraryItem::getId))
+            .map(SyntheticDataServiceImplTest::describe);
+    var loans =
+        loanRepository
+            .streamAll()
+            .sorted(Comparator.comparing(Loan::getId))
+            .map(SyntheticDataServiceImplTest::describe);
+    return Stream.of(members, items, loans).flatMap(Function.identity()).toList();
+  }
+
+  private static String describe(LibraryItem item) {
+    return String.join(
+        " ",
+        item.getId().toString(),
+        item.getTitle(),
+        item.getAuthor(),
+        item.getPublicationDate().toString());
+  }
+
+  private static String describe(Loan loan) {
+    var items =
+        loan.getItems().stream()
+            .map(loanItem -> loanItem.getItem().getId() + "@" + loanItem.getReturnedDate())
+            .toList();
+    return "%d %d %s %s"
+        .formatted(loan.getId(), loan.getMember().getId(), loan.getLoanDate(), items);
+  }
+}
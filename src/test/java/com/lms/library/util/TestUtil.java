@@ -1,17 +1,20 @@
 package com.lms.library.util;
 
 import com.lms.library.model.Book;
+import com.lms.library.model.Hold;
 import com.lms.library.model.Journal;
 import com.lms.library.model.LibraryItem;
 import com.lms.library.model.Loan;
 import com.lms.library.model.LoanItem;
 import com.lms.library.model.Member;
+import com.lms.library.repository.HoldRepository;
 import com.lms.library.repository.LibraryItemRepository;
 import com.lms.library.repository.LoanItemRepository;
 import com.lms.library.repository.LoanRepository;
 import com.lms.library.repository.MemberRepository;
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -26,8 +29,8 @@ import java.util.concurrent.atomic.AtomicLong;
 public class TestUtil {
 
   /**
-   * Resets the static state of {@link MemberRepository} by clearing its internal store and
-   * resetting its ID sequence to {@code 1}.
+   * Resets the static state of {@link MemberRepository} by clearing its internal store and email
+   * index and resetting its ID sequence to {@code 1}.
    *
    * @throws Exception if reflection access to repository fields fails
    */
@@ -37,6 +40,11 @@ public class TestUtil {
     var store = (Map<Long, Member>) storeField.get(null);
     store.clear();
 
+    var emailIndexField = MemberRepository.class.getDeclaredField("EMAIL_INDEX");
+    emailIndexField.setAccessible(true);
+    var emailIndex = (Map<String, Long>) emailIndexField.get(null);
+    emailIndex.clear();
+
     var idSeqField = MemberRepository.class.getDeclaredField("ID_SEQ");
     idSeqField.setAccessible(true);
     var idSeq = (AtomicLong) idSeqField.get(null);
@@ -44,8 +52,8 @@ public class TestUtil {
   }
 
   /**
-   * Resets the static state of {@link LoanRepository} by clearing its internal store and resetting
-   * its ID sequence to {@code 1}.
+   * Resets the static state of {@link LoanRepository} by clearing its internal store and version
+   * counters and resetting its ID sequence to {@code 1}.
    *
    * @throws Exception if reflection access to repository fields fails
    */
@@ -59,6 +67,11 @@ public class TestUtil {
     idSeqField.setAccessible(true);
     var idSeq = (AtomicLong) idSeqField.get(null);
     idSeq.set(1);
+
+    var memberVersionsField = LoanRepository.class.getDeclaredField("MEMBER_VERSIONS");
+    memberVersionsField.setAccessible(true);
+    var memberVersions = (Map<Long, AtomicLong>) memberVersionsField.get(null);
+    memberVersions.clear();
   }
 
   /**
@@ -79,6 +92,33 @@ public class TestUtil {
     idSeq.set(1);
   }
 
+  /**
+   * Resets the static state of {@link HoldRepository} by clearing its internal store and item
+   * queues and resetting its ID sequence to {@code 1}.
+   *
+   * @throws Exception if reflection access to repository fields fails
+   */
+  public static void resetHoldRepositoryState() throws Exception {
+    var storeField = HoldRepository.class.getDeclaredField("STORE");
+    storeField.setAccessible(true);
+    var store = (Map<Long, Hold>) storeField.get(null);
+    store.clear();
+
+    var queuesField = HoldRepository.class.getDeclaredField("QUEUES");
+    queuesField.setAccessible(true);
+    var queues = (Map<Long, Queue<Hold>>) queuesField.get(null);
+    queues.clear();
+
+    var waitingField = HoldRepository.class.getDeclaredField("WAITING");
+    waitingField.setAccessible(true);
+    ((Map<?, ?>) waitingField.get(null)).clear();
+
+    var idSeqField = HoldRepository.class.getDeclaredField("ID_SEQ");
+    idSeqField.setAccessible(true);
+    var idSeq = (AtomicLong) idSeqField.get(null);
+    idSeq.set(1);
+  }
+
   /**
    * Resets the static state of {@link LibraryItemRepository} by clearing its internal store and
    * resetting its ID sequence to {@code 1}.